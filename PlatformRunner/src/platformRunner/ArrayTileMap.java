@@ -0,0 +1,74 @@
+package platformRunner;
+
+/**
+ * A {@code TileMap} that keeps the whole board in memory: the block ids of the {@code LevelData} and a
+ * {@code CollisionGrid} of the whole board. Used for levels that are small enough to be read all at once.
+ *
+ * @author Andrew Suyer
+ */
+public class ArrayTileMap implements TileMap {
+	
+	/** Block ids of every cell */
+	private final LevelData levelData;
+	
+	/** Collision flags and broken blocks of every cell */
+	private final CollisionGrid collisionGrid;
+	
+	/**
+	 * Creates a tile map of the board of a level. The block ids aren't copied
+	 * @param data - the level data
+	 */
+	public ArrayTileMap (LevelData data) {
+		levelData = data;
+		collisionGrid = new CollisionGrid(data);
+	}
+	
+	@Override
+	public int getWidth () { return levelData.width; }
+	
+	@Override
+	public int getHeight () { return levelData.height; }
+	
+	@Override
+	public byte tileIdAt (int x, int y) {
+		if (x < 0 || x >= levelData.width || y < 0 || y >= levelData.height)
+			return LevelData.air;
+		return levelData.tileIdAt(x, y);
+	}
+	
+	@Override
+	public byte flagsAt (int x, int y) {
+		return collisionGrid.flagsAt(x, y);
+	}
+	
+	@Override
+	public void destroyCell (int x, int y) {
+		collisionGrid.destroyCell(x, y);
+	}
+	
+	@Override
+	public boolean isDestroyed (int x, int y) {
+		return collisionGrid.isDestroyed(x, y);
+	}
+	
+	@Override
+	public void restoreDestroyedCells () {
+		collisionGrid.restoreDestroyedCells();
+	}
+	
+	@Override
+	public long getFootprint () {
+		return (long) levelData.width * levelData.height + collisionGrid.getFootprint();
+	}
+	
+	/**
+	 * Returns about how many bytes of memory an {@code ArrayTileMap} of a board would use, without creating it
+	 * @param width - width of the board
+	 * @param height - height of the board
+	 * @return the memory footprint in bytes, before any blocks are broken
+	 */
+	public static long footprintOf (int width, int height) {
+		return 3L * width * height;
+	}
+	
+}
@@ -0,0 +1,192 @@
+package platformRunner;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Plays levels with input scripts, without a window, on all the cores of the computer. Every pair of a level and an
+ * {@code InputScript} is one run with its own {@code Simulation}, and the runs are shared out to the threads of a
+ * {@code ForkJoinPool}. Nothing is shared between runs except the level data, so the runs per second go up with the
+ * number of cores. Used to check that every level still plays the same after the physics are changed.
+ * <p>
+ * Run with {@code -Djava.awt.headless=true} from the PlatformRunner folder:
+ * <pre>
+ * java platformRunner.BatchSimulator [script.txt ...]     plays every level with every script, by default the ones in src/scripts
+ * java platformRunner.BatchSimulator --scaling [script.txt ...]     plays them again with 1, 2, 4, ... threads and prints the speedup
+ * </pre>
+ *
+ * @author Andrew Suyer
+ */
+public class BatchSimulator {
+	
+	/** Folder of the input scripts that are played when none are given */
+	public static final String scriptFolder = "src/scripts";
+	
+	/** Number of threads that play the runs. Can be changed with {@code -DplatformRunner.batchThreads} */
+	public static final int threads = Integer.getInteger("platformRunner.batchThreads", Runtime.getRuntime().availableProcessors());
+	
+	private static final int worlds = 2;
+	
+	/** How many times the runs are played before they're timed for {@code --scaling} */
+	private static final int warmupRounds = 3;
+	
+	/**
+	 * Plays every level with every script
+	 * @throws IllegalStateException if a run throws an exception
+	 * @param levels - the levels, the level data is shared by every run of the level
+	 * @param levelNames - name of each level, for the results
+	 * @param scripts - the input scripts
+	 * @param pool - the pool that plays the runs
+	 * @return the result of every run, level by level in the order of {@code scripts}
+	 */
+	public static List<Result> playAll (LevelData[] levels, String[] levelNames, List<InputScript> scripts, ForkJoinPool pool) {
+		List<Callable<Result>> runs = new ArrayList<>();
+		for (int i = 0; i < levels.length; i++) {
+			LevelData level = levels[i];
+			String levelName = levelNames[i];
+			for (InputScript script : scripts)
+				runs.add(() -> play(level, levelName, script));
+		}
+		
+		List<Result> results = new ArrayList<>();
+		for (Future<Result> run : pool.invokeAll(runs)) {
+			try {
+				results.add(run.get());
+			} catch (ExecutionException e) {
+				throw new IllegalStateException("A run failed", e.getCause());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("Interrupted while waiting for the runs", e);
+			}
+		}
+		return results;
+	}
+	
+	/**
+	 * Plays a level with the keys of an input script until the level is finished or the script ends
+	 * @param level - the level data
+	 * @param levelName - name of the level, for the result
+	 * @param script - the input script
+	 * @return the result of the run
+	 */
+	public static Result play (LevelData level, String levelName, InputScript script) {
+		Simulation simulation = new Simulation(level, GameFrame.frameWidth);
+		long ticks = 0;
+		for (int run = 0; run < script.getRunCount(); run++) {
+			int inputMask = script.getRunMask(run);
+			for (int i = script.getRunLength(run); i > 0; i--) {
+				ticks++;
+				if (simulation.step(inputMask) == Simulation.Event.FINISHED)
+					return new Result(levelName, script.name, true, ticks, simulation.getDeaths(), simulation.getBlocksBroken());
+			}
+		}
+		return new Result(levelName, script.name, false, ticks, simulation.getDeaths(), simulation.getBlocksBroken());
+	}
+	
+	public static void main (String[] args) throws IOException {
+		boolean scaling = args.length > 0 && args[0].equals("--scaling");
+		List<String> scriptFilepaths = new ArrayList<>(Arrays.asList(args).subList(scaling ? 1 : 0, args.length));
+		if (scriptFilepaths.isEmpty()) {
+			String[] names = new File(scriptFolder).list((folder, name) -> name.endsWith(".txt"));
+			if (names == null)
+				throw new IOException("Couldnt list the scripts in " + scriptFolder);
+			Arrays.sort(names);
+			for (String name : names)
+				scriptFilepaths.add(scriptFolder + "/" + name);
+		}
+		List<InputScript> scripts = new ArrayList<>();
+		for (String filepath : scriptFilepaths)
+			scripts.add(InputScript.read(filepath));
+			
+		LevelData[] levels = new LevelData[worlds * GameFrame.levelsPerWorld];
+		String[] levelNames = new String[levels.length];
+		for (int world = 1; world <= worlds; world++) {
+			for (int level = 1; level <= GameFrame.levelsPerWorld; level++) {
+				int i = (world - 1) * GameFrame.levelsPerWorld + level - 1;
+				levels[i] = LevelLoader.read(LevelLoader.levelFilepath(world, level));
+				levelNames[i] = world + "-" + level;
+			}
+		}
+		
+		ForkJoinPool pool = new ForkJoinPool(threads);
+		long start = System.nanoTime();
+		List<Result> results = playAll(levels, levelNames, scripts, pool);
+		long time = System.nanoTime() - start;
+		pool.shutdown();
+		
+		System.out.println("Level  Finished  Ticks      Deaths  Blocks broken  Script");
+		long steps = 0;
+		for (Result result : results) {
+			System.out.printf("%-5s  %-8s  %9d  %6d  %13d  %s%n", result.levelName, result.finished ? "yes" : "no", result.ticks,
+					result.deaths, result.blocksBroken, result.scriptName);
+			steps += result.ticks;
+		}
+		System.out.printf("%d runs, %d steps in %.1f ms on %d threads%n", results.size(), steps, time / 1e6, threads);
+		
+		if (scaling)
+			printScaling(levels, levelNames, scripts, steps);
+	}
+	
+	/**
+	 * Times the runs with 1, 2, 4, ... threads up to the number of cores, and prints the steps per second and the
+	 * speedup over 1 thread
+	 */
+	private static void printScaling (LevelData[] levels, String[] levelNames, List<InputScript> scripts, long steps) {
+		System.out.println();
+		System.out.println("Threads  Steps/s       Speedup");
+		double oneThread = 0;
+		int cores = Runtime.getRuntime().availableProcessors();
+		for (int threadCount = 1; ; threadCount = Math.min(threadCount * 2, cores)) {
+			ForkJoinPool pool = new ForkJoinPool(threadCount);
+			for (int i = 0; i < warmupRounds; i++)
+				playAll(levels, levelNames, scripts, pool);
+			long start = System.nanoTime();
+			playAll(levels, levelNames, scripts, pool);
+			double stepsPerSecond = steps * 1e9 / (System.nanoTime() - start);
+			pool.shutdown();
+			
+			if (threadCount == 1)
+				oneThread = stepsPerSecond;
+			System.out.printf("%7d  %12.0f  %7.2f%n", threadCount, stepsPerSecond, stepsPerSecond / oneThread);
+			if (threadCount == cores)
+				break;
+		}
+	}
+	
+	
+	/**
+	 * The result of playing a level with an input script
+	 * @author Andrew Suyer
+	 */
+	public static final class Result {
+		
+		public final String levelName;
+		public final String scriptName;
+		
+		/** True if the player finished the level before the script ended */
+		public final boolean finished;
+		
+		/** Number of ticks played, until the level was finished or the script ended */
+		public final long ticks;
+		
+		public final int deaths;
+		public final int blocksBroken;
+		
+		public Result (String levelName, String scriptName, boolean finished, long ticks, int deaths, int blocksBroken) {
+			this.levelName = levelName;
+			this.scriptName = scriptName;
+			this.finished = finished;
+			this.ticks = ticks;
+			this.deaths = deaths;
+			this.blocksBroken = blocksBroken;
+		}
+	}
+	
+}
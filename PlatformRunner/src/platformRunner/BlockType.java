@@ -0,0 +1,220 @@
+package platformRunner;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * The type of a block, shared by every cell of every level that has the same {@code blockId}. Levels only store the
+ * id of the block in each cell, and everything else about the block is looked up here, so a level board is a
+ * primitive array instead of one Swing component per block. There is exactly one {@code BlockType} per id, and it
+ * never changes.
+ * <p>
+ * The block types are defined in the block definitions file, {@code src/blocks/blocks.txt}, which gives each block
+ * id its name, collision flags, friction, and animation frames. The file is read once when the game starts, and the
+ * properties that are checked in the game loop are also kept in arrays indexed by id, so adding a block type is an
+ * edit to the file and looking up a property is a single array read.
+ *
+ * @author Andrew Suyer
+ */
+public final class BlockType {
+	
+	/** The default resolution of a block before scaling */
+	public static final int defaultBlockResolution = 16;
+	
+	/** Highest block id that a level can store, ids are stored as bytes and 0xFF is air */
+	public static final int maxBlockId = 254;
+	
+	/** Filepath of the block definitions file */
+	public static final String definitionsFilepath = "src/blocks/blocks.txt";
+	
+	/** Folder that the textures in the block definitions file are in */
+	public static final String textureFolder = "src/textures/PlatformRunnerTextures/";
+	
+	/** Texture of the block ids that aren't in the block definitions file */
+	private static final String unknownBlockTexture = "SuperMarioBrosTigerBlock.png";
+	
+	/** Every block type, indexed by id */
+	private static final BlockType[] types = new BlockType[maxBlockId + 1];
+	
+	/** Collision flags and friction of every block id, so the game loop doesn't need to look up the type */
+	private static final byte[] flagsById = new byte[maxBlockId + 1];
+	private static final double[] frictionById = new double[maxBlockId + 1];
+	
+	static {
+		readDefinitions(definitionsFilepath);
+		for (int id = 0; id <= maxBlockId; id++) {
+			if (types[id] == null)
+				types[id] = new BlockType(id, "Unknown block", (byte) 0, 1, 0, new String[] {textureFolder + unknownBlockTexture});
+			flagsById[id] = types[id].flags;
+			frictionById[id] = types[id].friction;
+		}
+	}
+	
+	/** The Id cooresponding to this type of block */
+	public final int id;
+	
+	/** Name of the block, for debugging */
+	public final String name;
+	
+	/** The {@code CollisionGrid} property flags of this block */
+	public final byte flags;
+	
+	/** Multiplies how fast the player slows down when standing on this block. 1 is normal */
+	public final double friction;
+	
+	/** How many physics ticks each animation frame is shown for, 0 if the block isn't animated */
+	public final int animationFrameTicks;
+	
+	/** Filepath of the unscaled texture of each animation frame */
+	private final String[] texturePaths;
+	
+	private BlockType (int id, String name, byte flags, double friction, int animationFrameTicks, String[] texturePaths) {
+		this.id = id;
+		this.name = name;
+		this.flags = flags;
+		this.friction = friction;
+		this.animationFrameTicks = animationFrameTicks;
+		this.texturePaths = texturePaths;
+	}
+	
+	/**
+	 * Returns the block type of a block id
+	 * @throws IndexOutOfBoundsException if {@code id} isn't between 0 and {@code maxBlockId}
+	 * @param id - the block id. Ids read from a level as bytes should be passed as {@code id & 0xFF}
+	 * @return the shared block type for the id
+	 */
+	public static BlockType of (int id) {
+		return types[id];
+	}
+	
+	/**
+	 * Returns the {@code CollisionGrid} flags of a block id
+	 * @param id - the block id
+	 * @return the flags of the block
+	 */
+	public static byte flagsOf (int id) {
+		return flagsById[id];
+	}
+	
+	/**
+	 * Returns the friction of a block id
+	 * @param id - the block id
+	 * @return the friction of the block, 1 is normal
+	 */
+	public static double frictionOf (int id) {
+		return frictionById[id];
+	}
+	
+	public int getFrameCount () { return texturePaths.length; }
+	
+	/**
+	 * Returns the animation frame that is shown at a tick
+	 * @param tick - number of ticks since the level started
+	 * @return the index of the animation frame
+	 */
+	public int frameAt (long tick) {
+		if (animationFrameTicks == 0)
+			return 0;
+		return (int) ((tick / animationFrameTicks) % texturePaths.length);
+	}
+	
+	/**
+	 * Returns the first animation frame of this block scaled by {@code scale}, shared with every other block of this type
+	 * @param scale - block scale factor
+	 * @return the scaled texture
+	 */
+	public BufferedImage getTexture (int scale) {
+		return getTexture(scale, 0);
+	}
+	
+	/**
+	 * Returns an animation frame of this block scaled by {@code scale}, shared with every other block of this type
+	 * @param scale - block scale factor
+	 * @param frame - index of the animation frame
+	 * @return the scaled texture
+	 */
+	public BufferedImage getTexture (int scale, int frame) {
+		return TextureCache.getTexture(texturePaths[frame], scale);
+	}
+	
+	@Override
+	public String toString () {
+		return name + " (" + id + ")";
+	}
+	
+	/**
+	 * Reads the block definitions file, out of the game pack if it's in there, and creates a {@code BlockType} for every
+	 * block in it. Empty lines and lines starting with # are skipped
+	 * @throws IllegalStateException if the file can't be read or a definition isn't valid
+	 * @param filepath - filepath of the block definitions file
+	 */
+	private static void readDefinitions (String filepath) {
+		List<String> lines;
+		try {
+			ByteBuffer packed = LevelPack.file(filepath);
+			lines = packed != null ? StandardCharsets.UTF_8.decode(packed).toString().lines().toList() : Files.readAllLines(Paths.get(filepath));
+		} catch (IOException e) {
+			throw new IllegalStateException("Couldnt read the block definitions file " + filepath, e);
+		}
+		
+		for (int lineNumber = 1; lineNumber <= lines.size(); lineNumber++) {
+			String line = lines.get(lineNumber - 1).trim();
+			if (line.isEmpty() || line.startsWith("#"))
+				continue;
+				
+			// Columns: id, name, flags, friction, frame ticks, textures
+			String[] columns = line.split("\\s*,\\s*");
+			if (columns.length != 6)
+				throw new IllegalStateException(filepath + " line " + lineNumber + ": expected 6 columns but found " + columns.length);
+			try {
+				int id = Integer.parseInt(columns[0]);
+				if (id < 0 || id > maxBlockId)
+					throw new IllegalStateException(filepath + " line " + lineNumber + ": block id " + id + " isn't between 0 and " + maxBlockId);
+				if (types[id] != null)
+					throw new IllegalStateException(filepath + " line " + lineNumber + ": block id " + id + " is defined twice");
+					
+				String[] textures = columns[5].split("\\s+");
+				for (int i = 0; i < textures.length; i++)
+					textures[i] = textureFolder + textures[i];
+				int animationFrameTicks = Integer.parseInt(columns[4]);
+				if (animationFrameTicks < 0)
+					throw new IllegalStateException(filepath + " line " + lineNumber + ": frame ticks can't be negative");
+					
+				double friction = Double.parseDouble(columns[3]);
+				if (!(friction > 0))
+					throw new IllegalStateException(filepath + " line " + lineNumber + ": friction has to be more than 0");
+					
+				types[id] = new BlockType(id, columns[1], parseFlags(columns[2]), friction, animationFrameTicks, textures);
+			} catch (IllegalArgumentException e) {
+				throw new IllegalStateException(filepath + " line " + lineNumber + ": " + e.getMessage(), e);
+			}
+		}
+	}
+	
+	/**
+	 * Converts a list of flag names separated by spaces, like {@code "BACKGROUND FINISH"}, to {@code CollisionGrid} flags
+	 * @throws IllegalArgumentException if a flag name isn't known
+	 */
+	private static byte parseFlags (String flagNames) {
+		byte flags = 0;
+		for (String flag : flagNames.split("\\s+")) {
+			switch (flag) {
+			case "SOLID": flags |= CollisionGrid.SOLID; break;
+			case "BREAKABLE": flags |= CollisionGrid.BREAKABLE; break;
+			case "TRANSPARENT": flags |= CollisionGrid.TRANSPARENT; break;
+			case "DEADLY": flags |= CollisionGrid.DEADLY; break;
+			case "BACKGROUND": flags |= CollisionGrid.BACKGROUND; break;
+			case "OTHER": flags |= CollisionGrid.OTHER; break;
+			case "FINISH": flags |= CollisionGrid.FINISH; break;
+			default: throw new IllegalArgumentException("unknown flag " + flag);
+			}
+		}
+		return flags;
+	}
+	
+}
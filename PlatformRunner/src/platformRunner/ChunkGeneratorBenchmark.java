@@ -0,0 +1,115 @@
+package platformRunner;
+
+/**
+ * Measures how fast the endless level generator makes chunks, and how many chunks the game loop gets from the queue
+ * of an {@code EndlessChunkSource} instead of generating them itself. The game loop is simulated by moving a
+ * {@code ChunkedTileMap} across the level one tick at a time at the level speed, either as fast as possible or in
+ * real time. Run with {@code -Djava.awt.headless=true}.
+ * <p>
+ * Also checks that a player who stands still on the endless level, and falls further and further behind the camera,
+ * doesn't make the tile map read chunks over and over. The level is stepped with no keys pressed while the cells on
+ * the screen are read every tick like the renderer does, and the check fails if more chunks are read than the camera
+ * passes.
+ *
+ * @author Andrew Suyer
+ */
+public class ChunkGeneratorBenchmark {
+	
+	private static final int warmupChunks = 20_000;
+	private static final int measuredChunks = 100_000;
+	
+	/** Number of chunks the game loop goes through in each sweep */
+	private static final int sweepChunks = 2_000;
+	
+	/** Level speed of the real time sweep, in blocks per second */
+	private static final double levelSpeed = 2;
+	
+	/** How many times faster than {@code levelSpeed} the level moves in the real time sweep */
+	private static final int realTimeSpeedup = 100;
+	
+	/** Number of seconds the real time sweep runs for */
+	private static final int realTimeSeconds = 10;
+	
+	/** Number of seconds of play the idle player check runs for, long enough for the player to be many chunks behind */
+	private static final int idleSeconds = 600;
+	
+	public static void main (String[] args) throws InterruptedException {
+		EndlessLevelGenerator generator = new EndlessLevelGenerator(42);
+		
+		long checksum = 0;
+		for (int i = 0; i < warmupChunks; i++)
+			checksum += generator.generateChunk(i)[i % EndlessLevelGenerator.height];
+		long start = System.nanoTime();
+		for (int i = 0; i < measuredChunks; i++)
+			checksum += generator.generateChunk(i)[i % EndlessLevelGenerator.height];
+		double nanosPerChunk = (double) (System.nanoTime() - start) / measuredChunks;
+		System.out.printf("Generator: %.0f ns per chunk, %.0f chunks per second (checksum %d)%n", nanosPerChunk, 1e9 / nanosPerChunk, checksum);
+		System.out.printf("One chunk is %.0f seconds of play at %.0f blocks per second, the queue holds %.0f seconds%n",
+				ChunkedTileMap.chunkWidth / levelSpeed, levelSpeed, EndlessChunkSource.queueCapacity * ChunkedTileMap.chunkWidth / levelSpeed);
+				
+		// Game loop as fast as possible, the worst case for the generator thread:
+		EndlessChunkSource source = new EndlessChunkSource(new EndlessLevelGenerator(42));
+		ChunkedTileMap tileMap = new ChunkedTileMap(source, 25);
+		start = System.nanoTime();
+		for (int column = 0; column < sweepChunks * ChunkedTileMap.chunkWidth; column++)
+			tileMap.update(column, column + EndlessLevelGenerator.playerXStart);
+		System.out.printf("Fastest sweep: %d chunks in %.1f ms, %d from the queue, %d generated inline%n", tileMap.getChunksRead(),
+				(System.nanoTime() - start) / 1e6, source.getChunksFromQueue(), source.getChunksGeneratedInline());
+		source.stop();
+		
+		// Game loop in real time, with the level realTimeSpeedup times faster than levelSpeed so it gets through more than a few chunks:
+		source = new EndlessChunkSource(new EndlessLevelGenerator(42));
+		tileMap = new ChunkedTileMap(source, 25);
+		double cameraPosition = 0;
+		long tickNanos = 1_000_000_000L / Simulation.ticksPerSecond;
+		long ticks = (long) realTimeSeconds * Simulation.ticksPerSecond;
+		long worstUpdate = 0;
+		for (long tick = 0; tick < ticks; tick++) {
+			start = System.nanoTime();
+			tileMap.update((int) cameraPosition, (int) cameraPosition + EndlessLevelGenerator.playerXStart);
+			worstUpdate = Math.max(worstUpdate, System.nanoTime() - start);
+			cameraPosition += levelSpeed * realTimeSpeedup / Simulation.ticksPerSecond;
+			while (System.nanoTime() - start < tickNanos)
+				Thread.onSpinWait();
+		}
+		System.out.printf("Real time sweep: %d chunks, %d from the queue, %d generated inline, slowest update %.1f us%n", tileMap.getChunksRead(),
+				source.getChunksFromQueue(), source.getChunksGeneratedInline(), worstUpdate / 1e3);
+		source.stop();
+		
+		checkIdlePlayer();
+	}
+	
+	/**
+	 * Plays the endless level with no keys pressed for {@code idleSeconds}, reading the cells on the screen every tick
+	 * like the renderer does, and checks that the tile map only reads the chunks the camera passes plus a few
+	 * @throws IllegalStateException if more chunks are read than that
+	 */
+	private static void checkIdlePlayer () {
+		EndlessChunkSource source = new EndlessChunkSource(new EndlessLevelGenerator(42));
+		int blockScaleFactor = 3;
+		Simulation simulation = new Simulation(new LevelData(0, blockScaleFactor, levelSpeed, 5, EndlessLevelGenerator.playerXStart,
+				EndlessLevelGenerator.playerYStart, 0, source), GameFrame.frameWidth);
+		ChunkedTileMap tileMap = (ChunkedTileMap) simulation.getLevelBoard();
+		int blockPixelSize = BlockType.defaultBlockResolution * blockScaleFactor;
+		int visibleColumns = GameFrame.frameWidth / blockPixelSize;
+		
+		long checksum = 0;
+		for (long tick = 0; tick < (long) idleSeconds * Simulation.ticksPerSecond; tick++) {
+			simulation.step(0);
+			int firstColumn = -simulation.getCameraPosition() / blockPixelSize;
+			for (int x = firstColumn; x <= firstColumn + visibleColumns; x++) {
+				for (int y = 0; y < tileMap.getHeight(); y++)
+					checksum += tileMap.tileIdAt(x, y);
+			}
+		}
+		source.stop();
+		
+		int passedChunks = (int) (idleSeconds * levelSpeed) / ChunkedTileMap.chunkWidth;
+		int allowedChunks = passedChunks + ChunkedTileMap.maxLoadedChunks;
+		System.out.printf("Idle player: %d chunks read in %d seconds of play, the camera passed %d (player at column %.0f, checksum %d)%n",
+				tileMap.getChunksRead(), idleSeconds, passedChunks, simulation.getXPosition(), checksum);
+		if (tileMap.getChunksRead() > allowedChunks)
+			throw new IllegalStateException("An idle player made the tile map read " + tileMap.getChunksRead() + " chunks, more than " + allowedChunks);
+	}
+	
+}
@@ -0,0 +1,29 @@
+package platformRunner;
+
+import java.io.IOException;
+
+/**
+ * Where a {@code ChunkedTileMap} gets the block ids of its chunks from. A chunk is {@code ChunkedTileMap.chunkWidth}
+ * columns of the board, and chunks can be requested in any order, but they are usually requested from left to right.
+ *
+ * @author Andrew Suyer
+ */
+public interface ChunkSource {
+	
+	/** Width of the whole board in blocks */
+	int getWidth ();
+	
+	/** Height of the board in blocks */
+	int getHeight ();
+	
+	/**
+	 * Reads the block ids of {@code columnCount} columns starting at {@code firstColumn} into {@code tileIds}, column by
+	 * column, so the cell (x, y) is at index {@code (x - firstColumn) * height + y}
+	 * @throws IOException if the columns can't be read
+	 * @param firstColumn - first column to read
+	 * @param columnCount - number of columns to read, never past the end of the board
+	 * @param tileIds - where the block ids are written to
+	 */
+	void readColumns (int firstColumn, int columnCount, byte[] tileIds) throws IOException;
+	
+}
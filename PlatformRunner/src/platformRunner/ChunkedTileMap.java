@@ -0,0 +1,252 @@
+package platformRunner;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A {@code TileMap} that only keeps the part of the board around the camera in memory. The board is split into chunks
+ * of {@code chunkWidth} columns which are read from a {@code ChunkSource} a little before they scroll onto the screen,
+ * and dropped once both the camera and the player have passed them. At most {@code maxLoadedChunks} chunks are loaded
+ * at once, so the memory used doesn't depend on how long the level is.
+ * <p>
+ * The chunks the camera and the player need are never dropped to make room for other chunks. If the player falls so
+ * far behind the camera that everything between them doesn't fit, only the chunks around the player and the chunks
+ * around the camera are kept, and the chunks in between are dropped. A chunk that isn't needed is only kept until its
+ * slot is needed for another chunk, the least recently used one goes first.
+ * <p>
+ * A chunk that is dropped forgets which of its blocks were broken. That's fine since the chunks around the player are
+ * never dropped, and when the player respawns every broken block comes back anyway.
+ *
+ * @author Andrew Suyer
+ */
+public class ChunkedTileMap implements TileMap {
+	
+	/** Number of columns in a chunk */
+	public static final int chunkWidth = 32;
+	
+	/** How many chunks past the right edge of the screen are loaded ahead of time */
+	public static final int chunksAhead = 2;
+	
+	/** The most chunks that are loaded at once. The chunks the camera and the player need take at most 7 of them */
+	public static final int maxLoadedChunks = 8;
+	
+	private final ChunkSource source;
+	
+	private final int width;
+	private final int height;
+	
+	/** How many columns fit on the screen */
+	private final int visibleColumns;
+	
+	/** The loaded chunks in no order, null for empty slots */
+	private final Chunk[] chunks;
+	
+	/** The last chunk that was used, checked first since most reads in a row are in the same chunk */
+	private Chunk lastUsedChunk;
+	
+	/** Counts the reads, a chunk remembers the count of its last read so the least recently used one can be found */
+	private long useCount;
+	
+	/**
+	 * The chunks that can't be dropped since the last {@code update()}, the ones around the player and the ones around
+	 * the camera. Both ranges are the same if they overlap or the chunks between them fit
+	 */
+	private int playerFirstChunk;
+	private int playerLastChunk;
+	private int cameraFirstChunk;
+	private int cameraLastChunk;
+	
+	/** Number of chunks read from the source since the tile map was created */
+	private int chunksRead;
+	
+	public int getChunksRead () { return chunksRead; }
+	
+	/**
+	 * Creates a tile map that reads its board from {@code source}. No chunks are read until they are needed
+	 * @param source - where the chunks are read from
+	 * @param visibleColumns - how many columns fit on the screen
+	 */
+	public ChunkedTileMap (ChunkSource source, int visibleColumns) {
+		this.source = source;
+		this.visibleColumns = visibleColumns;
+		width = source.getWidth();
+		height = source.getHeight();
+		chunks = new Chunk[maxLoadedChunks];
+		chunksRead = 0;
+		useCount = 0;
+		playerFirstChunk = playerLastChunk = cameraFirstChunk = cameraLastChunk = -1;
+	}
+	
+	@Override
+	public int getWidth () { return width; }
+	
+	@Override
+	public int getHeight () { return height; }
+	
+	@Override
+	public byte tileIdAt (int x, int y) {
+		if (x < 0 || x >= width || y < 0 || y >= height)
+			return LevelData.air;
+		return chunkAt(x).tileIds[(x % chunkWidth) * height + y];
+	}
+	
+	@Override
+	public byte flagsAt (int x, int y) {
+		if (x < 0 || x >= width || y < 0 || y >= height)
+			return CollisionGrid.VOID;
+		return chunkAt(x).collisionGrid.flagsAt(x % chunkWidth, y);
+	}
+	
+	@Override
+	public void destroyCell (int x, int y) {
+		Objects.checkIndex(x, width);
+		Objects.checkIndex(y, height);
+		chunkAt(x).collisionGrid.destroyCell(x % chunkWidth, y);
+	}
+	
+	@Override
+	public boolean isDestroyed (int x, int y) {
+		if (x < 0 || x >= width || y < 0 || y >= height)
+			return false;
+		return chunkAt(x).collisionGrid.isDestroyed(x % chunkWidth, y);
+	}
+	
+	@Override
+	public void restoreDestroyedCells () {
+		for (Chunk chunk : chunks) {
+			if (chunk != null)
+				chunk.collisionGrid.restoreDestroyedCells();
+		}
+	}
+	
+	/**
+	 * Loads every chunk from the one the camera or the player is in, whichever is further left, to {@code chunksAhead}
+	 * chunks past the right edge of the screen, and drops the chunks left of that. If those don't all fit, only the
+	 * chunks around the player and the chunks from the camera on are loaded, and the chunks between them are dropped
+	 * @param cameraColumn - leftmost column on the screen
+	 * @param playerColumn - column the player is in
+	 */
+	@Override
+	public void update (int cameraColumn, int playerColumn) {
+		int lastChunk = (width - 1) / chunkWidth;
+		cameraFirstChunk = Math.min(lastChunk, Math.max(0, cameraColumn) / chunkWidth);
+		cameraLastChunk = Math.min(lastChunk, (Math.max(cameraColumn, 0) + visibleColumns) / chunkWidth + chunksAhead);
+		
+		// The player touches the columns next to its own when it moves and collides:
+		playerFirstChunk = Math.min(lastChunk, Math.max(0, playerColumn - 1) / chunkWidth);
+		playerLastChunk = Math.min(lastChunk, Math.max(0, playerColumn + 2) / chunkWidth);
+		
+		int firstNeeded = Math.min(cameraFirstChunk, playerFirstChunk);
+		int lastNeeded = Math.max(cameraLastChunk, playerLastChunk);
+		if (lastNeeded - firstNeeded < maxLoadedChunks - 1) {		// one slot is left for reads of other chunks
+			cameraFirstChunk = playerFirstChunk = firstNeeded;
+			cameraLastChunk = playerLastChunk = lastNeeded;
+		}
+		
+		// Dropping the chunks that aren't needed:
+		for (int i = 0; i < chunks.length; i++) {
+			if (chunks[i] != null && !isNeeded(chunks[i].index)) {
+				if (chunks[i] == lastUsedChunk)
+					lastUsedChunk = null;
+				chunks[i] = null;
+			}
+		}
+		
+		// Loading the chunks that are needed:
+		for (int index = playerFirstChunk; index <= playerLastChunk; index++)
+			chunkAt(index * chunkWidth);
+		for (int index = cameraFirstChunk; index <= cameraLastChunk; index++)
+			chunkAt(index * chunkWidth);
+	}
+	
+	/**
+	 * Returns true if a chunk is around the player or the camera as of the last {@code update()}
+	 */
+	private boolean isNeeded (int index) {
+		return (index >= playerFirstChunk && index <= playerLastChunk) || (index >= cameraFirstChunk && index <= cameraLastChunk);
+	}
+	
+	@Override
+	public long getFootprint () {
+		long footprint = 0;
+		for (Chunk chunk : chunks) {
+			if (chunk != null)
+				footprint += chunk.tileIds.length + chunk.collisionGrid.getFootprint();
+		}
+		return footprint;
+	}
+	
+	/**
+	 * Returns the chunk that holds a column, reading it from the source if it isn't loaded. A chunk that is read goes
+	 * into an empty slot, or else replaces the least recently used chunk that isn't needed. If every slot holds a
+	 * needed chunk, the chunk that was read isn't kept
+	 * @throws IllegalStateException if the chunk can't be read
+	 */
+	private Chunk chunkAt (int column) {
+		int index = column / chunkWidth;
+		useCount++;
+		if (lastUsedChunk != null && lastUsedChunk.index == index) {
+			lastUsedChunk.lastUse = useCount;
+			return lastUsedChunk;
+		}
+		
+		int freeSlot = -1;
+		for (int i = 0; i < chunks.length; i++) {
+			Chunk chunk = chunks[i];
+			if (chunk == null) {
+				if (freeSlot < 0 || chunks[freeSlot] != null)
+					freeSlot = i;
+			} else if (chunk.index == index) {
+				chunk.lastUse = useCount;
+				lastUsedChunk = chunk;
+				return chunk;
+			} else if (!isNeeded(chunk.index) && (freeSlot < 0 || (chunks[freeSlot] != null && chunk.lastUse < chunks[freeSlot].lastUse))) {
+				freeSlot = i;
+			}
+		}
+		Chunk chunk = readChunk(index);
+		if (freeSlot < 0)
+			return chunk;
+		chunk.lastUse = useCount;
+		chunks[freeSlot] = chunk;
+		lastUsedChunk = chunk;
+		return chunk;
+	}
+	
+	private Chunk readChunk (int index) {
+		int firstColumn = index * chunkWidth;
+		int columnCount = Math.min(chunkWidth, width - firstColumn);
+		
+		// The last chunk is padded with air so every chunk has the same layout:
+		byte[] tileIds = new byte[chunkWidth * height];
+		Arrays.fill(tileIds, columnCount * height, tileIds.length, LevelData.air);
+		try {
+			source.readColumns(firstColumn, columnCount, tileIds);
+		} catch (IOException e) {
+			throw new IllegalStateException("Couldnt read the chunk at column " + firstColumn, e);
+		}
+		chunksRead++;
+		return new Chunk(index, tileIds, new CollisionGrid(tileIds, chunkWidth, height));
+	}
+	
+	/**
+	 * The block ids and collision flags of {@code chunkWidth} columns
+	 */
+	private static final class Chunk {
+		
+		final int index;
+		final byte[] tileIds;
+		final CollisionGrid collisionGrid;
+		
+		/** The read count of the last time this chunk was used */
+		long lastUse;
+		
+		Chunk (int index, byte[] tileIds, CollisionGrid collisionGrid) {
+			this.index = index;
+			this.tileIds = tileIds;
+			this.collisionGrid = collisionGrid;
+		}
+	}
+	
+}
@@ -0,0 +1,107 @@
+package platformRunner;
+
+import java.util.Random;
+
+/**
+ * Compares the speed of the collision checks done by looking up the {@code BlockType} of each cell against the same
+ * checks done with a {@code CollisionGrid}. Each check looks at the four corners of a hitbox at a random position on
+ * a 128x16 board, like the deadly block check in the game loop. Run with {@code -Djava.awt.headless=true}.
+ *
+ * @author Andrew Suyer
+ */
+public class CollisionBenchmark {
+	
+	private static final int boardWidth = 128;
+	private static final int boardHeight = 16;
+	
+	/** Number of hitbox positions checked per measurement */
+	private static final int positions = 1 << 16;
+	
+	private static final int warmupRounds = 20;
+	private static final int measuredRounds = 50;
+	
+	public static void main (String[] args) {
+		
+		// Random board that is about half air, like the levels:
+		Random random = new Random(42);
+		byte[] tileIds = new byte[boardWidth * boardHeight];
+		for (int i = 0; i < tileIds.length; i++)
+			tileIds[i] = random.nextBoolean() ? (byte) random.nextInt(22) : LevelData.air;
+		LevelData board = new LevelData(0, 3, boardWidth, boardHeight, 1, 5, 0, 0, 1, tileIds);
+		CollisionGrid grid = new CollisionGrid(board);
+		
+		double[] xPositions = new double[positions];
+		double[] yPositions = new double[positions];
+		for (int i = 0; i < positions; i++) {
+			xPositions[i] = random.nextDouble() * (boardWidth - 1);
+			yPositions[i] = random.nextDouble() * (boardHeight - 1);
+		}
+		
+		for (int i = 0; i < warmupRounds; i++) {
+			blockLookups(board, xPositions, yPositions);
+			gridLookups(grid, xPositions, yPositions);
+		}
+		
+		long blockTime = 0;
+		long gridTime = 0;
+		int hits = 0;
+		for (int i = 0; i < measuredRounds; i++) {
+			long start = System.nanoTime();
+			hits += blockLookups(board, xPositions, yPositions);
+			blockTime += System.nanoTime() - start;
+			
+			start = System.nanoTime();
+			hits -= gridLookups(grid, xPositions, yPositions);
+			gridTime += System.nanoTime() - start;
+		}
+		if (hits != 0)
+			throw new IllegalStateException("The block lookups and the collision grid disagree!");
+			
+		double checks = (double) positions * measuredRounds;
+		System.out.printf("Block type lookups: %.2f ns per check%n", blockTime / checks);
+		System.out.printf("Collision grid:     %.2f ns per check%n", gridTime / checks);
+	}
+	
+	/**
+	 * Counts the hitboxes with a deadly corner by looking up the {@code BlockType} of each corner
+	 */
+	private static int blockLookups (LevelData board, double[] xPositions, double[] yPositions) {
+		int deadly = 0;
+		for (int i = 0; i < positions; i++) {
+			int left = (int) xPositions[i];
+			int right = (int) (xPositions[i] + 1 - 1.0 / BlockType.defaultBlockResolution);
+			int top = (int) yPositions[i];
+			int bottom = (int) (yPositions[i] + 1 - 1.0 / BlockType.defaultBlockResolution);
+			if (isDeadly(board.blockTypeAt(left, top)) ||
+				isDeadly(board.blockTypeAt(right, top)) ||
+				isDeadly(board.blockTypeAt(left, bottom)) ||
+				isDeadly(board.blockTypeAt(right, bottom)))
+				deadly++;
+		}
+		return deadly;
+	}
+	
+	private static boolean isDeadly (BlockType type) {
+		return type != null && (type.flags & CollisionGrid.DEADLY) != 0;
+	}
+	
+	/**
+	 * Counts the hitboxes with a deadly corner by reading the {@code CollisionGrid}
+	 */
+	private static int gridLookups (CollisionGrid grid, double[] xPositions, double[] yPositions) {
+		int deadly = 0;
+		for (int i = 0; i < positions; i++) {
+			int left = (int) xPositions[i];
+			int right = (int) (xPositions[i] + 1 - 1.0 / BlockType.defaultBlockResolution);
+			int top = (int) yPositions[i];
+			int bottom = (int) (yPositions[i] + 1 - 1.0 / BlockType.defaultBlockResolution);
+			if (grid.hasAny(left, top, CollisionGrid.DEADLY) ||
+				grid.hasAny(right, top, CollisionGrid.DEADLY) ||
+				grid.hasAny(left, bottom, CollisionGrid.DEADLY) ||
+				grid.hasAny(right, bottom, CollisionGrid.DEADLY))
+				deadly++;
+		}
+		return deadly;
+	}
+	
+}
@@ -0,0 +1,150 @@
+package platformRunner;
+
+import java.util.BitSet;
+import java.util.Objects;
+
+/**
+ * The collision properties of every cell of a {@code Level} board, stored as bit flags in one flat array. The grid
+ * is built once when the level is created, so the collision checks in the game loop are array reads instead of block
+ * type lookups for every corner of the player every tick. Cells are stored column by column since the player hitbox
+ * checks cells that are above and below each other. Cells outside the board aren't an error, they have the
+ * {@code VOID} flag, so leaving the map is an ordinary collision result.
+ * <p>
+ * The board itself is never changed while the level is played. Broken blocks are kept track of in a small overlay
+ * of destroyed cells, so when the player respawns only the cells that were broken need to be restored.
+ *
+ * @author Andrew Suyer
+ */
+public class CollisionGrid {
+	
+	/** Block property flags, given to each block in the block definitions file */
+	public static final byte SOLID = 1;
+	public static final byte BREAKABLE = 1 << 1;
+	public static final byte TRANSPARENT = 1 << 2;
+	public static final byte DEADLY = 1 << 3;
+	public static final byte BACKGROUND = 1 << 4;
+	public static final byte OTHER = 1 << 5;
+	
+	/** The block is part of the finish area */
+	public static final byte FINISH = 1 << 6;
+	
+	/** The cell is outside of the board. Returned for every cell that isn't on the board instead of throwing an exception */
+	public static final byte VOID = (byte) (1 << 7);
+	
+	/** Flags of every cell as the level was built, the cell (x, y) is at index {@code x * height + y}. Air is 0 */
+	private final byte[] baseFlags;
+	
+	/** Flags of every cell right now. Same as {@code baseFlags}, except destroyed cells are air */
+	private final byte[] cellFlags;
+	
+	/** The cells whose blocks have been broken since the level started or the player last respawned */
+	private final BitSet destroyedCells;
+	
+	public final int width;
+	public final int height;
+	
+	/**
+	 * Builds the collision grid for a level board
+	 * @param board - the block ids of the level board
+	 */
+	public CollisionGrid (LevelData board) {
+		width = board.width;
+		height = board.height;
+		baseFlags = new byte[width * height];
+		for (int x = 0; x < width; x++) {
+			for (int y = 0; y < height; y++) {
+				byte id = board.tileIdAt(x, y);
+				if (id != LevelData.air)
+					baseFlags[x * height + y] = BlockType.flagsOf(id & 0xFF);
+			}
+		}
+		cellFlags = baseFlags.clone();
+		destroyedCells = new BitSet();
+	}
+	
+	/**
+	 * Builds the collision grid for part of a level board
+	 * @param tileIds - block id of every cell, the cell (x, y) is at index {@code x * height + y}
+	 * @param width - number of columns
+	 * @param height - number of rows
+	 */
+	public CollisionGrid (byte[] tileIds, int width, int height) {
+		this.width = width;
+		this.height = height;
+		baseFlags = new byte[width * height];
+		for (int i = 0; i < baseFlags.length; i++) {
+			if (tileIds[i] != LevelData.air)
+				baseFlags[i] = BlockType.flagsOf(tileIds[i] & 0xFF);
+		}
+		cellFlags = baseFlags.clone();
+		destroyedCells = new BitSet();
+	}
+	
+	/**
+	 * Returns the property flags of the cell at (x, y)
+	 * @param x - column of the cell
+	 * @param y - row of the cell
+	 * @return the property flags of the cell, 0 for air and {@code VOID} if the cell is outside the board
+	 */
+	public byte flagsAt (int x, int y) {
+		if (x < 0 || x >= width || y < 0 || y >= height)
+			return VOID;
+		return cellFlags[x * height + y];
+	}
+	
+	/**
+	 * Returns true if the cell at (x, y) has any of the flags in {@code mask}
+	 * @param x - column of the cell
+	 * @param y - row of the cell
+	 * @param mask - the flags to check for
+	 * @return true if the cell has any of the flags
+	 */
+	public boolean hasAny (int x, int y, int mask) {
+		return (flagsAt(x, y) & mask) != 0;
+	}
+	
+	/**
+	 * Turns the cell at (x, y) into air until {@code restoreDestroyedCells()} is called, used when a breakable block
+	 * is broken
+	 * @throws IndexOutOfBoundsException if (x, y) is outside the board
+	 * @param x - column of the cell
+	 * @param y - row of the cell
+	 */
+	public void destroyCell (int x, int y) {
+		Objects.checkIndex(x, width);
+		Objects.checkIndex(y, height);
+		cellFlags[x * height + y] = 0;
+		destroyedCells.set(x * height + y);
+	}
+	
+	/**
+	 * Returns true if the block at (x, y) has been broken. Cells outside the board are never destroyed
+	 * @param x - column of the cell
+	 * @param y - row of the cell
+	 * @return true if the block at the cell is broken
+	 */
+	public boolean isDestroyed (int x, int y) {
+		if (x < 0 || x >= width || y < 0 || y >= height)
+			return false;
+		return destroyedCells.get(x * height + y);
+	}
+	
+	/**
+	 * Brings back every broken block. Only the destroyed cells are visited, so this takes time proportional to the
+	 * number of broken blocks and not the size of the board
+	 */
+	public void restoreDestroyedCells () {
+		for (int i = destroyedCells.nextSetBit(0); i >= 0; i = destroyedCells.nextSetBit(i + 1))
+			cellFlags[i] = baseFlags[i];
+		destroyedCells.clear();
+	}
+	
+	/**
+	 * Returns about how many bytes of memory the grid uses
+	 * @return the memory footprint in bytes
+	 */
+	public long getFootprint () {
+		return baseFlags.length + cellFlags.length + destroyedCells.size() / 8;
+	}
+	
+}
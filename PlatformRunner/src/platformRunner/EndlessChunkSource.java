@@ -0,0 +1,151 @@
+package platformRunner;
+
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * The {@code ChunkSource} of the endless level. A generator thread keeps a queue of the next {@code queueCapacity}
+ * chunks filled ahead of the camera, and the game loop takes chunks out of the queue without ever waiting for it.
+ * If the chunk the game loop needs isn't at the front of the queue, like when the generator fell behind or the player
+ * respawned at the start, the chunk is generated right away on the game thread instead. Since a chunk only depends
+ * on the seed and its index, it's the same chunk either way. The generator only starts over from an earlier chunk when
+ * the game loop reads chunks behind the queue one after another, like after a respawn, and not for a single chunk
+ * that is read again.
+ *
+ * @author Andrew Suyer
+ */
+public class EndlessChunkSource implements ChunkSource {
+	
+	/** Width of the endless level in blocks. Not infinite, but at 2 blocks per second it takes over 6 months to reach the end */
+	public static final int width = 1 << 25;
+	
+	/** How many chunks the generator stays ahead by. 16 chunks are 512 columns, minutes of play at any level speed */
+	public static final int queueCapacity = 16;
+	
+	private final EndlessLevelGenerator generator;
+	
+	/** Chunks that have been generated ahead of time, in order */
+	private final ArrayBlockingQueue<GeneratedChunk> queue;
+	
+	/**
+	 * Tells the generator where to continue from. The high 32 bits count the restarts and the low 32 bits are the
+	 * index of the next chunk to generate. Written by the game thread, read by the generator
+	 */
+	private volatile long restart;
+	
+	private final Thread generatorThread;
+	
+	/** Index of the last chunk that was read, only used by the game thread */
+	private int lastReadIndex;
+	
+	/** Statistics, only used by the game thread */
+	private int chunksFromQueue;
+	private int chunksGeneratedInline;
+	
+	/**
+	 * Creates a chunk source for the endless level and starts its generator thread
+	 * @param generator - generates the chunks of the level
+	 */
+	public EndlessChunkSource (EndlessLevelGenerator generator) {
+		this.generator = generator;
+		queue = new ArrayBlockingQueue<>(queueCapacity);
+		restart = 0;
+		lastReadIndex = -1;
+		chunksFromQueue = 0;
+		chunksGeneratedInline = 0;
+		
+		generatorThread = new Thread(this::generateChunks, "Endless level generator");
+		generatorThread.setDaemon(true);		// doesnt keep the game open after the frame is closed
+		generatorThread.start();
+	}
+	
+	@Override
+	public int getWidth () { return width; }
+	
+	@Override
+	public int getHeight () { return EndlessLevelGenerator.height; }
+	
+	public int getChunksFromQueue () { return chunksFromQueue; }
+	
+	public int getChunksGeneratedInline () { return chunksGeneratedInline; }
+	
+	/**
+	 * Takes the chunk that holds {@code firstColumn} out of the queue if it's there, or generates it if it isn't.
+	 * Never blocks. Columns are always read a whole chunk at a time by the {@code ChunkedTileMap}
+	 */
+	@Override
+	public void readColumns (int firstColumn, int columnCount, byte[] tileIds) {
+		int index = firstColumn / ChunkedTileMap.chunkWidth;
+		int offset = (firstColumn % ChunkedTileMap.chunkWidth) * getHeight();
+		int restartCount = (int) (restart >>> 32);
+		
+		// Dropping chunks that were generated before the last restart or that the level has already passed:
+		GeneratedChunk chunk = queue.peek();
+		while (chunk != null && (chunk.restartCount != restartCount || chunk.index < index)) {
+			queue.poll();
+			chunk = queue.peek();
+		}
+		
+		byte[] chunkIds;
+		if (chunk != null && chunk.index == index) {
+			queue.poll();
+			chunkIds = chunk.tileIds;
+			chunksFromQueue++;
+		} else {
+			chunkIds = generator.generateChunk(index);
+			chunksGeneratedInline++;
+			if (chunk != null && index == lastReadIndex + 1) {
+				// The queue is ahead of the level and the level is reading on from a chunk before it, so the level went
+				// back for good. Starting the generator over from here:
+				queue.clear();
+				restart = ((long) (restartCount + 1) << 32) | (index + 1);
+			}
+		}
+		lastReadIndex = index;
+		System.arraycopy(chunkIds, offset, tileIds, 0, columnCount * getHeight());
+	}
+	
+	/**
+	 * Stops the generator thread
+	 */
+	public void stop () {
+		generatorThread.interrupt();
+	}
+	
+	/**
+	 * Loop of the generator thread. Generates chunks in order and puts them in the queue, waiting whenever the queue is
+	 * full, and starts over from another chunk when the game thread asks it to
+	 */
+	private void generateChunks () {
+		long seenRestart = restart;
+		int index = (int) seenRestart;
+		try {
+			while (true) {
+				if (restart != seenRestart) {
+					seenRestart = restart;
+					index = (int) seenRestart;
+				}
+				queue.put(new GeneratedChunk((int) (seenRestart >>> 32), index, generator.generateChunk(index)));
+				index++;
+			}
+		} catch (InterruptedException e) {
+			// stopped
+		}
+	}
+	
+	/**
+	 * A chunk in the queue, and which restart of the generator it was generated after
+	 */
+	private static final class GeneratedChunk {
+		
+		final int restartCount;
+		final int index;
+		final byte[] tileIds;
+		
+		GeneratedChunk (int restartCount, int index, byte[] tileIds) {
+			this.restartCount = restartCount;
+			this.index = index;
+			this.tileIds = tileIds;
+		}
+	}
+	
+}
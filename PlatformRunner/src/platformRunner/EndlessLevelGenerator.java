@@ -0,0 +1,145 @@
+package platformRunner;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Generates the chunks of the endless level from a seed. Every chunk only depends on the seed and its index, so a
+ * chunk can be generated on any thread, in any order, and any number of times, and it always comes out the same.
+ * <p>
+ * The ground of a chunk is made of sections that are a few columns wide, each one at most 2 blocks higher or lower
+ * than the last so it can always be jumped onto. Sections can have a spike, a gap to jump over, or a platform of
+ * breakable wood above them. Every chunk starts and ends with a few flat columns at a height that both chunks next to
+ * the border agree on, and the first chunk is flat so the player can get started.
+ *
+ * @author Andrew Suyer
+ */
+public class EndlessLevelGenerator {
+	
+	/** Height of the endless level in blocks */
+	public static final int height = 16;
+	
+	/** Highest and lowest rows the top of the ground can be at */
+	public static final int highestGroundRow = 10;
+	public static final int lowestGroundRow = 12;
+	
+	/** Where the player starts, on top of the flat ground of the first chunk */
+	public static final int playerXStart = 5;
+	public static final int playerYStart = lowestGroundRow - 1;
+	
+	/** Number of flat columns at the start and end of every chunk */
+	private static final int flatColumns = 3;
+	
+	// Block ids that the endless level is made of:
+	private static final byte grass = 6;
+	private static final byte dirt = 0;
+	private static final byte spike = 21;
+	private static final byte wood = 1;
+	private static final byte cloud = 2;
+	
+	private final long seed;
+	
+	public EndlessLevelGenerator (long seed) {
+		this.seed = seed;
+	}
+	
+	public long getSeed () { return seed; }
+	
+	/**
+	 * Generates a chunk of the endless level
+	 * @param index - index of the chunk, chunk 0 is where the player starts
+	 * @return the block ids of the chunk, {@code ChunkedTileMap.chunkWidth} columns of {@code height} cells
+	 */
+	public byte[] generateChunk (int index) {
+		int chunkWidth = ChunkedTileMap.chunkWidth;
+		byte[] tileIds = new byte[chunkWidth * height];
+		Arrays.fill(tileIds, LevelData.air);
+		SplittableRandom random = randomFor(index);
+		
+		int startRow = borderGroundRow(index);
+		int endRow = borderGroundRow(index + 1);
+		
+		if (index == 0) {
+			// The first chunk is flat all the way:
+			for (int x = 0; x < chunkWidth; x++)
+				fillGround(tileIds, x, x < chunkWidth - flatColumns ? startRow : endRow);
+			return tileIds;
+		}
+		
+		for (int x = 0; x < flatColumns; x++)
+			fillGround(tileIds, x, startRow);
+			
+		// Sections of ground with something to avoid on them:
+		int groundRow = startRow;
+		int x = flatColumns;
+		while (x < chunkWidth - flatColumns) {
+			int sectionWidth = Math.min(4 + random.nextInt(5), chunkWidth - flatColumns - x);
+			groundRow = Math.max(highestGroundRow, Math.min(lowestGroundRow, groundRow + random.nextInt(5) - 2));
+			
+			for (int column = x; column < x + sectionWidth; column++)
+				fillGround(tileIds, column, groundRow);
+				
+			int feature = random.nextInt(10);
+			if (feature < 2 && sectionWidth >= 5) {
+				// Gap of 2 or 3 columns at the end of the section, the player falls out of the map if they miss the jump
+				int gapWidth = 2 + random.nextInt(2);
+				for (int column = x + sectionWidth - gapWidth; column < x + sectionWidth; column++)
+					clearColumn(tileIds, column);
+			} else if (feature < 4 && sectionWidth >= 2) {
+				// One spike on the ground, never on the first column so the player has somewhere to land
+				int column = x + 1 + random.nextInt(sectionWidth - 1);
+				set(tileIds, column, groundRow - 1, spike);
+			} else if (feature < 5 && sectionWidth >= 4) {
+				// Platform of breakable wood above the ground
+				for (int column = x + 1; column < x + 4; column++)
+					set(tileIds, column, groundRow - 4, wood);
+			}
+			
+			// Clouds in the sky:
+			if (random.nextInt(3) == 0)
+				set(tileIds, x + random.nextInt(sectionWidth), 1 + random.nextInt(4), cloud);
+				
+			x += sectionWidth;
+		}
+		
+		for (x = chunkWidth - flatColumns; x < chunkWidth; x++)
+			fillGround(tileIds, x, endRow);
+		return tileIds;
+	}
+	
+	/**
+	 * Returns the row of the top of the ground at the border before chunk {@code index}, which the chunks on both
+	 * sides of the border use for their flat columns
+	 */
+	private int borderGroundRow (int index) {
+		if (index == 0)
+			return lowestGroundRow;
+		return highestGroundRow + randomFor(-index).nextInt(lowestGroundRow - highestGroundRow + 1);
+	}
+	
+	/**
+	 * Returns a random number generator that only depends on the seed and {@code index}
+	 */
+	private SplittableRandom randomFor (int index) {
+		return new SplittableRandom(seed + index * 0x9E3779B97F4A7C15L);
+	}
+	
+	/**
+	 * Puts grass at {@code groundRow} of a column and dirt under it
+	 */
+	private static void fillGround (byte[] tileIds, int column, int groundRow) {
+		set(tileIds, column, groundRow, grass);
+		for (int y = groundRow + 1; y < height; y++)
+			set(tileIds, column, y, dirt);
+	}
+	
+	private static void clearColumn (byte[] tileIds, int column) {
+		for (int y = 0; y < height; y++)
+			set(tileIds, column, y, LevelData.air);
+	}
+	
+	private static void set (byte[] tileIds, int column, int row, byte id) {
+		tileIds[column * height + row] = id;
+	}
+	
+}
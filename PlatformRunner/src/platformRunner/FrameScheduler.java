@@ -0,0 +1,112 @@
+package platformRunner;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Waits for the game loop until the next tick or frame is due without keeping a core busy. The thread is parked
+ * until it's close to the deadline, and only the last {@code spinWindow} nanoseconds are spun, since parking can
+ * wake up late. Also keeps statistics about how much CPU time each frame uses and how many frames are shown late.
+ *
+ * @author Andrew Suyer
+ */
+public class FrameScheduler {
+	
+	/** How long before a deadline the scheduler stops parking and spins, in nanoseconds */
+	public static final long defaultSpinWindow = 1000000;
+	
+	/** How late a frame can be shown before it counts as a missed deadline, in nanoseconds */
+	public static final long missedDeadlineTolerance = 2000000;
+	
+	private final long spinWindow;
+	
+	/** Used to read the CPU time of the game thread */
+	private final ThreadMXBean threadBean;
+	
+	/** CPU time of the game thread when the last frame was shown, or -1 if the JVM can't measure it */
+	private long lastFrameCpuTime;
+	
+	/** Statistics since the last reset */
+	private int framesShown;
+	private int missedDeadlines;
+	private long frameCpuTime;
+	
+	/**
+	 * Creates a scheduler that spins for the last {@code spinWindow} nanoseconds before each deadline. Must be created
+	 * on the thread that it schedules
+	 * @param spinWindow - how long to spin before a deadline, in nanoseconds
+	 */
+	public FrameScheduler (long spinWindow) {
+		this.spinWindow = spinWindow;
+		threadBean = ManagementFactory.getThreadMXBean();
+		if (threadBean.isCurrentThreadCpuTimeSupported() && !threadBean.isThreadCpuTimeEnabled())
+			threadBean.setThreadCpuTimeEnabled(true);
+		lastFrameCpuTime = currentCpuTime();
+	}
+	
+	public FrameScheduler () {
+		this(defaultSpinWindow);
+	}
+	
+	/**
+	 * Blocks until {@code System.nanoTime()} reaches {@code deadline}. Returns right away if the deadline has passed
+	 * @param deadline - the time to wait until, from {@code System.nanoTime()}
+	 */
+	public void waitUntil (long deadline) {
+		long remaining = deadline - System.nanoTime();
+		while (remaining > spinWindow) {
+			LockSupport.parkNanos(remaining - spinWindow);
+			remaining = deadline - System.nanoTime();
+		}
+		while (System.nanoTime() < deadline)
+			Thread.onSpinWait();
+	}
+	
+	/**
+	 * Records that a frame was shown. Counts it as a missed deadline if it was shown more than
+	 * {@code missedDeadlineTolerance} after {@code deadline}
+	 * @param deadline - when the frame should have been shown
+	 * @param shownTime - when the frame was actually shown
+	 */
+	public void frameShown (long deadline, long shownTime) {
+		framesShown++;
+		if (shownTime - deadline > missedDeadlineTolerance)
+			missedDeadlines++;
+			
+		long cpuTime = currentCpuTime();
+		if (cpuTime >= 0) {
+			frameCpuTime += cpuTime - lastFrameCpuTime;
+			lastFrameCpuTime = cpuTime;
+		}
+	}
+	
+	public int getFramesShown () { return framesShown; }
+	
+	public int getMissedDeadlines () { return missedDeadlines; }
+	
+	/**
+	 * Returns the average CPU time the game thread used per frame since the last reset, in nanoseconds. Returns -1 if
+	 * the JVM can't measure thread CPU time
+	 * @return average CPU time per frame
+	 */
+	public long getAverageCpuTimePerFrame () {
+		if (lastFrameCpuTime < 0)
+			return -1;
+		return framesShown == 0 ? 0 : frameCpuTime / framesShown;
+	}
+	
+	/**
+	 * Resets the frame, missed deadline, and CPU time statistics
+	 */
+	public void resetStatistics () {
+		framesShown = 0;
+		missedDeadlines = 0;
+		frameCpuTime = 0;
+	}
+	
+	private long currentCpuTime () {
+		return threadBean.isCurrentThreadCpuTimeSupported() ? threadBean.getCurrentThreadCpuTime() : -1;
+	}
+	
+}
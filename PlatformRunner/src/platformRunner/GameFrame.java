@@ -1,21 +1,28 @@
 package platformRunner;
 
+import java.awt.Canvas;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
 import javax.swing.JButton;
 import javax.swing.JFrame;
+import javax.swing.JOptionPane;
+import javax.swing.JProgressBar;
+import javax.swing.SwingUtilities;
 
 /**
- * The game window which is a frame can display a 24 by 16 grid of {@code Block}s of a {@code Level}. This class stores all 
- * the game {@code World}s, creates the layouts of the levels, and handles when each level should be displayed. To
- * create a level, use the google sheet and google script to design and generate code for the creation of a {@code Level}.
- * Now located in my google drive folder 
+ * The game window which is a frame can display a 24 by 16 grid of blocks of a {@code Level}. This class stores all 
+ * the game {@code World}s, gives them the level files of their levels, and handles when each level should be displayed.
+ * Levels are stored in {@code src/levels} in the format read by {@code LevelLoader}, one file per level. A level is
+ * only built when it's played, so the frame shows right away. With {@code -DplatformRunner.preloadLevels=true}, every
+ * level is loaded at startup instead, in parallel, while a progress bar is shown.
  * <p>
  * Google Sheet for map creation: {@link https://tinyurl.com/4rnv7wrm} 
- * <p>
- * Script for code generation: {@link https://tinyurl.com/5ybpv8rk}
  * 
  * @author Andrew Suyer
  */
@@ -24,14 +31,31 @@ public class GameFrame extends JFrame {
 	public static final int frameWidth = 1152;		// 48*24=1152, fits 24 blocks with scaled resolution of 48x48
 	public static final int frameHeight = 768;		// 48*16=768, fits 16 blocks with scaled resolution of 48x48
 	
-	/** The games FPS */
-	public static final int framesPerSecond = 96;
+	/** How many times per second the game physics are updated. Can be changed with {@code -DplatformRunner.ticksPerSecond} */
+	public static final int ticksPerSecond = Simulation.ticksPerSecond;
+	
+	/** The games FPS, independent from the physics. Can be changed with {@code -DplatformRunner.framesPerSecond} */
+	public static final int framesPerSecond = Integer.getInteger("platformRunner.framesPerSecond", 96);
+	
+	/** The most physics ticks that are run in a row to catch up after a slow frame */
+	public static final int maxCatchUpTicks = 5;
+	
+	/** How many buffers the canvas uses for active rendering. With 3 buffers, a frame can be drawn while another waits to be shown */
+	public static final int renderBufferCount = 3;
+	
+	/** How many {@code Level}s each {@code World} has */
+	public static final int levelsPerWorld = 4;
 	
-	/** Used to create the level board for all the levels */
-	private Block[][] levelBoard;
+	/** Speed of the endless level in blocks per second. Can be changed with {@code -DplatformRunner.endlessSpeed} */
+	public static final double endlessSpeed = Double.parseDouble(System.getProperty("platformRunner.endlessSpeed", "2"));
 	
-	/** Used to create a level which is then added to a world */
-	private Level temporaryLevel;
+	/** If true, every level is loaded before the first world is shown. Set with {@code -DplatformRunner.preloadLevels=true} */
+	public static final boolean preloadLevels = Boolean.getBoolean("platformRunner.preloadLevels");
+	
+	/** The canvas that the {@code Level} being played is drawn onto */
+	private Canvas gameCanvas;
+	
+	public Canvas getGameCanvas () { return gameCanvas; }
 	
 	/** Stores all the {@code World}s for the game */
 	private World[] worlds;
@@ -42,9 +66,18 @@ public class GameFrame extends JFrame {
 	/** Loads the previous {@code World} when pressed */
 	private JButton previousWorldButton;
 	
+	/** Starts the endless level when pressed */
+	private JButton endlessModeButton;
+	
 	/** The current {@code World} number that is being displayed. A value of 0 means no {@code World} is currently displayed */
 	private byte currentWorld;
 	
+	/** Shows how many levels have been loaded while the levels are preloaded */
+	private JProgressBar levelLoadingBar;
+	
+	/** Number of levels that have been preloaded and added to their world */
+	private int levelsLoaded;
+	
 	public GameFrame () {
 		
 		System.out.println("Preparing the frame for use");
@@ -56,8 +89,15 @@ public class GameFrame extends JFrame {
 		
 		nextWorldButton = new JButton("Next World");
 		previousWorldButton = new JButton("Previous World");
+		endlessModeButton = new JButton("Endless Mode");
 		currentWorld = 0;
 		
+		// Setting properties of the game canvas, which is only drawn on by the game loop:
+		gameCanvas = new Canvas();
+		gameCanvas.setSize(frameWidth, frameHeight);
+		gameCanvas.setIgnoreRepaint(true);
+		gameCanvas.setFocusable(false);		// focus stays in the Swing components so the keybinds of the Level still work
+		
 		// Setting properties of next and previous world buttons:
 		nextWorldButton.setSize(200, 50);
 		nextWorldButton.setLocation(frameWidth - 32 - 200, 32);
@@ -66,9 +106,10 @@ public class GameFrame extends JFrame {
 
 			@Override
 			public void actionPerformed(ActionEvent e) {
-				if (currentWorld < worlds.length) {
+				if (currentWorld > 0 && currentWorld < worlds.length) {
 					remove(worlds[currentWorld - 1]);		// remove currently displayed World
 					add(worlds[currentWorld]);				// add the next World
+					worlds[currentWorld].prefetchLevel(1);	// level 1 is most likely to be played next
 					update(getGraphics());					// update screen
 					currentWorld++;							// update World tracker
 				}
@@ -86,6 +127,7 @@ public class GameFrame extends JFrame {
 				if (currentWorld > 1) {
 					remove(worlds[currentWorld - 1]);		// remove currently displayed World
 					add(worlds[currentWorld - 2]);			// add the previous World
+					worlds[currentWorld - 2].prefetchLevel(1);
 					update(getGraphics());					// update screen
 					currentWorld--;							// update World tracker
 				}
@@ -93,6 +135,19 @@ public class GameFrame extends JFrame {
 		});
 		add(previousWorldButton);
 		
+		endlessModeButton.setSize(200, 50);
+		endlessModeButton.setLocation(frameWidth / 2 - 200 / 2, frameHeight - 100);
+		endlessModeButton.setFont(new Font("Serif", Font.BOLD, 20));
+		endlessModeButton.addActionListener(new ActionListener() {
+
+			@Override
+			public void actionPerformed(ActionEvent e) {
+				if (currentWorld > 0)
+					startEndlessLevel();
+			}
+		});
+		add(endlessModeButton);
+		
 		// Frame setup:
 		setSize(frameWidth, frameHeight);
 		setResizable(false);
@@ -101,6927 +156,165 @@ public class GameFrame extends JFrame {
 		setLayout(null);
 		setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
 		
-		// level setup:
-		System.out.println("Preparing game levels");
-		createWorld1Level1();
-		System.out.print(".");
-		createWorld1Level2();
-		System.out.print(".");
-		createWorld1Level3();
-		System.out.print(".");
-		createWorld1Level4();
-		System.out.print(".");
-		createWorld2Level1();
-		System.out.print(".");
-		createWorld2Level2();
-		System.out.print(".");
-		createWorld2Level3();
-		System.out.print(".");
-		createWorld2Level4();
-		System.out.print(".\n");
-		
-		System.out.println("Adding the first world");
-		add(worlds[0]);
-		currentWorld = 1;
+		if (Replay.playbackFilepath != null) {
+			// the replay is started once the frame is visible, the canvas can only be drawn on then
+		} else if (preloadLevels) {
+			System.out.println("Preparing game levels");
+			startPreloadingLevels();
+		} else {
+			// level setup (levels are built when they are played, only their files are given to the worlds):
+			for (int world = 1; world <= worlds.length; world++) {
+				for (int level = 1; level <= levelsPerWorld; level++)
+					worlds[world - 1].addLevel(level, LevelLoader.levelFilepath(world, level));
+			}
+			showFirstWorld();
+		}
 		
 		setVisible(true);
-	}
-	
-	public void createWorld1Level1 () {
-		
-		temporaryLevel = new Level(Color.cyan, 3, 128, 16, 1.5, 6, 5, 8, 1); 	// backgroundColor = cyan, board dimensions: 128x16, panelSpeed = 1.5, gAcc = 5, playerStart = (5,8), level 1
-		
-		levelBoard = new Block[128][16];
-		int scaleFactor = temporaryLevel.blockScaleFactor;
-		
-		levelBoard[0][0] = new Block(18, scaleFactor);
-		levelBoard[101][0] = new Block(18, scaleFactor);
-		levelBoard[115][0] = new Block(10, scaleFactor);
-		levelBoard[116][0] = new Block(10, scaleFactor);
-		levelBoard[117][0] = new Block(10, scaleFactor);
-		levelBoard[118][0] = new Block(10, scaleFactor);
-		levelBoard[119][0] = new Block(10, scaleFactor);
-		levelBoard[120][0] = new Block(10, scaleFactor);
-		levelBoard[121][0] = new Block(10, scaleFactor);
-		levelBoard[122][0] = new Block(10, scaleFactor);
-		levelBoard[123][0] = new Block(10, scaleFactor);
-		levelBoard[124][0] = new Block(10, scaleFactor);
-		levelBoard[125][0] = new Block(10, scaleFactor);
-		levelBoard[126][0] = new Block(10, scaleFactor);
-		levelBoard[127][0] = new Block(10, scaleFactor);
-		levelBoard[0][1] = new Block(18, scaleFactor);
-		levelBoard[93][1] = new Block(18, scaleFactor);
-		levelBoard[101][1] = new Block(18, scaleFactor);
-		levelBoard[115][1] = new Block(10, scaleFactor);
-		levelBoard[116][1] = new Block(10, scaleFactor);
-		levelBoard[117][1] = new Block(10, scaleFactor);
-		levelBoard[118][1] = new Block(10, scaleFactor);
-		levelBoard[119][1] = new Block(10, scaleFactor);
-		levelBoard[120][1] = new Block(10, scaleFactor);
-		levelBoard[121][1] = new Block(10, scaleFactor);
-		levelBoard[122][1] = new Block(10, scaleFactor);
-		levelBoard[123][1] = new Block(10, scaleFactor);
-		levelBoard[124][1] = new Block(10, scaleFactor);
-		levelBoard[125][1] = new Block(10, scaleFactor);
-		levelBoard[126][1] = new Block(10, scaleFactor);
-		levelBoard[127][1] = new Block(10, scaleFactor);
-		levelBoard[0][2] = new Block(18, scaleFactor);
-		levelBoard[4][2] = new Block(2, scaleFactor);
-		levelBoard[5][2] = new Block(2, scaleFactor);
-		levelBoard[6][2] = new Block(2, scaleFactor);
-		levelBoard[7][2] = new Block(2, scaleFactor);
-		levelBoard[8][2] = new Block(2, scaleFactor);
-		levelBoard[14][2] = new Block(2, scaleFactor);
-		levelBoard[15][2] = new Block(2, scaleFactor);
-		levelBoard[16][2] = new Block(2, scaleFactor);
-		levelBoard[17][2] = new Block(2, scaleFactor);
-		levelBoard[18][2] = new Block(2, scaleFactor);
-		levelBoard[19][2] = new Block(2, scaleFactor);
-		levelBoard[25][2] = new Block(2, scaleFactor);
-		levelBoard[26][2] = new Block(2, scaleFactor);
-		levelBoard[27][2] = new Block(2, scaleFactor);
-		levelBoard[28][2] = new Block(2, scaleFactor);
-		levelBoard[29][2] = new Block(2, scaleFactor);
-		levelBoard[30][2] = new Block(2, scaleFactor);
-		levelBoard[36][2] = new Block(2, scaleFactor);
-		levelBoard[37][2] = new Block(2, scaleFactor);
-		levelBoard[38][2] = new Block(2, scaleFactor);
-		levelBoard[39][2] = new Block(2, scaleFactor);
-		levelBoard[40][2] = new Block(2, scaleFactor);
-		levelBoard[41][2] = new Block(2, scaleFactor);
-		levelBoard[47][2] = new Block(2, scaleFactor);
-		levelBoard[48][2] = new Block(2, scaleFactor);
-		levelBoard[49][2] = new Block(2, scaleFactor);
-		levelBoard[50][2] = new Block(2, scaleFactor);
-		levelBoard[51][2] = new Block(2, scaleFactor);
-		levelBoard[52][2] = new Block(2, scaleFactor);
-		levelBoard[93][2] = new Block(18, scaleFactor);
-		levelBoard[101][2] = new Block(18, scaleFactor);
-		levelBoard[104][2] = new Block(18, scaleFactor);
-		levelBoard[105][2] = new Block(18, scaleFactor);
-		levelBoard[106][2] = new Block(18, scaleFactor);
-		levelBoard[107][2] = new Block(18, scaleFactor);
-		levelBoard[108][2] = new Block(18, scaleFactor);
-		levelBoard[109][2] = new Block(18, scaleFactor);
-		levelBoard[110][2] = new Block(18, scaleFactor);
-		levelBoard[115][2] = new Block(10, scaleFactor);
-		levelBoard[116][2] = new Block(10, scaleFactor);
-		levelBoard[117][2] = new Block(10, scaleFactor);
-		levelBoard[118][2] = new Block(10, scaleFactor);
-		levelBoard[119][2] = new Block(10, scaleFactor);
-		levelBoard[120][2] = new Block(10, scaleFactor);
-		levelBoard[121][2] = new Block(10, scaleFactor);
-		levelBoard[122][2] = new Block(10, scaleFactor);
-		levelBoard[123][2] = new Block(10, scaleFactor);
-		levelBoard[124][2] = new Block(10, scaleFactor);
-		levelBoard[125][2] = new Block(10, scaleFactor);
-		levelBoard[126][2] = new Block(10, scaleFactor);
-		levelBoard[127][2] = new Block(10, scaleFactor);
-		levelBoard[0][3] = new Block(18, scaleFactor);
-		levelBoard[93][3] = new Block(18, scaleFactor);
-		levelBoard[101][3] = new Block(18, scaleFactor);
-		levelBoard[102][3] = new Block(1, scaleFactor);
-		levelBoard[103][3] = new Block(18, scaleFactor);
-		levelBoard[104][3] = new Block(18, scaleFactor);
-		levelBoard[110][3] = new Block(18, scaleFactor);
-		levelBoard[115][3] = new Block(10, scaleFactor);
-		levelBoard[116][3] = new Block(10, scaleFactor);
-		levelBoard[117][3] = new Block(10, scaleFactor);
-		levelBoard[118][3] = new Block(10, scaleFactor);
-		levelBoard[119][3] = new Block(10, scaleFactor);
-		levelBoard[120][3] = new Block(10, scaleFactor);
-		levelBoard[121][3] = new Block(10, scaleFactor);
-		levelBoard[122][3] = new Block(10, scaleFactor);
-		levelBoard[123][3] = new Block(10, scaleFactor);
-		levelBoard[124][3] = new Block(10, scaleFactor);
-		levelBoard[125][3] = new Block(10, scaleFactor);
-		levelBoard[126][3] = new Block(10, scaleFactor);
-		levelBoard[127][3] = new Block(10, scaleFactor);
-		levelBoard[0][4] = new Block(18, scaleFactor);
-		levelBoard[68][4] = new Block(18, scaleFactor);
-		levelBoard[69][4] = new Block(18, scaleFactor);
-		levelBoard[70][4] = new Block(18, scaleFactor);
-		levelBoard[74][4] = new Block(18, scaleFactor);
-		levelBoard[75][4] = new Block(18, scaleFactor);
-		levelBoard[76][4] = new Block(18, scaleFactor);
-		levelBoard[93][4] = new Block(18, scaleFactor);
-		levelBoard[94][4] = new Block(18, scaleFactor);
-		levelBoard[95][4] = new Block(18, scaleFactor);
-		levelBoard[96][4] = new Block(1, scaleFactor);
-		levelBoard[97][4] = new Block(1, scaleFactor);
-		levelBoard[98][4] = new Block(18, scaleFactor);
-		levelBoard[101][4] = new Block(18, scaleFactor);
-		levelBoard[110][4] = new Block(18, scaleFactor);
-		levelBoard[115][4] = new Block(10, scaleFactor);
-		levelBoard[116][4] = new Block(10, scaleFactor);
-		levelBoard[117][4] = new Block(10, scaleFactor);
-		levelBoard[118][4] = new Block(10, scaleFactor);
-		levelBoard[119][4] = new Block(10, scaleFactor);
-		levelBoard[120][4] = new Block(10, scaleFactor);
-		levelBoard[121][4] = new Block(10, scaleFactor);
-		levelBoard[122][4] = new Block(10, scaleFactor);
-		levelBoard[123][4] = new Block(10, scaleFactor);
-		levelBoard[124][4] = new Block(10, scaleFactor);
-		levelBoard[125][4] = new Block(10, scaleFactor);
-		levelBoard[126][4] = new Block(10, scaleFactor);
-		levelBoard[127][4] = new Block(10, scaleFactor);
-		levelBoard[0][5] = new Block(18, scaleFactor);
-		levelBoard[19][5] = new Block(18, scaleFactor);
-		levelBoard[20][5] = new Block(18, scaleFactor);
-		levelBoard[21][5] = new Block(18, scaleFactor);
-		levelBoard[63][5] = new Block(18, scaleFactor);
-		levelBoard[64][5] = new Block(18, scaleFactor);
-		levelBoard[93][5] = new Block(18, scaleFactor);
-		levelBoard[98][5] = new Block(18, scaleFactor);
-		levelBoard[101][5] = new Block(18, scaleFactor);
-		levelBoard[106][5] = new Block(18, scaleFactor);
-		levelBoard[107][5] = new Block(18, scaleFactor);
-		levelBoard[110][5] = new Block(18, scaleFactor);
-		levelBoard[115][5] = new Block(10, scaleFactor);
-		levelBoard[116][5] = new Block(10, scaleFactor);
-		levelBoard[117][5] = new Block(10, scaleFactor);
-		levelBoard[118][5] = new Block(10, scaleFactor);
-		levelBoard[119][5] = new Block(10, scaleFactor);
-		levelBoard[120][5] = new Block(10, scaleFactor);
-		levelBoard[121][5] = new Block(10, scaleFactor);
-		levelBoard[122][5] = new Block(10, scaleFactor);
-		levelBoard[123][5] = new Block(10, scaleFactor);
-		levelBoard[124][5] = new Block(10, scaleFactor);
-		levelBoard[125][5] = new Block(10, scaleFactor);
-		levelBoard[126][5] = new Block(10, scaleFactor);
-		levelBoard[127][5] = new Block(10, scaleFactor);
-		levelBoard[0][6] = new Block(18, scaleFactor);
-		levelBoard[54][6] = new Block(18, scaleFactor);
-		levelBoard[55][6] = new Block(18, scaleFactor);
-		levelBoard[56][6] = new Block(18, scaleFactor);
-		levelBoard[57][6] = new Block(18, scaleFactor);
-		levelBoard[60][6] = new Block(18, scaleFactor);
-		levelBoard[80][6] = new Block(18, scaleFactor);
-		levelBoard[81][6] = new Block(18, scaleFactor);
-		levelBoard[82][6] = new Block(18, scaleFactor);
-		levelBoard[93][6] = new Block(18, scaleFactor);
-		levelBoard[98][6] = new Block(18, scaleFactor);
-		levelBoard[101][6] = new Block(18, scaleFactor);
-		levelBoard[102][6] = new Block(18, scaleFactor);
-		levelBoard[106][6] = new Block(18, scaleFactor);
-		levelBoard[110][6] = new Block(18, scaleFactor);
-		levelBoard[115][6] = new Block(10, scaleFactor);
-		levelBoard[116][6] = new Block(10, scaleFactor);
-		levelBoard[117][6] = new Block(10, scaleFactor);
-		levelBoard[118][6] = new Block(10, scaleFactor);
-		levelBoard[119][6] = new Block(10, scaleFactor);
-		levelBoard[120][6] = new Block(10, scaleFactor);
-		levelBoard[121][6] = new Block(10, scaleFactor);
-		levelBoard[122][6] = new Block(10, scaleFactor);
-		levelBoard[123][6] = new Block(10, scaleFactor);
-		levelBoard[124][6] = new Block(10, scaleFactor);
-		levelBoard[125][6] = new Block(10, scaleFactor);
-		levelBoard[126][6] = new Block(10, scaleFactor);
-		levelBoard[127][6] = new Block(10, scaleFactor);
-		levelBoard[0][7] = new Block(18, scaleFactor);
-		levelBoard[46][7] = new Block(18, scaleFactor);
-		levelBoard[47][7] = new Block(18, scaleFactor);
-		levelBoard[48][7] = new Block(18, scaleFactor);
-		levelBoard[49][7] = new Block(18, scaleFactor);
-		levelBoard[50][7] = new Block(18, scaleFactor);
-		levelBoard[85][7] = new Block(12, scaleFactor);
-		levelBoard[86][7] = new Block(12, scaleFactor);
-		levelBoard[87][7] = new Block(12, scaleFactor);
-		levelBoard[93][7] = new Block(18, scaleFactor);
-		levelBoard[94][7] = new Block(1, scaleFactor);
-		levelBoard[95][7] = new Block(1, scaleFactor);
-		levelBoard[96][7] = new Block(18, scaleFactor);
-		levelBoard[97][7] = new Block(18, scaleFactor);
-		levelBoard[98][7] = new Block(18, scaleFactor);
-		levelBoard[106][7] = new Block(18, scaleFactor);
-		levelBoard[115][7] = new Block(10, scaleFactor);
-		levelBoard[116][7] = new Block(10, scaleFactor);
-		levelBoard[117][7] = new Block(10, scaleFactor);
-		levelBoard[118][7] = new Block(10, scaleFactor);
-		levelBoard[119][7] = new Block(10, scaleFactor);
-		levelBoard[120][7] = new Block(10, scaleFactor);
-		levelBoard[121][7] = new Block(10, scaleFactor);
-		levelBoard[122][7] = new Block(10, scaleFactor);
-		levelBoard[123][7] = new Block(10, scaleFactor);
-		levelBoard[124][7] = new Block(10, scaleFactor);
-		levelBoard[125][7] = new Block(10, scaleFactor);
-		levelBoard[126][7] = new Block(10, scaleFactor);
-		levelBoard[127][7] = new Block(10, scaleFactor);
-		levelBoard[0][8] = new Block(18, scaleFactor);
-		levelBoard[17][8] = new Block(18, scaleFactor);
-		levelBoard[18][8] = new Block(18, scaleFactor);
-		levelBoard[19][8] = new Block(18, scaleFactor);
-		levelBoard[20][8] = new Block(18, scaleFactor);
-		levelBoard[21][8] = new Block(18, scaleFactor);
-		levelBoard[22][8] = new Block(18, scaleFactor);
-		levelBoard[23][8] = new Block(18, scaleFactor);
-		levelBoard[28][8] = new Block(6, scaleFactor);
-		levelBoard[29][8] = new Block(6, scaleFactor);
-		levelBoard[30][8] = new Block(6, scaleFactor);
-		levelBoard[34][8] = new Block(6, scaleFactor);
-		levelBoard[35][8] = new Block(6, scaleFactor);
-		levelBoard[36][8] = new Block(6, scaleFactor);
-		levelBoard[40][8] = new Block(6, scaleFactor);
-		levelBoard[41][8] = new Block(6, scaleFactor);
-		levelBoard[42][8] = new Block(6, scaleFactor);
-		levelBoard[58][8] = new Block(12, scaleFactor);
-		levelBoard[59][8] = new Block(3, scaleFactor);
-		levelBoard[60][8] = new Block(3, scaleFactor);
-		levelBoard[61][8] = new Block(3, scaleFactor);
-		levelBoard[62][8] = new Block(3, scaleFactor);
-		levelBoard[63][8] = new Block(3, scaleFactor);
-		levelBoard[64][8] = new Block(3, scaleFactor);
-		levelBoard[65][8] = new Block(3, scaleFactor);
-		levelBoard[66][8] = new Block(3, scaleFactor);
-		levelBoard[67][8] = new Block(3, scaleFactor);
-		levelBoard[68][8] = new Block(3, scaleFactor);
-		levelBoard[69][8] = new Block(3, scaleFactor);
-		levelBoard[70][8] = new Block(3, scaleFactor);
-		levelBoard[71][8] = new Block(3, scaleFactor);
-		levelBoard[72][8] = new Block(3, scaleFactor);
-		levelBoard[73][8] = new Block(3, scaleFactor);
-		levelBoard[74][8] = new Block(3, scaleFactor);
-		levelBoard[75][8] = new Block(3, scaleFactor);
-		levelBoard[76][8] = new Block(12, scaleFactor);
-		levelBoard[85][8] = new Block(12, scaleFactor);
-		levelBoard[86][8] = new Block(12, scaleFactor);
-		levelBoard[87][8] = new Block(12, scaleFactor);
-		levelBoard[93][8] = new Block(18, scaleFactor);
-		levelBoard[98][8] = new Block(18, scaleFactor);
-		levelBoard[105][8] = new Block(18, scaleFactor);
-		levelBoard[106][8] = new Block(18, scaleFactor);
-		levelBoard[115][8] = new Block(10, scaleFactor);
-		levelBoard[116][8] = new Block(10, scaleFactor);
-		levelBoard[117][8] = new Block(10, scaleFactor);
-		levelBoard[118][8] = new Block(10, scaleFactor);
-		levelBoard[119][8] = new Block(10, scaleFactor);
-		levelBoard[120][8] = new Block(10, scaleFactor);
-		levelBoard[121][8] = new Block(10, scaleFactor);
-		levelBoard[122][8] = new Block(10, scaleFactor);
-		levelBoard[123][8] = new Block(10, scaleFactor);
-		levelBoard[124][8] = new Block(10, scaleFactor);
-		levelBoard[125][8] = new Block(10, scaleFactor);
-		levelBoard[126][8] = new Block(10, scaleFactor);
-		levelBoard[127][8] = new Block(10, scaleFactor);
-		levelBoard[0][9] = new Block(18, scaleFactor);
-		levelBoard[28][9] = new Block(0, scaleFactor);
-		levelBoard[29][9] = new Block(0, scaleFactor);
-		levelBoard[30][9] = new Block(0, scaleFactor);
-		levelBoard[34][9] = new Block(0, scaleFactor);
-		levelBoard[35][9] = new Block(0, scaleFactor);
-		levelBoard[36][9] = new Block(0, scaleFactor);
-		levelBoard[40][9] = new Block(0, scaleFactor);
-		levelBoard[41][9] = new Block(0, scaleFactor);
-		levelBoard[42][9] = new Block(0, scaleFactor);
-		levelBoard[58][9] = new Block(12, scaleFactor);
-		levelBoard[59][9] = new Block(12, scaleFactor);
-		levelBoard[60][9] = new Block(12, scaleFactor);
-		levelBoard[61][9] = new Block(12, scaleFactor);
-		levelBoard[62][9] = new Block(12, scaleFactor);
-		levelBoard[63][9] = new Block(12, scaleFactor);
-		levelBoard[64][9] = new Block(12, scaleFactor);
-		levelBoard[65][9] = new Block(12, scaleFactor);
-		levelBoard[66][9] = new Block(12, scaleFactor);
-		levelBoard[67][9] = new Block(12, scaleFactor);
-		levelBoard[68][9] = new Block(12, scaleFactor);
-		levelBoard[69][9] = new Block(12, scaleFactor);
-		levelBoard[70][9] = new Block(12, scaleFactor);
-		levelBoard[71][9] = new Block(12, scaleFactor);
-		levelBoard[72][9] = new Block(12, scaleFactor);
-		levelBoard[73][9] = new Block(12, scaleFactor);
-		levelBoard[74][9] = new Block(12, scaleFactor);
-		levelBoard[75][9] = new Block(12, scaleFactor);
-		levelBoard[76][9] = new Block(12, scaleFactor);
-		levelBoard[77][9] = new Block(12, scaleFactor);
-		levelBoard[78][9] = new Block(12, scaleFactor);
-		levelBoard[79][9] = new Block(12, scaleFactor);
-		levelBoard[80][9] = new Block(4, scaleFactor);
-		levelBoard[81][9] = new Block(4, scaleFactor);
-		levelBoard[82][9] = new Block(4, scaleFactor);
-		levelBoard[83][9] = new Block(4, scaleFactor);
-		levelBoard[84][9] = new Block(4, scaleFactor);
-		levelBoard[85][9] = new Block(12, scaleFactor);
-		levelBoard[86][9] = new Block(12, scaleFactor);
-		levelBoard[87][9] = new Block(12, scaleFactor);
-		levelBoard[93][9] = new Block(18, scaleFactor);
-		levelBoard[98][9] = new Block(18, scaleFactor);
-		levelBoard[105][9] = new Block(18, scaleFactor);
-		levelBoard[115][9] = new Block(10, scaleFactor);
-		levelBoard[116][9] = new Block(10, scaleFactor);
-		levelBoard[117][9] = new Block(10, scaleFactor);
-		levelBoard[118][9] = new Block(10, scaleFactor);
-		levelBoard[119][9] = new Block(10, scaleFactor);
-		levelBoard[120][9] = new Block(10, scaleFactor);
-		levelBoard[121][9] = new Block(10, scaleFactor);
-		levelBoard[122][9] = new Block(10, scaleFactor);
-		levelBoard[123][9] = new Block(10, scaleFactor);
-		levelBoard[124][9] = new Block(10, scaleFactor);
-		levelBoard[125][9] = new Block(10, scaleFactor);
-		levelBoard[126][9] = new Block(10, scaleFactor);
-		levelBoard[127][9] = new Block(10, scaleFactor);
-		levelBoard[0][10] = new Block(18, scaleFactor);
-		levelBoard[28][10] = new Block(0, scaleFactor);
-		levelBoard[29][10] = new Block(0, scaleFactor);
-		levelBoard[30][10] = new Block(0, scaleFactor);
-		levelBoard[34][10] = new Block(0, scaleFactor);
-		levelBoard[35][10] = new Block(0, scaleFactor);
-		levelBoard[36][10] = new Block(0, scaleFactor);
-		levelBoard[40][10] = new Block(0, scaleFactor);
-		levelBoard[41][10] = new Block(0, scaleFactor);
-		levelBoard[42][10] = new Block(0, scaleFactor);
-		levelBoard[58][10] = new Block(12, scaleFactor);
-		levelBoard[59][10] = new Block(4, scaleFactor);
-		levelBoard[60][10] = new Block(4, scaleFactor);
-		levelBoard[61][10] = new Block(4, scaleFactor);
-		levelBoard[62][10] = new Block(4, scaleFactor);
-		levelBoard[63][10] = new Block(4, scaleFactor);
-		levelBoard[64][10] = new Block(12, scaleFactor);
-		levelBoard[65][10] = new Block(12, scaleFactor);
-		levelBoard[66][10] = new Block(12, scaleFactor);
-		levelBoard[67][10] = new Block(12, scaleFactor);
-		levelBoard[68][10] = new Block(12, scaleFactor);
-		levelBoard[69][10] = new Block(12, scaleFactor);
-		levelBoard[70][10] = new Block(12, scaleFactor);
-		levelBoard[71][10] = new Block(12, scaleFactor);
-		levelBoard[72][10] = new Block(12, scaleFactor);
-		levelBoard[73][10] = new Block(12, scaleFactor);
-		levelBoard[74][10] = new Block(12, scaleFactor);
-		levelBoard[75][10] = new Block(12, scaleFactor);
-		levelBoard[76][10] = new Block(12, scaleFactor);
-		levelBoard[77][10] = new Block(12, scaleFactor);
-		levelBoard[78][10] = new Block(12, scaleFactor);
-		levelBoard[79][10] = new Block(12, scaleFactor);
-		levelBoard[80][10] = new Block(4, scaleFactor);
-		levelBoard[81][10] = new Block(4, scaleFactor);
-		levelBoard[82][10] = new Block(4, scaleFactor);
-		levelBoard[83][10] = new Block(4, scaleFactor);
-		levelBoard[84][10] = new Block(4, scaleFactor);
-		levelBoard[85][10] = new Block(4, scaleFactor);
-		levelBoard[86][10] = new Block(12, scaleFactor);
-		levelBoard[87][10] = new Block(12, scaleFactor);
-		levelBoard[93][10] = new Block(18, scaleFactor);
-		levelBoard[94][10] = new Block(18, scaleFactor);
-		levelBoard[95][10] = new Block(18, scaleFactor);
-		levelBoard[96][10] = new Block(1, scaleFactor);
-		levelBoard[97][10] = new Block(1, scaleFactor);
-		levelBoard[98][10] = new Block(18, scaleFactor);
-		levelBoard[105][10] = new Block(18, scaleFactor);
-		levelBoard[115][10] = new Block(10, scaleFactor);
-		levelBoard[116][10] = new Block(10, scaleFactor);
-		levelBoard[117][10] = new Block(10, scaleFactor);
-		levelBoard[118][10] = new Block(10, scaleFactor);
-		levelBoard[119][10] = new Block(10, scaleFactor);
-		levelBoard[120][10] = new Block(10, scaleFactor);
-		levelBoard[121][10] = new Block(10, scaleFactor);
-		levelBoard[122][10] = new Block(10, scaleFactor);
-		levelBoard[123][10] = new Block(10, scaleFactor);
-		levelBoard[124][10] = new Block(10, scaleFactor);
-		levelBoard[125][10] = new Block(10, scaleFactor);
-		levelBoard[126][10] = new Block(10, scaleFactor);
-		levelBoard[127][10] = new Block(10, scaleFactor);
-		levelBoard[0][11] = new Block(18, scaleFactor);
-		levelBoard[10][11] = new Block(6, scaleFactor);
-		levelBoard[14][11] = new Block(6, scaleFactor);
-		levelBoard[28][11] = new Block(0, scaleFactor);
-		levelBoard[29][11] = new Block(0, scaleFactor);
-		levelBoard[30][11] = new Block(0, scaleFactor);
-		levelBoard[34][11] = new Block(0, scaleFactor);
-		levelBoard[35][11] = new Block(0, scaleFactor);
-		levelBoard[36][11] = new Block(0, scaleFactor);
-		levelBoard[40][11] = new Block(0, scaleFactor);
-		levelBoard[41][11] = new Block(0, scaleFactor);
-		levelBoard[42][11] = new Block(0, scaleFactor);
-		levelBoard[58][11] = new Block(4, scaleFactor);
-		levelBoard[59][11] = new Block(4, scaleFactor);
-		levelBoard[60][11] = new Block(4, scaleFactor);
-		levelBoard[61][11] = new Block(4, scaleFactor);
-		levelBoard[62][11] = new Block(4, scaleFactor);
-		levelBoard[63][11] = new Block(4, scaleFactor);
-		levelBoard[64][11] = new Block(4, scaleFactor);
-		levelBoard[65][11] = new Block(4, scaleFactor);
-		levelBoard[66][11] = new Block(12, scaleFactor);
-		levelBoard[67][11] = new Block(12, scaleFactor);
-		levelBoard[68][11] = new Block(4, scaleFactor);
-		levelBoard[69][11] = new Block(4, scaleFactor);
-		levelBoard[70][11] = new Block(4, scaleFactor);
-		levelBoard[71][11] = new Block(4, scaleFactor);
-		levelBoard[72][11] = new Block(4, scaleFactor);
-		levelBoard[73][11] = new Block(4, scaleFactor);
-		levelBoard[74][11] = new Block(12, scaleFactor);
-		levelBoard[75][11] = new Block(12, scaleFactor);
-		levelBoard[76][11] = new Block(12, scaleFactor);
-		levelBoard[77][11] = new Block(12, scaleFactor);
-		levelBoard[78][11] = new Block(12, scaleFactor);
-		levelBoard[79][11] = new Block(12, scaleFactor);
-		levelBoard[80][11] = new Block(12, scaleFactor);
-		levelBoard[81][11] = new Block(12, scaleFactor);
-		levelBoard[82][11] = new Block(4, scaleFactor);
-		levelBoard[83][11] = new Block(4, scaleFactor);
-		levelBoard[84][11] = new Block(4, scaleFactor);
-		levelBoard[85][11] = new Block(4, scaleFactor);
-		levelBoard[86][11] = new Block(12, scaleFactor);
-		levelBoard[87][11] = new Block(12, scaleFactor);
-		levelBoard[98][11] = new Block(18, scaleFactor);
-		levelBoard[101][11] = new Block(18, scaleFactor);
-		levelBoard[102][11] = new Block(18, scaleFactor);
-		levelBoard[103][11] = new Block(18, scaleFactor);
-		levelBoard[104][11] = new Block(18, scaleFactor);
-		levelBoard[105][11] = new Block(18, scaleFactor);
-		levelBoard[106][11] = new Block(18, scaleFactor);
-		levelBoard[107][11] = new Block(18, scaleFactor);
-		levelBoard[111][11] = new Block(18, scaleFactor);
-		levelBoard[112][11] = new Block(18, scaleFactor);
-		levelBoard[113][11] = new Block(18, scaleFactor);
-		levelBoard[115][11] = new Block(10, scaleFactor);
-		levelBoard[116][11] = new Block(10, scaleFactor);
-		levelBoard[117][11] = new Block(10, scaleFactor);
-		levelBoard[118][11] = new Block(10, scaleFactor);
-		levelBoard[119][11] = new Block(10, scaleFactor);
-		levelBoard[120][11] = new Block(10, scaleFactor);
-		levelBoard[121][11] = new Block(10, scaleFactor);
-		levelBoard[122][11] = new Block(10, scaleFactor);
-		levelBoard[123][11] = new Block(10, scaleFactor);
-		levelBoard[124][11] = new Block(10, scaleFactor);
-		levelBoard[125][11] = new Block(10, scaleFactor);
-		levelBoard[126][11] = new Block(10, scaleFactor);
-		levelBoard[127][11] = new Block(10, scaleFactor);
-		levelBoard[0][12] = new Block(18, scaleFactor);
-		levelBoard[9][12] = new Block(6, scaleFactor);
-		levelBoard[10][12] = new Block(0, scaleFactor);
-		levelBoard[14][12] = new Block(0, scaleFactor);
-		levelBoard[15][12] = new Block(6, scaleFactor);
-		levelBoard[28][12] = new Block(0, scaleFactor);
-		levelBoard[29][12] = new Block(0, scaleFactor);
-		levelBoard[30][12] = new Block(0, scaleFactor);
-		levelBoard[34][12] = new Block(0, scaleFactor);
-		levelBoard[35][12] = new Block(0, scaleFactor);
-		levelBoard[36][12] = new Block(0, scaleFactor);
-		levelBoard[40][12] = new Block(0, scaleFactor);
-		levelBoard[41][12] = new Block(0, scaleFactor);
-		levelBoard[42][12] = new Block(0, scaleFactor);
-		levelBoard[58][12] = new Block(4, scaleFactor);
-		levelBoard[59][12] = new Block(4, scaleFactor);
-		levelBoard[60][12] = new Block(4, scaleFactor);
-		levelBoard[61][12] = new Block(4, scaleFactor);
-		levelBoard[62][12] = new Block(4, scaleFactor);
-		levelBoard[63][12] = new Block(4, scaleFactor);
-		levelBoard[64][12] = new Block(4, scaleFactor);
-		levelBoard[65][12] = new Block(4, scaleFactor);
-		levelBoard[66][12] = new Block(4, scaleFactor);
-		levelBoard[67][12] = new Block(12, scaleFactor);
-		levelBoard[68][12] = new Block(4, scaleFactor);
-		levelBoard[69][12] = new Block(4, scaleFactor);
-		levelBoard[70][12] = new Block(4, scaleFactor);
-		levelBoard[71][12] = new Block(4, scaleFactor);
-		levelBoard[72][12] = new Block(4, scaleFactor);
-		levelBoard[73][12] = new Block(4, scaleFactor);
-		levelBoard[74][12] = new Block(12, scaleFactor);
-		levelBoard[75][12] = new Block(4, scaleFactor);
-		levelBoard[76][12] = new Block(4, scaleFactor);
-		levelBoard[77][12] = new Block(4, scaleFactor);
-		levelBoard[78][12] = new Block(4, scaleFactor);
-		levelBoard[79][12] = new Block(12, scaleFactor);
-		levelBoard[80][12] = new Block(12, scaleFactor);
-		levelBoard[81][12] = new Block(12, scaleFactor);
-		levelBoard[82][12] = new Block(4, scaleFactor);
-		levelBoard[83][12] = new Block(4, scaleFactor);
-		levelBoard[84][12] = new Block(4, scaleFactor);
-		levelBoard[85][12] = new Block(4, scaleFactor);
-		levelBoard[86][12] = new Block(12, scaleFactor);
-		levelBoard[87][12] = new Block(12, scaleFactor);
-		levelBoard[98][12] = new Block(18, scaleFactor);
-		levelBoard[115][12] = new Block(10, scaleFactor);
-		levelBoard[116][12] = new Block(10, scaleFactor);
-		levelBoard[117][12] = new Block(10, scaleFactor);
-		levelBoard[118][12] = new Block(10, scaleFactor);
-		levelBoard[119][12] = new Block(10, scaleFactor);
-		levelBoard[120][12] = new Block(10, scaleFactor);
-		levelBoard[121][12] = new Block(10, scaleFactor);
-		levelBoard[122][12] = new Block(10, scaleFactor);
-		levelBoard[123][12] = new Block(10, scaleFactor);
-		levelBoard[124][12] = new Block(10, scaleFactor);
-		levelBoard[125][12] = new Block(10, scaleFactor);
-		levelBoard[126][12] = new Block(10, scaleFactor);
-		levelBoard[127][12] = new Block(10, scaleFactor);
-		levelBoard[0][13] = new Block(18, scaleFactor);
-		levelBoard[8][13] = new Block(6, scaleFactor);
-		levelBoard[9][13] = new Block(0, scaleFactor);
-		levelBoard[10][13] = new Block(0, scaleFactor);
-		levelBoard[14][13] = new Block(0, scaleFactor);
-		levelBoard[15][13] = new Block(0, scaleFactor);
-		levelBoard[16][13] = new Block(6, scaleFactor);
-		levelBoard[17][13] = new Block(6, scaleFactor);
-		levelBoard[18][13] = new Block(6, scaleFactor);
-		levelBoard[19][13] = new Block(6, scaleFactor);
-		levelBoard[20][13] = new Block(6, scaleFactor);
-		levelBoard[21][13] = new Block(6, scaleFactor);
-		levelBoard[22][13] = new Block(6, scaleFactor);
-		levelBoard[23][13] = new Block(6, scaleFactor);
-		levelBoard[24][13] = new Block(6, scaleFactor);
-		levelBoard[25][13] = new Block(6, scaleFactor);
-		levelBoard[26][13] = new Block(6, scaleFactor);
-		levelBoard[27][13] = new Block(6, scaleFactor);
-		levelBoard[28][13] = new Block(0, scaleFactor);
-		levelBoard[29][13] = new Block(0, scaleFactor);
-		levelBoard[30][13] = new Block(0, scaleFactor);
-		levelBoard[34][13] = new Block(0, scaleFactor);
-		levelBoard[35][13] = new Block(0, scaleFactor);
-		levelBoard[36][13] = new Block(0, scaleFactor);
-		levelBoard[40][13] = new Block(0, scaleFactor);
-		levelBoard[41][13] = new Block(0, scaleFactor);
-		levelBoard[42][13] = new Block(0, scaleFactor);
-		levelBoard[58][13] = new Block(4, scaleFactor);
-		levelBoard[59][13] = new Block(4, scaleFactor);
-		levelBoard[60][13] = new Block(4, scaleFactor);
-		levelBoard[61][13] = new Block(4, scaleFactor);
-		levelBoard[62][13] = new Block(4, scaleFactor);
-		levelBoard[63][13] = new Block(4, scaleFactor);
-		levelBoard[64][13] = new Block(4, scaleFactor);
-		levelBoard[65][13] = new Block(4, scaleFactor);
-		levelBoard[66][13] = new Block(4, scaleFactor);
-		levelBoard[67][13] = new Block(4, scaleFactor);
-		levelBoard[68][13] = new Block(4, scaleFactor);
-		levelBoard[69][13] = new Block(4, scaleFactor);
-		levelBoard[70][13] = new Block(12, scaleFactor);
-		levelBoard[71][13] = new Block(12, scaleFactor);
-		levelBoard[72][13] = new Block(4, scaleFactor);
-		levelBoard[73][13] = new Block(4, scaleFactor);
-		levelBoard[74][13] = new Block(4, scaleFactor);
-		levelBoard[75][13] = new Block(4, scaleFactor);
-		levelBoard[76][13] = new Block(4, scaleFactor);
-		levelBoard[77][13] = new Block(4, scaleFactor);
-		levelBoard[78][13] = new Block(4, scaleFactor);
-		levelBoard[79][13] = new Block(4, scaleFactor);
-		levelBoard[80][13] = new Block(4, scaleFactor);
-		levelBoard[81][13] = new Block(4, scaleFactor);
-		levelBoard[82][13] = new Block(4, scaleFactor);
-		levelBoard[83][13] = new Block(4, scaleFactor);
-		levelBoard[84][13] = new Block(12, scaleFactor);
-		levelBoard[85][13] = new Block(12, scaleFactor);
-		levelBoard[86][13] = new Block(12, scaleFactor);
-		levelBoard[87][13] = new Block(12, scaleFactor);
-		levelBoard[92][13] = new Block(18, scaleFactor);
-		levelBoard[93][13] = new Block(18, scaleFactor);
-		levelBoard[94][13] = new Block(18, scaleFactor);
-		levelBoard[95][13] = new Block(18, scaleFactor);
-		levelBoard[96][13] = new Block(18, scaleFactor);
-		levelBoard[97][13] = new Block(18, scaleFactor);
-		levelBoard[98][13] = new Block(18, scaleFactor);
-		levelBoard[115][13] = new Block(6, scaleFactor);
-		levelBoard[116][13] = new Block(6, scaleFactor);
-		levelBoard[117][13] = new Block(6, scaleFactor);
-		levelBoard[118][13] = new Block(6, scaleFactor);
-		levelBoard[119][13] = new Block(6, scaleFactor);
-		levelBoard[120][13] = new Block(6, scaleFactor);
-		levelBoard[121][13] = new Block(6, scaleFactor);
-		levelBoard[122][13] = new Block(6, scaleFactor);
-		levelBoard[123][13] = new Block(6, scaleFactor);
-		levelBoard[124][13] = new Block(6, scaleFactor);
-		levelBoard[125][13] = new Block(6, scaleFactor);
-		levelBoard[126][13] = new Block(6, scaleFactor);
-		levelBoard[127][13] = new Block(6, scaleFactor);
-		levelBoard[0][14] = new Block(6, scaleFactor);
-		levelBoard[1][14] = new Block(6, scaleFactor);
-		levelBoard[2][14] = new Block(6, scaleFactor);
-		levelBoard[3][14] = new Block(6, scaleFactor);
-		levelBoard[4][14] = new Block(6, scaleFactor);
-		levelBoard[5][14] = new Block(6, scaleFactor);
-		levelBoard[6][14] = new Block(6, scaleFactor);
-		levelBoard[7][14] = new Block(6, scaleFactor);
-		levelBoard[8][14] = new Block(0, scaleFactor);
-		levelBoard[9][14] = new Block(0, scaleFactor);
-		levelBoard[10][14] = new Block(0, scaleFactor);
-		levelBoard[14][14] = new Block(0, scaleFactor);
-		levelBoard[15][14] = new Block(0, scaleFactor);
-		levelBoard[16][14] = new Block(0, scaleFactor);
-		levelBoard[17][14] = new Block(0, scaleFactor);
-		levelBoard[18][14] = new Block(0, scaleFactor);
-		levelBoard[19][14] = new Block(0, scaleFactor);
-		levelBoard[20][14] = new Block(0, scaleFactor);
-		levelBoard[21][14] = new Block(0, scaleFactor);
-		levelBoard[22][14] = new Block(0, scaleFactor);
-		levelBoard[23][14] = new Block(0, scaleFactor);
-		levelBoard[24][14] = new Block(0, scaleFactor);
-		levelBoard[25][14] = new Block(0, scaleFactor);
-		levelBoard[26][14] = new Block(0, scaleFactor);
-		levelBoard[27][14] = new Block(0, scaleFactor);
-		levelBoard[28][14] = new Block(0, scaleFactor);
-		levelBoard[29][14] = new Block(0, scaleFactor);
-		levelBoard[30][14] = new Block(0, scaleFactor);
-		levelBoard[34][14] = new Block(0, scaleFactor);
-		levelBoard[35][14] = new Block(0, scaleFactor);
-		levelBoard[36][14] = new Block(0, scaleFactor);
-		levelBoard[40][14] = new Block(0, scaleFactor);
-		levelBoard[41][14] = new Block(0, scaleFactor);
-		levelBoard[42][14] = new Block(0, scaleFactor);
-		levelBoard[43][14] = new Block(6, scaleFactor);
-		levelBoard[44][14] = new Block(6, scaleFactor);
-		levelBoard[45][14] = new Block(6, scaleFactor);
-		levelBoard[46][14] = new Block(6, scaleFactor);
-		levelBoard[47][14] = new Block(6, scaleFactor);
-		levelBoard[48][14] = new Block(6, scaleFactor);
-		levelBoard[52][14] = new Block(6, scaleFactor);
-		levelBoard[53][14] = new Block(6, scaleFactor);
-		levelBoard[54][14] = new Block(6, scaleFactor);
-		levelBoard[55][14] = new Block(6, scaleFactor);
-		levelBoard[56][14] = new Block(6, scaleFactor);
-		levelBoard[57][14] = new Block(6, scaleFactor);
-		levelBoard[58][14] = new Block(12, scaleFactor);
-		levelBoard[59][14] = new Block(4, scaleFactor);
-		levelBoard[60][14] = new Block(4, scaleFactor);
-		levelBoard[61][14] = new Block(4, scaleFactor);
-		levelBoard[62][14] = new Block(12, scaleFactor);
-		levelBoard[63][14] = new Block(12, scaleFactor);
-		levelBoard[64][14] = new Block(4, scaleFactor);
-		levelBoard[65][14] = new Block(4, scaleFactor);
-		levelBoard[66][14] = new Block(4, scaleFactor);
-		levelBoard[67][14] = new Block(4, scaleFactor);
-		levelBoard[68][14] = new Block(4, scaleFactor);
-		levelBoard[69][14] = new Block(4, scaleFactor);
-		levelBoard[70][14] = new Block(12, scaleFactor);
-		levelBoard[71][14] = new Block(12, scaleFactor);
-		levelBoard[72][14] = new Block(4, scaleFactor);
-		levelBoard[73][14] = new Block(4, scaleFactor);
-		levelBoard[74][14] = new Block(4, scaleFactor);
-		levelBoard[75][14] = new Block(4, scaleFactor);
-		levelBoard[76][14] = new Block(4, scaleFactor);
-		levelBoard[77][14] = new Block(4, scaleFactor);
-		levelBoard[78][14] = new Block(4, scaleFactor);
-		levelBoard[79][14] = new Block(4, scaleFactor);
-		levelBoard[80][14] = new Block(4, scaleFactor);
-		levelBoard[81][14] = new Block(4, scaleFactor);
-		levelBoard[82][14] = new Block(4, scaleFactor);
-		levelBoard[83][14] = new Block(4, scaleFactor);
-		levelBoard[84][14] = new Block(12, scaleFactor);
-		levelBoard[85][14] = new Block(12, scaleFactor);
-		levelBoard[86][14] = new Block(12, scaleFactor);
-		levelBoard[87][14] = new Block(12, scaleFactor);
-		levelBoard[115][14] = new Block(0, scaleFactor);
-		levelBoard[116][14] = new Block(0, scaleFactor);
-		levelBoard[117][14] = new Block(0, scaleFactor);
-		levelBoard[118][14] = new Block(0, scaleFactor);
-		levelBoard[119][14] = new Block(0, scaleFactor);
-		levelBoard[120][14] = new Block(0, scaleFactor);
-		levelBoard[121][14] = new Block(0, scaleFactor);
-		levelBoard[122][14] = new Block(0, scaleFactor);
-		levelBoard[123][14] = new Block(0, scaleFactor);
-		levelBoard[124][14] = new Block(0, scaleFactor);
-		levelBoard[125][14] = new Block(0, scaleFactor);
-		levelBoard[126][14] = new Block(0, scaleFactor);
-		levelBoard[127][14] = new Block(0, scaleFactor);
-		levelBoard[0][15] = new Block(0, scaleFactor);
-		levelBoard[1][15] = new Block(0, scaleFactor);
-		levelBoard[2][15] = new Block(0, scaleFactor);
-		levelBoard[3][15] = new Block(0, scaleFactor);
-		levelBoard[4][15] = new Block(0, scaleFactor);
-		levelBoard[5][15] = new Block(0, scaleFactor);
-		levelBoard[6][15] = new Block(0, scaleFactor);
-		levelBoard[7][15] = new Block(0, scaleFactor);
-		levelBoard[8][15] = new Block(0, scaleFactor);
-		levelBoard[9][15] = new Block(0, scaleFactor);
-		levelBoard[10][15] = new Block(0, scaleFactor);
-		levelBoard[14][15] = new Block(0, scaleFactor);
-		levelBoard[15][15] = new Block(0, scaleFactor);
-		levelBoard[16][15] = new Block(0, scaleFactor);
-		levelBoard[17][15] = new Block(0, scaleFactor);
-		levelBoard[18][15] = new Block(0, scaleFactor);
-		levelBoard[19][15] = new Block(0, scaleFactor);
-		levelBoard[20][15] = new Block(0, scaleFactor);
-		levelBoard[21][15] = new Block(0, scaleFactor);
-		levelBoard[22][15] = new Block(0, scaleFactor);
-		levelBoard[23][15] = new Block(0, scaleFactor);
-		levelBoard[24][15] = new Block(0, scaleFactor);
-		levelBoard[25][15] = new Block(0, scaleFactor);
-		levelBoard[26][15] = new Block(0, scaleFactor);
-		levelBoard[27][15] = new Block(0, scaleFactor);
-		levelBoard[28][15] = new Block(0, scaleFactor);
-		levelBoard[29][15] = new Block(0, scaleFactor);
-		levelBoard[30][15] = new Block(0, scaleFactor);
-		levelBoard[34][15] = new Block(0, scaleFactor);
-		levelBoard[35][15] = new Block(0, scaleFactor);
-		levelBoard[36][15] = new Block(0, scaleFactor);
-		levelBoard[40][15] = new Block(0, scaleFactor);
-		levelBoard[41][15] = new Block(0, scaleFactor);
-		levelBoard[42][15] = new Block(0, scaleFactor);
-		levelBoard[43][15] = new Block(0, scaleFactor);
-		levelBoard[44][15] = new Block(0, scaleFactor);
-		levelBoard[45][15] = new Block(0, scaleFactor);
-		levelBoard[46][15] = new Block(0, scaleFactor);
-		levelBoard[47][15] = new Block(0, scaleFactor);
-		levelBoard[48][15] = new Block(0, scaleFactor);
-		levelBoard[52][15] = new Block(0, scaleFactor);
-		levelBoard[53][15] = new Block(0, scaleFactor);
-		levelBoard[54][15] = new Block(0, scaleFactor);
-		levelBoard[55][15] = new Block(0, scaleFactor);
-		levelBoard[56][15] = new Block(0, scaleFactor);
-		levelBoard[57][15] = new Block(0, scaleFactor);
-		levelBoard[58][15] = new Block(12, scaleFactor);
-		levelBoard[59][15] = new Block(12, scaleFactor);
-		levelBoard[60][15] = new Block(12, scaleFactor);
-		levelBoard[61][15] = new Block(12, scaleFactor);
-		levelBoard[62][15] = new Block(12, scaleFactor);
-		levelBoard[63][15] = new Block(12, scaleFactor);
-		levelBoard[64][15] = new Block(12, scaleFactor);
-		levelBoard[65][15] = new Block(12, scaleFactor);
-		levelBoard[66][15] = new Block(12, scaleFactor);
-		levelBoard[67][15] = new Block(12, scaleFactor);
-		levelBoard[68][15] = new Block(12, scaleFactor);
-		levelBoard[69][15] = new Block(12, scaleFactor);
-		levelBoard[70][15] = new Block(12, scaleFactor);
-		levelBoard[71][15] = new Block(12, scaleFactor);
-		levelBoard[72][15] = new Block(12, scaleFactor);
-		levelBoard[73][15] = new Block(12, scaleFactor);
-		levelBoard[74][15] = new Block(12, scaleFactor);
-		levelBoard[75][15] = new Block(12, scaleFactor);
-		levelBoard[76][15] = new Block(4, scaleFactor);
-		levelBoard[77][15] = new Block(4, scaleFactor);
-		levelBoard[78][15] = new Block(12, scaleFactor);
-		levelBoard[79][15] = new Block(12, scaleFactor);
-		levelBoard[80][15] = new Block(12, scaleFactor);
-		levelBoard[81][15] = new Block(12, scaleFactor);
-		levelBoard[82][15] = new Block(12, scaleFactor);
-		levelBoard[83][15] = new Block(12, scaleFactor);
-		levelBoard[84][15] = new Block(12, scaleFactor);
-		levelBoard[85][15] = new Block(12, scaleFactor);
-		levelBoard[86][15] = new Block(12, scaleFactor);
-		levelBoard[87][15] = new Block(12, scaleFactor);
-		levelBoard[88][15] = new Block(9, scaleFactor);
-		levelBoard[89][15] = new Block(9, scaleFactor);
-		levelBoard[90][15] = new Block(9, scaleFactor);
-		levelBoard[91][15] = new Block(9, scaleFactor);
-		levelBoard[92][15] = new Block(9, scaleFactor);
-		levelBoard[93][15] = new Block(9, scaleFactor);
-		levelBoard[94][15] = new Block(9, scaleFactor);
-		levelBoard[95][15] = new Block(9, scaleFactor);
-		levelBoard[96][15] = new Block(9, scaleFactor);
-		levelBoard[97][15] = new Block(9, scaleFactor);
-		levelBoard[98][15] = new Block(9, scaleFactor);
-		levelBoard[99][15] = new Block(9, scaleFactor);
-		levelBoard[100][15] = new Block(9, scaleFactor);
-		levelBoard[101][15] = new Block(9, scaleFactor);
-		levelBoard[102][15] = new Block(9, scaleFactor);
-		levelBoard[103][15] = new Block(9, scaleFactor);
-		levelBoard[104][15] = new Block(9, scaleFactor);
-		levelBoard[105][15] = new Block(9, scaleFactor);
-		levelBoard[106][15] = new Block(9, scaleFactor);
-		levelBoard[107][15] = new Block(9, scaleFactor);
-		levelBoard[108][15] = new Block(9, scaleFactor);
-		levelBoard[109][15] = new Block(9, scaleFactor);
-		levelBoard[110][15] = new Block(9, scaleFactor);
-		levelBoard[111][15] = new Block(9, scaleFactor);
-		levelBoard[112][15] = new Block(9, scaleFactor);
-		levelBoard[113][15] = new Block(9, scaleFactor);
-		levelBoard[114][15] = new Block(9, scaleFactor);
-		levelBoard[115][15] = new Block(0, scaleFactor);
-		levelBoard[116][15] = new Block(0, scaleFactor);
-		levelBoard[117][15] = new Block(0, scaleFactor);
-		levelBoard[118][15] = new Block(0, scaleFactor);
-		levelBoard[119][15] = new Block(0, scaleFactor);
-		levelBoard[120][15] = new Block(0, scaleFactor);
-		levelBoard[121][15] = new Block(0, scaleFactor);
-		levelBoard[122][15] = new Block(0, scaleFactor);
-		levelBoard[123][15] = new Block(0, scaleFactor);
-		levelBoard[124][15] = new Block(0, scaleFactor);
-		levelBoard[125][15] = new Block(0, scaleFactor);
-		levelBoard[126][15] = new Block(0, scaleFactor);
-		levelBoard[127][15] = new Block(0, scaleFactor);
 		
-		temporaryLevel.setLevelBoard(levelBoard);
-		temporaryLevel.putBlocksOnPanel();
-		worlds[0].addLevel(1, temporaryLevel);
+		if (Replay.playbackFilepath != null)
+			startReplay(Replay.playbackFilepath);
 	}
 	
-	private void createWorld1Level2 () {
-		
-		temporaryLevel = new Level(Color.cyan, 3, 128, 16, 1.5, 6, 3, 10, 2); 	// backgroundColor = cyan, scale = 3, board dimensions: 128x16, panelSpeed = 1.5, gAcc = 5, playerStart = (3,10), level 2
-		
-		levelBoard = new Block[128][16];
-		int scaleFactor = temporaryLevel.blockScaleFactor;
-		
-		levelBoard[49][0] = new Block(18, scaleFactor);
-		levelBoard[50][0] = new Block(18, scaleFactor);
-		levelBoard[51][0] = new Block(18, scaleFactor);
-		levelBoard[52][0] = new Block(18, scaleFactor);
-		levelBoard[53][0] = new Block(18, scaleFactor);
-		levelBoard[54][0] = new Block(18, scaleFactor);
-		levelBoard[55][0] = new Block(18, scaleFactor);
-		levelBoard[56][0] = new Block(18, scaleFactor);
-		levelBoard[57][0] = new Block(18, scaleFactor);
-		levelBoard[58][0] = new Block(18, scaleFactor);
-		levelBoard[59][0] = new Block(18, scaleFactor);
-		levelBoard[60][0] = new Block(18, scaleFactor);
-		levelBoard[61][0] = new Block(18, scaleFactor);
-		levelBoard[62][0] = new Block(18, scaleFactor);
-		levelBoard[63][0] = new Block(18, scaleFactor);
-		levelBoard[64][0] = new Block(18, scaleFactor);
-		levelBoard[65][0] = new Block(18, scaleFactor);
-		levelBoard[66][0] = new Block(18, scaleFactor);
-		levelBoard[67][0] = new Block(18, scaleFactor);
-		levelBoard[68][0] = new Block(18, scaleFactor);
-		levelBoard[69][0] = new Block(18, scaleFactor);
-		levelBoard[70][0] = new Block(18, scaleFactor);
-		levelBoard[71][0] = new Block(18, scaleFactor);
-		levelBoard[72][0] = new Block(18, scaleFactor);
-		levelBoard[73][0] = new Block(18, scaleFactor);
-		levelBoard[74][0] = new Block(18, scaleFactor);
-		levelBoard[75][0] = new Block(18, scaleFactor);
-		levelBoard[76][0] = new Block(18, scaleFactor);
-		levelBoard[77][0] = new Block(18, scaleFactor);
-		levelBoard[78][0] = new Block(18, scaleFactor);
-		levelBoard[79][0] = new Block(18, scaleFactor);
-		levelBoard[80][0] = new Block(18, scaleFactor);
-		levelBoard[81][0] = new Block(18, scaleFactor);
-		levelBoard[82][0] = new Block(18, scaleFactor);
-		levelBoard[83][0] = new Block(18, scaleFactor);
-		levelBoard[84][0] = new Block(18, scaleFactor);
-		levelBoard[85][0] = new Block(18, scaleFactor);
-		levelBoard[86][0] = new Block(18, scaleFactor);
-		levelBoard[87][0] = new Block(18, scaleFactor);
-		levelBoard[88][0] = new Block(18, scaleFactor);
-		levelBoard[89][0] = new Block(18, scaleFactor);
-		levelBoard[90][0] = new Block(18, scaleFactor);
-		levelBoard[91][0] = new Block(18, scaleFactor);
-		levelBoard[115][0] = new Block(10, scaleFactor);
-		levelBoard[116][0] = new Block(10, scaleFactor);
-		levelBoard[117][0] = new Block(10, scaleFactor);
-		levelBoard[118][0] = new Block(10, scaleFactor);
-		levelBoard[119][0] = new Block(10, scaleFactor);
-		levelBoard[120][0] = new Block(10, scaleFactor);
-		levelBoard[121][0] = new Block(10, scaleFactor);
-		levelBoard[122][0] = new Block(10, scaleFactor);
-		levelBoard[123][0] = new Block(10, scaleFactor);
-		levelBoard[124][0] = new Block(10, scaleFactor);
-		levelBoard[125][0] = new Block(10, scaleFactor);
-		levelBoard[126][0] = new Block(10, scaleFactor);
-		levelBoard[127][0] = new Block(10, scaleFactor);
-		levelBoard[2][1] = new Block(2, scaleFactor);
-		levelBoard[3][1] = new Block(2, scaleFactor);
-		levelBoard[4][1] = new Block(2, scaleFactor);
-		levelBoard[5][1] = new Block(2, scaleFactor);
-		levelBoard[6][1] = new Block(2, scaleFactor);
-		levelBoard[7][1] = new Block(2, scaleFactor);
-		levelBoard[14][1] = new Block(2, scaleFactor);
-		levelBoard[15][1] = new Block(2, scaleFactor);
-		levelBoard[16][1] = new Block(2, scaleFactor);
-		levelBoard[17][1] = new Block(2, scaleFactor);
-		levelBoard[18][1] = new Block(2, scaleFactor);
-		levelBoard[19][1] = new Block(2, scaleFactor);
-		levelBoard[29][1] = new Block(18, scaleFactor);
-		levelBoard[30][1] = new Block(18, scaleFactor);
-		levelBoard[31][1] = new Block(18, scaleFactor);
-		levelBoard[32][1] = new Block(18, scaleFactor);
-		levelBoard[33][1] = new Block(18, scaleFactor);
-		levelBoard[34][1] = new Block(18, scaleFactor);
-		levelBoard[35][1] = new Block(18, scaleFactor);
-		levelBoard[36][1] = new Block(18, scaleFactor);
-		levelBoard[37][1] = new Block(18, scaleFactor);
-		levelBoard[61][1] = new Block(18, scaleFactor);
-		levelBoard[98][1] = new Block(2, scaleFactor);
-		levelBoard[99][1] = new Block(2, scaleFactor);
-		levelBoard[100][1] = new Block(2, scaleFactor);
-		levelBoard[101][1] = new Block(2, scaleFactor);
-		levelBoard[102][1] = new Block(2, scaleFactor);
-		levelBoard[103][1] = new Block(2, scaleFactor);
-		levelBoard[115][1] = new Block(10, scaleFactor);
-		levelBoard[116][1] = new Block(10, scaleFactor);
-		levelBoard[117][1] = new Block(10, scaleFactor);
-		levelBoard[118][1] = new Block(10, scaleFactor);
-		levelBoard[119][1] = new Block(10, scaleFactor);
-		levelBoard[120][1] = new Block(10, scaleFactor);
-		levelBoard[121][1] = new Block(10, scaleFactor);
-		levelBoard[122][1] = new Block(10, scaleFactor);
-		levelBoard[123][1] = new Block(10, scaleFactor);
-		levelBoard[124][1] = new Block(10, scaleFactor);
-		levelBoard[125][1] = new Block(10, scaleFactor);
-		levelBoard[126][1] = new Block(10, scaleFactor);
-		levelBoard[127][1] = new Block(10, scaleFactor);
-		levelBoard[61][2] = new Block(18, scaleFactor);
-		levelBoard[115][2] = new Block(10, scaleFactor);
-		levelBoard[116][2] = new Block(10, scaleFactor);
-		levelBoard[117][2] = new Block(10, scaleFactor);
-		levelBoard[118][2] = new Block(10, scaleFactor);
-		levelBoard[119][2] = new Block(10, scaleFactor);
-		levelBoard[120][2] = new Block(10, scaleFactor);
-		levelBoard[121][2] = new Block(10, scaleFactor);
-		levelBoard[122][2] = new Block(10, scaleFactor);
-		levelBoard[123][2] = new Block(10, scaleFactor);
-		levelBoard[124][2] = new Block(10, scaleFactor);
-		levelBoard[125][2] = new Block(10, scaleFactor);
-		levelBoard[126][2] = new Block(10, scaleFactor);
-		levelBoard[127][2] = new Block(10, scaleFactor);
-		levelBoard[49][3] = new Block(18, scaleFactor);
-		levelBoard[50][3] = new Block(18, scaleFactor);
-		levelBoard[51][3] = new Block(18, scaleFactor);
-		levelBoard[52][3] = new Block(18, scaleFactor);
-		levelBoard[53][3] = new Block(18, scaleFactor);
-		levelBoard[54][3] = new Block(1, scaleFactor);
-		levelBoard[55][3] = new Block(1, scaleFactor);
-		levelBoard[56][3] = new Block(18, scaleFactor);
-		levelBoard[57][3] = new Block(18, scaleFactor);
-		levelBoard[58][3] = new Block(18, scaleFactor);
-		levelBoard[61][3] = new Block(18, scaleFactor);
-		levelBoard[62][3] = new Block(1, scaleFactor);
-		levelBoard[63][3] = new Block(1, scaleFactor);
-		levelBoard[64][3] = new Block(18, scaleFactor);
-		levelBoard[65][3] = new Block(18, scaleFactor);
-		levelBoard[66][3] = new Block(18, scaleFactor);
-		levelBoard[67][3] = new Block(18, scaleFactor);
-		levelBoard[70][3] = new Block(18, scaleFactor);
-		levelBoard[79][3] = new Block(3, scaleFactor);
-		levelBoard[82][3] = new Block(3, scaleFactor);
-		levelBoard[85][3] = new Block(3, scaleFactor);
-		levelBoard[115][3] = new Block(10, scaleFactor);
-		levelBoard[116][3] = new Block(10, scaleFactor);
-		levelBoard[117][3] = new Block(10, scaleFactor);
-		levelBoard[118][3] = new Block(10, scaleFactor);
-		levelBoard[119][3] = new Block(10, scaleFactor);
-		levelBoard[120][3] = new Block(10, scaleFactor);
-		levelBoard[121][3] = new Block(10, scaleFactor);
-		levelBoard[122][3] = new Block(10, scaleFactor);
-		levelBoard[123][3] = new Block(10, scaleFactor);
-		levelBoard[124][3] = new Block(10, scaleFactor);
-		levelBoard[125][3] = new Block(10, scaleFactor);
-		levelBoard[126][3] = new Block(10, scaleFactor);
-		levelBoard[127][3] = new Block(10, scaleFactor);
-		levelBoard[56][4] = new Block(18, scaleFactor);
-		levelBoard[67][4] = new Block(18, scaleFactor);
-		levelBoard[70][4] = new Block(18, scaleFactor);
-		levelBoard[71][4] = new Block(3, scaleFactor);
-		levelBoard[72][4] = new Block(3, scaleFactor);
-		levelBoard[77][4] = new Block(18, scaleFactor);
-		levelBoard[78][4] = new Block(18, scaleFactor);
-		levelBoard[79][4] = new Block(18, scaleFactor);
-		levelBoard[80][4] = new Block(18, scaleFactor);
-		levelBoard[81][4] = new Block(18, scaleFactor);
-		levelBoard[82][4] = new Block(18, scaleFactor);
-		levelBoard[83][4] = new Block(18, scaleFactor);
-		levelBoard[84][4] = new Block(18, scaleFactor);
-		levelBoard[85][4] = new Block(18, scaleFactor);
-		levelBoard[86][4] = new Block(18, scaleFactor);
-		levelBoard[87][4] = new Block(18, scaleFactor);
-		levelBoard[88][4] = new Block(1, scaleFactor);
-		levelBoard[89][4] = new Block(1, scaleFactor);
-		levelBoard[90][4] = new Block(1, scaleFactor);
-		levelBoard[115][4] = new Block(10, scaleFactor);
-		levelBoard[116][4] = new Block(10, scaleFactor);
-		levelBoard[117][4] = new Block(10, scaleFactor);
-		levelBoard[118][4] = new Block(10, scaleFactor);
-		levelBoard[119][4] = new Block(10, scaleFactor);
-		levelBoard[120][4] = new Block(10, scaleFactor);
-		levelBoard[121][4] = new Block(10, scaleFactor);
-		levelBoard[122][4] = new Block(10, scaleFactor);
-		levelBoard[123][4] = new Block(10, scaleFactor);
-		levelBoard[124][4] = new Block(10, scaleFactor);
-		levelBoard[125][4] = new Block(10, scaleFactor);
-		levelBoard[126][4] = new Block(10, scaleFactor);
-		levelBoard[127][4] = new Block(10, scaleFactor);
-		levelBoard[26][5] = new Block(3, scaleFactor);
-		levelBoard[56][5] = new Block(18, scaleFactor);
-		levelBoard[67][5] = new Block(18, scaleFactor);
-		levelBoard[68][5] = new Block(1, scaleFactor);
-		levelBoard[69][5] = new Block(1, scaleFactor);
-		levelBoard[70][5] = new Block(18, scaleFactor);
-		levelBoard[71][5] = new Block(18, scaleFactor);
-		levelBoard[72][5] = new Block(18, scaleFactor);
-		levelBoard[73][5] = new Block(18, scaleFactor);
-		levelBoard[84][5] = new Block(18, scaleFactor);
-		levelBoard[91][5] = new Block(6, scaleFactor);
-		levelBoard[92][5] = new Block(6, scaleFactor);
-		levelBoard[93][5] = new Block(6, scaleFactor);
-		levelBoard[115][5] = new Block(10, scaleFactor);
-		levelBoard[116][5] = new Block(10, scaleFactor);
-		levelBoard[117][5] = new Block(10, scaleFactor);
-		levelBoard[118][5] = new Block(10, scaleFactor);
-		levelBoard[119][5] = new Block(10, scaleFactor);
-		levelBoard[120][5] = new Block(10, scaleFactor);
-		levelBoard[121][5] = new Block(10, scaleFactor);
-		levelBoard[122][5] = new Block(10, scaleFactor);
-		levelBoard[123][5] = new Block(10, scaleFactor);
-		levelBoard[124][5] = new Block(10, scaleFactor);
-		levelBoard[125][5] = new Block(10, scaleFactor);
-		levelBoard[126][5] = new Block(10, scaleFactor);
-		levelBoard[127][5] = new Block(10, scaleFactor);
-		levelBoard[19][6] = new Block(1, scaleFactor);
-		levelBoard[20][6] = new Block(1, scaleFactor);
-		levelBoard[22][6] = new Block(12, scaleFactor);
-		levelBoard[23][6] = new Block(4, scaleFactor);
-		levelBoard[24][6] = new Block(4, scaleFactor);
-		levelBoard[25][6] = new Block(4, scaleFactor);
-		levelBoard[26][6] = new Block(12, scaleFactor);
-		levelBoard[29][6] = new Block(18, scaleFactor);
-		levelBoard[30][6] = new Block(18, scaleFactor);
-		levelBoard[49][6] = new Block(18, scaleFactor);
-		levelBoard[50][6] = new Block(18, scaleFactor);
-		levelBoard[51][6] = new Block(18, scaleFactor);
-		levelBoard[52][6] = new Block(18, scaleFactor);
-		levelBoard[53][6] = new Block(18, scaleFactor);
-		levelBoard[54][6] = new Block(18, scaleFactor);
-		levelBoard[55][6] = new Block(18, scaleFactor);
-		levelBoard[56][6] = new Block(18, scaleFactor);
-		levelBoard[61][6] = new Block(18, scaleFactor);
-		levelBoard[62][6] = new Block(18, scaleFactor);
-		levelBoard[67][6] = new Block(18, scaleFactor);
-		levelBoard[73][6] = new Block(18, scaleFactor);
-		levelBoard[84][6] = new Block(18, scaleFactor);
-		levelBoard[91][6] = new Block(0, scaleFactor);
-		levelBoard[92][6] = new Block(0, scaleFactor);
-		levelBoard[93][6] = new Block(0, scaleFactor);
-		levelBoard[94][6] = new Block(6, scaleFactor);
-		levelBoard[115][6] = new Block(10, scaleFactor);
-		levelBoard[116][6] = new Block(10, scaleFactor);
-		levelBoard[117][6] = new Block(10, scaleFactor);
-		levelBoard[118][6] = new Block(10, scaleFactor);
-		levelBoard[119][6] = new Block(10, scaleFactor);
-		levelBoard[120][6] = new Block(10, scaleFactor);
-		levelBoard[121][6] = new Block(10, scaleFactor);
-		levelBoard[122][6] = new Block(10, scaleFactor);
-		levelBoard[123][6] = new Block(10, scaleFactor);
-		levelBoard[124][6] = new Block(10, scaleFactor);
-		levelBoard[125][6] = new Block(10, scaleFactor);
-		levelBoard[126][6] = new Block(10, scaleFactor);
-		levelBoard[127][6] = new Block(10, scaleFactor);
-		levelBoard[21][7] = new Block(18, scaleFactor);
-		levelBoard[22][7] = new Block(12, scaleFactor);
-		levelBoard[23][7] = new Block(4, scaleFactor);
-		levelBoard[24][7] = new Block(4, scaleFactor);
-		levelBoard[25][7] = new Block(4, scaleFactor);
-		levelBoard[26][7] = new Block(12, scaleFactor);
-		levelBoard[29][7] = new Block(18, scaleFactor);
-		levelBoard[30][7] = new Block(18, scaleFactor);
-		levelBoard[36][7] = new Block(18, scaleFactor);
-		levelBoard[37][7] = new Block(18, scaleFactor);
-		levelBoard[45][7] = new Block(12, scaleFactor);
-		levelBoard[46][7] = new Block(12, scaleFactor);
-		levelBoard[61][7] = new Block(18, scaleFactor);
-		levelBoard[67][7] = new Block(18, scaleFactor);
-		levelBoard[73][7] = new Block(18, scaleFactor);
-		levelBoard[74][7] = new Block(18, scaleFactor);
-		levelBoard[75][7] = new Block(18, scaleFactor);
-		levelBoard[76][7] = new Block(18, scaleFactor);
-		levelBoard[77][7] = new Block(18, scaleFactor);
-		levelBoard[78][7] = new Block(18, scaleFactor);
-		levelBoard[79][7] = new Block(18, scaleFactor);
-		levelBoard[80][7] = new Block(18, scaleFactor);
-		levelBoard[81][7] = new Block(18, scaleFactor);
-		levelBoard[84][7] = new Block(18, scaleFactor);
-		levelBoard[91][7] = new Block(0, scaleFactor);
-		levelBoard[92][7] = new Block(0, scaleFactor);
-		levelBoard[93][7] = new Block(0, scaleFactor);
-		levelBoard[94][7] = new Block(0, scaleFactor);
-		levelBoard[95][7] = new Block(6, scaleFactor);
-		levelBoard[115][7] = new Block(10, scaleFactor);
-		levelBoard[116][7] = new Block(10, scaleFactor);
-		levelBoard[117][7] = new Block(10, scaleFactor);
-		levelBoard[118][7] = new Block(10, scaleFactor);
-		levelBoard[119][7] = new Block(10, scaleFactor);
-		levelBoard[120][7] = new Block(10, scaleFactor);
-		levelBoard[121][7] = new Block(10, scaleFactor);
-		levelBoard[122][7] = new Block(10, scaleFactor);
-		levelBoard[123][7] = new Block(10, scaleFactor);
-		levelBoard[124][7] = new Block(10, scaleFactor);
-		levelBoard[125][7] = new Block(10, scaleFactor);
-		levelBoard[126][7] = new Block(10, scaleFactor);
-		levelBoard[127][7] = new Block(10, scaleFactor);
-		levelBoard[21][8] = new Block(18, scaleFactor);
-		levelBoard[22][8] = new Block(12, scaleFactor);
-		levelBoard[23][8] = new Block(4, scaleFactor);
-		levelBoard[24][8] = new Block(4, scaleFactor);
-		levelBoard[25][8] = new Block(4, scaleFactor);
-		levelBoard[26][8] = new Block(12, scaleFactor);
-		levelBoard[27][8] = new Block(3, scaleFactor);
-		levelBoard[28][8] = new Block(3, scaleFactor);
-		levelBoard[29][8] = new Block(18, scaleFactor);
-		levelBoard[30][8] = new Block(18, scaleFactor);
-		levelBoard[31][8] = new Block(3, scaleFactor);
-		levelBoard[32][8] = new Block(3, scaleFactor);
-		levelBoard[33][8] = new Block(3, scaleFactor);
-		levelBoard[34][8] = new Block(3, scaleFactor);
-		levelBoard[35][8] = new Block(3, scaleFactor);
-		levelBoard[36][8] = new Block(18, scaleFactor);
-		levelBoard[37][8] = new Block(18, scaleFactor);
-		levelBoard[38][8] = new Block(3, scaleFactor);
-		levelBoard[39][8] = new Block(3, scaleFactor);
-		levelBoard[40][8] = new Block(12, scaleFactor);
-		levelBoard[45][8] = new Block(12, scaleFactor);
-		levelBoard[46][8] = new Block(12, scaleFactor);
-		levelBoard[61][8] = new Block(18, scaleFactor);
-		levelBoard[65][8] = new Block(18, scaleFactor);
-		levelBoard[66][8] = new Block(18, scaleFactor);
-		levelBoard[67][8] = new Block(18, scaleFactor);
-		levelBoard[68][8] = new Block(18, scaleFactor);
-		levelBoard[69][8] = new Block(18, scaleFactor);
-		levelBoard[70][8] = new Block(18, scaleFactor);
-		levelBoard[74][8] = new Block(18, scaleFactor);
-		levelBoard[84][8] = new Block(18, scaleFactor);
-		levelBoard[89][8] = new Block(6, scaleFactor);
-		levelBoard[90][8] = new Block(6, scaleFactor);
-		levelBoard[91][8] = new Block(0, scaleFactor);
-		levelBoard[92][8] = new Block(0, scaleFactor);
-		levelBoard[93][8] = new Block(0, scaleFactor);
-		levelBoard[94][8] = new Block(0, scaleFactor);
-		levelBoard[95][8] = new Block(0, scaleFactor);
-		levelBoard[96][8] = new Block(6, scaleFactor);
-		levelBoard[115][8] = new Block(10, scaleFactor);
-		levelBoard[116][8] = new Block(10, scaleFactor);
-		levelBoard[117][8] = new Block(10, scaleFactor);
-		levelBoard[118][8] = new Block(10, scaleFactor);
-		levelBoard[119][8] = new Block(10, scaleFactor);
-		levelBoard[120][8] = new Block(10, scaleFactor);
-		levelBoard[121][8] = new Block(10, scaleFactor);
-		levelBoard[122][8] = new Block(10, scaleFactor);
-		levelBoard[123][8] = new Block(10, scaleFactor);
-		levelBoard[124][8] = new Block(10, scaleFactor);
-		levelBoard[125][8] = new Block(10, scaleFactor);
-		levelBoard[126][8] = new Block(10, scaleFactor);
-		levelBoard[127][8] = new Block(10, scaleFactor);
-		levelBoard[21][9] = new Block(18, scaleFactor);
-		levelBoard[22][9] = new Block(12, scaleFactor);
-		levelBoard[23][9] = new Block(4, scaleFactor);
-		levelBoard[24][9] = new Block(4, scaleFactor);
-		levelBoard[25][9] = new Block(4, scaleFactor);
-		levelBoard[26][9] = new Block(12, scaleFactor);
-		levelBoard[27][9] = new Block(12, scaleFactor);
-		levelBoard[28][9] = new Block(12, scaleFactor);
-		levelBoard[29][9] = new Block(12, scaleFactor);
-		levelBoard[30][9] = new Block(12, scaleFactor);
-		levelBoard[31][9] = new Block(12, scaleFactor);
-		levelBoard[32][9] = new Block(12, scaleFactor);
-		levelBoard[33][9] = new Block(12, scaleFactor);
-		levelBoard[34][9] = new Block(12, scaleFactor);
-		levelBoard[35][9] = new Block(12, scaleFactor);
-		levelBoard[36][9] = new Block(12, scaleFactor);
-		levelBoard[37][9] = new Block(12, scaleFactor);
-		levelBoard[38][9] = new Block(12, scaleFactor);
-		levelBoard[39][9] = new Block(12, scaleFactor);
-		levelBoard[40][9] = new Block(12, scaleFactor);
-		levelBoard[41][9] = new Block(1, scaleFactor);
-		levelBoard[42][9] = new Block(1, scaleFactor);
-		levelBoard[43][9] = new Block(1, scaleFactor);
-		levelBoard[44][9] = new Block(1, scaleFactor);
-		levelBoard[45][9] = new Block(12, scaleFactor);
-		levelBoard[46][9] = new Block(12, scaleFactor);
-		levelBoard[49][9] = new Block(18, scaleFactor);
-		levelBoard[50][9] = new Block(1, scaleFactor);
-		levelBoard[51][9] = new Block(1, scaleFactor);
-		levelBoard[52][9] = new Block(18, scaleFactor);
-		levelBoard[53][9] = new Block(18, scaleFactor);
-		levelBoard[54][9] = new Block(18, scaleFactor);
-		levelBoard[55][9] = new Block(18, scaleFactor);
-		levelBoard[56][9] = new Block(18, scaleFactor);
-		levelBoard[57][9] = new Block(18, scaleFactor);
-		levelBoard[58][9] = new Block(18, scaleFactor);
-		levelBoard[61][9] = new Block(18, scaleFactor);
-		levelBoard[74][9] = new Block(18, scaleFactor);
-		levelBoard[84][9] = new Block(18, scaleFactor);
-		levelBoard[89][9] = new Block(0, scaleFactor);
-		levelBoard[90][9] = new Block(0, scaleFactor);
-		levelBoard[91][9] = new Block(0, scaleFactor);
-		levelBoard[92][9] = new Block(0, scaleFactor);
-		levelBoard[93][9] = new Block(0, scaleFactor);
-		levelBoard[94][9] = new Block(0, scaleFactor);
-		levelBoard[95][9] = new Block(0, scaleFactor);
-		levelBoard[96][9] = new Block(0, scaleFactor);
-		levelBoard[97][9] = new Block(6, scaleFactor);
-		levelBoard[105][9] = new Block(6, scaleFactor);
-		levelBoard[106][9] = new Block(6, scaleFactor);
-		levelBoard[115][9] = new Block(10, scaleFactor);
-		levelBoard[116][9] = new Block(10, scaleFactor);
-		levelBoard[117][9] = new Block(10, scaleFactor);
-		levelBoard[118][9] = new Block(10, scaleFactor);
-		levelBoard[119][9] = new Block(10, scaleFactor);
-		levelBoard[120][9] = new Block(10, scaleFactor);
-		levelBoard[121][9] = new Block(10, scaleFactor);
-		levelBoard[122][9] = new Block(10, scaleFactor);
-		levelBoard[123][9] = new Block(10, scaleFactor);
-		levelBoard[124][9] = new Block(10, scaleFactor);
-		levelBoard[125][9] = new Block(10, scaleFactor);
-		levelBoard[126][9] = new Block(10, scaleFactor);
-		levelBoard[127][9] = new Block(10, scaleFactor);
-		levelBoard[12][10] = new Block(18, scaleFactor);
-		levelBoard[13][10] = new Block(18, scaleFactor);
-		levelBoard[19][10] = new Block(18, scaleFactor);
-		levelBoard[20][10] = new Block(18, scaleFactor);
-		levelBoard[21][10] = new Block(18, scaleFactor);
-		levelBoard[22][10] = new Block(12, scaleFactor);
-		levelBoard[23][10] = new Block(4, scaleFactor);
-		levelBoard[24][10] = new Block(4, scaleFactor);
-		levelBoard[25][10] = new Block(4, scaleFactor);
-		levelBoard[26][10] = new Block(4, scaleFactor);
-		levelBoard[27][10] = new Block(12, scaleFactor);
-		levelBoard[28][10] = new Block(12, scaleFactor);
-		levelBoard[29][10] = new Block(12, scaleFactor);
-		levelBoard[30][10] = new Block(12, scaleFactor);
-		levelBoard[31][10] = new Block(12, scaleFactor);
-		levelBoard[32][10] = new Block(4, scaleFactor);
-		levelBoard[33][10] = new Block(4, scaleFactor);
-		levelBoard[34][10] = new Block(4, scaleFactor);
-		levelBoard[35][10] = new Block(4, scaleFactor);
-		levelBoard[36][10] = new Block(4, scaleFactor);
-		levelBoard[37][10] = new Block(4, scaleFactor);
-		levelBoard[38][10] = new Block(4, scaleFactor);
-		levelBoard[39][10] = new Block(4, scaleFactor);
-		levelBoard[40][10] = new Block(4, scaleFactor);
-		levelBoard[41][10] = new Block(4, scaleFactor);
-		levelBoard[42][10] = new Block(4, scaleFactor);
-		levelBoard[43][10] = new Block(4, scaleFactor);
-		levelBoard[44][10] = new Block(4, scaleFactor);
-		levelBoard[45][10] = new Block(12, scaleFactor);
-		levelBoard[46][10] = new Block(12, scaleFactor);
-		levelBoard[49][10] = new Block(18, scaleFactor);
-		levelBoard[58][10] = new Block(18, scaleFactor);
-		levelBoard[61][10] = new Block(18, scaleFactor);
-		levelBoard[74][10] = new Block(18, scaleFactor);
-		levelBoard[77][10] = new Block(18, scaleFactor);
-		levelBoard[78][10] = new Block(18, scaleFactor);
-		levelBoard[79][10] = new Block(18, scaleFactor);
-		levelBoard[80][10] = new Block(18, scaleFactor);
-		levelBoard[81][10] = new Block(18, scaleFactor);
-		levelBoard[82][10] = new Block(18, scaleFactor);
-		levelBoard[83][10] = new Block(18, scaleFactor);
-		levelBoard[84][10] = new Block(18, scaleFactor);
-		levelBoard[89][10] = new Block(0, scaleFactor);
-		levelBoard[90][10] = new Block(0, scaleFactor);
-		levelBoard[91][10] = new Block(12, scaleFactor);
-		levelBoard[92][10] = new Block(0, scaleFactor);
-		levelBoard[93][10] = new Block(0, scaleFactor);
-		levelBoard[94][10] = new Block(12, scaleFactor);
-		levelBoard[95][10] = new Block(0, scaleFactor);
-		levelBoard[96][10] = new Block(0, scaleFactor);
-		levelBoard[97][10] = new Block(0, scaleFactor);
-		levelBoard[98][10] = new Block(6, scaleFactor);
-		levelBoard[105][10] = new Block(0, scaleFactor);
-		levelBoard[106][10] = new Block(0, scaleFactor);
-		levelBoard[115][10] = new Block(10, scaleFactor);
-		levelBoard[116][10] = new Block(10, scaleFactor);
-		levelBoard[117][10] = new Block(10, scaleFactor);
-		levelBoard[118][10] = new Block(10, scaleFactor);
-		levelBoard[119][10] = new Block(10, scaleFactor);
-		levelBoard[120][10] = new Block(10, scaleFactor);
-		levelBoard[121][10] = new Block(10, scaleFactor);
-		levelBoard[122][10] = new Block(10, scaleFactor);
-		levelBoard[123][10] = new Block(10, scaleFactor);
-		levelBoard[124][10] = new Block(10, scaleFactor);
-		levelBoard[125][10] = new Block(10, scaleFactor);
-		levelBoard[126][10] = new Block(10, scaleFactor);
-		levelBoard[127][10] = new Block(10, scaleFactor);
-		levelBoard[6][11] = new Block(18, scaleFactor);
-		levelBoard[7][11] = new Block(18, scaleFactor);
-		levelBoard[12][11] = new Block(18, scaleFactor);
-		levelBoard[13][11] = new Block(18, scaleFactor);
-		levelBoard[19][11] = new Block(18, scaleFactor);
-		levelBoard[20][11] = new Block(18, scaleFactor);
-		levelBoard[21][11] = new Block(18, scaleFactor);
-		levelBoard[22][11] = new Block(12, scaleFactor);
-		levelBoard[23][11] = new Block(4, scaleFactor);
-		levelBoard[24][11] = new Block(4, scaleFactor);
-		levelBoard[25][11] = new Block(4, scaleFactor);
-		levelBoard[26][11] = new Block(4, scaleFactor);
-		levelBoard[27][11] = new Block(4, scaleFactor);
-		levelBoard[28][11] = new Block(4, scaleFactor);
-		levelBoard[29][11] = new Block(4, scaleFactor);
-		levelBoard[30][11] = new Block(4, scaleFactor);
-		levelBoard[31][11] = new Block(4, scaleFactor);
-		levelBoard[32][11] = new Block(4, scaleFactor);
-		levelBoard[33][11] = new Block(4, scaleFactor);
-		levelBoard[34][11] = new Block(4, scaleFactor);
-		levelBoard[35][11] = new Block(4, scaleFactor);
-		levelBoard[36][11] = new Block(4, scaleFactor);
-		levelBoard[37][11] = new Block(4, scaleFactor);
-		levelBoard[38][11] = new Block(4, scaleFactor);
-		levelBoard[39][11] = new Block(4, scaleFactor);
-		levelBoard[40][11] = new Block(4, scaleFactor);
-		levelBoard[41][11] = new Block(4, scaleFactor);
-		levelBoard[42][11] = new Block(4, scaleFactor);
-		levelBoard[43][11] = new Block(4, scaleFactor);
-		levelBoard[44][11] = new Block(4, scaleFactor);
-		levelBoard[45][11] = new Block(12, scaleFactor);
-		levelBoard[46][11] = new Block(12, scaleFactor);
-		levelBoard[49][11] = new Block(18, scaleFactor);
-		levelBoard[58][11] = new Block(18, scaleFactor);
-		levelBoard[59][11] = new Block(3, scaleFactor);
-		levelBoard[60][11] = new Block(3, scaleFactor);
-		levelBoard[61][11] = new Block(18, scaleFactor);
-		levelBoard[65][11] = new Block(18, scaleFactor);
-		levelBoard[66][11] = new Block(18, scaleFactor);
-		levelBoard[67][11] = new Block(18, scaleFactor);
-		levelBoard[68][11] = new Block(18, scaleFactor);
-		levelBoard[69][11] = new Block(18, scaleFactor);
-		levelBoard[70][11] = new Block(18, scaleFactor);
-		levelBoard[71][11] = new Block(18, scaleFactor);
-		levelBoard[74][11] = new Block(18, scaleFactor);
-		levelBoard[87][11] = new Block(6, scaleFactor);
-		levelBoard[88][11] = new Block(6, scaleFactor);
-		levelBoard[89][11] = new Block(0, scaleFactor);
-		levelBoard[90][11] = new Block(0, scaleFactor);
-		levelBoard[91][11] = new Block(0, scaleFactor);
-		levelBoard[92][11] = new Block(0, scaleFactor);
-		levelBoard[93][11] = new Block(0, scaleFactor);
-		levelBoard[94][11] = new Block(0, scaleFactor);
-		levelBoard[95][11] = new Block(0, scaleFactor);
-		levelBoard[96][11] = new Block(0, scaleFactor);
-		levelBoard[97][11] = new Block(0, scaleFactor);
-		levelBoard[98][11] = new Block(0, scaleFactor);
-		levelBoard[99][11] = new Block(6, scaleFactor);
-		levelBoard[105][11] = new Block(0, scaleFactor);
-		levelBoard[106][11] = new Block(0, scaleFactor);
-		levelBoard[115][11] = new Block(10, scaleFactor);
-		levelBoard[116][11] = new Block(10, scaleFactor);
-		levelBoard[117][11] = new Block(10, scaleFactor);
-		levelBoard[118][11] = new Block(10, scaleFactor);
-		levelBoard[119][11] = new Block(10, scaleFactor);
-		levelBoard[120][11] = new Block(10, scaleFactor);
-		levelBoard[121][11] = new Block(10, scaleFactor);
-		levelBoard[122][11] = new Block(10, scaleFactor);
-		levelBoard[123][11] = new Block(10, scaleFactor);
-		levelBoard[124][11] = new Block(10, scaleFactor);
-		levelBoard[125][11] = new Block(10, scaleFactor);
-		levelBoard[126][11] = new Block(10, scaleFactor);
-		levelBoard[127][11] = new Block(10, scaleFactor);
-		levelBoard[6][12] = new Block(18, scaleFactor);
-		levelBoard[7][12] = new Block(18, scaleFactor);
-		levelBoard[12][12] = new Block(18, scaleFactor);
-		levelBoard[13][12] = new Block(18, scaleFactor);
-		levelBoard[19][12] = new Block(18, scaleFactor);
-		levelBoard[20][12] = new Block(18, scaleFactor);
-		levelBoard[21][12] = new Block(18, scaleFactor);
-		levelBoard[22][12] = new Block(12, scaleFactor);
-		levelBoard[23][12] = new Block(4, scaleFactor);
-		levelBoard[24][12] = new Block(4, scaleFactor);
-		levelBoard[25][12] = new Block(4, scaleFactor);
-		levelBoard[26][12] = new Block(4, scaleFactor);
-		levelBoard[27][12] = new Block(4, scaleFactor);
-		levelBoard[28][12] = new Block(4, scaleFactor);
-		levelBoard[29][12] = new Block(4, scaleFactor);
-		levelBoard[30][12] = new Block(4, scaleFactor);
-		levelBoard[31][12] = new Block(4, scaleFactor);
-		levelBoard[32][12] = new Block(4, scaleFactor);
-		levelBoard[33][12] = new Block(4, scaleFactor);
-		levelBoard[34][12] = new Block(4, scaleFactor);
-		levelBoard[35][12] = new Block(4, scaleFactor);
-		levelBoard[36][12] = new Block(4, scaleFactor);
-		levelBoard[37][12] = new Block(4, scaleFactor);
-		levelBoard[38][12] = new Block(4, scaleFactor);
-		levelBoard[39][12] = new Block(4, scaleFactor);
-		levelBoard[40][12] = new Block(4, scaleFactor);
-		levelBoard[41][12] = new Block(4, scaleFactor);
-		levelBoard[42][12] = new Block(4, scaleFactor);
-		levelBoard[43][12] = new Block(12, scaleFactor);
-		levelBoard[44][12] = new Block(12, scaleFactor);
-		levelBoard[45][12] = new Block(12, scaleFactor);
-		levelBoard[46][12] = new Block(12, scaleFactor);
-		levelBoard[49][12] = new Block(18, scaleFactor);
-		levelBoard[50][12] = new Block(18, scaleFactor);
-		levelBoard[51][12] = new Block(18, scaleFactor);
-		levelBoard[52][12] = new Block(18, scaleFactor);
-		levelBoard[53][12] = new Block(18, scaleFactor);
-		levelBoard[54][12] = new Block(1, scaleFactor);
-		levelBoard[55][12] = new Block(1, scaleFactor);
-		levelBoard[56][12] = new Block(18, scaleFactor);
-		levelBoard[57][12] = new Block(18, scaleFactor);
-		levelBoard[58][12] = new Block(18, scaleFactor);
-		levelBoard[59][12] = new Block(18, scaleFactor);
-		levelBoard[60][12] = new Block(18, scaleFactor);
-		levelBoard[61][12] = new Block(18, scaleFactor);
-		levelBoard[74][12] = new Block(18, scaleFactor);
-		levelBoard[87][12] = new Block(0, scaleFactor);
-		levelBoard[88][12] = new Block(0, scaleFactor);
-		levelBoard[89][12] = new Block(0, scaleFactor);
-		levelBoard[90][12] = new Block(0, scaleFactor);
-		levelBoard[91][12] = new Block(0, scaleFactor);
-		levelBoard[92][12] = new Block(0, scaleFactor);
-		levelBoard[93][12] = new Block(0, scaleFactor);
-		levelBoard[94][12] = new Block(0, scaleFactor);
-		levelBoard[95][12] = new Block(0, scaleFactor);
-		levelBoard[96][12] = new Block(0, scaleFactor);
-		levelBoard[97][12] = new Block(0, scaleFactor);
-		levelBoard[98][12] = new Block(0, scaleFactor);
-		levelBoard[99][12] = new Block(0, scaleFactor);
-		levelBoard[100][12] = new Block(6, scaleFactor);
-		levelBoard[105][12] = new Block(0, scaleFactor);
-		levelBoard[106][12] = new Block(0, scaleFactor);
-		levelBoard[115][12] = new Block(10, scaleFactor);
-		levelBoard[116][12] = new Block(10, scaleFactor);
-		levelBoard[117][12] = new Block(10, scaleFactor);
-		levelBoard[118][12] = new Block(10, scaleFactor);
-		levelBoard[119][12] = new Block(10, scaleFactor);
-		levelBoard[120][12] = new Block(10, scaleFactor);
-		levelBoard[121][12] = new Block(10, scaleFactor);
-		levelBoard[122][12] = new Block(10, scaleFactor);
-		levelBoard[123][12] = new Block(10, scaleFactor);
-		levelBoard[124][12] = new Block(10, scaleFactor);
-		levelBoard[125][12] = new Block(10, scaleFactor);
-		levelBoard[126][12] = new Block(10, scaleFactor);
-		levelBoard[127][12] = new Block(10, scaleFactor);
-		levelBoard[6][13] = new Block(18, scaleFactor);
-		levelBoard[7][13] = new Block(18, scaleFactor);
-		levelBoard[12][13] = new Block(18, scaleFactor);
-		levelBoard[13][13] = new Block(18, scaleFactor);
-		levelBoard[19][13] = new Block(18, scaleFactor);
-		levelBoard[20][13] = new Block(18, scaleFactor);
-		levelBoard[21][13] = new Block(18, scaleFactor);
-		levelBoard[22][13] = new Block(12, scaleFactor);
-		levelBoard[23][13] = new Block(12, scaleFactor);
-		levelBoard[24][13] = new Block(4, scaleFactor);
-		levelBoard[25][13] = new Block(4, scaleFactor);
-		levelBoard[26][13] = new Block(4, scaleFactor);
-		levelBoard[27][13] = new Block(4, scaleFactor);
-		levelBoard[28][13] = new Block(4, scaleFactor);
-		levelBoard[29][13] = new Block(4, scaleFactor);
-		levelBoard[30][13] = new Block(4, scaleFactor);
-		levelBoard[31][13] = new Block(4, scaleFactor);
-		levelBoard[32][13] = new Block(4, scaleFactor);
-		levelBoard[33][13] = new Block(4, scaleFactor);
-		levelBoard[34][13] = new Block(4, scaleFactor);
-		levelBoard[35][13] = new Block(4, scaleFactor);
-		levelBoard[36][13] = new Block(4, scaleFactor);
-		levelBoard[37][13] = new Block(4, scaleFactor);
-		levelBoard[38][13] = new Block(4, scaleFactor);
-		levelBoard[39][13] = new Block(4, scaleFactor);
-		levelBoard[40][13] = new Block(4, scaleFactor);
-		levelBoard[41][13] = new Block(4, scaleFactor);
-		levelBoard[42][13] = new Block(4, scaleFactor);
-		levelBoard[43][13] = new Block(12, scaleFactor);
-		levelBoard[44][13] = new Block(12, scaleFactor);
-		levelBoard[45][13] = new Block(12, scaleFactor);
-		levelBoard[46][13] = new Block(12, scaleFactor);
-		levelBoard[60][13] = new Block(18, scaleFactor);
-		levelBoard[61][13] = new Block(18, scaleFactor);
-		levelBoard[74][13] = new Block(18, scaleFactor);
-		levelBoard[86][13] = new Block(3, scaleFactor);
-		levelBoard[87][13] = new Block(0, scaleFactor);
-		levelBoard[88][13] = new Block(0, scaleFactor);
-		levelBoard[89][13] = new Block(0, scaleFactor);
-		levelBoard[90][13] = new Block(12, scaleFactor);
-		levelBoard[91][13] = new Block(0, scaleFactor);
-		levelBoard[92][13] = new Block(0, scaleFactor);
-		levelBoard[93][13] = new Block(0, scaleFactor);
-		levelBoard[94][13] = new Block(0, scaleFactor);
-		levelBoard[95][13] = new Block(12, scaleFactor);
-		levelBoard[96][13] = new Block(0, scaleFactor);
-		levelBoard[97][13] = new Block(0, scaleFactor);
-		levelBoard[98][13] = new Block(0, scaleFactor);
-		levelBoard[99][13] = new Block(0, scaleFactor);
-		levelBoard[100][13] = new Block(0, scaleFactor);
-		levelBoard[101][13] = new Block(6, scaleFactor);
-		levelBoard[105][13] = new Block(0, scaleFactor);
-		levelBoard[106][13] = new Block(0, scaleFactor);
-		levelBoard[115][13] = new Block(10, scaleFactor);
-		levelBoard[116][13] = new Block(10, scaleFactor);
-		levelBoard[117][13] = new Block(10, scaleFactor);
-		levelBoard[118][13] = new Block(10, scaleFactor);
-		levelBoard[119][13] = new Block(10, scaleFactor);
-		levelBoard[120][13] = new Block(10, scaleFactor);
-		levelBoard[121][13] = new Block(10, scaleFactor);
-		levelBoard[122][13] = new Block(10, scaleFactor);
-		levelBoard[123][13] = new Block(10, scaleFactor);
-		levelBoard[124][13] = new Block(10, scaleFactor);
-		levelBoard[125][13] = new Block(10, scaleFactor);
-		levelBoard[126][13] = new Block(10, scaleFactor);
-		levelBoard[127][13] = new Block(10, scaleFactor);
-		levelBoard[0][14] = new Block(6, scaleFactor);
-		levelBoard[1][14] = new Block(6, scaleFactor);
-		levelBoard[2][14] = new Block(6, scaleFactor);
-		levelBoard[3][14] = new Block(6, scaleFactor);
-		levelBoard[4][14] = new Block(6, scaleFactor);
-		levelBoard[5][14] = new Block(6, scaleFactor);
-		levelBoard[6][14] = new Block(0, scaleFactor);
-		levelBoard[7][14] = new Block(0, scaleFactor);
-		levelBoard[12][14] = new Block(0, scaleFactor);
-		levelBoard[13][14] = new Block(0, scaleFactor);
-		levelBoard[14][14] = new Block(9, scaleFactor);
-		levelBoard[15][14] = new Block(9, scaleFactor);
-		levelBoard[16][14] = new Block(9, scaleFactor);
-		levelBoard[17][14] = new Block(9, scaleFactor);
-		levelBoard[18][14] = new Block(9, scaleFactor);
-		levelBoard[19][14] = new Block(0, scaleFactor);
-		levelBoard[20][14] = new Block(0, scaleFactor);
-		levelBoard[21][14] = new Block(0, scaleFactor);
-		levelBoard[22][14] = new Block(0, scaleFactor);
-		levelBoard[23][14] = new Block(12, scaleFactor);
-		levelBoard[24][14] = new Block(12, scaleFactor);
-		levelBoard[25][14] = new Block(4, scaleFactor);
-		levelBoard[26][14] = new Block(4, scaleFactor);
-		levelBoard[27][14] = new Block(4, scaleFactor);
-		levelBoard[28][14] = new Block(15, scaleFactor);
-		levelBoard[29][14] = new Block(15, scaleFactor);
-		levelBoard[30][14] = new Block(4, scaleFactor);
-		levelBoard[31][14] = new Block(4, scaleFactor);
-		levelBoard[32][14] = new Block(4, scaleFactor);
-		levelBoard[33][14] = new Block(4, scaleFactor);
-		levelBoard[34][14] = new Block(4, scaleFactor);
-		levelBoard[35][14] = new Block(12, scaleFactor);
-		levelBoard[36][14] = new Block(12, scaleFactor);
-		levelBoard[37][14] = new Block(12, scaleFactor);
-		levelBoard[38][14] = new Block(4, scaleFactor);
-		levelBoard[39][14] = new Block(4, scaleFactor);
-		levelBoard[40][14] = new Block(4, scaleFactor);
-		levelBoard[41][14] = new Block(12, scaleFactor);
-		levelBoard[42][14] = new Block(12, scaleFactor);
-		levelBoard[43][14] = new Block(12, scaleFactor);
-		levelBoard[44][14] = new Block(12, scaleFactor);
-		levelBoard[45][14] = new Block(12, scaleFactor);
-		levelBoard[46][14] = new Block(12, scaleFactor);
-		levelBoard[60][14] = new Block(18, scaleFactor);
-		levelBoard[61][14] = new Block(18, scaleFactor);
-		levelBoard[64][14] = new Block(18, scaleFactor);
-		levelBoard[65][14] = new Block(18, scaleFactor);
-		levelBoard[66][14] = new Block(18, scaleFactor);
-		levelBoard[67][14] = new Block(18, scaleFactor);
-		levelBoard[68][14] = new Block(18, scaleFactor);
-		levelBoard[71][14] = new Block(18, scaleFactor);
-		levelBoard[72][14] = new Block(18, scaleFactor);
-		levelBoard[73][14] = new Block(18, scaleFactor);
-		levelBoard[74][14] = new Block(18, scaleFactor);
-		levelBoard[75][14] = new Block(6, scaleFactor);
-		levelBoard[76][14] = new Block(6, scaleFactor);
-		levelBoard[77][14] = new Block(6, scaleFactor);
-		levelBoard[78][14] = new Block(6, scaleFactor);
-		levelBoard[79][14] = new Block(6, scaleFactor);
-		levelBoard[80][14] = new Block(6, scaleFactor);
-		levelBoard[81][14] = new Block(6, scaleFactor);
-		levelBoard[82][14] = new Block(6, scaleFactor);
-		levelBoard[83][14] = new Block(6, scaleFactor);
-		levelBoard[84][14] = new Block(6, scaleFactor);
-		levelBoard[85][14] = new Block(6, scaleFactor);
-		levelBoard[86][14] = new Block(6, scaleFactor);
-		levelBoard[87][14] = new Block(0, scaleFactor);
-		levelBoard[88][14] = new Block(0, scaleFactor);
-		levelBoard[89][14] = new Block(0, scaleFactor);
-		levelBoard[90][14] = new Block(0, scaleFactor);
-		levelBoard[91][14] = new Block(12, scaleFactor);
-		levelBoard[92][14] = new Block(12, scaleFactor);
-		levelBoard[93][14] = new Block(12, scaleFactor);
-		levelBoard[94][14] = new Block(12, scaleFactor);
-		levelBoard[95][14] = new Block(0, scaleFactor);
-		levelBoard[96][14] = new Block(0, scaleFactor);
-		levelBoard[97][14] = new Block(0, scaleFactor);
-		levelBoard[98][14] = new Block(0, scaleFactor);
-		levelBoard[99][14] = new Block(0, scaleFactor);
-		levelBoard[100][14] = new Block(0, scaleFactor);
-		levelBoard[101][14] = new Block(0, scaleFactor);
-		levelBoard[102][14] = new Block(6, scaleFactor);
-		levelBoard[103][14] = new Block(6, scaleFactor);
-		levelBoard[104][14] = new Block(6, scaleFactor);
-		levelBoard[105][14] = new Block(0, scaleFactor);
-		levelBoard[106][14] = new Block(0, scaleFactor);
-		levelBoard[115][14] = new Block(6, scaleFactor);
-		levelBoard[116][14] = new Block(6, scaleFactor);
-		levelBoard[117][14] = new Block(6, scaleFactor);
-		levelBoard[118][14] = new Block(6, scaleFactor);
-		levelBoard[119][14] = new Block(6, scaleFactor);
-		levelBoard[120][14] = new Block(6, scaleFactor);
-		levelBoard[121][14] = new Block(6, scaleFactor);
-		levelBoard[122][14] = new Block(6, scaleFactor);
-		levelBoard[123][14] = new Block(6, scaleFactor);
-		levelBoard[124][14] = new Block(6, scaleFactor);
-		levelBoard[125][14] = new Block(6, scaleFactor);
-		levelBoard[126][14] = new Block(6, scaleFactor);
-		levelBoard[127][14] = new Block(6, scaleFactor);
-		levelBoard[0][15] = new Block(0, scaleFactor);
-		levelBoard[1][15] = new Block(0, scaleFactor);
-		levelBoard[2][15] = new Block(0, scaleFactor);
-		levelBoard[3][15] = new Block(0, scaleFactor);
-		levelBoard[4][15] = new Block(0, scaleFactor);
-		levelBoard[5][15] = new Block(0, scaleFactor);
-		levelBoard[6][15] = new Block(0, scaleFactor);
-		levelBoard[7][15] = new Block(0, scaleFactor);
-		levelBoard[12][15] = new Block(0, scaleFactor);
-		levelBoard[13][15] = new Block(0, scaleFactor);
-		levelBoard[14][15] = new Block(0, scaleFactor);
-		levelBoard[15][15] = new Block(0, scaleFactor);
-		levelBoard[16][15] = new Block(0, scaleFactor);
-		levelBoard[17][15] = new Block(0, scaleFactor);
-		levelBoard[18][15] = new Block(0, scaleFactor);
-		levelBoard[19][15] = new Block(0, scaleFactor);
-		levelBoard[20][15] = new Block(0, scaleFactor);
-		levelBoard[21][15] = new Block(0, scaleFactor);
-		levelBoard[22][15] = new Block(0, scaleFactor);
-		levelBoard[23][15] = new Block(12, scaleFactor);
-		levelBoard[24][15] = new Block(12, scaleFactor);
-		levelBoard[25][15] = new Block(12, scaleFactor);
-		levelBoard[26][15] = new Block(12, scaleFactor);
-		levelBoard[27][15] = new Block(12, scaleFactor);
-		levelBoard[28][15] = new Block(12, scaleFactor);
-		levelBoard[29][15] = new Block(12, scaleFactor);
-		levelBoard[30][15] = new Block(12, scaleFactor);
-		levelBoard[31][15] = new Block(12, scaleFactor);
-		levelBoard[32][15] = new Block(4, scaleFactor);
-		levelBoard[33][15] = new Block(4, scaleFactor);
-		levelBoard[34][15] = new Block(4, scaleFactor);
-		levelBoard[35][15] = new Block(12, scaleFactor);
-		levelBoard[36][15] = new Block(12, scaleFactor);
-		levelBoard[37][15] = new Block(12, scaleFactor);
-		levelBoard[38][15] = new Block(4, scaleFactor);
-		levelBoard[39][15] = new Block(4, scaleFactor);
-		levelBoard[40][15] = new Block(4, scaleFactor);
-		levelBoard[41][15] = new Block(12, scaleFactor);
-		levelBoard[42][15] = new Block(12, scaleFactor);
-		levelBoard[43][15] = new Block(12, scaleFactor);
-		levelBoard[44][15] = new Block(12, scaleFactor);
-		levelBoard[45][15] = new Block(12, scaleFactor);
-		levelBoard[46][15] = new Block(12, scaleFactor);
-		levelBoard[47][15] = new Block(6, scaleFactor);
-		levelBoard[48][15] = new Block(6, scaleFactor);
-		levelBoard[49][15] = new Block(6, scaleFactor);
-		levelBoard[50][15] = new Block(6, scaleFactor);
-		levelBoard[51][15] = new Block(6, scaleFactor);
-		levelBoard[52][15] = new Block(6, scaleFactor);
-		levelBoard[53][15] = new Block(6, scaleFactor);
-		levelBoard[54][15] = new Block(6, scaleFactor);
-		levelBoard[55][15] = new Block(6, scaleFactor);
-		levelBoard[56][15] = new Block(6, scaleFactor);
-		levelBoard[57][15] = new Block(6, scaleFactor);
-		levelBoard[58][15] = new Block(6, scaleFactor);
-		levelBoard[59][15] = new Block(6, scaleFactor);
-		levelBoard[60][15] = new Block(6, scaleFactor);
-		levelBoard[61][15] = new Block(6, scaleFactor);
-		levelBoard[65][15] = new Block(18, scaleFactor);
-		levelBoard[68][15] = new Block(18, scaleFactor);
-		levelBoard[71][15] = new Block(18, scaleFactor);
-		levelBoard[74][15] = new Block(18, scaleFactor);
-		levelBoard[75][15] = new Block(0, scaleFactor);
-		levelBoard[76][15] = new Block(0, scaleFactor);
-		levelBoard[77][15] = new Block(0, scaleFactor);
-		levelBoard[78][15] = new Block(0, scaleFactor);
-		levelBoard[79][15] = new Block(0, scaleFactor);
-		levelBoard[80][15] = new Block(0, scaleFactor);
-		levelBoard[81][15] = new Block(0, scaleFactor);
-		levelBoard[82][15] = new Block(0, scaleFactor);
-		levelBoard[83][15] = new Block(0, scaleFactor);
-		levelBoard[84][15] = new Block(0, scaleFactor);
-		levelBoard[85][15] = new Block(0, scaleFactor);
-		levelBoard[86][15] = new Block(0, scaleFactor);
-		levelBoard[87][15] = new Block(0, scaleFactor);
-		levelBoard[88][15] = new Block(0, scaleFactor);
-		levelBoard[89][15] = new Block(0, scaleFactor);
-		levelBoard[90][15] = new Block(0, scaleFactor);
-		levelBoard[91][15] = new Block(0, scaleFactor);
-		levelBoard[92][15] = new Block(0, scaleFactor);
-		levelBoard[93][15] = new Block(0, scaleFactor);
-		levelBoard[94][15] = new Block(0, scaleFactor);
-		levelBoard[95][15] = new Block(0, scaleFactor);
-		levelBoard[96][15] = new Block(0, scaleFactor);
-		levelBoard[97][15] = new Block(0, scaleFactor);
-		levelBoard[98][15] = new Block(0, scaleFactor);
-		levelBoard[99][15] = new Block(0, scaleFactor);
-		levelBoard[100][15] = new Block(0, scaleFactor);
-		levelBoard[101][15] = new Block(0, scaleFactor);
-		levelBoard[102][15] = new Block(0, scaleFactor);
-		levelBoard[103][15] = new Block(0, scaleFactor);
-		levelBoard[104][15] = new Block(0, scaleFactor);
-		levelBoard[105][15] = new Block(0, scaleFactor);
-		levelBoard[106][15] = new Block(0, scaleFactor);
-		levelBoard[115][15] = new Block(0, scaleFactor);
-		levelBoard[116][15] = new Block(0, scaleFactor);
-		levelBoard[117][15] = new Block(0, scaleFactor);
-		levelBoard[118][15] = new Block(0, scaleFactor);
-		levelBoard[119][15] = new Block(0, scaleFactor);
-		levelBoard[120][15] = new Block(0, scaleFactor);
-		levelBoard[121][15] = new Block(0, scaleFactor);
-		levelBoard[122][15] = new Block(0, scaleFactor);
-		levelBoard[123][15] = new Block(0, scaleFactor);
-		levelBoard[124][15] = new Block(0, scaleFactor);
-		levelBoard[125][15] = new Block(0, scaleFactor);
-		levelBoard[126][15] = new Block(0, scaleFactor);
-		levelBoard[127][15] = new Block(0, scaleFactor);
-		
-		temporaryLevel.setLevelBoard(levelBoard);
-		temporaryLevel.putBlocksOnPanel();
-		worlds[0].addLevel(2, temporaryLevel);
-	}
-	
-	private void createWorld1Level3 () {
-		
-		temporaryLevel = new Level(Color.cyan, 3, 128, 16, 2, 5, 9, 4, 3); 	// backgroundColor = cyan, scale = 3, board dimensions: 128x16, panelSpeed = 2, gAcc = 5, playerStart = (9,4), level 3
-		
-		levelBoard = new Block[128][16];
-		int scaleFactor = temporaryLevel.blockScaleFactor;
-		
-		levelBoard[0][0] = new Block(18, scaleFactor);
-		levelBoard[11][0] = new Block(18, scaleFactor);
-		levelBoard[46][0] = new Block(18, scaleFactor);
-		levelBoard[115][0] = new Block(10, scaleFactor);
-		levelBoard[116][0] = new Block(10, scaleFactor);
-		levelBoard[117][0] = new Block(10, scaleFactor);
-		levelBoard[118][0] = new Block(10, scaleFactor);
-		levelBoard[119][0] = new Block(10, scaleFactor);
-		levelBoard[120][0] = new Block(10, scaleFactor);
-		levelBoard[121][0] = new Block(10, scaleFactor);
-		levelBoard[122][0] = new Block(10, scaleFactor);
-		levelBoard[123][0] = new Block(10, scaleFactor);
-		levelBoard[124][0] = new Block(10, scaleFactor);
-		levelBoard[125][0] = new Block(10, scaleFactor);
-		levelBoard[126][0] = new Block(10, scaleFactor);
-		levelBoard[127][0] = new Block(10, scaleFactor);
-		levelBoard[0][1] = new Block(18, scaleFactor);
-		levelBoard[11][1] = new Block(18, scaleFactor);
-		levelBoard[17][1] = new Block(2, scaleFactor);
-		levelBoard[18][1] = new Block(2, scaleFactor);
-		levelBoard[19][1] = new Block(2, scaleFactor);
-		levelBoard[20][1] = new Block(2, scaleFactor);
-		levelBoard[21][1] = new Block(2, scaleFactor);
-		levelBoard[27][1] = new Block(2, scaleFactor);
-		levelBoard[28][1] = new Block(2, scaleFactor);
-		levelBoard[29][1] = new Block(2, scaleFactor);
-		levelBoard[30][1] = new Block(2, scaleFactor);
-		levelBoard[31][1] = new Block(2, scaleFactor);
-		levelBoard[46][1] = new Block(18, scaleFactor);
-		levelBoard[58][1] = new Block(2, scaleFactor);
-		levelBoard[59][1] = new Block(2, scaleFactor);
-		levelBoard[60][1] = new Block(2, scaleFactor);
-		levelBoard[61][1] = new Block(2, scaleFactor);
-		levelBoard[62][1] = new Block(2, scaleFactor);
-		levelBoard[68][1] = new Block(2, scaleFactor);
-		levelBoard[69][1] = new Block(2, scaleFactor);
-		levelBoard[70][1] = new Block(2, scaleFactor);
-		levelBoard[71][1] = new Block(2, scaleFactor);
-		levelBoard[72][1] = new Block(2, scaleFactor);
-		levelBoard[78][1] = new Block(2, scaleFactor);
-		levelBoard[79][1] = new Block(2, scaleFactor);
-		levelBoard[80][1] = new Block(2, scaleFactor);
-		levelBoard[81][1] = new Block(2, scaleFactor);
-		levelBoard[82][1] = new Block(2, scaleFactor);
-		levelBoard[88][1] = new Block(2, scaleFactor);
-		levelBoard[89][1] = new Block(2, scaleFactor);
-		levelBoard[90][1] = new Block(2, scaleFactor);
-		levelBoard[91][1] = new Block(2, scaleFactor);
-		levelBoard[92][1] = new Block(2, scaleFactor);
-		levelBoard[98][1] = new Block(2, scaleFactor);
-		levelBoard[99][1] = new Block(2, scaleFactor);
-		levelBoard[100][1] = new Block(2, scaleFactor);
-		levelBoard[101][1] = new Block(2, scaleFactor);
-		levelBoard[102][1] = new Block(2, scaleFactor);
-		levelBoard[115][1] = new Block(10, scaleFactor);
-		levelBoard[116][1] = new Block(10, scaleFactor);
-		levelBoard[117][1] = new Block(10, scaleFactor);
-		levelBoard[118][1] = new Block(10, scaleFactor);
-		levelBoard[119][1] = new Block(10, scaleFactor);
-		levelBoard[120][1] = new Block(10, scaleFactor);
-		levelBoard[121][1] = new Block(10, scaleFactor);
-		levelBoard[122][1] = new Block(10, scaleFactor);
-		levelBoard[123][1] = new Block(10, scaleFactor);
-		levelBoard[124][1] = new Block(10, scaleFactor);
-		levelBoard[125][1] = new Block(10, scaleFactor);
-		levelBoard[126][1] = new Block(10, scaleFactor);
-		levelBoard[127][1] = new Block(10, scaleFactor);
-		levelBoard[0][2] = new Block(18, scaleFactor);
-		levelBoard[11][2] = new Block(18, scaleFactor);
-		levelBoard[46][2] = new Block(18, scaleFactor);
-		levelBoard[115][2] = new Block(10, scaleFactor);
-		levelBoard[116][2] = new Block(10, scaleFactor);
-		levelBoard[117][2] = new Block(10, scaleFactor);
-		levelBoard[118][2] = new Block(10, scaleFactor);
-		levelBoard[119][2] = new Block(10, scaleFactor);
-		levelBoard[120][2] = new Block(10, scaleFactor);
-		levelBoard[121][2] = new Block(10, scaleFactor);
-		levelBoard[122][2] = new Block(10, scaleFactor);
-		levelBoard[123][2] = new Block(10, scaleFactor);
-		levelBoard[124][2] = new Block(10, scaleFactor);
-		levelBoard[125][2] = new Block(10, scaleFactor);
-		levelBoard[126][2] = new Block(10, scaleFactor);
-		levelBoard[127][2] = new Block(10, scaleFactor);
-		levelBoard[0][3] = new Block(18, scaleFactor);
-		levelBoard[11][3] = new Block(18, scaleFactor);
-		levelBoard[46][3] = new Block(18, scaleFactor);
-		levelBoard[115][3] = new Block(10, scaleFactor);
-		levelBoard[116][3] = new Block(10, scaleFactor);
-		levelBoard[117][3] = new Block(10, scaleFactor);
-		levelBoard[118][3] = new Block(10, scaleFactor);
-		levelBoard[119][3] = new Block(10, scaleFactor);
-		levelBoard[120][3] = new Block(10, scaleFactor);
-		levelBoard[121][3] = new Block(10, scaleFactor);
-		levelBoard[122][3] = new Block(10, scaleFactor);
-		levelBoard[123][3] = new Block(10, scaleFactor);
-		levelBoard[124][3] = new Block(10, scaleFactor);
-		levelBoard[125][3] = new Block(10, scaleFactor);
-		levelBoard[126][3] = new Block(10, scaleFactor);
-		levelBoard[127][3] = new Block(10, scaleFactor);
-		levelBoard[0][4] = new Block(18, scaleFactor);
-		levelBoard[11][4] = new Block(18, scaleFactor);
-		levelBoard[32][4] = new Block(18, scaleFactor);
-		levelBoard[35][4] = new Block(18, scaleFactor);
-		levelBoard[36][4] = new Block(18, scaleFactor);
-		levelBoard[37][4] = new Block(18, scaleFactor);
-		levelBoard[38][4] = new Block(18, scaleFactor);
-		levelBoard[39][4] = new Block(18, scaleFactor);
-		levelBoard[40][4] = new Block(18, scaleFactor);
-		levelBoard[41][4] = new Block(18, scaleFactor);
-		levelBoard[46][4] = new Block(18, scaleFactor);
-		levelBoard[115][4] = new Block(10, scaleFactor);
-		levelBoard[116][4] = new Block(10, scaleFactor);
-		levelBoard[117][4] = new Block(10, scaleFactor);
-		levelBoard[118][4] = new Block(10, scaleFactor);
-		levelBoard[119][4] = new Block(10, scaleFactor);
-		levelBoard[120][4] = new Block(10, scaleFactor);
-		levelBoard[121][4] = new Block(10, scaleFactor);
-		levelBoard[122][4] = new Block(10, scaleFactor);
-		levelBoard[123][4] = new Block(10, scaleFactor);
-		levelBoard[124][4] = new Block(10, scaleFactor);
-		levelBoard[125][4] = new Block(10, scaleFactor);
-		levelBoard[126][4] = new Block(10, scaleFactor);
-		levelBoard[127][4] = new Block(10, scaleFactor);
-		levelBoard[0][5] = new Block(18, scaleFactor);
-		levelBoard[7][5] = new Block(18, scaleFactor);
-		levelBoard[8][5] = new Block(18, scaleFactor);
-		levelBoard[9][5] = new Block(18, scaleFactor);
-		levelBoard[10][5] = new Block(18, scaleFactor);
-		levelBoard[11][5] = new Block(18, scaleFactor);
-		levelBoard[32][5] = new Block(18, scaleFactor);
-		levelBoard[33][5] = new Block(1, scaleFactor);
-		levelBoard[34][5] = new Block(1, scaleFactor);
-		levelBoard[40][5] = new Block(18, scaleFactor);
-		levelBoard[41][5] = new Block(18, scaleFactor);
-		levelBoard[46][5] = new Block(18, scaleFactor);
-		levelBoard[92][5] = new Block(18, scaleFactor);
-		levelBoard[93][5] = new Block(18, scaleFactor);
-		levelBoard[94][5] = new Block(18, scaleFactor);
-		levelBoard[95][5] = new Block(18, scaleFactor);
-		levelBoard[96][5] = new Block(18, scaleFactor);
-		levelBoard[102][5] = new Block(18, scaleFactor);
-		levelBoard[108][5] = new Block(18, scaleFactor);
-		levelBoard[115][5] = new Block(10, scaleFactor);
-		levelBoard[116][5] = new Block(10, scaleFactor);
-		levelBoard[117][5] = new Block(10, scaleFactor);
-		levelBoard[118][5] = new Block(10, scaleFactor);
-		levelBoard[119][5] = new Block(10, scaleFactor);
-		levelBoard[120][5] = new Block(10, scaleFactor);
-		levelBoard[121][5] = new Block(10, scaleFactor);
-		levelBoard[122][5] = new Block(10, scaleFactor);
-		levelBoard[123][5] = new Block(10, scaleFactor);
-		levelBoard[124][5] = new Block(10, scaleFactor);
-		levelBoard[125][5] = new Block(10, scaleFactor);
-		levelBoard[126][5] = new Block(10, scaleFactor);
-		levelBoard[127][5] = new Block(10, scaleFactor);
-		levelBoard[0][6] = new Block(18, scaleFactor);
-		levelBoard[32][6] = new Block(18, scaleFactor);
-		levelBoard[40][6] = new Block(18, scaleFactor);
-		levelBoard[41][6] = new Block(18, scaleFactor);
-		levelBoard[46][6] = new Block(18, scaleFactor);
-		levelBoard[54][6] = new Block(18, scaleFactor);
-		levelBoard[55][6] = new Block(18, scaleFactor);
-		levelBoard[115][6] = new Block(10, scaleFactor);
-		levelBoard[116][6] = new Block(10, scaleFactor);
-		levelBoard[117][6] = new Block(10, scaleFactor);
-		levelBoard[118][6] = new Block(10, scaleFactor);
-		levelBoard[119][6] = new Block(10, scaleFactor);
-		levelBoard[120][6] = new Block(10, scaleFactor);
-		levelBoard[121][6] = new Block(10, scaleFactor);
-		levelBoard[122][6] = new Block(10, scaleFactor);
-		levelBoard[123][6] = new Block(10, scaleFactor);
-		levelBoard[124][6] = new Block(10, scaleFactor);
-		levelBoard[125][6] = new Block(10, scaleFactor);
-		levelBoard[126][6] = new Block(10, scaleFactor);
-		levelBoard[127][6] = new Block(10, scaleFactor);
-		levelBoard[0][7] = new Block(18, scaleFactor);
-		levelBoard[32][7] = new Block(18, scaleFactor);
-		levelBoard[40][7] = new Block(18, scaleFactor);
-		levelBoard[41][7] = new Block(18, scaleFactor);
-		levelBoard[46][7] = new Block(18, scaleFactor);
-		levelBoard[59][7] = new Block(12, scaleFactor);
-		levelBoard[60][7] = new Block(12, scaleFactor);
-		levelBoard[61][7] = new Block(12, scaleFactor);
-		levelBoard[62][7] = new Block(12, scaleFactor);
-		levelBoard[115][7] = new Block(10, scaleFactor);
-		levelBoard[116][7] = new Block(10, scaleFactor);
-		levelBoard[117][7] = new Block(10, scaleFactor);
-		levelBoard[118][7] = new Block(10, scaleFactor);
-		levelBoard[119][7] = new Block(10, scaleFactor);
-		levelBoard[120][7] = new Block(10, scaleFactor);
-		levelBoard[121][7] = new Block(10, scaleFactor);
-		levelBoard[122][7] = new Block(10, scaleFactor);
-		levelBoard[123][7] = new Block(10, scaleFactor);
-		levelBoard[124][7] = new Block(10, scaleFactor);
-		levelBoard[125][7] = new Block(10, scaleFactor);
-		levelBoard[126][7] = new Block(10, scaleFactor);
-		levelBoard[127][7] = new Block(10, scaleFactor);
-		levelBoard[0][8] = new Block(18, scaleFactor);
-		levelBoard[32][8] = new Block(18, scaleFactor);
-		levelBoard[33][8] = new Block(18, scaleFactor);
-		levelBoard[34][8] = new Block(18, scaleFactor);
-		levelBoard[40][8] = new Block(18, scaleFactor);
-		levelBoard[41][8] = new Block(18, scaleFactor);
-		levelBoard[46][8] = new Block(18, scaleFactor);
-		levelBoard[58][8] = new Block(12, scaleFactor);
-		levelBoard[59][8] = new Block(12, scaleFactor);
-		levelBoard[60][8] = new Block(12, scaleFactor);
-		levelBoard[61][8] = new Block(12, scaleFactor);
-		levelBoard[62][8] = new Block(12, scaleFactor);
-		levelBoard[90][8] = new Block(18, scaleFactor);
-		levelBoard[91][8] = new Block(18, scaleFactor);
-		levelBoard[115][8] = new Block(10, scaleFactor);
-		levelBoard[116][8] = new Block(10, scaleFactor);
-		levelBoard[117][8] = new Block(10, scaleFactor);
-		levelBoard[118][8] = new Block(10, scaleFactor);
-		levelBoard[119][8] = new Block(10, scaleFactor);
-		levelBoard[120][8] = new Block(10, scaleFactor);
-		levelBoard[121][8] = new Block(10, scaleFactor);
-		levelBoard[122][8] = new Block(10, scaleFactor);
-		levelBoard[123][8] = new Block(10, scaleFactor);
-		levelBoard[124][8] = new Block(10, scaleFactor);
-		levelBoard[125][8] = new Block(10, scaleFactor);
-		levelBoard[126][8] = new Block(10, scaleFactor);
-		levelBoard[127][8] = new Block(10, scaleFactor);
-		levelBoard[0][9] = new Block(18, scaleFactor);
-		levelBoard[40][9] = new Block(18, scaleFactor);
-		levelBoard[41][9] = new Block(18, scaleFactor);
-		levelBoard[46][9] = new Block(18, scaleFactor);
-		levelBoard[58][9] = new Block(12, scaleFactor);
-		levelBoard[59][9] = new Block(12, scaleFactor);
-		levelBoard[60][9] = new Block(12, scaleFactor);
-		levelBoard[61][9] = new Block(12, scaleFactor);
-		levelBoard[62][9] = new Block(12, scaleFactor);
-		levelBoard[63][9] = new Block(12, scaleFactor);
-		levelBoard[64][9] = new Block(12, scaleFactor);
-		levelBoard[115][9] = new Block(10, scaleFactor);
-		levelBoard[116][9] = new Block(10, scaleFactor);
-		levelBoard[117][9] = new Block(10, scaleFactor);
-		levelBoard[118][9] = new Block(10, scaleFactor);
-		levelBoard[119][9] = new Block(10, scaleFactor);
-		levelBoard[120][9] = new Block(10, scaleFactor);
-		levelBoard[121][9] = new Block(10, scaleFactor);
-		levelBoard[122][9] = new Block(10, scaleFactor);
-		levelBoard[123][9] = new Block(10, scaleFactor);
-		levelBoard[124][9] = new Block(10, scaleFactor);
-		levelBoard[125][9] = new Block(10, scaleFactor);
-		levelBoard[126][9] = new Block(10, scaleFactor);
-		levelBoard[127][9] = new Block(10, scaleFactor);
-		levelBoard[0][10] = new Block(18, scaleFactor);
-		levelBoard[40][10] = new Block(18, scaleFactor);
-		levelBoard[41][10] = new Block(18, scaleFactor);
-		levelBoard[47][9] = new Block(18, scaleFactor);
-		levelBoard[48][9] = new Block(18, scaleFactor);
-		levelBoard[49][9] = new Block(18, scaleFactor);
-		levelBoard[50][9] = new Block(18, scaleFactor);
-		levelBoard[51][9] = new Block(18, scaleFactor);
-		levelBoard[52][9] = new Block(18, scaleFactor);
-		levelBoard[53][9] = new Block(18, scaleFactor);
-		levelBoard[54][9] = new Block(18, scaleFactor);
-		levelBoard[58][10] = new Block(12, scaleFactor);
-		levelBoard[59][10] = new Block(12, scaleFactor);
-		levelBoard[60][10] = new Block(12, scaleFactor);
-		levelBoard[61][10] = new Block(12, scaleFactor);
-		levelBoard[62][10] = new Block(12, scaleFactor);
-		levelBoard[63][10] = new Block(12, scaleFactor);
-		levelBoard[64][10] = new Block(12, scaleFactor);
-		levelBoard[115][10] = new Block(10, scaleFactor);
-		levelBoard[116][10] = new Block(10, scaleFactor);
-		levelBoard[117][10] = new Block(10, scaleFactor);
-		levelBoard[118][10] = new Block(10, scaleFactor);
-		levelBoard[119][10] = new Block(10, scaleFactor);
-		levelBoard[120][10] = new Block(10, scaleFactor);
-		levelBoard[121][10] = new Block(10, scaleFactor);
-		levelBoard[122][10] = new Block(10, scaleFactor);
-		levelBoard[123][10] = new Block(10, scaleFactor);
-		levelBoard[124][10] = new Block(10, scaleFactor);
-		levelBoard[125][10] = new Block(10, scaleFactor);
-		levelBoard[126][10] = new Block(10, scaleFactor);
-		levelBoard[127][10] = new Block(10, scaleFactor);
-		levelBoard[0][11] = new Block(18, scaleFactor);
-		levelBoard[37][11] = new Block(12, scaleFactor);
-		levelBoard[38][11] = new Block(12, scaleFactor);
-		levelBoard[39][11] = new Block(12, scaleFactor);
-		levelBoard[40][11] = new Block(18, scaleFactor);
-		levelBoard[41][11] = new Block(18, scaleFactor);
-		levelBoard[57][11] = new Block(12, scaleFactor);
-		levelBoard[58][11] = new Block(12, scaleFactor);
-		levelBoard[59][11] = new Block(12, scaleFactor);
-		levelBoard[60][11] = new Block(12, scaleFactor);
-		levelBoard[61][11] = new Block(12, scaleFactor);
-		levelBoard[62][11] = new Block(12, scaleFactor);
-		levelBoard[63][11] = new Block(12, scaleFactor);
-		levelBoard[64][11] = new Block(12, scaleFactor);
-		levelBoard[65][11] = new Block(12, scaleFactor);
-		levelBoard[72][11] = new Block(3, scaleFactor);
-		levelBoard[77][11] = new Block(3, scaleFactor);
-		levelBoard[82][11] = new Block(3, scaleFactor);
-		levelBoard[87][11] = new Block(3, scaleFactor);
-		levelBoard[92][11] = new Block(18, scaleFactor);
-		levelBoard[93][11] = new Block(18, scaleFactor);
-		levelBoard[115][11] = new Block(10, scaleFactor);
-		levelBoard[116][11] = new Block(10, scaleFactor);
-		levelBoard[117][11] = new Block(10, scaleFactor);
-		levelBoard[118][11] = new Block(10, scaleFactor);
-		levelBoard[119][11] = new Block(10, scaleFactor);
-		levelBoard[120][11] = new Block(10, scaleFactor);
-		levelBoard[121][11] = new Block(10, scaleFactor);
-		levelBoard[122][11] = new Block(10, scaleFactor);
-		levelBoard[123][11] = new Block(10, scaleFactor);
-		levelBoard[124][11] = new Block(10, scaleFactor);
-		levelBoard[125][11] = new Block(10, scaleFactor);
-		levelBoard[126][11] = new Block(10, scaleFactor);
-		levelBoard[127][11] = new Block(10, scaleFactor);
-		levelBoard[0][12] = new Block(18, scaleFactor);
-		levelBoard[10][12] = new Block(3, scaleFactor);
-		levelBoard[19][12] = new Block(3, scaleFactor);
-		levelBoard[28][12] = new Block(3, scaleFactor);
-		levelBoard[36][12] = new Block(12, scaleFactor);
-		levelBoard[37][12] = new Block(12, scaleFactor);
-		levelBoard[38][12] = new Block(12, scaleFactor);
-		levelBoard[39][12] = new Block(12, scaleFactor);
-		levelBoard[40][12] = new Block(12, scaleFactor);
-		levelBoard[41][12] = new Block(18, scaleFactor);
-		levelBoard[57][12] = new Block(12, scaleFactor);
-		levelBoard[58][12] = new Block(12, scaleFactor);
-		levelBoard[59][12] = new Block(12, scaleFactor);
-		levelBoard[60][12] = new Block(12, scaleFactor);
-		levelBoard[61][12] = new Block(12, scaleFactor);
-		levelBoard[62][12] = new Block(12, scaleFactor);
-		levelBoard[63][12] = new Block(12, scaleFactor);
-		levelBoard[64][12] = new Block(12, scaleFactor);
-		levelBoard[65][12] = new Block(12, scaleFactor);
-		levelBoard[72][12] = new Block(18, scaleFactor);
-		levelBoard[77][12] = new Block(18, scaleFactor);
-		levelBoard[82][12] = new Block(18, scaleFactor);
-		levelBoard[87][12] = new Block(18, scaleFactor);
-		levelBoard[92][12] = new Block(18, scaleFactor);
-		levelBoard[115][12] = new Block(10, scaleFactor);
-		levelBoard[116][12] = new Block(10, scaleFactor);
-		levelBoard[117][12] = new Block(10, scaleFactor);
-		levelBoard[118][12] = new Block(10, scaleFactor);
-		levelBoard[119][12] = new Block(10, scaleFactor);
-		levelBoard[120][12] = new Block(10, scaleFactor);
-		levelBoard[121][12] = new Block(10, scaleFactor);
-		levelBoard[122][12] = new Block(10, scaleFactor);
-		levelBoard[123][12] = new Block(10, scaleFactor);
-		levelBoard[124][12] = new Block(10, scaleFactor);
-		levelBoard[125][12] = new Block(10, scaleFactor);
-		levelBoard[126][12] = new Block(10, scaleFactor);
-		levelBoard[127][12] = new Block(10, scaleFactor);
-		levelBoard[0][13] = new Block(18, scaleFactor);
-		levelBoard[9][13] = new Block(3, scaleFactor);
-		levelBoard[10][13] = new Block(18, scaleFactor);
-		levelBoard[11][13] = new Block(3, scaleFactor);
-		levelBoard[18][13] = new Block(3, scaleFactor);
-		levelBoard[19][13] = new Block(18, scaleFactor);
-		levelBoard[20][13] = new Block(3, scaleFactor);
-		levelBoard[27][13] = new Block(3, scaleFactor);
-		levelBoard[28][13] = new Block(18, scaleFactor);
-		levelBoard[29][13] = new Block(3, scaleFactor);
-		levelBoard[36][13] = new Block(12, scaleFactor);
-		levelBoard[37][13] = new Block(12, scaleFactor);
-		levelBoard[38][13] = new Block(12, scaleFactor);
-		levelBoard[39][13] = new Block(12, scaleFactor);
-		levelBoard[40][13] = new Block(12, scaleFactor);
-		levelBoard[41][13] = new Block(18, scaleFactor);
-		levelBoard[46][13] = new Block(3, scaleFactor);
-		levelBoard[50][13] = new Block(3, scaleFactor);
-		levelBoard[54][13] = new Block(3, scaleFactor);
-		levelBoard[57][13] = new Block(12, scaleFactor);
-		levelBoard[58][13] = new Block(12, scaleFactor);
-		levelBoard[59][13] = new Block(12, scaleFactor);
-		levelBoard[60][13] = new Block(12, scaleFactor);
-		levelBoard[61][13] = new Block(12, scaleFactor);
-		levelBoard[62][13] = new Block(12, scaleFactor);
-		levelBoard[63][13] = new Block(12, scaleFactor);
-		levelBoard[64][13] = new Block(12, scaleFactor);
-		levelBoard[65][13] = new Block(12, scaleFactor);
-		levelBoard[72][13] = new Block(18, scaleFactor);
-		levelBoard[77][13] = new Block(18, scaleFactor);
-		levelBoard[82][13] = new Block(18, scaleFactor);
-		levelBoard[87][13] = new Block(18, scaleFactor);
-		levelBoard[92][13] = new Block(18, scaleFactor);
-		levelBoard[100][13] = new Block(3, scaleFactor);
-		levelBoard[106][13] = new Block(3, scaleFactor);
-		levelBoard[112][13] = new Block(3, scaleFactor);
-		levelBoard[115][13] = new Block(10, scaleFactor);
-		levelBoard[116][13] = new Block(10, scaleFactor);
-		levelBoard[117][13] = new Block(10, scaleFactor);
-		levelBoard[118][13] = new Block(10, scaleFactor);
-		levelBoard[119][13] = new Block(10, scaleFactor);
-		levelBoard[120][13] = new Block(10, scaleFactor);
-		levelBoard[121][13] = new Block(10, scaleFactor);
-		levelBoard[122][13] = new Block(10, scaleFactor);
-		levelBoard[123][13] = new Block(10, scaleFactor);
-		levelBoard[124][13] = new Block(10, scaleFactor);
-		levelBoard[125][13] = new Block(10, scaleFactor);
-		levelBoard[126][13] = new Block(10, scaleFactor);
-		levelBoard[127][13] = new Block(10, scaleFactor);
-		levelBoard[0][14] = new Block(18, scaleFactor);
-		levelBoard[1][14] = new Block(6, scaleFactor);
-		levelBoard[2][14] = new Block(6, scaleFactor);
-		levelBoard[3][14] = new Block(6, scaleFactor);
-		levelBoard[4][14] = new Block(6, scaleFactor);
-		levelBoard[5][14] = new Block(6, scaleFactor);
-		levelBoard[6][14] = new Block(6, scaleFactor);
-		levelBoard[7][14] = new Block(6, scaleFactor);
-		levelBoard[8][14] = new Block(6, scaleFactor);
-		levelBoard[9][14] = new Block(6, scaleFactor);
-		levelBoard[10][14] = new Block(6, scaleFactor);
-		levelBoard[11][14] = new Block(6, scaleFactor);
-		levelBoard[12][14] = new Block(6, scaleFactor);
-		levelBoard[13][14] = new Block(6, scaleFactor);
-		levelBoard[14][14] = new Block(6, scaleFactor);
-		levelBoard[15][14] = new Block(6, scaleFactor);
-		levelBoard[16][14] = new Block(6, scaleFactor);
-		levelBoard[17][14] = new Block(6, scaleFactor);
-		levelBoard[18][14] = new Block(6, scaleFactor);
-		levelBoard[19][14] = new Block(6, scaleFactor);
-		levelBoard[20][14] = new Block(6, scaleFactor);
-		levelBoard[21][14] = new Block(6, scaleFactor);
-		levelBoard[22][14] = new Block(6, scaleFactor);
-		levelBoard[23][14] = new Block(6, scaleFactor);
-		levelBoard[24][14] = new Block(6, scaleFactor);
-		levelBoard[25][14] = new Block(6, scaleFactor);
-		levelBoard[26][14] = new Block(6, scaleFactor);
-		levelBoard[27][14] = new Block(6, scaleFactor);
-		levelBoard[28][14] = new Block(6, scaleFactor);
-		levelBoard[29][14] = new Block(6, scaleFactor);
-		levelBoard[30][14] = new Block(6, scaleFactor);
-		levelBoard[31][14] = new Block(6, scaleFactor);
-		levelBoard[32][14] = new Block(6, scaleFactor);
-		levelBoard[33][14] = new Block(6, scaleFactor);
-		levelBoard[34][14] = new Block(6, scaleFactor);
-		levelBoard[35][14] = new Block(6, scaleFactor);
-		levelBoard[36][14] = new Block(6, scaleFactor);
-		levelBoard[37][14] = new Block(6, scaleFactor);
-		levelBoard[38][14] = new Block(6, scaleFactor);
-		levelBoard[39][14] = new Block(6, scaleFactor);
-		levelBoard[40][14] = new Block(6, scaleFactor);
-		levelBoard[41][14] = new Block(6, scaleFactor);
-		levelBoard[42][14] = new Block(6, scaleFactor);
-		levelBoard[43][14] = new Block(6, scaleFactor);
-		levelBoard[44][14] = new Block(6, scaleFactor);
-		levelBoard[45][14] = new Block(6, scaleFactor);
-		levelBoard[46][14] = new Block(6, scaleFactor);
-		levelBoard[47][14] = new Block(6, scaleFactor);
-		levelBoard[48][14] = new Block(6, scaleFactor);
-		levelBoard[49][14] = new Block(6, scaleFactor);
-		levelBoard[50][14] = new Block(6, scaleFactor);
-		levelBoard[51][14] = new Block(6, scaleFactor);
-		levelBoard[52][14] = new Block(6, scaleFactor);
-		levelBoard[53][14] = new Block(6, scaleFactor);
-		levelBoard[54][14] = new Block(6, scaleFactor);
-		levelBoard[55][14] = new Block(6, scaleFactor);
-		levelBoard[56][14] = new Block(6, scaleFactor);
-		levelBoard[57][14] = new Block(12, scaleFactor);
-		levelBoard[58][14] = new Block(12, scaleFactor);
-		levelBoard[59][14] = new Block(12, scaleFactor);
-		levelBoard[60][14] = new Block(12, scaleFactor);
-		levelBoard[61][14] = new Block(12, scaleFactor);
-		levelBoard[62][14] = new Block(12, scaleFactor);
-		levelBoard[63][14] = new Block(12, scaleFactor);
-		levelBoard[64][14] = new Block(12, scaleFactor);
-		levelBoard[65][14] = new Block(12, scaleFactor);
-		levelBoard[72][14] = new Block(18, scaleFactor);
-		levelBoard[73][14] = new Block(6, scaleFactor);
-		levelBoard[74][14] = new Block(6, scaleFactor);
-		levelBoard[75][14] = new Block(6, scaleFactor);
-		levelBoard[76][14] = new Block(6, scaleFactor);
-		levelBoard[77][14] = new Block(18, scaleFactor);
-		levelBoard[78][14] = new Block(6, scaleFactor);
-		levelBoard[79][14] = new Block(6, scaleFactor);
-		levelBoard[80][14] = new Block(6, scaleFactor);
-		levelBoard[81][14] = new Block(6, scaleFactor);
-		levelBoard[82][14] = new Block(18, scaleFactor);
-		levelBoard[83][14] = new Block(6, scaleFactor);
-		levelBoard[84][14] = new Block(6, scaleFactor);
-		levelBoard[85][14] = new Block(6, scaleFactor);
-		levelBoard[86][14] = new Block(6, scaleFactor);
-		levelBoard[87][14] = new Block(18, scaleFactor);
-		levelBoard[88][14] = new Block(6, scaleFactor);
-		levelBoard[89][14] = new Block(6, scaleFactor);
-		levelBoard[90][14] = new Block(6, scaleFactor);
-		levelBoard[91][14] = new Block(6, scaleFactor);
-		levelBoard[92][14] = new Block(18, scaleFactor);
-		levelBoard[99][14] = new Block(18, scaleFactor);
-		levelBoard[100][14] = new Block(18, scaleFactor);
-		levelBoard[105][14] = new Block(18, scaleFactor);
-		levelBoard[106][14] = new Block(18, scaleFactor);
-		levelBoard[111][14] = new Block(18, scaleFactor);
-		levelBoard[112][14] = new Block(18, scaleFactor);
-		levelBoard[115][14] = new Block(6, scaleFactor);
-		levelBoard[116][14] = new Block(6, scaleFactor);
-		levelBoard[117][14] = new Block(6, scaleFactor);
-		levelBoard[118][14] = new Block(6, scaleFactor);
-		levelBoard[119][14] = new Block(6, scaleFactor);
-		levelBoard[120][14] = new Block(6, scaleFactor);
-		levelBoard[121][14] = new Block(6, scaleFactor);
-		levelBoard[122][14] = new Block(6, scaleFactor);
-		levelBoard[123][14] = new Block(6, scaleFactor);
-		levelBoard[124][14] = new Block(6, scaleFactor);
-		levelBoard[125][14] = new Block(6, scaleFactor);
-		levelBoard[126][14] = new Block(6, scaleFactor);
-		levelBoard[127][14] = new Block(6, scaleFactor);
-		levelBoard[0][15] = new Block(18, scaleFactor);
-		levelBoard[1][15] = new Block(0, scaleFactor);
-		levelBoard[2][15] = new Block(0, scaleFactor);
-		levelBoard[3][15] = new Block(0, scaleFactor);
-		levelBoard[4][15] = new Block(0, scaleFactor);
-		levelBoard[5][15] = new Block(0, scaleFactor);
-		levelBoard[6][15] = new Block(0, scaleFactor);
-		levelBoard[7][15] = new Block(0, scaleFactor);
-		levelBoard[8][15] = new Block(0, scaleFactor);
-		levelBoard[9][15] = new Block(0, scaleFactor);
-		levelBoard[10][15] = new Block(0, scaleFactor);
-		levelBoard[11][15] = new Block(0, scaleFactor);
-		levelBoard[12][15] = new Block(0, scaleFactor);
-		levelBoard[13][15] = new Block(0, scaleFactor);
-		levelBoard[14][15] = new Block(0, scaleFactor);
-		levelBoard[15][15] = new Block(0, scaleFactor);
-		levelBoard[16][15] = new Block(0, scaleFactor);
-		levelBoard[17][15] = new Block(0, scaleFactor);
-		levelBoard[18][15] = new Block(0, scaleFactor);
-		levelBoard[19][15] = new Block(0, scaleFactor);
-		levelBoard[20][15] = new Block(0, scaleFactor);
-		levelBoard[21][15] = new Block(0, scaleFactor);
-		levelBoard[22][15] = new Block(0, scaleFactor);
-		levelBoard[23][15] = new Block(0, scaleFactor);
-		levelBoard[24][15] = new Block(0, scaleFactor);
-		levelBoard[25][15] = new Block(0, scaleFactor);
-		levelBoard[26][15] = new Block(0, scaleFactor);
-		levelBoard[27][15] = new Block(0, scaleFactor);
-		levelBoard[28][15] = new Block(0, scaleFactor);
-		levelBoard[29][15] = new Block(0, scaleFactor);
-		levelBoard[30][15] = new Block(0, scaleFactor);
-		levelBoard[31][15] = new Block(0, scaleFactor);
-		levelBoard[32][15] = new Block(0, scaleFactor);
-		levelBoard[33][15] = new Block(0, scaleFactor);
-		levelBoard[34][15] = new Block(0, scaleFactor);
-		levelBoard[35][15] = new Block(0, scaleFactor);
-		levelBoard[36][15] = new Block(0, scaleFactor);
-		levelBoard[37][15] = new Block(0, scaleFactor);
-		levelBoard[38][15] = new Block(0, scaleFactor);
-		levelBoard[39][15] = new Block(0, scaleFactor);
-		levelBoard[40][15] = new Block(0, scaleFactor);
-		levelBoard[41][15] = new Block(0, scaleFactor);
-		levelBoard[42][15] = new Block(0, scaleFactor);
-		levelBoard[43][15] = new Block(0, scaleFactor);
-		levelBoard[44][15] = new Block(0, scaleFactor);
-		levelBoard[45][15] = new Block(0, scaleFactor);
-		levelBoard[46][15] = new Block(0, scaleFactor);
-		levelBoard[47][15] = new Block(0, scaleFactor);
-		levelBoard[48][15] = new Block(0, scaleFactor);
-		levelBoard[49][15] = new Block(0, scaleFactor);
-		levelBoard[50][15] = new Block(0, scaleFactor);
-		levelBoard[51][15] = new Block(0, scaleFactor);
-		levelBoard[52][15] = new Block(0, scaleFactor);
-		levelBoard[53][15] = new Block(0, scaleFactor);
-		levelBoard[54][15] = new Block(0, scaleFactor);
-		levelBoard[55][15] = new Block(0, scaleFactor);
-		levelBoard[56][15] = new Block(0, scaleFactor);
-		levelBoard[57][15] = new Block(12, scaleFactor);
-		levelBoard[58][15] = new Block(12, scaleFactor);
-		levelBoard[59][15] = new Block(12, scaleFactor);
-		levelBoard[60][15] = new Block(12, scaleFactor);
-		levelBoard[61][15] = new Block(12, scaleFactor);
-		levelBoard[62][15] = new Block(12, scaleFactor);
-		levelBoard[63][15] = new Block(12, scaleFactor);
-		levelBoard[64][15] = new Block(12, scaleFactor);
-		levelBoard[65][15] = new Block(12, scaleFactor);
-		levelBoard[66][15] = new Block(9, scaleFactor);
-		levelBoard[67][15] = new Block(9, scaleFactor);
-		levelBoard[68][15] = new Block(9, scaleFactor);
-		levelBoard[69][15] = new Block(9, scaleFactor);
-		levelBoard[70][15] = new Block(9, scaleFactor);
-		levelBoard[71][15] = new Block(9, scaleFactor);
-		levelBoard[72][15] = new Block(18, scaleFactor);
-		levelBoard[73][15] = new Block(0, scaleFactor);
-		levelBoard[74][15] = new Block(0, scaleFactor);
-		levelBoard[75][15] = new Block(0, scaleFactor);
-		levelBoard[76][15] = new Block(0, scaleFactor);
-		levelBoard[77][15] = new Block(18, scaleFactor);
-		levelBoard[78][15] = new Block(0, scaleFactor);
-		levelBoard[79][15] = new Block(0, scaleFactor);
-		levelBoard[80][15] = new Block(0, scaleFactor);
-		levelBoard[81][15] = new Block(0, scaleFactor);
-		levelBoard[82][15] = new Block(18, scaleFactor);
-		levelBoard[83][15] = new Block(0, scaleFactor);
-		levelBoard[84][15] = new Block(0, scaleFactor);
-		levelBoard[85][15] = new Block(0, scaleFactor);
-		levelBoard[86][15] = new Block(0, scaleFactor);
-		levelBoard[87][15] = new Block(18, scaleFactor);
-		levelBoard[88][15] = new Block(0, scaleFactor);
-		levelBoard[89][15] = new Block(0, scaleFactor);
-		levelBoard[90][15] = new Block(0, scaleFactor);
-		levelBoard[91][15] = new Block(0, scaleFactor);
-		levelBoard[92][15] = new Block(18, scaleFactor);
-		levelBoard[115][15] = new Block(0, scaleFactor);
-		levelBoard[116][15] = new Block(0, scaleFactor);
-		levelBoard[117][15] = new Block(0, scaleFactor);
-		levelBoard[118][15] = new Block(0, scaleFactor);
-		levelBoard[119][15] = new Block(0, scaleFactor);
-		levelBoard[120][15] = new Block(0, scaleFactor);
-		levelBoard[121][15] = new Block(0, scaleFactor);
-		levelBoard[122][15] = new Block(0, scaleFactor);
-		levelBoard[123][15] = new Block(0, scaleFactor);
-		levelBoard[124][15] = new Block(0, scaleFactor);
-		levelBoard[125][15] = new Block(0, scaleFactor);
-		levelBoard[126][15] = new Block(0, scaleFactor);
-		levelBoard[127][15] = new Block(0, scaleFactor);
-		
-		temporaryLevel.setLevelBoard(levelBoard);
-		temporaryLevel.putBlocksOnPanel();
-		worlds[0].addLevel(3, temporaryLevel);
-		
+	/**
+	 * Shows a progress bar and loads every level in parallel. The level files are read and their textures are loaded
+	 * on the {@code ForkJoinPool}, and each {@code Level} is built and added to its world on the event dispatch
+	 * thread as soon as its data is ready. The first world is shown once every level has been added
+	 */
+	private void startPreloadingLevels () {
+		int levelCount = worlds.length * levelsPerWorld;
+		levelLoadingBar = new JProgressBar(0, levelCount);
+		levelLoadingBar.setSize(frameWidth / 2, 50);
+		levelLoadingBar.setLocation(frameWidth / 4, frameHeight / 2 - 25);
+		levelLoadingBar.setFont(new Font("Serif", Font.BOLD, 20));
+		levelLoadingBar.setStringPainted(true);
+		levelLoadingBar.setString("Loading levels");
+		add(levelLoadingBar);
+		levelsLoaded = 0;
+		
+		for (int world = 1; world <= worlds.length; world++) {
+			for (int level = 1; level <= levelsPerWorld; level++) {
+				World levelWorld = worlds[world - 1];
+				int levelNumber = level;
+				String filepath = LevelLoader.levelFilepath(world, level);
+				
+				CompletableFuture.supplyAsync(() -> {
+					try {
+						return LevelLoader.readWithTextures(filepath);
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				}, ForkJoinPool.commonPool()).whenComplete((data, error) -> SwingUtilities.invokeLater(() -> {
+					if (levelLoadingBar == null)
+						return;		// another level already failed to load
+					Throwable failure = error;
+					if (failure == null) {
+						try {
+							levelWorld.addLevel(levelNumber, LevelLoader.build(data));
+						} catch (RuntimeException e) {
+							failure = e;
+						}
+					}
+					if (failure != null)
+						levelFailed(filepath, failure);
+					else
+						levelLoaded();
+				}));
+			}
+		}
 	}
 	
-	private void createWorld1Level4 () {
-		
-		temporaryLevel = new Level(Color.cyan, 3, 128, 16, 1.5, 5, 6, 4, 4); 	// backgroundColor = cyan, scale = 3, board dimensions: 128x16, panelSpeed = 1.5, gAcc = 5, playerStart = (6,4), level 4
-		
-		levelBoard = new Block[128][16];
-		int scaleFactor = temporaryLevel.blockScaleFactor;
-		
-		levelBoard[54][0] = new Block(18, scaleFactor);
-		levelBoard[55][0] = new Block(18, scaleFactor);
-		levelBoard[56][0] = new Block(18, scaleFactor);
-		levelBoard[57][0] = new Block(18, scaleFactor);
-		levelBoard[58][0] = new Block(18, scaleFactor);
-		levelBoard[59][0] = new Block(18, scaleFactor);
-		levelBoard[60][0] = new Block(18, scaleFactor);
-		levelBoard[61][0] = new Block(18, scaleFactor);
-		levelBoard[62][0] = new Block(18, scaleFactor);
-		levelBoard[63][0] = new Block(18, scaleFactor);
-		levelBoard[64][0] = new Block(18, scaleFactor);
-		levelBoard[65][0] = new Block(18, scaleFactor);
-		levelBoard[66][0] = new Block(18, scaleFactor);
-		levelBoard[67][0] = new Block(18, scaleFactor);
-		levelBoard[68][0] = new Block(18, scaleFactor);
-		levelBoard[69][0] = new Block(18, scaleFactor);
-		levelBoard[70][0] = new Block(18, scaleFactor);
-		levelBoard[71][0] = new Block(18, scaleFactor);
-		levelBoard[72][0] = new Block(18, scaleFactor);
-		levelBoard[73][0] = new Block(18, scaleFactor);
-		levelBoard[74][0] = new Block(18, scaleFactor);
-		levelBoard[75][0] = new Block(18, scaleFactor);
-		levelBoard[76][0] = new Block(18, scaleFactor);
-		levelBoard[77][0] = new Block(18, scaleFactor);
-		levelBoard[78][0] = new Block(18, scaleFactor);
-		levelBoard[115][0] = new Block(10, scaleFactor);
-		levelBoard[116][0] = new Block(10, scaleFactor);
-		levelBoard[117][0] = new Block(10, scaleFactor);
-		levelBoard[118][0] = new Block(10, scaleFactor);
-		levelBoard[119][0] = new Block(10, scaleFactor);
-		levelBoard[120][0] = new Block(10, scaleFactor);
-		levelBoard[121][0] = new Block(10, scaleFactor);
-		levelBoard[122][0] = new Block(10, scaleFactor);
-		levelBoard[123][0] = new Block(10, scaleFactor);
-		levelBoard[124][0] = new Block(10, scaleFactor);
-		levelBoard[125][0] = new Block(10, scaleFactor);
-		levelBoard[126][0] = new Block(10, scaleFactor);
-		levelBoard[127][0] = new Block(10, scaleFactor);
-		levelBoard[5][1] = new Block(2, scaleFactor);
-		levelBoard[6][1] = new Block(2, scaleFactor);
-		levelBoard[7][1] = new Block(2, scaleFactor);
-		levelBoard[8][1] = new Block(2, scaleFactor);
-		levelBoard[9][1] = new Block(2, scaleFactor);
-		levelBoard[25][1] = new Block(18, scaleFactor);
-		levelBoard[29][1] = new Block(18, scaleFactor);
-		levelBoard[37][1] = new Block(2, scaleFactor);
-		levelBoard[38][1] = new Block(2, scaleFactor);
-		levelBoard[39][1] = new Block(2, scaleFactor);
-		levelBoard[40][1] = new Block(2, scaleFactor);
-		levelBoard[41][1] = new Block(2, scaleFactor);
-		levelBoard[47][1] = new Block(2, scaleFactor);
-		levelBoard[48][1] = new Block(2, scaleFactor);
-		levelBoard[49][1] = new Block(2, scaleFactor);
-		levelBoard[50][1] = new Block(2, scaleFactor);
-		levelBoard[51][1] = new Block(2, scaleFactor);
-		levelBoard[78][1] = new Block(18, scaleFactor);
-		levelBoard[83][1] = new Block(2, scaleFactor);
-		levelBoard[84][1] = new Block(2, scaleFactor);
-		levelBoard[85][1] = new Block(2, scaleFactor);
-		levelBoard[86][1] = new Block(2, scaleFactor);
-		levelBoard[87][1] = new Block(2, scaleFactor);
-		levelBoard[93][1] = new Block(2, scaleFactor);
-		levelBoard[94][1] = new Block(2, scaleFactor);
-		levelBoard[95][1] = new Block(2, scaleFactor);
-		levelBoard[96][1] = new Block(2, scaleFactor);
-		levelBoard[97][1] = new Block(2, scaleFactor);
-		levelBoard[115][1] = new Block(10, scaleFactor);
-		levelBoard[116][1] = new Block(10, scaleFactor);
-		levelBoard[117][1] = new Block(10, scaleFactor);
-		levelBoard[118][1] = new Block(10, scaleFactor);
-		levelBoard[119][1] = new Block(10, scaleFactor);
-		levelBoard[120][1] = new Block(10, scaleFactor);
-		levelBoard[121][1] = new Block(10, scaleFactor);
-		levelBoard[122][1] = new Block(10, scaleFactor);
-		levelBoard[123][1] = new Block(10, scaleFactor);
-		levelBoard[124][1] = new Block(10, scaleFactor);
-		levelBoard[125][1] = new Block(10, scaleFactor);
-		levelBoard[126][1] = new Block(10, scaleFactor);
-		levelBoard[127][1] = new Block(10, scaleFactor);
-		levelBoard[78][2] = new Block(18, scaleFactor);
-		levelBoard[102][2] = new Block(18, scaleFactor);
-		levelBoard[103][2] = new Block(18, scaleFactor);
-		levelBoard[104][2] = new Block(18, scaleFactor);
-		levelBoard[105][2] = new Block(18, scaleFactor);
-		levelBoard[106][2] = new Block(18, scaleFactor);
-		levelBoard[107][2] = new Block(18, scaleFactor);
-		levelBoard[115][2] = new Block(10, scaleFactor);
-		levelBoard[116][2] = new Block(10, scaleFactor);
-		levelBoard[117][2] = new Block(10, scaleFactor);
-		levelBoard[118][2] = new Block(10, scaleFactor);
-		levelBoard[119][2] = new Block(10, scaleFactor);
-		levelBoard[120][2] = new Block(10, scaleFactor);
-		levelBoard[121][2] = new Block(10, scaleFactor);
-		levelBoard[122][2] = new Block(10, scaleFactor);
-		levelBoard[123][2] = new Block(10, scaleFactor);
-		levelBoard[124][2] = new Block(10, scaleFactor);
-		levelBoard[125][2] = new Block(10, scaleFactor);
-		levelBoard[126][2] = new Block(10, scaleFactor);
-		levelBoard[127][2] = new Block(10, scaleFactor);
-		levelBoard[56][3] = new Block(18, scaleFactor);
-		levelBoard[57][3] = new Block(18, scaleFactor);
-		levelBoard[58][3] = new Block(18, scaleFactor);
-		levelBoard[59][3] = new Block(18, scaleFactor);
-		levelBoard[62][3] = new Block(18, scaleFactor);
-		levelBoard[63][3] = new Block(18, scaleFactor);
-		levelBoard[64][3] = new Block(18, scaleFactor);
-		levelBoard[65][3] = new Block(18, scaleFactor);
-		levelBoard[66][3] = new Block(18, scaleFactor);
-		levelBoard[67][3] = new Block(18, scaleFactor);
-		levelBoard[68][3] = new Block(18, scaleFactor);
-		levelBoard[69][3] = new Block(18, scaleFactor);
-		levelBoard[70][3] = new Block(18, scaleFactor);
-		levelBoard[71][3] = new Block(18, scaleFactor);
-		levelBoard[72][3] = new Block(18, scaleFactor);
-		levelBoard[73][3] = new Block(18, scaleFactor);
-		levelBoard[74][3] = new Block(18, scaleFactor);
-		levelBoard[75][3] = new Block(18, scaleFactor);
-		levelBoard[78][3] = new Block(18, scaleFactor);
-		levelBoard[115][3] = new Block(10, scaleFactor);
-		levelBoard[116][3] = new Block(10, scaleFactor);
-		levelBoard[117][3] = new Block(10, scaleFactor);
-		levelBoard[118][3] = new Block(10, scaleFactor);
-		levelBoard[119][3] = new Block(10, scaleFactor);
-		levelBoard[120][3] = new Block(10, scaleFactor);
-		levelBoard[121][3] = new Block(10, scaleFactor);
-		levelBoard[122][3] = new Block(10, scaleFactor);
-		levelBoard[123][3] = new Block(10, scaleFactor);
-		levelBoard[124][3] = new Block(10, scaleFactor);
-		levelBoard[125][3] = new Block(10, scaleFactor);
-		levelBoard[126][3] = new Block(10, scaleFactor);
-		levelBoard[127][3] = new Block(10, scaleFactor);
-		levelBoard[34][4] = new Block(3, scaleFactor);
-		levelBoard[57][4] = new Block(18, scaleFactor);
-		levelBoard[71][4] = new Block(18, scaleFactor);
-		levelBoard[78][4] = new Block(18, scaleFactor);
-		levelBoard[115][4] = new Block(10, scaleFactor);
-		levelBoard[116][4] = new Block(10, scaleFactor);
-		levelBoard[117][4] = new Block(10, scaleFactor);
-		levelBoard[118][4] = new Block(10, scaleFactor);
-		levelBoard[119][4] = new Block(10, scaleFactor);
-		levelBoard[120][4] = new Block(10, scaleFactor);
-		levelBoard[121][4] = new Block(10, scaleFactor);
-		levelBoard[122][4] = new Block(10, scaleFactor);
-		levelBoard[123][4] = new Block(10, scaleFactor);
-		levelBoard[124][4] = new Block(10, scaleFactor);
-		levelBoard[125][4] = new Block(10, scaleFactor);
-		levelBoard[126][4] = new Block(10, scaleFactor);
-		levelBoard[127][4] = new Block(10, scaleFactor);
-		levelBoard[18][5] = new Block(12, scaleFactor);
-		levelBoard[19][5] = new Block(12, scaleFactor);
-		levelBoard[20][5] = new Block(4, scaleFactor);
-		levelBoard[21][5] = new Block(4, scaleFactor);
-		levelBoard[22][5] = new Block(12, scaleFactor);
-		levelBoard[23][5] = new Block(12, scaleFactor);
-		levelBoard[24][5] = new Block(9, scaleFactor);
-		levelBoard[25][5] = new Block(9, scaleFactor);
-		levelBoard[26][5] = new Block(9, scaleFactor);
-		levelBoard[27][5] = new Block(12, scaleFactor);
-		levelBoard[28][5] = new Block(9, scaleFactor);
-		levelBoard[29][5] = new Block(9, scaleFactor);
-		levelBoard[30][5] = new Block(9, scaleFactor);
-		levelBoard[31][5] = new Block(12, scaleFactor);
-		levelBoard[34][5] = new Block(18, scaleFactor);
-		levelBoard[57][5] = new Block(18, scaleFactor);
-		levelBoard[71][5] = new Block(18, scaleFactor);
-		levelBoard[78][5] = new Block(18, scaleFactor);
-		levelBoard[115][5] = new Block(10, scaleFactor);
-		levelBoard[116][5] = new Block(10, scaleFactor);
-		levelBoard[117][5] = new Block(10, scaleFactor);
-		levelBoard[118][5] = new Block(10, scaleFactor);
-		levelBoard[119][5] = new Block(10, scaleFactor);
-		levelBoard[120][5] = new Block(10, scaleFactor);
-		levelBoard[121][5] = new Block(10, scaleFactor);
-		levelBoard[122][5] = new Block(10, scaleFactor);
-		levelBoard[123][5] = new Block(10, scaleFactor);
-		levelBoard[124][5] = new Block(10, scaleFactor);
-		levelBoard[125][5] = new Block(10, scaleFactor);
-		levelBoard[126][5] = new Block(10, scaleFactor);
-		levelBoard[127][5] = new Block(10, scaleFactor);
-		levelBoard[13][6] = new Block(18, scaleFactor);
-		levelBoard[14][6] = new Block(18, scaleFactor);
-		levelBoard[18][6] = new Block(12, scaleFactor);
-		levelBoard[19][6] = new Block(4, scaleFactor);
-		levelBoard[20][6] = new Block(4, scaleFactor);
-		levelBoard[21][6] = new Block(4, scaleFactor);
-		levelBoard[22][6] = new Block(4, scaleFactor);
-		levelBoard[23][6] = new Block(12, scaleFactor);
-		levelBoard[24][6] = new Block(12, scaleFactor);
-		levelBoard[25][6] = new Block(12, scaleFactor);
-		levelBoard[26][6] = new Block(12, scaleFactor);
-		levelBoard[27][6] = new Block(12, scaleFactor);
-		levelBoard[28][6] = new Block(12, scaleFactor);
-		levelBoard[29][6] = new Block(12, scaleFactor);
-		levelBoard[30][6] = new Block(12, scaleFactor);
-		levelBoard[31][6] = new Block(12, scaleFactor);
-		levelBoard[32][6] = new Block(1, scaleFactor);
-		levelBoard[33][6] = new Block(1, scaleFactor);
-		levelBoard[34][6] = new Block(18, scaleFactor);
-		levelBoard[52][6] = new Block(18, scaleFactor);
-		levelBoard[53][6] = new Block(18, scaleFactor);
-		levelBoard[56][6] = new Block(18, scaleFactor);
-		levelBoard[57][6] = new Block(18, scaleFactor);
-		levelBoard[60][6] = new Block(18, scaleFactor);
-		levelBoard[61][6] = new Block(18, scaleFactor);
-		levelBoard[62][6] = new Block(18, scaleFactor);
-		levelBoard[63][6] = new Block(18, scaleFactor);
-		levelBoard[64][6] = new Block(18, scaleFactor);
-		levelBoard[65][6] = new Block(18, scaleFactor);
-		levelBoard[66][6] = new Block(1, scaleFactor);
-		levelBoard[67][6] = new Block(1, scaleFactor);
-		levelBoard[68][6] = new Block(18, scaleFactor);
-		levelBoard[71][6] = new Block(18, scaleFactor);
-		levelBoard[74][6] = new Block(18, scaleFactor);
-		levelBoard[75][6] = new Block(18, scaleFactor);
-		levelBoard[76][6] = new Block(18, scaleFactor);
-		levelBoard[77][6] = new Block(18, scaleFactor);
-		levelBoard[78][6] = new Block(18, scaleFactor);
-		levelBoard[101][6] = new Block(18, scaleFactor);
-		levelBoard[102][6] = new Block(18, scaleFactor);
-		levelBoard[107][6] = new Block(18, scaleFactor);
-		levelBoard[108][6] = new Block(18, scaleFactor);
-		levelBoard[109][6] = new Block(18, scaleFactor);
-		levelBoard[115][6] = new Block(10, scaleFactor);
-		levelBoard[116][6] = new Block(10, scaleFactor);
-		levelBoard[117][6] = new Block(10, scaleFactor);
-		levelBoard[118][6] = new Block(10, scaleFactor);
-		levelBoard[119][6] = new Block(10, scaleFactor);
-		levelBoard[120][6] = new Block(10, scaleFactor);
-		levelBoard[121][6] = new Block(10, scaleFactor);
-		levelBoard[122][6] = new Block(10, scaleFactor);
-		levelBoard[123][6] = new Block(10, scaleFactor);
-		levelBoard[124][6] = new Block(10, scaleFactor);
-		levelBoard[125][6] = new Block(10, scaleFactor);
-		levelBoard[126][6] = new Block(10, scaleFactor);
-		levelBoard[127][6] = new Block(10, scaleFactor);
-		levelBoard[18][7] = new Block(12, scaleFactor);
-		levelBoard[19][7] = new Block(4, scaleFactor);
-		levelBoard[20][7] = new Block(4, scaleFactor);
-		levelBoard[21][7] = new Block(4, scaleFactor);
-		levelBoard[22][7] = new Block(4, scaleFactor);
-		levelBoard[23][7] = new Block(4, scaleFactor);
-		levelBoard[24][7] = new Block(4, scaleFactor);
-		levelBoard[25][7] = new Block(4, scaleFactor);
-		levelBoard[26][7] = new Block(4, scaleFactor);
-		levelBoard[27][7] = new Block(12, scaleFactor);
-		levelBoard[28][7] = new Block(4, scaleFactor);
-		levelBoard[29][7] = new Block(4, scaleFactor);
-		levelBoard[30][7] = new Block(4, scaleFactor);
-		levelBoard[31][7] = new Block(12, scaleFactor);
-		levelBoard[34][7] = new Block(18, scaleFactor);
-		levelBoard[49][7] = new Block(3, scaleFactor);
-		levelBoard[52][7] = new Block(18, scaleFactor);
-		levelBoard[57][7] = new Block(18, scaleFactor);
-		levelBoard[68][7] = new Block(18, scaleFactor);
-		levelBoard[78][7] = new Block(18, scaleFactor);
-		levelBoard[101][7] = new Block(18, scaleFactor);
-		levelBoard[115][7] = new Block(10, scaleFactor);
-		levelBoard[116][7] = new Block(10, scaleFactor);
-		levelBoard[117][7] = new Block(10, scaleFactor);
-		levelBoard[118][7] = new Block(10, scaleFactor);
-		levelBoard[119][7] = new Block(10, scaleFactor);
-		levelBoard[120][7] = new Block(10, scaleFactor);
-		levelBoard[121][7] = new Block(10, scaleFactor);
-		levelBoard[122][7] = new Block(10, scaleFactor);
-		levelBoard[123][7] = new Block(10, scaleFactor);
-		levelBoard[124][7] = new Block(10, scaleFactor);
-		levelBoard[125][7] = new Block(10, scaleFactor);
-		levelBoard[126][7] = new Block(10, scaleFactor);
-		levelBoard[127][7] = new Block(10, scaleFactor);
-		levelBoard[18][8] = new Block(12, scaleFactor);
-		levelBoard[19][8] = new Block(4, scaleFactor);
-		levelBoard[20][8] = new Block(4, scaleFactor);
-		levelBoard[21][8] = new Block(4, scaleFactor);
-		levelBoard[22][8] = new Block(4, scaleFactor);
-		levelBoard[23][8] = new Block(4, scaleFactor);
-		levelBoard[24][8] = new Block(4, scaleFactor);
-		levelBoard[25][8] = new Block(4, scaleFactor);
-		levelBoard[26][8] = new Block(4, scaleFactor);
-		levelBoard[27][8] = new Block(12, scaleFactor);
-		levelBoard[28][8] = new Block(4, scaleFactor);
-		levelBoard[29][8] = new Block(4, scaleFactor);
-		levelBoard[30][8] = new Block(4, scaleFactor);
-		levelBoard[31][8] = new Block(12, scaleFactor);
-		levelBoard[34][8] = new Block(18, scaleFactor);
-		levelBoard[48][8] = new Block(18, scaleFactor);
-		levelBoard[49][8] = new Block(18, scaleFactor);
-		levelBoard[52][8] = new Block(18, scaleFactor);
-		levelBoard[57][8] = new Block(18, scaleFactor);
-		levelBoard[68][8] = new Block(18, scaleFactor);
-		levelBoard[78][8] = new Block(18, scaleFactor);
-		levelBoard[95][8] = new Block(3, scaleFactor);
-		levelBoard[98][8] = new Block(3, scaleFactor);
-		levelBoard[101][8] = new Block(18, scaleFactor);
-		levelBoard[115][8] = new Block(10, scaleFactor);
-		levelBoard[116][8] = new Block(10, scaleFactor);
-		levelBoard[117][8] = new Block(10, scaleFactor);
-		levelBoard[118][8] = new Block(10, scaleFactor);
-		levelBoard[119][8] = new Block(10, scaleFactor);
-		levelBoard[120][8] = new Block(10, scaleFactor);
-		levelBoard[121][8] = new Block(10, scaleFactor);
-		levelBoard[122][8] = new Block(10, scaleFactor);
-		levelBoard[123][8] = new Block(10, scaleFactor);
-		levelBoard[124][8] = new Block(10, scaleFactor);
-		levelBoard[125][8] = new Block(10, scaleFactor);
-		levelBoard[126][8] = new Block(10, scaleFactor);
-		levelBoard[127][8] = new Block(10, scaleFactor);
-		levelBoard[16][9] = new Block(12, scaleFactor);
-		levelBoard[17][9] = new Block(12, scaleFactor);
-		levelBoard[18][9] = new Block(12, scaleFactor);
-		levelBoard[19][9] = new Block(4, scaleFactor);
-		levelBoard[20][9] = new Block(4, scaleFactor);
-		levelBoard[21][9] = new Block(4, scaleFactor);
-		levelBoard[22][9] = new Block(4, scaleFactor);
-		levelBoard[23][9] = new Block(4, scaleFactor);
-		levelBoard[24][9] = new Block(4, scaleFactor);
-		levelBoard[25][9] = new Block(4, scaleFactor);
-		levelBoard[26][9] = new Block(4, scaleFactor);
-		levelBoard[27][9] = new Block(12, scaleFactor);
-		levelBoard[28][9] = new Block(4, scaleFactor);
-		levelBoard[29][9] = new Block(4, scaleFactor);
-		levelBoard[30][9] = new Block(4, scaleFactor);
-		levelBoard[31][9] = new Block(12, scaleFactor);
-		levelBoard[32][9] = new Block(1, scaleFactor);
-		levelBoard[33][9] = new Block(1, scaleFactor);
-		levelBoard[34][9] = new Block(18, scaleFactor);
-		levelBoard[52][9] = new Block(18, scaleFactor);
-		levelBoard[56][9] = new Block(18, scaleFactor);
-		levelBoard[57][9] = new Block(18, scaleFactor);
-		levelBoard[58][9] = new Block(18, scaleFactor);
-		levelBoard[59][9] = new Block(18, scaleFactor);
-		levelBoard[60][9] = new Block(18, scaleFactor);
-		levelBoard[61][9] = new Block(1, scaleFactor);
-		levelBoard[62][9] = new Block(1, scaleFactor);
-		levelBoard[63][9] = new Block(18, scaleFactor);
-		levelBoard[66][9] = new Block(18, scaleFactor);
-		levelBoard[67][9] = new Block(18, scaleFactor);
-		levelBoard[68][9] = new Block(18, scaleFactor);
-		levelBoard[71][9] = new Block(18, scaleFactor);
-		levelBoard[72][9] = new Block(18, scaleFactor);
-		levelBoard[73][9] = new Block(18, scaleFactor);
-		levelBoard[74][9] = new Block(18, scaleFactor);
-		levelBoard[75][9] = new Block(18, scaleFactor);
-		levelBoard[76][9] = new Block(18, scaleFactor);
-		levelBoard[77][9] = new Block(18, scaleFactor);
-		levelBoard[78][9] = new Block(18, scaleFactor);
-		levelBoard[95][9] = new Block(18, scaleFactor);
-		levelBoard[96][9] = new Block(18, scaleFactor);
-		levelBoard[97][9] = new Block(18, scaleFactor);
-		levelBoard[98][9] = new Block(18, scaleFactor);
-		levelBoard[101][9] = new Block(18, scaleFactor);
-		levelBoard[107][9] = new Block(1, scaleFactor);
-		levelBoard[108][9] = new Block(1, scaleFactor);
-		levelBoard[115][9] = new Block(10, scaleFactor);
-		levelBoard[116][9] = new Block(10, scaleFactor);
-		levelBoard[117][9] = new Block(10, scaleFactor);
-		levelBoard[118][9] = new Block(10, scaleFactor);
-		levelBoard[119][9] = new Block(10, scaleFactor);
-		levelBoard[120][9] = new Block(10, scaleFactor);
-		levelBoard[121][9] = new Block(10, scaleFactor);
-		levelBoard[122][9] = new Block(10, scaleFactor);
-		levelBoard[123][9] = new Block(10, scaleFactor);
-		levelBoard[124][9] = new Block(10, scaleFactor);
-		levelBoard[125][9] = new Block(10, scaleFactor);
-		levelBoard[126][9] = new Block(10, scaleFactor);
-		levelBoard[127][9] = new Block(10, scaleFactor);
-		levelBoard[16][10] = new Block(12, scaleFactor);
-		levelBoard[17][10] = new Block(4, scaleFactor);
-		levelBoard[18][10] = new Block(4, scaleFactor);
-		levelBoard[19][10] = new Block(4, scaleFactor);
-		levelBoard[20][10] = new Block(4, scaleFactor);
-		levelBoard[21][10] = new Block(4, scaleFactor);
-		levelBoard[22][10] = new Block(4, scaleFactor);
-		levelBoard[23][10] = new Block(4, scaleFactor);
-		levelBoard[24][10] = new Block(4, scaleFactor);
-		levelBoard[25][10] = new Block(4, scaleFactor);
-		levelBoard[26][10] = new Block(4, scaleFactor);
-		levelBoard[27][10] = new Block(4, scaleFactor);
-		levelBoard[28][10] = new Block(4, scaleFactor);
-		levelBoard[29][10] = new Block(4, scaleFactor);
-		levelBoard[30][10] = new Block(4, scaleFactor);
-		levelBoard[31][10] = new Block(12, scaleFactor);
-		levelBoard[34][10] = new Block(18, scaleFactor);
-		levelBoard[63][10] = new Block(18, scaleFactor);
-		levelBoard[89][10] = new Block(3, scaleFactor);
-		levelBoard[92][10] = new Block(3, scaleFactor);
-		levelBoard[96][10] = new Block(18, scaleFactor);
-		levelBoard[97][10] = new Block(18, scaleFactor);
-		levelBoard[109][10] = new Block(18, scaleFactor);
-		levelBoard[115][10] = new Block(10, scaleFactor);
-		levelBoard[116][10] = new Block(10, scaleFactor);
-		levelBoard[117][10] = new Block(10, scaleFactor);
-		levelBoard[118][10] = new Block(10, scaleFactor);
-		levelBoard[119][10] = new Block(10, scaleFactor);
-		levelBoard[120][10] = new Block(10, scaleFactor);
-		levelBoard[121][10] = new Block(10, scaleFactor);
-		levelBoard[122][10] = new Block(10, scaleFactor);
-		levelBoard[123][10] = new Block(10, scaleFactor);
-		levelBoard[124][10] = new Block(10, scaleFactor);
-		levelBoard[125][10] = new Block(10, scaleFactor);
-		levelBoard[126][10] = new Block(10, scaleFactor);
-		levelBoard[127][10] = new Block(10, scaleFactor);
-		levelBoard[16][11] = new Block(12, scaleFactor);
-		levelBoard[17][11] = new Block(4, scaleFactor);
-		levelBoard[18][11] = new Block(4, scaleFactor);
-		levelBoard[19][11] = new Block(4, scaleFactor);
-		levelBoard[20][11] = new Block(4, scaleFactor);
-		levelBoard[21][11] = new Block(4, scaleFactor);
-		levelBoard[22][11] = new Block(4, scaleFactor);
-		levelBoard[23][11] = new Block(4, scaleFactor);
-		levelBoard[24][11] = new Block(4, scaleFactor);
-		levelBoard[25][11] = new Block(4, scaleFactor);
-		levelBoard[26][11] = new Block(4, scaleFactor);
-		levelBoard[27][11] = new Block(4, scaleFactor);
-		levelBoard[28][11] = new Block(4, scaleFactor);
-		levelBoard[29][11] = new Block(4, scaleFactor);
-		levelBoard[30][11] = new Block(4, scaleFactor);
-		levelBoard[31][11] = new Block(12, scaleFactor);
-		levelBoard[34][11] = new Block(18, scaleFactor);
-		levelBoard[40][11] = new Block(18, scaleFactor);
-		levelBoard[44][11] = new Block(18, scaleFactor);
-		levelBoard[54][11] = new Block(3, scaleFactor);
-		levelBoard[63][11] = new Block(18, scaleFactor);
-		levelBoard[89][11] = new Block(18, scaleFactor);
-		levelBoard[90][11] = new Block(18, scaleFactor);
-		levelBoard[91][11] = new Block(18, scaleFactor);
-		levelBoard[92][11] = new Block(18, scaleFactor);
-		levelBoard[96][11] = new Block(18, scaleFactor);
-		levelBoard[97][11] = new Block(18, scaleFactor);
-		levelBoard[109][11] = new Block(18, scaleFactor);
-		levelBoard[115][11] = new Block(10, scaleFactor);
-		levelBoard[116][11] = new Block(10, scaleFactor);
-		levelBoard[117][11] = new Block(10, scaleFactor);
-		levelBoard[118][11] = new Block(10, scaleFactor);
-		levelBoard[119][11] = new Block(10, scaleFactor);
-		levelBoard[120][11] = new Block(10, scaleFactor);
-		levelBoard[121][11] = new Block(10, scaleFactor);
-		levelBoard[122][11] = new Block(10, scaleFactor);
-		levelBoard[123][11] = new Block(10, scaleFactor);
-		levelBoard[124][11] = new Block(10, scaleFactor);
-		levelBoard[125][11] = new Block(10, scaleFactor);
-		levelBoard[126][11] = new Block(10, scaleFactor);
-		levelBoard[127][11] = new Block(10, scaleFactor);
-		levelBoard[0][12] = new Block(6, scaleFactor);
-		levelBoard[1][12] = new Block(6, scaleFactor);
-		levelBoard[2][12] = new Block(6, scaleFactor);
-		levelBoard[3][12] = new Block(6, scaleFactor);
-		levelBoard[4][12] = new Block(6, scaleFactor);
-		levelBoard[11][12] = new Block(6, scaleFactor);
-		levelBoard[12][12] = new Block(6, scaleFactor);
-		levelBoard[13][12] = new Block(6, scaleFactor);
-		levelBoard[14][12] = new Block(6, scaleFactor);
-		levelBoard[15][12] = new Block(6, scaleFactor);
-		levelBoard[16][12] = new Block(12, scaleFactor);
-		levelBoard[17][12] = new Block(4, scaleFactor);
-		levelBoard[18][12] = new Block(4, scaleFactor);
-		levelBoard[19][12] = new Block(4, scaleFactor);
-		levelBoard[20][12] = new Block(4, scaleFactor);
-		levelBoard[21][12] = new Block(4, scaleFactor);
-		levelBoard[22][12] = new Block(12, scaleFactor);
-		levelBoard[23][12] = new Block(12, scaleFactor);
-		levelBoard[24][12] = new Block(12, scaleFactor);
-		levelBoard[25][12] = new Block(4, scaleFactor);
-		levelBoard[26][12] = new Block(4, scaleFactor);
-		levelBoard[27][12] = new Block(4, scaleFactor);
-		levelBoard[28][12] = new Block(4, scaleFactor);
-		levelBoard[29][12] = new Block(4, scaleFactor);
-		levelBoard[30][12] = new Block(4, scaleFactor);
-		levelBoard[31][12] = new Block(12, scaleFactor);
-		levelBoard[32][12] = new Block(1, scaleFactor);
-		levelBoard[33][12] = new Block(1, scaleFactor);
-		levelBoard[34][12] = new Block(18, scaleFactor);
-		levelBoard[38][12] = new Block(1, scaleFactor);
-		levelBoard[39][12] = new Block(1, scaleFactor);
-		levelBoard[40][12] = new Block(1, scaleFactor);
-		levelBoard[44][12] = new Block(18, scaleFactor);
-		levelBoard[52][12] = new Block(18, scaleFactor);
-		levelBoard[53][12] = new Block(18, scaleFactor);
-		levelBoard[54][12] = new Block(18, scaleFactor);
-		levelBoard[55][12] = new Block(18, scaleFactor);
-		levelBoard[57][12] = new Block(18, scaleFactor);
-		levelBoard[58][12] = new Block(18, scaleFactor);
-		levelBoard[59][12] = new Block(18, scaleFactor);
-		levelBoard[60][12] = new Block(18, scaleFactor);
-		levelBoard[63][12] = new Block(18, scaleFactor);
-		levelBoard[64][12] = new Block(18, scaleFactor);
-		levelBoard[65][12] = new Block(18, scaleFactor);
-		levelBoard[66][12] = new Block(18, scaleFactor);
-		levelBoard[67][12] = new Block(18, scaleFactor);
-		levelBoard[68][12] = new Block(18, scaleFactor);
-		levelBoard[69][12] = new Block(18, scaleFactor);
-		levelBoard[70][12] = new Block(18, scaleFactor);
-		levelBoard[71][12] = new Block(18, scaleFactor);
-		levelBoard[72][12] = new Block(18, scaleFactor);
-		levelBoard[73][12] = new Block(18, scaleFactor);
-		levelBoard[74][12] = new Block(1, scaleFactor);
-		levelBoard[75][12] = new Block(1, scaleFactor);
-		levelBoard[76][12] = new Block(18, scaleFactor);
-		levelBoard[77][12] = new Block(18, scaleFactor);
-		levelBoard[78][12] = new Block(18, scaleFactor);
-		levelBoard[79][12] = new Block(18, scaleFactor);
-		levelBoard[83][12] = new Block(3, scaleFactor);
-		levelBoard[86][12] = new Block(3, scaleFactor);
-		levelBoard[90][12] = new Block(18, scaleFactor);
-		levelBoard[91][12] = new Block(18, scaleFactor);
-		levelBoard[96][12] = new Block(18, scaleFactor);
-		levelBoard[97][12] = new Block(18, scaleFactor);
-		levelBoard[109][12] = new Block(18, scaleFactor);
-		levelBoard[115][12] = new Block(10, scaleFactor);
-		levelBoard[116][12] = new Block(10, scaleFactor);
-		levelBoard[117][12] = new Block(10, scaleFactor);
-		levelBoard[118][12] = new Block(10, scaleFactor);
-		levelBoard[119][12] = new Block(10, scaleFactor);
-		levelBoard[120][12] = new Block(10, scaleFactor);
-		levelBoard[121][12] = new Block(10, scaleFactor);
-		levelBoard[122][12] = new Block(10, scaleFactor);
-		levelBoard[123][12] = new Block(10, scaleFactor);
-		levelBoard[124][12] = new Block(10, scaleFactor);
-		levelBoard[125][12] = new Block(10, scaleFactor);
-		levelBoard[126][12] = new Block(10, scaleFactor);
-		levelBoard[127][12] = new Block(10, scaleFactor);
-		levelBoard[0][13] = new Block(0, scaleFactor);
-		levelBoard[1][13] = new Block(0, scaleFactor);
-		levelBoard[2][13] = new Block(0, scaleFactor);
-		levelBoard[3][13] = new Block(0, scaleFactor);
-		levelBoard[4][13] = new Block(0, scaleFactor);
-		levelBoard[11][13] = new Block(0, scaleFactor);
-		levelBoard[12][13] = new Block(0, scaleFactor);
-		levelBoard[13][13] = new Block(0, scaleFactor);
-		levelBoard[14][13] = new Block(0, scaleFactor);
-		levelBoard[15][13] = new Block(0, scaleFactor);
-		levelBoard[16][13] = new Block(12, scaleFactor);
-		levelBoard[17][13] = new Block(4, scaleFactor);
-		levelBoard[18][13] = new Block(4, scaleFactor);
-		levelBoard[19][13] = new Block(4, scaleFactor);
-		levelBoard[20][13] = new Block(4, scaleFactor);
-		levelBoard[21][13] = new Block(4, scaleFactor);
-		levelBoard[22][13] = new Block(12, scaleFactor);
-		levelBoard[23][13] = new Block(12, scaleFactor);
-		levelBoard[24][13] = new Block(12, scaleFactor);
-		levelBoard[25][13] = new Block(12, scaleFactor);
-		levelBoard[26][13] = new Block(4, scaleFactor);
-		levelBoard[27][13] = new Block(4, scaleFactor);
-		levelBoard[28][13] = new Block(4, scaleFactor);
-		levelBoard[29][13] = new Block(12, scaleFactor);
-		levelBoard[30][13] = new Block(4, scaleFactor);
-		levelBoard[31][13] = new Block(4, scaleFactor);
-		levelBoard[32][13] = new Block(4, scaleFactor);
-		levelBoard[33][13] = new Block(4, scaleFactor);
-		levelBoard[34][13] = new Block(18, scaleFactor);
-		levelBoard[38][13] = new Block(1, scaleFactor);
-		levelBoard[39][13] = new Block(1, scaleFactor);
-		levelBoard[40][13] = new Block(1, scaleFactor);
-		levelBoard[44][13] = new Block(18, scaleFactor);
-		levelBoard[57][13] = new Block(18, scaleFactor);
-		levelBoard[78][13] = new Block(18, scaleFactor);
-		levelBoard[83][13] = new Block(18, scaleFactor);
-		levelBoard[84][13] = new Block(18, scaleFactor);
-		levelBoard[85][13] = new Block(18, scaleFactor);
-		levelBoard[86][13] = new Block(18, scaleFactor);
-		levelBoard[90][13] = new Block(18, scaleFactor);
-		levelBoard[91][13] = new Block(18, scaleFactor);
-		levelBoard[96][13] = new Block(18, scaleFactor);
-		levelBoard[97][13] = new Block(18, scaleFactor);
-		levelBoard[101][13] = new Block(18, scaleFactor);
-		levelBoard[102][13] = new Block(18, scaleFactor);
-		levelBoard[103][13] = new Block(18, scaleFactor);
-		levelBoard[104][13] = new Block(18, scaleFactor);
-		levelBoard[105][13] = new Block(18, scaleFactor);
-		levelBoard[106][13] = new Block(18, scaleFactor);
-		levelBoard[107][13] = new Block(18, scaleFactor);
-		levelBoard[108][13] = new Block(18, scaleFactor);
-		levelBoard[109][13] = new Block(18, scaleFactor);
-		levelBoard[115][13] = new Block(10, scaleFactor);
-		levelBoard[116][13] = new Block(10, scaleFactor);
-		levelBoard[117][13] = new Block(10, scaleFactor);
-		levelBoard[118][13] = new Block(10, scaleFactor);
-		levelBoard[119][13] = new Block(10, scaleFactor);
-		levelBoard[120][13] = new Block(10, scaleFactor);
-		levelBoard[121][13] = new Block(10, scaleFactor);
-		levelBoard[122][13] = new Block(10, scaleFactor);
-		levelBoard[123][13] = new Block(10, scaleFactor);
-		levelBoard[124][13] = new Block(10, scaleFactor);
-		levelBoard[125][13] = new Block(10, scaleFactor);
-		levelBoard[126][13] = new Block(10, scaleFactor);
-		levelBoard[127][13] = new Block(10, scaleFactor);
-		levelBoard[0][14] = new Block(0, scaleFactor);
-		levelBoard[1][14] = new Block(0, scaleFactor);
-		levelBoard[2][14] = new Block(0, scaleFactor);
-		levelBoard[3][14] = new Block(0, scaleFactor);
-		levelBoard[4][14] = new Block(0, scaleFactor);
-		levelBoard[11][14] = new Block(0, scaleFactor);
-		levelBoard[12][14] = new Block(0, scaleFactor);
-		levelBoard[13][14] = new Block(0, scaleFactor);
-		levelBoard[14][14] = new Block(0, scaleFactor);
-		levelBoard[15][14] = new Block(0, scaleFactor);
-		levelBoard[16][14] = new Block(12, scaleFactor);
-		levelBoard[17][14] = new Block(4, scaleFactor);
-		levelBoard[18][14] = new Block(4, scaleFactor);
-		levelBoard[19][14] = new Block(4, scaleFactor);
-		levelBoard[20][14] = new Block(4, scaleFactor);
-		levelBoard[21][14] = new Block(4, scaleFactor);
-		levelBoard[22][14] = new Block(12, scaleFactor);
-		levelBoard[23][14] = new Block(12, scaleFactor);
-		levelBoard[24][14] = new Block(12, scaleFactor);
-		levelBoard[25][14] = new Block(12, scaleFactor);
-		levelBoard[26][14] = new Block(4, scaleFactor);
-		levelBoard[27][14] = new Block(4, scaleFactor);
-		levelBoard[28][14] = new Block(4, scaleFactor);
-		levelBoard[29][14] = new Block(12, scaleFactor);
-		levelBoard[30][14] = new Block(4, scaleFactor);
-		levelBoard[31][14] = new Block(4, scaleFactor);
-		levelBoard[32][14] = new Block(4, scaleFactor);
-		levelBoard[33][14] = new Block(4, scaleFactor);
-		levelBoard[34][14] = new Block(18, scaleFactor);
-		levelBoard[38][14] = new Block(12, scaleFactor);
-		levelBoard[39][14] = new Block(12, scaleFactor);
-		levelBoard[40][14] = new Block(12, scaleFactor);
-		levelBoard[44][14] = new Block(18, scaleFactor);
-		levelBoard[57][14] = new Block(18, scaleFactor);
-		levelBoard[78][14] = new Block(18, scaleFactor);
-		levelBoard[84][14] = new Block(18, scaleFactor);
-		levelBoard[85][14] = new Block(18, scaleFactor);
-		levelBoard[90][14] = new Block(18, scaleFactor);
-		levelBoard[91][14] = new Block(18, scaleFactor);
-		levelBoard[96][14] = new Block(18, scaleFactor);
-		levelBoard[97][14] = new Block(18, scaleFactor);
-		levelBoard[102][14] = new Block(18, scaleFactor);
-		levelBoard[108][14] = new Block(18, scaleFactor);
-		levelBoard[115][14] = new Block(6, scaleFactor);
-		levelBoard[116][14] = new Block(6, scaleFactor);
-		levelBoard[117][14] = new Block(6, scaleFactor);
-		levelBoard[118][14] = new Block(6, scaleFactor);
-		levelBoard[119][14] = new Block(6, scaleFactor);
-		levelBoard[120][14] = new Block(6, scaleFactor);
-		levelBoard[121][14] = new Block(6, scaleFactor);
-		levelBoard[122][14] = new Block(6, scaleFactor);
-		levelBoard[123][14] = new Block(6, scaleFactor);
-		levelBoard[124][14] = new Block(6, scaleFactor);
-		levelBoard[125][14] = new Block(6, scaleFactor);
-		levelBoard[126][14] = new Block(6, scaleFactor);
-		levelBoard[127][14] = new Block(6, scaleFactor);
-		levelBoard[0][15] = new Block(0, scaleFactor);
-		levelBoard[1][15] = new Block(0, scaleFactor);
-		levelBoard[2][15] = new Block(0, scaleFactor);
-		levelBoard[3][15] = new Block(0, scaleFactor);
-		levelBoard[4][15] = new Block(0, scaleFactor);
-		levelBoard[11][15] = new Block(0, scaleFactor);
-		levelBoard[12][15] = new Block(0, scaleFactor);
-		levelBoard[13][15] = new Block(0, scaleFactor);
-		levelBoard[14][15] = new Block(0, scaleFactor);
-		levelBoard[15][15] = new Block(0, scaleFactor);
-		levelBoard[16][15] = new Block(12, scaleFactor);
-		levelBoard[17][15] = new Block(4, scaleFactor);
-		levelBoard[18][15] = new Block(4, scaleFactor);
-		levelBoard[19][15] = new Block(4, scaleFactor);
-		levelBoard[20][15] = new Block(4, scaleFactor);
-		levelBoard[21][15] = new Block(4, scaleFactor);
-		levelBoard[22][15] = new Block(12, scaleFactor);
-		levelBoard[23][15] = new Block(12, scaleFactor);
-		levelBoard[24][15] = new Block(12, scaleFactor);
-		levelBoard[25][15] = new Block(12, scaleFactor);
-		levelBoard[26][15] = new Block(4, scaleFactor);
-		levelBoard[27][15] = new Block(4, scaleFactor);
-		levelBoard[28][15] = new Block(4, scaleFactor);
-		levelBoard[29][15] = new Block(12, scaleFactor);
-		levelBoard[30][15] = new Block(12, scaleFactor);
-		levelBoard[31][15] = new Block(12, scaleFactor);
-		levelBoard[32][15] = new Block(12, scaleFactor);
-		levelBoard[33][15] = new Block(12, scaleFactor);
-		levelBoard[34][15] = new Block(18, scaleFactor);
-		levelBoard[35][15] = new Block(9, scaleFactor);
-		levelBoard[36][15] = new Block(9, scaleFactor);
-		levelBoard[37][15] = new Block(9, scaleFactor);
-		levelBoard[38][15] = new Block(12, scaleFactor);
-		levelBoard[39][15] = new Block(12, scaleFactor);
-		levelBoard[40][15] = new Block(12, scaleFactor);
-		levelBoard[41][15] = new Block(9, scaleFactor);
-		levelBoard[42][15] = new Block(9, scaleFactor);
-		levelBoard[43][15] = new Block(9, scaleFactor);
-		levelBoard[44][15] = new Block(18, scaleFactor);
-		levelBoard[45][15] = new Block(9, scaleFactor);
-		levelBoard[46][15] = new Block(9, scaleFactor);
-		levelBoard[47][15] = new Block(9, scaleFactor);
-		levelBoard[48][15] = new Block(9, scaleFactor);
-		levelBoard[49][15] = new Block(9, scaleFactor);
-		levelBoard[50][15] = new Block(9, scaleFactor);
-		levelBoard[51][15] = new Block(9, scaleFactor);
-		levelBoard[52][15] = new Block(9, scaleFactor);
-		levelBoard[53][15] = new Block(9, scaleFactor);
-		levelBoard[54][15] = new Block(9, scaleFactor);
-		levelBoard[55][15] = new Block(9, scaleFactor);
-		levelBoard[56][15] = new Block(9, scaleFactor);
-		levelBoard[57][15] = new Block(18, scaleFactor);
-		levelBoard[58][15] = new Block(18, scaleFactor);
-		levelBoard[59][15] = new Block(18, scaleFactor);
-		levelBoard[60][15] = new Block(18, scaleFactor);
-		levelBoard[61][15] = new Block(9, scaleFactor);
-		levelBoard[62][15] = new Block(9, scaleFactor);
-		levelBoard[63][15] = new Block(18, scaleFactor);
-		levelBoard[64][15] = new Block(18, scaleFactor);
-		levelBoard[65][15] = new Block(18, scaleFactor);
-		levelBoard[66][15] = new Block(9, scaleFactor);
-		levelBoard[67][15] = new Block(18, scaleFactor);
-		levelBoard[68][15] = new Block(18, scaleFactor);
-		levelBoard[69][15] = new Block(18, scaleFactor);
-		levelBoard[70][15] = new Block(9, scaleFactor);
-		levelBoard[71][15] = new Block(18, scaleFactor);
-		levelBoard[72][15] = new Block(18, scaleFactor);
-		levelBoard[73][15] = new Block(18, scaleFactor);
-		levelBoard[74][15] = new Block(18, scaleFactor);
-		levelBoard[75][15] = new Block(18, scaleFactor);
-		levelBoard[76][15] = new Block(18, scaleFactor);
-		levelBoard[77][15] = new Block(18, scaleFactor);
-		levelBoard[78][15] = new Block(18, scaleFactor);
-		levelBoard[84][15] = new Block(18, scaleFactor);
-		levelBoard[85][15] = new Block(18, scaleFactor);
-		levelBoard[90][15] = new Block(18, scaleFactor);
-		levelBoard[91][15] = new Block(18, scaleFactor);
-		levelBoard[96][15] = new Block(18, scaleFactor);
-		levelBoard[97][15] = new Block(18, scaleFactor);
-		levelBoard[102][15] = new Block(18, scaleFactor);
-		levelBoard[108][15] = new Block(18, scaleFactor);
-		levelBoard[115][15] = new Block(0, scaleFactor);
-		levelBoard[116][15] = new Block(0, scaleFactor);
-		levelBoard[117][15] = new Block(0, scaleFactor);
-		levelBoard[118][15] = new Block(0, scaleFactor);
-		levelBoard[119][15] = new Block(0, scaleFactor);
-		levelBoard[120][15] = new Block(0, scaleFactor);
-		levelBoard[121][15] = new Block(0, scaleFactor);
-		levelBoard[122][15] = new Block(0, scaleFactor);
-		levelBoard[123][15] = new Block(0, scaleFactor);
-		levelBoard[124][15] = new Block(0, scaleFactor);
-		levelBoard[125][15] = new Block(0, scaleFactor);
-		levelBoard[126][15] = new Block(0, scaleFactor);
-		levelBoard[127][15] = new Block(0, scaleFactor);
-		
-		temporaryLevel.setLevelBoard(levelBoard);
-		temporaryLevel.putBlocksOnPanel();
-		worlds[0].addLevel(4, temporaryLevel);
-
+	/**
+	 * Updates the progress bar after a level was preloaded, and shows the first world once it was the last level
+	 */
+	private void levelLoaded () {
+		levelsLoaded++;
+		levelLoadingBar.setValue(levelsLoaded);
+		levelLoadingBar.setString(levelsLoaded + " / " + levelLoadingBar.getMaximum() + " levels");
+		
+		if (levelsLoaded == levelLoadingBar.getMaximum()) {
+			remove(levelLoadingBar);
+			levelLoadingBar = null;
+			showFirstWorld();
+			repaint();
+		}
 	}
 	
-	private void createWorld2Level1 () {
-		
-		temporaryLevel = new Level(Color.gray, 3, 128, 16, 1.5, 5, 9, 10, 1); 	// backgroundColor = gray, scale = 3, board dimensions: 128x16, panelSpeed = 1.5, gAcc = 5, playerStart = (9,10), level 1
-		
-		levelBoard = new Block[128][16];
-		int scaleFactor = temporaryLevel.blockScaleFactor;
-		
-		levelBoard[0][0] = new Block(12, scaleFactor);
-		levelBoard[1][0] = new Block(12, scaleFactor);
-		levelBoard[2][0] = new Block(12, scaleFactor);
-		levelBoard[3][0] = new Block(12, scaleFactor);
-		levelBoard[4][0] = new Block(12, scaleFactor);
-		levelBoard[5][0] = new Block(12, scaleFactor);
-		levelBoard[6][0] = new Block(12, scaleFactor);
-		levelBoard[7][0] = new Block(12, scaleFactor);
-		levelBoard[8][0] = new Block(12, scaleFactor);
-		levelBoard[9][0] = new Block(12, scaleFactor);
-		levelBoard[10][0] = new Block(12, scaleFactor);
-		levelBoard[11][0] = new Block(12, scaleFactor);
-		levelBoard[12][0] = new Block(12, scaleFactor);
-		levelBoard[13][0] = new Block(12, scaleFactor);
-		levelBoard[14][0] = new Block(12, scaleFactor);
-		levelBoard[15][0] = new Block(12, scaleFactor);
-		levelBoard[16][0] = new Block(12, scaleFactor);
-		levelBoard[17][0] = new Block(12, scaleFactor);
-		levelBoard[18][0] = new Block(12, scaleFactor);
-		levelBoard[19][0] = new Block(12, scaleFactor);
-		levelBoard[20][0] = new Block(12, scaleFactor);
-		levelBoard[21][0] = new Block(12, scaleFactor);
-		levelBoard[22][0] = new Block(12, scaleFactor);
-		levelBoard[23][0] = new Block(12, scaleFactor);
-		levelBoard[24][0] = new Block(12, scaleFactor);
-		levelBoard[25][0] = new Block(12, scaleFactor);
-		levelBoard[26][0] = new Block(12, scaleFactor);
-		levelBoard[27][0] = new Block(12, scaleFactor);
-		levelBoard[28][0] = new Block(12, scaleFactor);
-		levelBoard[29][0] = new Block(12, scaleFactor);
-		levelBoard[30][0] = new Block(12, scaleFactor);
-		levelBoard[31][0] = new Block(12, scaleFactor);
-		levelBoard[32][0] = new Block(12, scaleFactor);
-		levelBoard[33][0] = new Block(12, scaleFactor);
-		levelBoard[34][0] = new Block(12, scaleFactor);
-		levelBoard[35][0] = new Block(12, scaleFactor);
-		levelBoard[36][0] = new Block(12, scaleFactor);
-		levelBoard[37][0] = new Block(12, scaleFactor);
-		levelBoard[38][0] = new Block(12, scaleFactor);
-		levelBoard[39][0] = new Block(12, scaleFactor);
-		levelBoard[40][0] = new Block(12, scaleFactor);
-		levelBoard[41][0] = new Block(12, scaleFactor);
-		levelBoard[42][0] = new Block(12, scaleFactor);
-		levelBoard[43][0] = new Block(12, scaleFactor);
-		levelBoard[44][0] = new Block(12, scaleFactor);
-		levelBoard[45][0] = new Block(12, scaleFactor);
-		levelBoard[46][0] = new Block(12, scaleFactor);
-		levelBoard[47][0] = new Block(12, scaleFactor);
-		levelBoard[48][0] = new Block(12, scaleFactor);
-		levelBoard[49][0] = new Block(12, scaleFactor);
-		levelBoard[50][0] = new Block(12, scaleFactor);
-		levelBoard[51][0] = new Block(12, scaleFactor);
-		levelBoard[52][0] = new Block(12, scaleFactor);
-		levelBoard[53][0] = new Block(12, scaleFactor);
-		levelBoard[54][0] = new Block(12, scaleFactor);
-		levelBoard[55][0] = new Block(12, scaleFactor);
-		levelBoard[56][0] = new Block(12, scaleFactor);
-		levelBoard[57][0] = new Block(12, scaleFactor);
-		levelBoard[58][0] = new Block(12, scaleFactor);
-		levelBoard[59][0] = new Block(12, scaleFactor);
-		levelBoard[60][0] = new Block(12, scaleFactor);
-		levelBoard[61][0] = new Block(12, scaleFactor);
-		levelBoard[62][0] = new Block(12, scaleFactor);
-		levelBoard[63][0] = new Block(12, scaleFactor);
-		levelBoard[64][0] = new Block(12, scaleFactor);
-		levelBoard[65][0] = new Block(12, scaleFactor);
-		levelBoard[66][0] = new Block(12, scaleFactor);
-		levelBoard[67][0] = new Block(12, scaleFactor);
-		levelBoard[68][0] = new Block(12, scaleFactor);
-		levelBoard[69][0] = new Block(12, scaleFactor);
-		levelBoard[70][0] = new Block(12, scaleFactor);
-		levelBoard[71][0] = new Block(12, scaleFactor);
-		levelBoard[72][0] = new Block(12, scaleFactor);
-		levelBoard[73][0] = new Block(12, scaleFactor);
-		levelBoard[74][0] = new Block(16, scaleFactor);
-		levelBoard[75][0] = new Block(16, scaleFactor);
-		levelBoard[76][0] = new Block(16, scaleFactor);
-		levelBoard[77][0] = new Block(16, scaleFactor);
-		levelBoard[78][0] = new Block(18, scaleFactor);
-		levelBoard[79][0] = new Block(16, scaleFactor);
-		levelBoard[80][0] = new Block(16, scaleFactor);
-		levelBoard[81][0] = new Block(16, scaleFactor);
-		levelBoard[82][0] = new Block(16, scaleFactor);
-		levelBoard[83][0] = new Block(16, scaleFactor);
-		levelBoard[84][0] = new Block(18, scaleFactor);
-		levelBoard[85][0] = new Block(16, scaleFactor);
-		levelBoard[86][0] = new Block(16, scaleFactor);
-		levelBoard[87][0] = new Block(12, scaleFactor);
-		levelBoard[88][0] = new Block(12, scaleFactor);
-		levelBoard[89][0] = new Block(12, scaleFactor);
-		levelBoard[90][0] = new Block(12, scaleFactor);
-		levelBoard[91][0] = new Block(12, scaleFactor);
-		levelBoard[92][0] = new Block(12, scaleFactor);
-		levelBoard[93][0] = new Block(12, scaleFactor);
-		levelBoard[94][0] = new Block(12, scaleFactor);
-		levelBoard[95][0] = new Block(12, scaleFactor);
-		levelBoard[96][0] = new Block(12, scaleFactor);
-		levelBoard[97][0] = new Block(12, scaleFactor);
-		levelBoard[98][0] = new Block(12, scaleFactor);
-		levelBoard[99][0] = new Block(12, scaleFactor);
-		levelBoard[100][0] = new Block(12, scaleFactor);
-		levelBoard[101][0] = new Block(12, scaleFactor);
-		levelBoard[102][0] = new Block(12, scaleFactor);
-		levelBoard[103][0] = new Block(12, scaleFactor);
-		levelBoard[104][0] = new Block(12, scaleFactor);
-		levelBoard[105][0] = new Block(12, scaleFactor);
-		levelBoard[106][0] = new Block(12, scaleFactor);
-		levelBoard[107][0] = new Block(12, scaleFactor);
-		levelBoard[108][0] = new Block(12, scaleFactor);
-		levelBoard[109][0] = new Block(12, scaleFactor);
-		levelBoard[110][0] = new Block(12, scaleFactor);
-		levelBoard[111][0] = new Block(12, scaleFactor);
-		levelBoard[112][0] = new Block(12, scaleFactor);
-		levelBoard[113][0] = new Block(12, scaleFactor);
-		levelBoard[114][0] = new Block(12, scaleFactor);
-		levelBoard[115][0] = new Block(10, scaleFactor);
-		levelBoard[116][0] = new Block(10, scaleFactor);
-		levelBoard[117][0] = new Block(10, scaleFactor);
-		levelBoard[118][0] = new Block(10, scaleFactor);
-		levelBoard[119][0] = new Block(10, scaleFactor);
-		levelBoard[120][0] = new Block(10, scaleFactor);
-		levelBoard[121][0] = new Block(10, scaleFactor);
-		levelBoard[122][0] = new Block(10, scaleFactor);
-		levelBoard[123][0] = new Block(10, scaleFactor);
-		levelBoard[124][0] = new Block(10, scaleFactor);
-		levelBoard[125][0] = new Block(10, scaleFactor);
-		levelBoard[126][0] = new Block(10, scaleFactor);
-		levelBoard[127][0] = new Block(10, scaleFactor);
-		levelBoard[0][1] = new Block(12, scaleFactor);
-		levelBoard[1][1] = new Block(12, scaleFactor);
-		levelBoard[2][1] = new Block(12, scaleFactor);
-		levelBoard[3][1] = new Block(12, scaleFactor);
-		levelBoard[14][1] = new Block(12, scaleFactor);
-		levelBoard[15][1] = new Block(12, scaleFactor);
-		levelBoard[16][1] = new Block(12, scaleFactor);
-		levelBoard[17][1] = new Block(12, scaleFactor);
-		levelBoard[18][1] = new Block(12, scaleFactor);
-		levelBoard[19][1] = new Block(12, scaleFactor);
-		levelBoard[20][1] = new Block(12, scaleFactor);
-		levelBoard[21][1] = new Block(12, scaleFactor);
-		levelBoard[22][1] = new Block(12, scaleFactor);
-		levelBoard[23][1] = new Block(12, scaleFactor);
-		levelBoard[33][1] = new Block(12, scaleFactor);
-		levelBoard[34][1] = new Block(12, scaleFactor);
-		levelBoard[35][1] = new Block(12, scaleFactor);
-		levelBoard[36][1] = new Block(12, scaleFactor);
-		levelBoard[37][1] = new Block(12, scaleFactor);
-		levelBoard[38][1] = new Block(12, scaleFactor);
-		levelBoard[39][1] = new Block(12, scaleFactor);
-		levelBoard[40][1] = new Block(12, scaleFactor);
-		levelBoard[41][1] = new Block(12, scaleFactor);
-		levelBoard[42][1] = new Block(12, scaleFactor);
-		levelBoard[43][1] = new Block(12, scaleFactor);
-		levelBoard[44][1] = new Block(12, scaleFactor);
-		levelBoard[53][1] = new Block(12, scaleFactor);
-		levelBoard[54][1] = new Block(12, scaleFactor);
-		levelBoard[55][1] = new Block(12, scaleFactor);
-		levelBoard[56][1] = new Block(12, scaleFactor);
-		levelBoard[57][1] = new Block(12, scaleFactor);
-		levelBoard[61][1] = new Block(12, scaleFactor);
-		levelBoard[62][1] = new Block(12, scaleFactor);
-		levelBoard[63][1] = new Block(12, scaleFactor);
-		levelBoard[64][1] = new Block(12, scaleFactor);
-		levelBoard[65][1] = new Block(12, scaleFactor);
-		levelBoard[66][1] = new Block(12, scaleFactor);
-		levelBoard[67][1] = new Block(12, scaleFactor);
-		levelBoard[68][1] = new Block(12, scaleFactor);
-		levelBoard[69][1] = new Block(12, scaleFactor);
-		levelBoard[70][1] = new Block(12, scaleFactor);
-		levelBoard[71][1] = new Block(12, scaleFactor);
-		levelBoard[72][1] = new Block(12, scaleFactor);
-		levelBoard[73][1] = new Block(12, scaleFactor);
-		levelBoard[74][1] = new Block(12, scaleFactor);
-		levelBoard[75][1] = new Block(6, scaleFactor);
-		levelBoard[76][1] = new Block(6, scaleFactor);
-		levelBoard[77][1] = new Block(6, scaleFactor);
-		levelBoard[78][1] = new Block(6, scaleFactor);
-		levelBoard[79][1] = new Block(6, scaleFactor);
-		levelBoard[80][1] = new Block(6, scaleFactor);
-		levelBoard[81][1] = new Block(6, scaleFactor);
-		levelBoard[82][1] = new Block(6, scaleFactor);
-		levelBoard[83][1] = new Block(6, scaleFactor);
-		levelBoard[84][1] = new Block(6, scaleFactor);
-		levelBoard[85][1] = new Block(6, scaleFactor);
-		levelBoard[86][1] = new Block(6, scaleFactor);
-		levelBoard[87][1] = new Block(12, scaleFactor);
-		levelBoard[88][1] = new Block(12, scaleFactor);
-		levelBoard[89][1] = new Block(12, scaleFactor);
-		levelBoard[90][1] = new Block(12, scaleFactor);
-		levelBoard[91][1] = new Block(12, scaleFactor);
-		levelBoard[92][1] = new Block(12, scaleFactor);
-		levelBoard[93][1] = new Block(12, scaleFactor);
-		levelBoard[94][1] = new Block(12, scaleFactor);
-		levelBoard[95][1] = new Block(12, scaleFactor);
-		levelBoard[96][1] = new Block(12, scaleFactor);
-		levelBoard[97][1] = new Block(12, scaleFactor);
-		levelBoard[98][1] = new Block(12, scaleFactor);
-		levelBoard[99][1] = new Block(12, scaleFactor);
-		levelBoard[100][1] = new Block(12, scaleFactor);
-		levelBoard[101][1] = new Block(12, scaleFactor);
-		levelBoard[102][1] = new Block(12, scaleFactor);
-		levelBoard[103][1] = new Block(12, scaleFactor);
-		levelBoard[104][1] = new Block(12, scaleFactor);
-		levelBoard[105][1] = new Block(12, scaleFactor);
-		levelBoard[106][1] = new Block(12, scaleFactor);
-		levelBoard[107][1] = new Block(12, scaleFactor);
-		levelBoard[108][1] = new Block(12, scaleFactor);
-		levelBoard[109][1] = new Block(12, scaleFactor);
-		levelBoard[115][1] = new Block(10, scaleFactor);
-		levelBoard[116][1] = new Block(10, scaleFactor);
-		levelBoard[117][1] = new Block(10, scaleFactor);
-		levelBoard[118][1] = new Block(10, scaleFactor);
-		levelBoard[119][1] = new Block(10, scaleFactor);
-		levelBoard[120][1] = new Block(10, scaleFactor);
-		levelBoard[121][1] = new Block(10, scaleFactor);
-		levelBoard[122][1] = new Block(10, scaleFactor);
-		levelBoard[123][1] = new Block(10, scaleFactor);
-		levelBoard[124][1] = new Block(10, scaleFactor);
-		levelBoard[125][1] = new Block(10, scaleFactor);
-		levelBoard[126][1] = new Block(10, scaleFactor);
-		levelBoard[127][1] = new Block(10, scaleFactor);
-		levelBoard[0][2] = new Block(12, scaleFactor);
-		levelBoard[1][2] = new Block(12, scaleFactor);
-		levelBoard[15][2] = new Block(12, scaleFactor);
-		levelBoard[16][2] = new Block(12, scaleFactor);
-		levelBoard[17][2] = new Block(12, scaleFactor);
-		levelBoard[18][2] = new Block(12, scaleFactor);
-		levelBoard[19][2] = new Block(12, scaleFactor);
-		levelBoard[20][2] = new Block(12, scaleFactor);
-		levelBoard[21][2] = new Block(12, scaleFactor);
-		levelBoard[22][2] = new Block(12, scaleFactor);
-		levelBoard[35][2] = new Block(12, scaleFactor);
-		levelBoard[36][2] = new Block(12, scaleFactor);
-		levelBoard[37][2] = new Block(12, scaleFactor);
-		levelBoard[38][2] = new Block(12, scaleFactor);
-		levelBoard[39][2] = new Block(12, scaleFactor);
-		levelBoard[40][2] = new Block(12, scaleFactor);
-		levelBoard[41][2] = new Block(12, scaleFactor);
-		levelBoard[42][2] = new Block(12, scaleFactor);
-		levelBoard[43][2] = new Block(12, scaleFactor);
-		levelBoard[54][2] = new Block(12, scaleFactor);
-		levelBoard[55][2] = new Block(12, scaleFactor);
-		levelBoard[56][2] = new Block(12, scaleFactor);
-		levelBoard[64][2] = new Block(12, scaleFactor);
-		levelBoard[65][2] = new Block(12, scaleFactor);
-		levelBoard[66][2] = new Block(12, scaleFactor);
-		levelBoard[67][2] = new Block(12, scaleFactor);
-		levelBoard[68][2] = new Block(12, scaleFactor);
-		levelBoard[69][2] = new Block(12, scaleFactor);
-		levelBoard[70][2] = new Block(12, scaleFactor);
-		levelBoard[71][2] = new Block(12, scaleFactor);
-		levelBoard[72][2] = new Block(12, scaleFactor);
-		levelBoard[73][2] = new Block(12, scaleFactor);
-		levelBoard[74][2] = new Block(12, scaleFactor);
-		levelBoard[75][2] = new Block(12, scaleFactor);
-		levelBoard[76][2] = new Block(0, scaleFactor);
-		levelBoard[77][2] = new Block(0, scaleFactor);
-		levelBoard[78][2] = new Block(0, scaleFactor);
-		levelBoard[79][2] = new Block(0, scaleFactor);
-		levelBoard[80][2] = new Block(0, scaleFactor);
-		levelBoard[81][2] = new Block(0, scaleFactor);
-		levelBoard[82][2] = new Block(0, scaleFactor);
-		levelBoard[83][2] = new Block(0, scaleFactor);
-		levelBoard[84][2] = new Block(0, scaleFactor);
-		levelBoard[85][2] = new Block(0, scaleFactor);
-		levelBoard[86][2] = new Block(12, scaleFactor);
-		levelBoard[87][2] = new Block(12, scaleFactor);
-		levelBoard[88][2] = new Block(12, scaleFactor);
-		levelBoard[89][2] = new Block(12, scaleFactor);
-		levelBoard[90][2] = new Block(12, scaleFactor);
-		levelBoard[91][2] = new Block(12, scaleFactor);
-		levelBoard[92][2] = new Block(12, scaleFactor);
-		levelBoard[93][2] = new Block(12, scaleFactor);
-		levelBoard[94][2] = new Block(12, scaleFactor);
-		levelBoard[95][2] = new Block(12, scaleFactor);
-		levelBoard[96][2] = new Block(12, scaleFactor);
-		levelBoard[97][2] = new Block(12, scaleFactor);
-		levelBoard[98][2] = new Block(12, scaleFactor);
-		levelBoard[99][2] = new Block(12, scaleFactor);
-		levelBoard[100][2] = new Block(12, scaleFactor);
-		levelBoard[101][2] = new Block(12, scaleFactor);
-		levelBoard[115][2] = new Block(10, scaleFactor);
-		levelBoard[116][2] = new Block(10, scaleFactor);
-		levelBoard[117][2] = new Block(10, scaleFactor);
-		levelBoard[118][2] = new Block(10, scaleFactor);
-		levelBoard[119][2] = new Block(10, scaleFactor);
-		levelBoard[120][2] = new Block(10, scaleFactor);
-		levelBoard[121][2] = new Block(10, scaleFactor);
-		levelBoard[122][2] = new Block(10, scaleFactor);
-		levelBoard[123][2] = new Block(10, scaleFactor);
-		levelBoard[124][2] = new Block(10, scaleFactor);
-		levelBoard[125][2] = new Block(10, scaleFactor);
-		levelBoard[126][2] = new Block(10, scaleFactor);
-		levelBoard[127][2] = new Block(10, scaleFactor);
-		levelBoard[0][3] = new Block(12, scaleFactor);
-		levelBoard[24][3] = new Block(1, scaleFactor);
-		levelBoard[25][3] = new Block(18, scaleFactor);
-		levelBoard[27][3] = new Block(18, scaleFactor);
-		levelBoard[28][3] = new Block(18, scaleFactor);
-		levelBoard[30][3] = new Block(18, scaleFactor);
-		levelBoard[31][3] = new Block(18, scaleFactor);
-		levelBoard[42][3] = new Block(12, scaleFactor);
-		levelBoard[47][3] = new Block(12, scaleFactor);
-		levelBoard[48][3] = new Block(12, scaleFactor);
-		levelBoard[49][3] = new Block(12, scaleFactor);
-		levelBoard[50][3] = new Block(12, scaleFactor);
-		levelBoard[66][3] = new Block(12, scaleFactor);
-		levelBoard[67][3] = new Block(12, scaleFactor);
-		levelBoard[68][3] = new Block(12, scaleFactor);
-		levelBoard[69][3] = new Block(12, scaleFactor);
-		levelBoard[70][3] = new Block(12, scaleFactor);
-		levelBoard[71][3] = new Block(12, scaleFactor);
-		levelBoard[72][3] = new Block(12, scaleFactor);
-		levelBoard[73][3] = new Block(12, scaleFactor);
-		levelBoard[74][3] = new Block(12, scaleFactor);
-		levelBoard[75][3] = new Block(12, scaleFactor);
-		levelBoard[76][3] = new Block(12, scaleFactor);
-		levelBoard[77][3] = new Block(12, scaleFactor);
-		levelBoard[78][3] = new Block(12, scaleFactor);
-		levelBoard[79][3] = new Block(12, scaleFactor);
-		levelBoard[80][3] = new Block(12, scaleFactor);
-		levelBoard[81][3] = new Block(12, scaleFactor);
-		levelBoard[82][3] = new Block(12, scaleFactor);
-		levelBoard[83][3] = new Block(12, scaleFactor);
-		levelBoard[84][3] = new Block(12, scaleFactor);
-		levelBoard[85][3] = new Block(12, scaleFactor);
-		levelBoard[86][3] = new Block(12, scaleFactor);
-		levelBoard[87][3] = new Block(12, scaleFactor);
-		levelBoard[88][3] = new Block(12, scaleFactor);
-		levelBoard[115][3] = new Block(10, scaleFactor);
-		levelBoard[116][3] = new Block(10, scaleFactor);
-		levelBoard[117][3] = new Block(10, scaleFactor);
-		levelBoard[118][3] = new Block(10, scaleFactor);
-		levelBoard[119][3] = new Block(10, scaleFactor);
-		levelBoard[120][3] = new Block(10, scaleFactor);
-		levelBoard[121][3] = new Block(10, scaleFactor);
-		levelBoard[122][3] = new Block(10, scaleFactor);
-		levelBoard[123][3] = new Block(10, scaleFactor);
-		levelBoard[124][3] = new Block(10, scaleFactor);
-		levelBoard[125][3] = new Block(10, scaleFactor);
-		levelBoard[126][3] = new Block(10, scaleFactor);
-		levelBoard[127][3] = new Block(10, scaleFactor);
-		levelBoard[0][4] = new Block(12, scaleFactor);
-		levelBoard[25][4] = new Block(18, scaleFactor);
-		levelBoard[42][4] = new Block(12, scaleFactor);
-		levelBoard[47][4] = new Block(12, scaleFactor);
-		levelBoard[48][4] = new Block(12, scaleFactor);
-		levelBoard[49][4] = new Block(12, scaleFactor);
-		levelBoard[50][4] = new Block(12, scaleFactor);
-		levelBoard[51][4] = new Block(3, scaleFactor);
-		levelBoard[58][4] = new Block(12, scaleFactor);
-		levelBoard[59][4] = new Block(12, scaleFactor);
-		levelBoard[60][4] = new Block(12, scaleFactor);
-		levelBoard[67][4] = new Block(12, scaleFactor);
-		levelBoard[68][4] = new Block(12, scaleFactor);
-		levelBoard[69][4] = new Block(12, scaleFactor);
-		levelBoard[70][4] = new Block(12, scaleFactor);
-		levelBoard[75][4] = new Block(12, scaleFactor);
-		levelBoard[76][4] = new Block(12, scaleFactor);
-		levelBoard[77][4] = new Block(12, scaleFactor);
-		levelBoard[78][4] = new Block(12, scaleFactor);
-		levelBoard[79][4] = new Block(12, scaleFactor);
-		levelBoard[80][4] = new Block(12, scaleFactor);
-		levelBoard[81][4] = new Block(12, scaleFactor);
-		levelBoard[82][4] = new Block(12, scaleFactor);
-		levelBoard[83][4] = new Block(12, scaleFactor);
-		levelBoard[84][4] = new Block(12, scaleFactor);
-		levelBoard[85][4] = new Block(12, scaleFactor);
-		levelBoard[86][4] = new Block(12, scaleFactor);
-		levelBoard[87][4] = new Block(12, scaleFactor);
-		levelBoard[88][4] = new Block(12, scaleFactor);
-		levelBoard[104][4] = new Block(1, scaleFactor);
-		levelBoard[105][4] = new Block(18, scaleFactor);
-		levelBoard[115][4] = new Block(10, scaleFactor);
-		levelBoard[116][4] = new Block(10, scaleFactor);
-		levelBoard[117][4] = new Block(10, scaleFactor);
-		levelBoard[118][4] = new Block(10, scaleFactor);
-		levelBoard[119][4] = new Block(10, scaleFactor);
-		levelBoard[120][4] = new Block(10, scaleFactor);
-		levelBoard[121][4] = new Block(10, scaleFactor);
-		levelBoard[122][4] = new Block(10, scaleFactor);
-		levelBoard[123][4] = new Block(10, scaleFactor);
-		levelBoard[124][4] = new Block(10, scaleFactor);
-		levelBoard[125][4] = new Block(10, scaleFactor);
-		levelBoard[126][4] = new Block(10, scaleFactor);
-		levelBoard[127][4] = new Block(10, scaleFactor);
-		levelBoard[0][5] = new Block(12, scaleFactor);
-		levelBoard[25][5] = new Block(18, scaleFactor);
-		levelBoard[33][5] = new Block(18, scaleFactor);
-		levelBoard[34][5] = new Block(18, scaleFactor);
-		levelBoard[35][5] = new Block(18, scaleFactor);
-		levelBoard[39][5] = new Block(3, scaleFactor);
-		levelBoard[43][5] = new Block(1, scaleFactor);
-		levelBoard[45][5] = new Block(12, scaleFactor);
-		levelBoard[46][5] = new Block(12, scaleFactor);
-		levelBoard[47][5] = new Block(12, scaleFactor);
-		levelBoard[48][5] = new Block(12, scaleFactor);
-		levelBoard[49][5] = new Block(12, scaleFactor);
-		levelBoard[50][5] = new Block(12, scaleFactor);
-		levelBoard[51][5] = new Block(12, scaleFactor);
-		levelBoard[52][5] = new Block(12, scaleFactor);
-		levelBoard[58][5] = new Block(12, scaleFactor);
-		levelBoard[59][5] = new Block(12, scaleFactor);
-		levelBoard[60][5] = new Block(12, scaleFactor);
-		levelBoard[84][5] = new Block(12, scaleFactor);
-		levelBoard[85][5] = new Block(12, scaleFactor);
-		levelBoard[86][5] = new Block(12, scaleFactor);
-		levelBoard[87][5] = new Block(12, scaleFactor);
-		levelBoard[88][5] = new Block(1, scaleFactor);
-		levelBoard[92][5] = new Block(3, scaleFactor);
-		levelBoard[95][5] = new Block(3, scaleFactor);
-		levelBoard[105][5] = new Block(18, scaleFactor);
-		levelBoard[115][5] = new Block(10, scaleFactor);
-		levelBoard[116][5] = new Block(10, scaleFactor);
-		levelBoard[117][5] = new Block(10, scaleFactor);
-		levelBoard[118][5] = new Block(10, scaleFactor);
-		levelBoard[119][5] = new Block(10, scaleFactor);
-		levelBoard[120][5] = new Block(10, scaleFactor);
-		levelBoard[121][5] = new Block(10, scaleFactor);
-		levelBoard[122][5] = new Block(10, scaleFactor);
-		levelBoard[123][5] = new Block(10, scaleFactor);
-		levelBoard[124][5] = new Block(10, scaleFactor);
-		levelBoard[125][5] = new Block(10, scaleFactor);
-		levelBoard[126][5] = new Block(10, scaleFactor);
-		levelBoard[127][5] = new Block(10, scaleFactor);
-		levelBoard[0][6] = new Block(12, scaleFactor);
-		levelBoard[22][6] = new Block(18, scaleFactor);
-		levelBoard[23][6] = new Block(18, scaleFactor);
-		levelBoard[24][6] = new Block(18, scaleFactor);
-		levelBoard[25][6] = new Block(18, scaleFactor);
-		levelBoard[31][6] = new Block(3, scaleFactor);
-		levelBoard[38][6] = new Block(18, scaleFactor);
-		levelBoard[39][6] = new Block(18, scaleFactor);
-		levelBoard[40][6] = new Block(18, scaleFactor);
-		levelBoard[44][6] = new Block(12, scaleFactor);
-		levelBoard[45][6] = new Block(12, scaleFactor);
-		levelBoard[46][6] = new Block(12, scaleFactor);
-		levelBoard[47][6] = new Block(12, scaleFactor);
-		levelBoard[48][6] = new Block(12, scaleFactor);
-		levelBoard[49][6] = new Block(12, scaleFactor);
-		levelBoard[50][6] = new Block(12, scaleFactor);
-		levelBoard[51][6] = new Block(12, scaleFactor);
-		levelBoard[52][6] = new Block(12, scaleFactor);
-		levelBoard[53][6] = new Block(3, scaleFactor);
-		levelBoard[57][6] = new Block(3, scaleFactor);
-		levelBoard[58][6] = new Block(12, scaleFactor);
-		levelBoard[59][6] = new Block(12, scaleFactor);
-		levelBoard[60][6] = new Block(12, scaleFactor);
-		levelBoard[61][6] = new Block(12, scaleFactor);
-		levelBoard[90][6] = new Block(18, scaleFactor);
-		levelBoard[91][6] = new Block(18, scaleFactor);
-		levelBoard[92][6] = new Block(18, scaleFactor);
-		levelBoard[93][6] = new Block(18, scaleFactor);
-		levelBoard[94][6] = new Block(18, scaleFactor);
-		levelBoard[95][6] = new Block(18, scaleFactor);
-		levelBoard[96][6] = new Block(18, scaleFactor);
-		levelBoard[99][6] = new Block(18, scaleFactor);
-		levelBoard[100][6] = new Block(18, scaleFactor);
-		levelBoard[105][6] = new Block(18, scaleFactor);
-		levelBoard[115][6] = new Block(10, scaleFactor);
-		levelBoard[116][6] = new Block(10, scaleFactor);
-		levelBoard[117][6] = new Block(10, scaleFactor);
-		levelBoard[118][6] = new Block(10, scaleFactor);
-		levelBoard[119][6] = new Block(10, scaleFactor);
-		levelBoard[120][6] = new Block(10, scaleFactor);
-		levelBoard[121][6] = new Block(10, scaleFactor);
-		levelBoard[122][6] = new Block(10, scaleFactor);
-		levelBoard[123][6] = new Block(10, scaleFactor);
-		levelBoard[124][6] = new Block(10, scaleFactor);
-		levelBoard[125][6] = new Block(10, scaleFactor);
-		levelBoard[126][6] = new Block(10, scaleFactor);
-		levelBoard[127][6] = new Block(10, scaleFactor);
-		levelBoard[0][7] = new Block(12, scaleFactor);
-		levelBoard[30][7] = new Block(18, scaleFactor);
-		levelBoard[31][7] = new Block(18, scaleFactor);
-		levelBoard[44][7] = new Block(12, scaleFactor);
-		levelBoard[45][7] = new Block(12, scaleFactor);
-		levelBoard[46][7] = new Block(12, scaleFactor);
-		levelBoard[47][7] = new Block(12, scaleFactor);
-		levelBoard[48][7] = new Block(12, scaleFactor);
-		levelBoard[49][7] = new Block(12, scaleFactor);
-		levelBoard[50][7] = new Block(12, scaleFactor);
-		levelBoard[51][7] = new Block(12, scaleFactor);
-		levelBoard[52][7] = new Block(12, scaleFactor);
-		levelBoard[53][7] = new Block(12, scaleFactor);
-		levelBoard[54][7] = new Block(12, scaleFactor);
-		levelBoard[55][7] = new Block(12, scaleFactor);
-		levelBoard[56][7] = new Block(12, scaleFactor);
-		levelBoard[57][7] = new Block(12, scaleFactor);
-		levelBoard[58][7] = new Block(12, scaleFactor);
-		levelBoard[59][7] = new Block(12, scaleFactor);
-		levelBoard[60][7] = new Block(12, scaleFactor);
-		levelBoard[61][7] = new Block(12, scaleFactor);
-		levelBoard[62][7] = new Block(12, scaleFactor);
-		levelBoard[63][7] = new Block(12, scaleFactor);
-		levelBoard[64][7] = new Block(12, scaleFactor);
-		levelBoard[103][7] = new Block(1, scaleFactor);
-		levelBoard[104][7] = new Block(18, scaleFactor);
-		levelBoard[105][7] = new Block(18, scaleFactor);
-		levelBoard[115][7] = new Block(10, scaleFactor);
-		levelBoard[116][7] = new Block(10, scaleFactor);
-		levelBoard[117][7] = new Block(10, scaleFactor);
-		levelBoard[118][7] = new Block(10, scaleFactor);
-		levelBoard[119][7] = new Block(10, scaleFactor);
-		levelBoard[120][7] = new Block(10, scaleFactor);
-		levelBoard[121][7] = new Block(10, scaleFactor);
-		levelBoard[122][7] = new Block(10, scaleFactor);
-		levelBoard[123][7] = new Block(10, scaleFactor);
-		levelBoard[124][7] = new Block(10, scaleFactor);
-		levelBoard[125][7] = new Block(10, scaleFactor);
-		levelBoard[126][7] = new Block(10, scaleFactor);
-		levelBoard[127][7] = new Block(10, scaleFactor);
-		levelBoard[0][8] = new Block(12, scaleFactor);
-		levelBoard[16][8] = new Block(12, scaleFactor);
-		levelBoard[17][8] = new Block(12, scaleFactor);
-		levelBoard[43][8] = new Block(18, scaleFactor);
-		levelBoard[48][8] = new Block(12, scaleFactor);
-		levelBoard[49][8] = new Block(12, scaleFactor);
-		levelBoard[50][8] = new Block(12, scaleFactor);
-		levelBoard[51][8] = new Block(12, scaleFactor);
-		levelBoard[52][8] = new Block(12, scaleFactor);
-		levelBoard[53][8] = new Block(12, scaleFactor);
-		levelBoard[54][8] = new Block(12, scaleFactor);
-		levelBoard[55][8] = new Block(12, scaleFactor);
-		levelBoard[56][8] = new Block(12, scaleFactor);
-		levelBoard[57][8] = new Block(12, scaleFactor);
-		levelBoard[58][8] = new Block(12, scaleFactor);
-		levelBoard[59][8] = new Block(12, scaleFactor);
-		levelBoard[60][8] = new Block(12, scaleFactor);
-		levelBoard[61][8] = new Block(12, scaleFactor);
-		levelBoard[62][8] = new Block(12, scaleFactor);
-		levelBoard[63][8] = new Block(12, scaleFactor);
-		levelBoard[64][8] = new Block(12, scaleFactor);
-		levelBoard[74][8] = new Block(3, scaleFactor);
-		levelBoard[75][8] = new Block(3, scaleFactor);
-		levelBoard[79][8] = new Block(3, scaleFactor);
-		levelBoard[80][8] = new Block(3, scaleFactor);
-		levelBoard[104][8] = new Block(18, scaleFactor);
-		levelBoard[115][8] = new Block(10, scaleFactor);
-		levelBoard[116][8] = new Block(10, scaleFactor);
-		levelBoard[117][8] = new Block(10, scaleFactor);
-		levelBoard[118][8] = new Block(10, scaleFactor);
-		levelBoard[119][8] = new Block(10, scaleFactor);
-		levelBoard[120][8] = new Block(10, scaleFactor);
-		levelBoard[121][8] = new Block(10, scaleFactor);
-		levelBoard[122][8] = new Block(10, scaleFactor);
-		levelBoard[123][8] = new Block(10, scaleFactor);
-		levelBoard[124][8] = new Block(10, scaleFactor);
-		levelBoard[125][8] = new Block(10, scaleFactor);
-		levelBoard[126][8] = new Block(10, scaleFactor);
-		levelBoard[127][8] = new Block(10, scaleFactor);
-		levelBoard[0][9] = new Block(12, scaleFactor);
-		levelBoard[16][9] = new Block(12, scaleFactor);
-		levelBoard[17][9] = new Block(12, scaleFactor);
-		levelBoard[50][9] = new Block(12, scaleFactor);
-		levelBoard[51][9] = new Block(12, scaleFactor);
-		levelBoard[52][9] = new Block(12, scaleFactor);
-		levelBoard[53][9] = new Block(12, scaleFactor);
-		levelBoard[54][9] = new Block(12, scaleFactor);
-		levelBoard[55][9] = new Block(12, scaleFactor);
-		levelBoard[56][9] = new Block(12, scaleFactor);
-		levelBoard[61][9] = new Block(12, scaleFactor);
-		levelBoard[62][9] = new Block(12, scaleFactor);
-		levelBoard[63][9] = new Block(12, scaleFactor);
-		levelBoard[64][9] = new Block(12, scaleFactor);
-		levelBoard[72][9] = new Block(12, scaleFactor);
-		levelBoard[73][9] = new Block(12, scaleFactor);
-		levelBoard[74][9] = new Block(12, scaleFactor);
-		levelBoard[75][9] = new Block(12, scaleFactor);
-		levelBoard[76][9] = new Block(12, scaleFactor);
-		levelBoard[77][9] = new Block(12, scaleFactor);
-		levelBoard[78][9] = new Block(12, scaleFactor);
-		levelBoard[79][9] = new Block(12, scaleFactor);
-		levelBoard[80][9] = new Block(12, scaleFactor);
-		levelBoard[81][9] = new Block(12, scaleFactor);
-		levelBoard[86][9] = new Block(18, scaleFactor);
-		levelBoard[87][9] = new Block(18, scaleFactor);
-		levelBoard[88][9] = new Block(18, scaleFactor);
-		levelBoard[104][9] = new Block(18, scaleFactor);
-		levelBoard[115][9] = new Block(10, scaleFactor);
-		levelBoard[116][9] = new Block(10, scaleFactor);
-		levelBoard[117][9] = new Block(10, scaleFactor);
-		levelBoard[118][9] = new Block(10, scaleFactor);
-		levelBoard[119][9] = new Block(10, scaleFactor);
-		levelBoard[120][9] = new Block(10, scaleFactor);
-		levelBoard[121][9] = new Block(10, scaleFactor);
-		levelBoard[122][9] = new Block(10, scaleFactor);
-		levelBoard[123][9] = new Block(10, scaleFactor);
-		levelBoard[124][9] = new Block(10, scaleFactor);
-		levelBoard[125][9] = new Block(10, scaleFactor);
-		levelBoard[126][9] = new Block(10, scaleFactor);
-		levelBoard[127][9] = new Block(10, scaleFactor);
-		levelBoard[0][10] = new Block(12, scaleFactor);
-		levelBoard[15][10] = new Block(3, scaleFactor);
-		levelBoard[16][10] = new Block(12, scaleFactor);
-		levelBoard[17][10] = new Block(12, scaleFactor);
-		levelBoard[18][10] = new Block(12, scaleFactor);
-		levelBoard[19][10] = new Block(12, scaleFactor);
-		levelBoard[23][10] = new Block(12, scaleFactor);
-		levelBoard[24][10] = new Block(12, scaleFactor);
-		levelBoard[28][10] = new Block(12, scaleFactor);
-		levelBoard[29][10] = new Block(3, scaleFactor);
-		levelBoard[72][10] = new Block(12, scaleFactor);
-		levelBoard[73][10] = new Block(12, scaleFactor);
-		levelBoard[74][10] = new Block(12, scaleFactor);
-		levelBoard[75][10] = new Block(12, scaleFactor);
-		levelBoard[76][10] = new Block(12, scaleFactor);
-		levelBoard[77][10] = new Block(12, scaleFactor);
-		levelBoard[78][10] = new Block(12, scaleFactor);
-		levelBoard[79][10] = new Block(12, scaleFactor);
-		levelBoard[80][10] = new Block(12, scaleFactor);
-		levelBoard[81][10] = new Block(12, scaleFactor);
-		levelBoard[102][10] = new Block(1, scaleFactor);
-		levelBoard[103][10] = new Block(18, scaleFactor);
-		levelBoard[104][10] = new Block(18, scaleFactor);
-		levelBoard[115][10] = new Block(10, scaleFactor);
-		levelBoard[116][10] = new Block(10, scaleFactor);
-		levelBoard[117][10] = new Block(10, scaleFactor);
-		levelBoard[118][10] = new Block(10, scaleFactor);
-		levelBoard[119][10] = new Block(10, scaleFactor);
-		levelBoard[120][10] = new Block(10, scaleFactor);
-		levelBoard[121][10] = new Block(10, scaleFactor);
-		levelBoard[122][10] = new Block(10, scaleFactor);
-		levelBoard[123][10] = new Block(10, scaleFactor);
-		levelBoard[124][10] = new Block(10, scaleFactor);
-		levelBoard[125][10] = new Block(10, scaleFactor);
-		levelBoard[126][10] = new Block(10, scaleFactor);
-		levelBoard[127][10] = new Block(10, scaleFactor);
-		levelBoard[0][11] = new Block(12, scaleFactor);
-		levelBoard[1][11] = new Block(12, scaleFactor);
-		levelBoard[14][11] = new Block(12, scaleFactor);
-		levelBoard[15][11] = new Block(12, scaleFactor);
-		levelBoard[16][11] = new Block(12, scaleFactor);
-		levelBoard[17][11] = new Block(12, scaleFactor);
-		levelBoard[18][11] = new Block(12, scaleFactor);
-		levelBoard[19][11] = new Block(12, scaleFactor);
-		levelBoard[23][11] = new Block(12, scaleFactor);
-		levelBoard[24][11] = new Block(12, scaleFactor);
-		levelBoard[28][11] = new Block(12, scaleFactor);
-		levelBoard[29][11] = new Block(12, scaleFactor);
-		levelBoard[32][11] = new Block(12, scaleFactor);
-		levelBoard[58][11] = new Block(18, scaleFactor);
-		levelBoard[59][11] = new Block(18, scaleFactor);
-		levelBoard[71][11] = new Block(3, scaleFactor);
-		levelBoard[72][11] = new Block(12, scaleFactor);
-		levelBoard[73][11] = new Block(12, scaleFactor);
-		levelBoard[74][11] = new Block(12, scaleFactor);
-		levelBoard[75][11] = new Block(12, scaleFactor);
-		levelBoard[76][11] = new Block(12, scaleFactor);
-		levelBoard[77][11] = new Block(12, scaleFactor);
-		levelBoard[78][11] = new Block(12, scaleFactor);
-		levelBoard[79][11] = new Block(12, scaleFactor);
-		levelBoard[80][11] = new Block(12, scaleFactor);
-		levelBoard[81][11] = new Block(12, scaleFactor);
-		levelBoard[82][11] = new Block(12, scaleFactor);
-		levelBoard[83][11] = new Block(12, scaleFactor);
-		levelBoard[95][11] = new Block(3, scaleFactor);
-		levelBoard[103][11] = new Block(18, scaleFactor);
-		levelBoard[115][11] = new Block(10, scaleFactor);
-		levelBoard[116][11] = new Block(10, scaleFactor);
-		levelBoard[117][11] = new Block(10, scaleFactor);
-		levelBoard[118][11] = new Block(10, scaleFactor);
-		levelBoard[119][11] = new Block(10, scaleFactor);
-		levelBoard[120][11] = new Block(10, scaleFactor);
-		levelBoard[121][11] = new Block(10, scaleFactor);
-		levelBoard[122][11] = new Block(10, scaleFactor);
-		levelBoard[123][11] = new Block(10, scaleFactor);
-		levelBoard[124][11] = new Block(10, scaleFactor);
-		levelBoard[125][11] = new Block(10, scaleFactor);
-		levelBoard[126][11] = new Block(10, scaleFactor);
-		levelBoard[127][11] = new Block(10, scaleFactor);
-		levelBoard[0][12] = new Block(12, scaleFactor);
-		levelBoard[1][12] = new Block(12, scaleFactor);
-		levelBoard[2][12] = new Block(3, scaleFactor);
-		levelBoard[14][12] = new Block(12, scaleFactor);
-		levelBoard[15][12] = new Block(12, scaleFactor);
-		levelBoard[16][12] = new Block(12, scaleFactor);
-		levelBoard[17][12] = new Block(12, scaleFactor);
-		levelBoard[18][12] = new Block(12, scaleFactor);
-		levelBoard[19][12] = new Block(12, scaleFactor);
-		levelBoard[23][12] = new Block(12, scaleFactor);
-		levelBoard[24][12] = new Block(12, scaleFactor);
-		levelBoard[28][12] = new Block(12, scaleFactor);
-		levelBoard[29][12] = new Block(12, scaleFactor);
-		levelBoard[32][12] = new Block(12, scaleFactor);
-		levelBoard[33][12] = new Block(3, scaleFactor);
-		levelBoard[67][12] = new Block(3, scaleFactor);
-		levelBoard[68][12] = new Block(12, scaleFactor);
-		levelBoard[69][12] = new Block(12, scaleFactor);
-		levelBoard[70][12] = new Block(12, scaleFactor);
-		levelBoard[71][12] = new Block(12, scaleFactor);
-		levelBoard[72][12] = new Block(12, scaleFactor);
-		levelBoard[73][12] = new Block(12, scaleFactor);
-		levelBoard[74][12] = new Block(12, scaleFactor);
-		levelBoard[75][12] = new Block(12, scaleFactor);
-		levelBoard[76][12] = new Block(12, scaleFactor);
-		levelBoard[77][12] = new Block(12, scaleFactor);
-		levelBoard[78][12] = new Block(12, scaleFactor);
-		levelBoard[79][12] = new Block(12, scaleFactor);
-		levelBoard[80][12] = new Block(12, scaleFactor);
-		levelBoard[81][12] = new Block(12, scaleFactor);
-		levelBoard[82][12] = new Block(12, scaleFactor);
-		levelBoard[83][12] = new Block(12, scaleFactor);
-		levelBoard[90][12] = new Block(3, scaleFactor);
-		levelBoard[95][12] = new Block(12, scaleFactor);
-		levelBoard[100][12] = new Block(3, scaleFactor);
-		levelBoard[103][12] = new Block(18, scaleFactor);
-		levelBoard[109][12] = new Block(3, scaleFactor);
-		levelBoard[110][12] = new Block(3, scaleFactor);
-		levelBoard[115][12] = new Block(10, scaleFactor);
-		levelBoard[116][12] = new Block(10, scaleFactor);
-		levelBoard[117][12] = new Block(10, scaleFactor);
-		levelBoard[118][12] = new Block(10, scaleFactor);
-		levelBoard[119][12] = new Block(10, scaleFactor);
-		levelBoard[120][12] = new Block(10, scaleFactor);
-		levelBoard[121][12] = new Block(10, scaleFactor);
-		levelBoard[122][12] = new Block(10, scaleFactor);
-		levelBoard[123][12] = new Block(10, scaleFactor);
-		levelBoard[124][12] = new Block(10, scaleFactor);
-		levelBoard[125][12] = new Block(10, scaleFactor);
-		levelBoard[126][12] = new Block(10, scaleFactor);
-		levelBoard[127][12] = new Block(10, scaleFactor);
-		levelBoard[0][13] = new Block(12, scaleFactor);
-		levelBoard[1][13] = new Block(12, scaleFactor);
-		levelBoard[2][13] = new Block(12, scaleFactor);
-		levelBoard[3][13] = new Block(12, scaleFactor);
-		levelBoard[4][13] = new Block(12, scaleFactor);
-		levelBoard[12][13] = new Block(12, scaleFactor);
-		levelBoard[13][13] = new Block(12, scaleFactor);
-		levelBoard[14][13] = new Block(12, scaleFactor);
-		levelBoard[15][13] = new Block(12, scaleFactor);
-		levelBoard[16][13] = new Block(12, scaleFactor);
-		levelBoard[17][13] = new Block(12, scaleFactor);
-		levelBoard[18][13] = new Block(12, scaleFactor);
-		levelBoard[19][13] = new Block(12, scaleFactor);
-		levelBoard[23][13] = new Block(12, scaleFactor);
-		levelBoard[24][13] = new Block(12, scaleFactor);
-		levelBoard[28][13] = new Block(12, scaleFactor);
-		levelBoard[29][13] = new Block(12, scaleFactor);
-		levelBoard[32][13] = new Block(12, scaleFactor);
-		levelBoard[33][13] = new Block(12, scaleFactor);
-		levelBoard[34][13] = new Block(12, scaleFactor);
-		levelBoard[35][13] = new Block(12, scaleFactor);
-		levelBoard[42][13] = new Block(12, scaleFactor);
-		levelBoard[49][13] = new Block(12, scaleFactor);
-		levelBoard[65][13] = new Block(12, scaleFactor);
-		levelBoard[66][13] = new Block(12, scaleFactor);
-		levelBoard[67][13] = new Block(12, scaleFactor);
-		levelBoard[68][13] = new Block(12, scaleFactor);
-		levelBoard[69][13] = new Block(12, scaleFactor);
-		levelBoard[70][13] = new Block(12, scaleFactor);
-		levelBoard[71][13] = new Block(12, scaleFactor);
-		levelBoard[72][13] = new Block(12, scaleFactor);
-		levelBoard[73][13] = new Block(12, scaleFactor);
-		levelBoard[74][13] = new Block(12, scaleFactor);
-		levelBoard[75][13] = new Block(12, scaleFactor);
-		levelBoard[76][13] = new Block(12, scaleFactor);
-		levelBoard[77][13] = new Block(12, scaleFactor);
-		levelBoard[78][13] = new Block(12, scaleFactor);
-		levelBoard[79][13] = new Block(12, scaleFactor);
-		levelBoard[80][13] = new Block(12, scaleFactor);
-		levelBoard[81][13] = new Block(12, scaleFactor);
-		levelBoard[82][13] = new Block(12, scaleFactor);
-		levelBoard[83][13] = new Block(12, scaleFactor);
-		levelBoard[84][13] = new Block(12, scaleFactor);
-		levelBoard[85][13] = new Block(12, scaleFactor);
-		levelBoard[89][13] = new Block(12, scaleFactor);
-		levelBoard[90][13] = new Block(12, scaleFactor);
-		levelBoard[91][13] = new Block(12, scaleFactor);
-		levelBoard[95][13] = new Block(12, scaleFactor);
-		levelBoard[99][13] = new Block(12, scaleFactor);
-		levelBoard[100][13] = new Block(12, scaleFactor);
-		levelBoard[101][13] = new Block(12, scaleFactor);
-		levelBoard[102][13] = new Block(12, scaleFactor);
-		levelBoard[103][13] = new Block(18, scaleFactor);
-		levelBoard[108][13] = new Block(12, scaleFactor);
-		levelBoard[109][13] = new Block(12, scaleFactor);
-		levelBoard[110][13] = new Block(12, scaleFactor);
-		levelBoard[111][13] = new Block(12, scaleFactor);
-		levelBoard[115][13] = new Block(10, scaleFactor);
-		levelBoard[116][13] = new Block(10, scaleFactor);
-		levelBoard[117][13] = new Block(10, scaleFactor);
-		levelBoard[118][13] = new Block(10, scaleFactor);
-		levelBoard[119][13] = new Block(10, scaleFactor);
-		levelBoard[120][13] = new Block(10, scaleFactor);
-		levelBoard[121][13] = new Block(10, scaleFactor);
-		levelBoard[122][13] = new Block(10, scaleFactor);
-		levelBoard[123][13] = new Block(10, scaleFactor);
-		levelBoard[124][13] = new Block(10, scaleFactor);
-		levelBoard[125][13] = new Block(10, scaleFactor);
-		levelBoard[126][13] = new Block(10, scaleFactor);
-		levelBoard[127][13] = new Block(10, scaleFactor);
-		levelBoard[0][14] = new Block(12, scaleFactor);
-		levelBoard[1][14] = new Block(12, scaleFactor);
-		levelBoard[2][14] = new Block(12, scaleFactor);
-		levelBoard[3][14] = new Block(12, scaleFactor);
-		levelBoard[4][14] = new Block(12, scaleFactor);
-		levelBoard[5][14] = new Block(12, scaleFactor);
-		levelBoard[6][14] = new Block(12, scaleFactor);
-		levelBoard[7][14] = new Block(3, scaleFactor);
-		levelBoard[11][14] = new Block(3, scaleFactor);
-		levelBoard[12][14] = new Block(12, scaleFactor);
-		levelBoard[13][14] = new Block(12, scaleFactor);
-		levelBoard[14][14] = new Block(12, scaleFactor);
-		levelBoard[15][14] = new Block(12, scaleFactor);
-		levelBoard[16][14] = new Block(12, scaleFactor);
-		levelBoard[17][14] = new Block(12, scaleFactor);
-		levelBoard[18][14] = new Block(12, scaleFactor);
-		levelBoard[19][14] = new Block(12, scaleFactor);
-		levelBoard[23][14] = new Block(12, scaleFactor);
-		levelBoard[24][14] = new Block(12, scaleFactor);
-		levelBoard[28][14] = new Block(12, scaleFactor);
-		levelBoard[29][14] = new Block(12, scaleFactor);
-		levelBoard[32][14] = new Block(12, scaleFactor);
-		levelBoard[33][14] = new Block(12, scaleFactor);
-		levelBoard[34][14] = new Block(12, scaleFactor);
-		levelBoard[35][14] = new Block(12, scaleFactor);
-		levelBoard[36][14] = new Block(9, scaleFactor);
-		levelBoard[37][14] = new Block(9, scaleFactor);
-		levelBoard[38][14] = new Block(9, scaleFactor);
-		levelBoard[39][14] = new Block(9, scaleFactor);
-		levelBoard[40][14] = new Block(9, scaleFactor);
-		levelBoard[41][14] = new Block(9, scaleFactor);
-		levelBoard[42][14] = new Block(12, scaleFactor);
-		levelBoard[43][14] = new Block(9, scaleFactor);
-		levelBoard[44][14] = new Block(9, scaleFactor);
-		levelBoard[45][14] = new Block(9, scaleFactor);
-		levelBoard[46][14] = new Block(9, scaleFactor);
-		levelBoard[47][14] = new Block(9, scaleFactor);
-		levelBoard[48][14] = new Block(9, scaleFactor);
-		levelBoard[49][14] = new Block(12, scaleFactor);
-		levelBoard[50][14] = new Block(12, scaleFactor);
-		levelBoard[56][14] = new Block(12, scaleFactor);
-		levelBoard[64][14] = new Block(3, scaleFactor);
-		levelBoard[65][14] = new Block(12, scaleFactor);
-		levelBoard[66][14] = new Block(12, scaleFactor);
-		levelBoard[67][14] = new Block(12, scaleFactor);
-		levelBoard[68][14] = new Block(12, scaleFactor);
-		levelBoard[69][14] = new Block(12, scaleFactor);
-		levelBoard[70][14] = new Block(12, scaleFactor);
-		levelBoard[71][14] = new Block(12, scaleFactor);
-		levelBoard[72][14] = new Block(12, scaleFactor);
-		levelBoard[73][14] = new Block(12, scaleFactor);
-		levelBoard[74][14] = new Block(12, scaleFactor);
-		levelBoard[75][14] = new Block(12, scaleFactor);
-		levelBoard[76][14] = new Block(12, scaleFactor);
-		levelBoard[77][14] = new Block(12, scaleFactor);
-		levelBoard[78][14] = new Block(12, scaleFactor);
-		levelBoard[79][14] = new Block(12, scaleFactor);
-		levelBoard[80][14] = new Block(12, scaleFactor);
-		levelBoard[81][14] = new Block(12, scaleFactor);
-		levelBoard[82][14] = new Block(12, scaleFactor);
-		levelBoard[83][14] = new Block(12, scaleFactor);
-		levelBoard[84][14] = new Block(12, scaleFactor);
-		levelBoard[85][14] = new Block(12, scaleFactor);
-		levelBoard[89][14] = new Block(12, scaleFactor);
-		levelBoard[90][14] = new Block(12, scaleFactor);
-		levelBoard[91][14] = new Block(12, scaleFactor);
-		levelBoard[95][14] = new Block(12, scaleFactor);
-		levelBoard[99][14] = new Block(12, scaleFactor);
-		levelBoard[100][14] = new Block(12, scaleFactor);
-		levelBoard[101][14] = new Block(12, scaleFactor);
-		levelBoard[102][14] = new Block(12, scaleFactor);
-		levelBoard[103][14] = new Block(18, scaleFactor);
-		levelBoard[106][14] = new Block(12, scaleFactor);
-		levelBoard[107][14] = new Block(12, scaleFactor);
-		levelBoard[108][14] = new Block(12, scaleFactor);
-		levelBoard[109][14] = new Block(12, scaleFactor);
-		levelBoard[110][14] = new Block(12, scaleFactor);
-		levelBoard[111][14] = new Block(12, scaleFactor);
-		levelBoard[112][14] = new Block(12, scaleFactor);
-		levelBoard[115][14] = new Block(12, scaleFactor);
-		levelBoard[116][14] = new Block(12, scaleFactor);
-		levelBoard[117][14] = new Block(12, scaleFactor);
-		levelBoard[118][14] = new Block(12, scaleFactor);
-		levelBoard[119][14] = new Block(12, scaleFactor);
-		levelBoard[120][14] = new Block(12, scaleFactor);
-		levelBoard[121][14] = new Block(12, scaleFactor);
-		levelBoard[122][14] = new Block(12, scaleFactor);
-		levelBoard[123][14] = new Block(12, scaleFactor);
-		levelBoard[124][14] = new Block(12, scaleFactor);
-		levelBoard[125][14] = new Block(12, scaleFactor);
-		levelBoard[126][14] = new Block(12, scaleFactor);
-		levelBoard[127][14] = new Block(12, scaleFactor);
-		levelBoard[0][15] = new Block(12, scaleFactor);
-		levelBoard[1][15] = new Block(12, scaleFactor);
-		levelBoard[2][15] = new Block(12, scaleFactor);
-		levelBoard[3][15] = new Block(12, scaleFactor);
-		levelBoard[4][15] = new Block(12, scaleFactor);
-		levelBoard[5][15] = new Block(12, scaleFactor);
-		levelBoard[6][15] = new Block(12, scaleFactor);
-		levelBoard[7][15] = new Block(12, scaleFactor);
-		levelBoard[8][15] = new Block(12, scaleFactor);
-		levelBoard[9][15] = new Block(12, scaleFactor);
-		levelBoard[10][15] = new Block(12, scaleFactor);
-		levelBoard[11][15] = new Block(12, scaleFactor);
-		levelBoard[12][15] = new Block(12, scaleFactor);
-		levelBoard[13][15] = new Block(12, scaleFactor);
-		levelBoard[14][15] = new Block(12, scaleFactor);
-		levelBoard[15][15] = new Block(12, scaleFactor);
-		levelBoard[16][15] = new Block(12, scaleFactor);
-		levelBoard[17][15] = new Block(12, scaleFactor);
-		levelBoard[18][15] = new Block(12, scaleFactor);
-		levelBoard[19][15] = new Block(12, scaleFactor);
-		levelBoard[23][15] = new Block(12, scaleFactor);
-		levelBoard[24][15] = new Block(12, scaleFactor);
-		levelBoard[28][15] = new Block(12, scaleFactor);
-		levelBoard[29][15] = new Block(12, scaleFactor);
-		levelBoard[32][15] = new Block(12, scaleFactor);
-		levelBoard[33][15] = new Block(12, scaleFactor);
-		levelBoard[34][15] = new Block(12, scaleFactor);
-		levelBoard[35][15] = new Block(12, scaleFactor);
-		levelBoard[36][15] = new Block(12, scaleFactor);
-		levelBoard[37][15] = new Block(12, scaleFactor);
-		levelBoard[38][15] = new Block(12, scaleFactor);
-		levelBoard[39][15] = new Block(12, scaleFactor);
-		levelBoard[40][15] = new Block(12, scaleFactor);
-		levelBoard[41][15] = new Block(12, scaleFactor);
-		levelBoard[42][15] = new Block(12, scaleFactor);
-		levelBoard[43][15] = new Block(12, scaleFactor);
-		levelBoard[44][15] = new Block(12, scaleFactor);
-		levelBoard[45][15] = new Block(12, scaleFactor);
-		levelBoard[46][15] = new Block(12, scaleFactor);
-		levelBoard[47][15] = new Block(12, scaleFactor);
-		levelBoard[48][15] = new Block(12, scaleFactor);
-		levelBoard[49][15] = new Block(12, scaleFactor);
-		levelBoard[50][15] = new Block(12, scaleFactor);
-		levelBoard[51][15] = new Block(9, scaleFactor);
-		levelBoard[52][15] = new Block(9, scaleFactor);
-		levelBoard[53][15] = new Block(9, scaleFactor);
-		levelBoard[54][15] = new Block(9, scaleFactor);
-		levelBoard[55][15] = new Block(9, scaleFactor);
-		levelBoard[56][15] = new Block(12, scaleFactor);
-		levelBoard[63][15] = new Block(12, scaleFactor);
-		levelBoard[64][15] = new Block(12, scaleFactor);
-		levelBoard[65][15] = new Block(12, scaleFactor);
-		levelBoard[66][15] = new Block(12, scaleFactor);
-		levelBoard[67][15] = new Block(12, scaleFactor);
-		levelBoard[68][15] = new Block(12, scaleFactor);
-		levelBoard[69][15] = new Block(12, scaleFactor);
-		levelBoard[70][15] = new Block(12, scaleFactor);
-		levelBoard[71][15] = new Block(12, scaleFactor);
-		levelBoard[72][15] = new Block(12, scaleFactor);
-		levelBoard[73][15] = new Block(12, scaleFactor);
-		levelBoard[74][15] = new Block(12, scaleFactor);
-		levelBoard[75][15] = new Block(12, scaleFactor);
-		levelBoard[76][15] = new Block(12, scaleFactor);
-		levelBoard[77][15] = new Block(12, scaleFactor);
-		levelBoard[78][15] = new Block(12, scaleFactor);
-		levelBoard[79][15] = new Block(12, scaleFactor);
-		levelBoard[80][15] = new Block(12, scaleFactor);
-		levelBoard[81][15] = new Block(12, scaleFactor);
-		levelBoard[82][15] = new Block(12, scaleFactor);
-		levelBoard[83][15] = new Block(12, scaleFactor);
-		levelBoard[84][15] = new Block(12, scaleFactor);
-		levelBoard[85][15] = new Block(12, scaleFactor);
-		levelBoard[89][15] = new Block(12, scaleFactor);
-		levelBoard[90][15] = new Block(12, scaleFactor);
-		levelBoard[91][15] = new Block(12, scaleFactor);
-		levelBoard[95][15] = new Block(12, scaleFactor);
-		levelBoard[99][15] = new Block(12, scaleFactor);
-		levelBoard[100][15] = new Block(12, scaleFactor);
-		levelBoard[101][15] = new Block(12, scaleFactor);
-		levelBoard[102][15] = new Block(12, scaleFactor);
-		levelBoard[103][15] = new Block(18, scaleFactor);
-		levelBoard[106][15] = new Block(12, scaleFactor);
-		levelBoard[107][15] = new Block(12, scaleFactor);
-		levelBoard[108][15] = new Block(12, scaleFactor);
-		levelBoard[109][15] = new Block(12, scaleFactor);
-		levelBoard[110][15] = new Block(12, scaleFactor);
-		levelBoard[111][15] = new Block(12, scaleFactor);
-		levelBoard[112][15] = new Block(12, scaleFactor);
-		levelBoard[115][15] = new Block(12, scaleFactor);
-		levelBoard[116][15] = new Block(12, scaleFactor);
-		levelBoard[117][15] = new Block(12, scaleFactor);
-		levelBoard[118][15] = new Block(12, scaleFactor);
-		levelBoard[119][15] = new Block(12, scaleFactor);
-		levelBoard[120][15] = new Block(12, scaleFactor);
-		levelBoard[121][15] = new Block(12, scaleFactor);
-		levelBoard[122][15] = new Block(12, scaleFactor);
-		levelBoard[123][15] = new Block(12, scaleFactor);
-		levelBoard[124][15] = new Block(12, scaleFactor);
-		levelBoard[125][15] = new Block(12, scaleFactor);
-		levelBoard[126][15] = new Block(12, scaleFactor);
-		levelBoard[127][15] = new Block(12, scaleFactor);
-
-		temporaryLevel.setLevelBoard(levelBoard);
-		temporaryLevel.putBlocksOnPanel();
-		worlds[1].addLevel(1, temporaryLevel);
-		
+	/**
+	 * Removes the progress bar after a level couldn't be preloaded, tells the user which level it was, and exits since
+	 * the worlds can't be played without it. The levels that are still loading are ignored
+	 * @param filepath - filepath of the level file
+	 * @param error - why the level couldn't be loaded
+	 */
+	private void levelFailed (String filepath, Throwable error) {
+		remove(levelLoadingBar);
+		levelLoadingBar = null;
+		repaint();
+		
+		// The reason is the innermost cause, the outer exceptions only wrap it on its way to the event dispatch thread:
+		Throwable cause = error;
+		while (cause.getCause() != null)
+			cause = cause.getCause();
+		System.out.println("Couldnt load " + filepath + ": " + cause);
+		JOptionPane.showMessageDialog(this, "Couldnt load " + filepath + "\n" + cause, "Platform Runner", JOptionPane.ERROR_MESSAGE);
+		dispose();
+		System.exit(1);
 	}
 	
-	private void createWorld2Level2 () {
-		
-		temporaryLevel = new Level(Color.gray, 3, 128, 16, 1, 5, 4, 12, 2); 	// backgroundColor = gray, scale = 3, board dimensions: 128x16, panelSpeed = 1, gAcc = 5, playerStart = (4,12), level 2
-		
-		levelBoard = new Block[128][16];
-		int scaleFactor = temporaryLevel.blockScaleFactor;
-		
-		levelBoard[0][0] = new Block(12, scaleFactor);
-		levelBoard[1][0] = new Block(12, scaleFactor);
-		levelBoard[2][0] = new Block(12, scaleFactor);
-		levelBoard[3][0] = new Block(12, scaleFactor);
-		levelBoard[4][0] = new Block(12, scaleFactor);
-		levelBoard[5][0] = new Block(12, scaleFactor);
-		levelBoard[6][0] = new Block(12, scaleFactor);
-		levelBoard[7][0] = new Block(12, scaleFactor);
-		levelBoard[8][0] = new Block(12, scaleFactor);
-		levelBoard[9][0] = new Block(12, scaleFactor);
-		levelBoard[10][0] = new Block(12, scaleFactor);
-		levelBoard[11][0] = new Block(12, scaleFactor);
-		levelBoard[12][0] = new Block(12, scaleFactor);
-		levelBoard[13][0] = new Block(12, scaleFactor);
-		levelBoard[14][0] = new Block(12, scaleFactor);
-		levelBoard[15][0] = new Block(12, scaleFactor);
-		levelBoard[16][0] = new Block(12, scaleFactor);
-		levelBoard[17][0] = new Block(12, scaleFactor);
-		levelBoard[18][0] = new Block(12, scaleFactor);
-		levelBoard[19][0] = new Block(12, scaleFactor);
-		levelBoard[20][0] = new Block(12, scaleFactor);
-		levelBoard[21][0] = new Block(12, scaleFactor);
-		levelBoard[22][0] = new Block(12, scaleFactor);
-		levelBoard[23][0] = new Block(12, scaleFactor);
-		levelBoard[24][0] = new Block(12, scaleFactor);
-		levelBoard[25][0] = new Block(12, scaleFactor);
-		levelBoard[26][0] = new Block(12, scaleFactor);
-		levelBoard[27][0] = new Block(12, scaleFactor);
-		levelBoard[28][0] = new Block(12, scaleFactor);
-		levelBoard[29][0] = new Block(12, scaleFactor);
-		levelBoard[34][0] = new Block(12, scaleFactor);
-		levelBoard[35][0] = new Block(12, scaleFactor);
-		levelBoard[36][0] = new Block(12, scaleFactor);
-		levelBoard[37][0] = new Block(12, scaleFactor);
-		levelBoard[38][0] = new Block(12, scaleFactor);
-		levelBoard[39][0] = new Block(12, scaleFactor);
-		levelBoard[40][0] = new Block(16, scaleFactor);
-		levelBoard[41][0] = new Block(16, scaleFactor);
-		levelBoard[42][0] = new Block(16, scaleFactor);
-		levelBoard[43][0] = new Block(16, scaleFactor);
-		levelBoard[44][0] = new Block(16, scaleFactor);
-		levelBoard[45][0] = new Block(16, scaleFactor);
-		levelBoard[46][0] = new Block(16, scaleFactor);
-		levelBoard[47][0] = new Block(16, scaleFactor);
-		levelBoard[48][0] = new Block(16, scaleFactor);
-		levelBoard[49][0] = new Block(16, scaleFactor);
-		levelBoard[50][0] = new Block(16, scaleFactor);
-		levelBoard[51][0] = new Block(16, scaleFactor);
-		levelBoard[52][0] = new Block(16, scaleFactor);
-		levelBoard[53][0] = new Block(16, scaleFactor);
-		levelBoard[54][0] = new Block(16, scaleFactor);
-		levelBoard[55][0] = new Block(16, scaleFactor);
-		levelBoard[56][0] = new Block(16, scaleFactor);
-		levelBoard[57][0] = new Block(12, scaleFactor);
-		levelBoard[58][0] = new Block(12, scaleFactor);
-		levelBoard[59][0] = new Block(12, scaleFactor);
-		levelBoard[60][0] = new Block(12, scaleFactor);
-		levelBoard[61][0] = new Block(12, scaleFactor);
-		levelBoard[62][0] = new Block(12, scaleFactor);
-		levelBoard[63][0] = new Block(12, scaleFactor);
-		levelBoard[64][0] = new Block(12, scaleFactor);
-		levelBoard[65][0] = new Block(12, scaleFactor);
-		levelBoard[66][0] = new Block(12, scaleFactor);
-		levelBoard[67][0] = new Block(12, scaleFactor);
-		levelBoard[68][0] = new Block(12, scaleFactor);
-		levelBoard[69][0] = new Block(12, scaleFactor);
-		levelBoard[70][0] = new Block(12, scaleFactor);
-		levelBoard[71][0] = new Block(12, scaleFactor);
-		levelBoard[72][0] = new Block(12, scaleFactor);
-		levelBoard[73][0] = new Block(12, scaleFactor);
-		levelBoard[74][0] = new Block(12, scaleFactor);
-		levelBoard[75][0] = new Block(12, scaleFactor);
-		levelBoard[76][0] = new Block(12, scaleFactor);
-		levelBoard[77][0] = new Block(12, scaleFactor);
-		levelBoard[78][0] = new Block(12, scaleFactor);
-		levelBoard[79][0] = new Block(12, scaleFactor);
-		levelBoard[80][0] = new Block(12, scaleFactor);
-		levelBoard[81][0] = new Block(12, scaleFactor);
-		levelBoard[82][0] = new Block(12, scaleFactor);
-		levelBoard[83][0] = new Block(12, scaleFactor);
-		levelBoard[84][0] = new Block(12, scaleFactor);
-		levelBoard[85][0] = new Block(12, scaleFactor);
-		levelBoard[86][0] = new Block(12, scaleFactor);
-		levelBoard[87][0] = new Block(12, scaleFactor);
-		levelBoard[88][0] = new Block(12, scaleFactor);
-		levelBoard[89][0] = new Block(12, scaleFactor);
-		levelBoard[90][0] = new Block(12, scaleFactor);
-		levelBoard[91][0] = new Block(12, scaleFactor);
-		levelBoard[92][0] = new Block(12, scaleFactor);
-		levelBoard[93][0] = new Block(12, scaleFactor);
-		levelBoard[94][0] = new Block(12, scaleFactor);
-		levelBoard[95][0] = new Block(12, scaleFactor);
-		levelBoard[96][0] = new Block(12, scaleFactor);
-		levelBoard[97][0] = new Block(12, scaleFactor);
-		levelBoard[98][0] = new Block(12, scaleFactor);
-		levelBoard[99][0] = new Block(12, scaleFactor);
-		levelBoard[100][0] = new Block(12, scaleFactor);
-		levelBoard[101][0] = new Block(12, scaleFactor);
-		levelBoard[102][0] = new Block(12, scaleFactor);
-		levelBoard[103][0] = new Block(12, scaleFactor);
-		levelBoard[104][0] = new Block(12, scaleFactor);
-		levelBoard[105][0] = new Block(12, scaleFactor);
-		levelBoard[106][0] = new Block(12, scaleFactor);
-		levelBoard[107][0] = new Block(12, scaleFactor);
-		levelBoard[108][0] = new Block(12, scaleFactor);
-		levelBoard[109][0] = new Block(12, scaleFactor);
-		levelBoard[110][0] = new Block(12, scaleFactor);
-		levelBoard[111][0] = new Block(12, scaleFactor);
-		levelBoard[112][0] = new Block(12, scaleFactor);
-		levelBoard[113][0] = new Block(12, scaleFactor);
-		levelBoard[114][0] = new Block(12, scaleFactor);
-		levelBoard[115][0] = new Block(12, scaleFactor);
-		levelBoard[116][0] = new Block(12, scaleFactor);
-		levelBoard[117][0] = new Block(12, scaleFactor);
-		levelBoard[118][0] = new Block(12, scaleFactor);
-		levelBoard[119][0] = new Block(12, scaleFactor);
-		levelBoard[120][0] = new Block(12, scaleFactor);
-		levelBoard[121][0] = new Block(12, scaleFactor);
-		levelBoard[122][0] = new Block(12, scaleFactor);
-		levelBoard[123][0] = new Block(12, scaleFactor);
-		levelBoard[124][0] = new Block(12, scaleFactor);
-		levelBoard[125][0] = new Block(12, scaleFactor);
-		levelBoard[126][0] = new Block(12, scaleFactor);
-		levelBoard[127][0] = new Block(12, scaleFactor);
-		levelBoard[0][1] = new Block(12, scaleFactor);
-		levelBoard[1][1] = new Block(12, scaleFactor);
-		levelBoard[2][1] = new Block(12, scaleFactor);
-		levelBoard[3][1] = new Block(12, scaleFactor);
-		levelBoard[4][1] = new Block(12, scaleFactor);
-		levelBoard[5][1] = new Block(12, scaleFactor);
-		levelBoard[6][1] = new Block(12, scaleFactor);
-		levelBoard[7][1] = new Block(12, scaleFactor);
-		levelBoard[8][1] = new Block(12, scaleFactor);
-		levelBoard[9][1] = new Block(12, scaleFactor);
-		levelBoard[15][1] = new Block(12, scaleFactor);
-		levelBoard[16][1] = new Block(12, scaleFactor);
-		levelBoard[17][1] = new Block(12, scaleFactor);
-		levelBoard[18][1] = new Block(12, scaleFactor);
-		levelBoard[19][1] = new Block(12, scaleFactor);
-		levelBoard[20][1] = new Block(12, scaleFactor);
-		levelBoard[21][1] = new Block(12, scaleFactor);
-		levelBoard[22][1] = new Block(12, scaleFactor);
-		levelBoard[23][1] = new Block(12, scaleFactor);
-		levelBoard[24][1] = new Block(12, scaleFactor);
-		levelBoard[25][1] = new Block(12, scaleFactor);
-		levelBoard[26][1] = new Block(12, scaleFactor);
-		levelBoard[27][1] = new Block(12, scaleFactor);
-		levelBoard[28][1] = new Block(12, scaleFactor);
-		levelBoard[35][1] = new Block(12, scaleFactor);
-		levelBoard[36][1] = new Block(12, scaleFactor);
-		levelBoard[37][1] = new Block(12, scaleFactor);
-		levelBoard[38][1] = new Block(12, scaleFactor);
-		levelBoard[39][1] = new Block(12, scaleFactor);
-		levelBoard[40][1] = new Block(6, scaleFactor);
-		levelBoard[41][1] = new Block(6, scaleFactor);
-		levelBoard[42][1] = new Block(6, scaleFactor);
-		levelBoard[43][1] = new Block(6, scaleFactor);
-		levelBoard[44][1] = new Block(6, scaleFactor);
-		levelBoard[45][1] = new Block(16, scaleFactor);
-		levelBoard[46][1] = new Block(16, scaleFactor);
-		levelBoard[47][1] = new Block(16, scaleFactor);
-		levelBoard[48][1] = new Block(16, scaleFactor);
-		levelBoard[49][1] = new Block(16, scaleFactor);
-		levelBoard[50][1] = new Block(16, scaleFactor);
-		levelBoard[51][1] = new Block(16, scaleFactor);
-		levelBoard[52][1] = new Block(16, scaleFactor);
-		levelBoard[53][1] = new Block(16, scaleFactor);
-		levelBoard[54][1] = new Block(16, scaleFactor);
-		levelBoard[55][1] = new Block(16, scaleFactor);
-		levelBoard[56][1] = new Block(16, scaleFactor);
-		levelBoard[57][1] = new Block(16, scaleFactor);
-		levelBoard[58][1] = new Block(16, scaleFactor);
-		levelBoard[59][1] = new Block(12, scaleFactor);
-		levelBoard[60][1] = new Block(12, scaleFactor);
-		levelBoard[61][1] = new Block(12, scaleFactor);
-		levelBoard[62][1] = new Block(12, scaleFactor);
-		levelBoard[63][1] = new Block(12, scaleFactor);
-		levelBoard[64][1] = new Block(12, scaleFactor);
-		levelBoard[65][1] = new Block(12, scaleFactor);
-		levelBoard[66][1] = new Block(12, scaleFactor);
-		levelBoard[84][1] = new Block(12, scaleFactor);
-		levelBoard[85][1] = new Block(12, scaleFactor);
-		levelBoard[86][1] = new Block(12, scaleFactor);
-		levelBoard[87][1] = new Block(12, scaleFactor);
-		levelBoard[88][1] = new Block(12, scaleFactor);
-		levelBoard[89][1] = new Block(12, scaleFactor);
-		levelBoard[90][1] = new Block(12, scaleFactor);
-		levelBoard[91][1] = new Block(12, scaleFactor);
-		levelBoard[92][1] = new Block(12, scaleFactor);
-		levelBoard[93][1] = new Block(12, scaleFactor);
-		levelBoard[94][1] = new Block(12, scaleFactor);
-		levelBoard[95][1] = new Block(12, scaleFactor);
-		levelBoard[96][1] = new Block(12, scaleFactor);
-		levelBoard[97][1] = new Block(12, scaleFactor);
-		levelBoard[98][1] = new Block(12, scaleFactor);
-		levelBoard[99][1] = new Block(12, scaleFactor);
-		levelBoard[100][1] = new Block(12, scaleFactor);
-		levelBoard[101][1] = new Block(12, scaleFactor);
-		levelBoard[115][1] = new Block(10, scaleFactor);
-		levelBoard[116][1] = new Block(10, scaleFactor);
-		levelBoard[117][1] = new Block(10, scaleFactor);
-		levelBoard[118][1] = new Block(10, scaleFactor);
-		levelBoard[119][1] = new Block(10, scaleFactor);
-		levelBoard[120][1] = new Block(10, scaleFactor);
-		levelBoard[121][1] = new Block(10, scaleFactor);
-		levelBoard[122][1] = new Block(10, scaleFactor);
-		levelBoard[123][1] = new Block(10, scaleFactor);
-		levelBoard[124][1] = new Block(10, scaleFactor);
-		levelBoard[125][1] = new Block(10, scaleFactor);
-		levelBoard[126][1] = new Block(10, scaleFactor);
-		levelBoard[127][1] = new Block(10, scaleFactor);
-		levelBoard[0][2] = new Block(12, scaleFactor);
-		levelBoard[1][2] = new Block(12, scaleFactor);
-		levelBoard[2][2] = new Block(12, scaleFactor);
-		levelBoard[3][2] = new Block(12, scaleFactor);
-		levelBoard[4][2] = new Block(12, scaleFactor);
-		levelBoard[5][2] = new Block(12, scaleFactor);
-		levelBoard[6][2] = new Block(12, scaleFactor);
-		levelBoard[7][2] = new Block(12, scaleFactor);
-		levelBoard[16][2] = new Block(12, scaleFactor);
-		levelBoard[17][2] = new Block(12, scaleFactor);
-		levelBoard[18][2] = new Block(12, scaleFactor);
-		levelBoard[19][2] = new Block(12, scaleFactor);
-		levelBoard[20][2] = new Block(12, scaleFactor);
-		levelBoard[21][2] = new Block(12, scaleFactor);
-		levelBoard[22][2] = new Block(12, scaleFactor);
-		levelBoard[23][2] = new Block(12, scaleFactor);
-		levelBoard[38][2] = new Block(12, scaleFactor);
-		levelBoard[39][2] = new Block(12, scaleFactor);
-		levelBoard[40][2] = new Block(12, scaleFactor);
-		levelBoard[41][2] = new Block(12, scaleFactor);
-		levelBoard[42][2] = new Block(0, scaleFactor);
-		levelBoard[43][2] = new Block(0, scaleFactor);
-		levelBoard[44][2] = new Block(0, scaleFactor);
-		levelBoard[45][2] = new Block(16, scaleFactor);
-		levelBoard[46][2] = new Block(16, scaleFactor);
-		levelBoard[47][2] = new Block(16, scaleFactor);
-		levelBoard[48][2] = new Block(16, scaleFactor);
-		levelBoard[49][2] = new Block(16, scaleFactor);
-		levelBoard[50][2] = new Block(16, scaleFactor);
-		levelBoard[51][2] = new Block(16, scaleFactor);
-		levelBoard[52][2] = new Block(16, scaleFactor);
-		levelBoard[53][2] = new Block(16, scaleFactor);
-		levelBoard[54][2] = new Block(16, scaleFactor);
-		levelBoard[55][2] = new Block(16, scaleFactor);
-		levelBoard[56][2] = new Block(16, scaleFactor);
-		levelBoard[57][2] = new Block(16, scaleFactor);
-		levelBoard[58][2] = new Block(16, scaleFactor);
-		levelBoard[59][2] = new Block(16, scaleFactor);
-		levelBoard[60][2] = new Block(12, scaleFactor);
-		levelBoard[61][2] = new Block(12, scaleFactor);
-		levelBoard[62][2] = new Block(12, scaleFactor);
-		levelBoard[63][2] = new Block(12, scaleFactor);
-		levelBoard[64][2] = new Block(12, scaleFactor);
-		levelBoard[65][2] = new Block(12, scaleFactor);
-		levelBoard[86][2] = new Block(12, scaleFactor);
-		levelBoard[87][2] = new Block(12, scaleFactor);
-		levelBoard[88][2] = new Block(12, scaleFactor);
-		levelBoard[89][2] = new Block(12, scaleFactor);
-		levelBoard[90][2] = new Block(12, scaleFactor);
-		levelBoard[95][2] = new Block(12, scaleFactor);
-		levelBoard[96][2] = new Block(12, scaleFactor);
-		levelBoard[97][2] = new Block(12, scaleFactor);
-		levelBoard[115][2] = new Block(10, scaleFactor);
-		levelBoard[116][2] = new Block(10, scaleFactor);
-		levelBoard[117][2] = new Block(10, scaleFactor);
-		levelBoard[118][2] = new Block(10, scaleFactor);
-		levelBoard[119][2] = new Block(10, scaleFactor);
-		levelBoard[120][2] = new Block(10, scaleFactor);
-		levelBoard[121][2] = new Block(10, scaleFactor);
-		levelBoard[122][2] = new Block(10, scaleFactor);
-		levelBoard[123][2] = new Block(10, scaleFactor);
-		levelBoard[124][2] = new Block(10, scaleFactor);
-		levelBoard[125][2] = new Block(10, scaleFactor);
-		levelBoard[126][2] = new Block(10, scaleFactor);
-		levelBoard[127][2] = new Block(10, scaleFactor);
-		levelBoard[0][3] = new Block(12, scaleFactor);
-		levelBoard[1][3] = new Block(12, scaleFactor);
-		levelBoard[2][3] = new Block(12, scaleFactor);
-		levelBoard[3][3] = new Block(12, scaleFactor);
-		levelBoard[4][3] = new Block(12, scaleFactor);
-		levelBoard[18][3] = new Block(12, scaleFactor);
-		levelBoard[19][3] = new Block(12, scaleFactor);
-		levelBoard[20][3] = new Block(12, scaleFactor);
-		levelBoard[21][3] = new Block(12, scaleFactor);
-		levelBoard[22][3] = new Block(12, scaleFactor);
-		levelBoard[39][3] = new Block(12, scaleFactor);
-		levelBoard[40][3] = new Block(12, scaleFactor);
-		levelBoard[41][3] = new Block(12, scaleFactor);
-		levelBoard[42][3] = new Block(12, scaleFactor);
-		levelBoard[43][3] = new Block(12, scaleFactor);
-		levelBoard[44][3] = new Block(0, scaleFactor);
-		levelBoard[45][3] = new Block(16, scaleFactor);
-		levelBoard[46][3] = new Block(16, scaleFactor);
-		levelBoard[47][3] = new Block(16, scaleFactor);
-		levelBoard[48][3] = new Block(16, scaleFactor);
-		levelBoard[49][3] = new Block(16, scaleFactor);
-		levelBoard[50][3] = new Block(16, scaleFactor);
-		levelBoard[51][3] = new Block(16, scaleFactor);
-		levelBoard[52][3] = new Block(21, scaleFactor);
-		levelBoard[53][3] = new Block(16, scaleFactor);
-		levelBoard[54][3] = new Block(16, scaleFactor);
-		levelBoard[55][3] = new Block(16, scaleFactor);
-		levelBoard[56][3] = new Block(16, scaleFactor);
-		levelBoard[57][3] = new Block(16, scaleFactor);
-		levelBoard[58][3] = new Block(16, scaleFactor);
-		levelBoard[59][3] = new Block(16, scaleFactor);
-		levelBoard[60][3] = new Block(12, scaleFactor);
-		levelBoard[61][3] = new Block(12, scaleFactor);
-		levelBoard[62][3] = new Block(12, scaleFactor);
-		levelBoard[63][3] = new Block(12, scaleFactor);
-		levelBoard[64][3] = new Block(12, scaleFactor);
-		levelBoard[65][3] = new Block(12, scaleFactor);
-		levelBoard[73][4] = new Block(3, scaleFactor);
-		levelBoard[76][4] = new Block(3, scaleFactor);
-		levelBoard[115][3] = new Block(10, scaleFactor);
-		levelBoard[116][3] = new Block(10, scaleFactor);
-		levelBoard[117][3] = new Block(10, scaleFactor);
-		levelBoard[118][3] = new Block(10, scaleFactor);
-		levelBoard[119][3] = new Block(10, scaleFactor);
-		levelBoard[120][3] = new Block(10, scaleFactor);
-		levelBoard[121][3] = new Block(10, scaleFactor);
-		levelBoard[122][3] = new Block(10, scaleFactor);
-		levelBoard[123][3] = new Block(10, scaleFactor);
-		levelBoard[124][3] = new Block(10, scaleFactor);
-		levelBoard[125][3] = new Block(10, scaleFactor);
-		levelBoard[126][3] = new Block(10, scaleFactor);
-		levelBoard[127][3] = new Block(10, scaleFactor);
-		levelBoard[19][4] = new Block(12, scaleFactor);
-		levelBoard[20][4] = new Block(12, scaleFactor);
-		levelBoard[21][4] = new Block(12, scaleFactor);
-		levelBoard[22][4] = new Block(12, scaleFactor);
-		levelBoard[30][4] = new Block(3, scaleFactor);
-		levelBoard[31][4] = new Block(3, scaleFactor);
-		levelBoard[32][4] = new Block(3, scaleFactor);
-		levelBoard[33][4] = new Block(3, scaleFactor);
-		levelBoard[39][4] = new Block(12, scaleFactor);
-		levelBoard[40][4] = new Block(12, scaleFactor);
-		levelBoard[41][4] = new Block(12, scaleFactor);
-		levelBoard[42][4] = new Block(12, scaleFactor);
-		levelBoard[43][4] = new Block(12, scaleFactor);
-		levelBoard[44][4] = new Block(12, scaleFactor);
-		levelBoard[45][4] = new Block(16, scaleFactor);
-		levelBoard[46][4] = new Block(16, scaleFactor);
-		levelBoard[47][4] = new Block(16, scaleFactor);
-		levelBoard[48][4] = new Block(16, scaleFactor);
-		levelBoard[49][4] = new Block(16, scaleFactor);
-		levelBoard[50][4] = new Block(16, scaleFactor);
-		levelBoard[51][4] = new Block(18, scaleFactor);
-		levelBoard[52][4] = new Block(18, scaleFactor);
-		levelBoard[53][4] = new Block(16, scaleFactor);
-		levelBoard[54][4] = new Block(16, scaleFactor);
-		levelBoard[55][4] = new Block(16, scaleFactor);
-		levelBoard[56][4] = new Block(16, scaleFactor);
-		levelBoard[57][4] = new Block(16, scaleFactor);
-		levelBoard[58][4] = new Block(16, scaleFactor);
-		levelBoard[61][4] = new Block(12, scaleFactor);
-		levelBoard[62][4] = new Block(12, scaleFactor);
-		levelBoard[63][4] = new Block(12, scaleFactor);
-		levelBoard[64][4] = new Block(12, scaleFactor);
-		levelBoard[65][4] = new Block(12, scaleFactor);
-		levelBoard[66][4] = new Block(12, scaleFactor);
-		levelBoard[67][4] = new Block(3, scaleFactor);
-		levelBoard[80][4] = new Block(12, scaleFactor);
-		levelBoard[115][4] = new Block(10, scaleFactor);
-		levelBoard[116][4] = new Block(10, scaleFactor);
-		levelBoard[117][4] = new Block(10, scaleFactor);
-		levelBoard[118][4] = new Block(10, scaleFactor);
-		levelBoard[119][4] = new Block(10, scaleFactor);
-		levelBoard[120][4] = new Block(10, scaleFactor);
-		levelBoard[121][4] = new Block(10, scaleFactor);
-		levelBoard[122][4] = new Block(10, scaleFactor);
-		levelBoard[123][4] = new Block(10, scaleFactor);
-		levelBoard[124][4] = new Block(10, scaleFactor);
-		levelBoard[125][4] = new Block(10, scaleFactor);
-		levelBoard[126][4] = new Block(10, scaleFactor);
-		levelBoard[127][4] = new Block(10, scaleFactor);
-		levelBoard[13][5] = new Block(12, scaleFactor);
-		levelBoard[14][5] = new Block(12, scaleFactor);
-		levelBoard[15][5] = new Block(12, scaleFactor);
-		levelBoard[19][5] = new Block(12, scaleFactor);
-		levelBoard[20][5] = new Block(12, scaleFactor);
-		levelBoard[21][5] = new Block(12, scaleFactor);
-		levelBoard[29][5] = new Block(18, scaleFactor);
-		levelBoard[30][5] = new Block(18, scaleFactor);
-		levelBoard[31][5] = new Block(18, scaleFactor);
-		levelBoard[32][5] = new Block(18, scaleFactor);
-		levelBoard[33][5] = new Block(18, scaleFactor);
-		levelBoard[34][5] = new Block(18, scaleFactor);
-		levelBoard[41][5] = new Block(12, scaleFactor);
-		levelBoard[42][5] = new Block(12, scaleFactor);
-		levelBoard[43][5] = new Block(12, scaleFactor);
-		levelBoard[44][5] = new Block(12, scaleFactor);
-		levelBoard[46][5] = new Block(16, scaleFactor);
-		levelBoard[47][5] = new Block(16, scaleFactor);
-		levelBoard[48][5] = new Block(16, scaleFactor);
-		levelBoard[49][5] = new Block(16, scaleFactor);
-		levelBoard[50][5] = new Block(16, scaleFactor);
-		levelBoard[51][5] = new Block(16, scaleFactor);
-		levelBoard[52][5] = new Block(16, scaleFactor);
-		levelBoard[53][5] = new Block(16, scaleFactor);
-		levelBoard[54][5] = new Block(16, scaleFactor);
-		levelBoard[55][5] = new Block(16, scaleFactor);
-		levelBoard[56][5] = new Block(16, scaleFactor);
-		levelBoard[57][5] = new Block(16, scaleFactor);
-		levelBoard[64][5] = new Block(12, scaleFactor);
-		levelBoard[65][5] = new Block(12, scaleFactor);
-		levelBoard[66][5] = new Block(12, scaleFactor);
-		levelBoard[67][5] = new Block(12, scaleFactor);
-		levelBoard[73][5] = new Block(12, scaleFactor);
-		levelBoard[74][5] = new Block(12, scaleFactor);
-		levelBoard[75][5] = new Block(12, scaleFactor);
-		levelBoard[76][5] = new Block(12, scaleFactor);
-		levelBoard[77][5] = new Block(12, scaleFactor);
-		levelBoard[80][5] = new Block(12, scaleFactor);
-		levelBoard[81][5] = new Block(12, scaleFactor);
-		levelBoard[82][5] = new Block(3, scaleFactor);
-		levelBoard[92][5] = new Block(3, scaleFactor);
-		levelBoard[93][5] = new Block(3, scaleFactor);
-		levelBoard[104][5] = new Block(3, scaleFactor);
-		levelBoard[115][5] = new Block(10, scaleFactor);
-		levelBoard[116][5] = new Block(10, scaleFactor);
-		levelBoard[117][5] = new Block(10, scaleFactor);
-		levelBoard[118][5] = new Block(10, scaleFactor);
-		levelBoard[119][5] = new Block(10, scaleFactor);
-		levelBoard[120][5] = new Block(10, scaleFactor);
-		levelBoard[121][5] = new Block(10, scaleFactor);
-		levelBoard[122][5] = new Block(10, scaleFactor);
-		levelBoard[123][5] = new Block(10, scaleFactor);
-		levelBoard[124][5] = new Block(10, scaleFactor);
-		levelBoard[125][5] = new Block(10, scaleFactor);
-		levelBoard[126][5] = new Block(10, scaleFactor);
-		levelBoard[127][5] = new Block(10, scaleFactor);
-		levelBoard[12][6] = new Block(12, scaleFactor);
-		levelBoard[13][6] = new Block(12, scaleFactor);
-		levelBoard[14][6] = new Block(12, scaleFactor);
-		levelBoard[15][6] = new Block(12, scaleFactor);
-		levelBoard[16][6] = new Block(12, scaleFactor);
-		levelBoard[19][6] = new Block(12, scaleFactor);
-		levelBoard[20][6] = new Block(12, scaleFactor);
-		levelBoard[21][6] = new Block(12, scaleFactor);
-		levelBoard[47][6] = new Block(12, scaleFactor);
-		levelBoard[48][6] = new Block(12, scaleFactor);
-		levelBoard[49][6] = new Block(21, scaleFactor);
-		levelBoard[50][6] = new Block(21, scaleFactor);
-		levelBoard[51][6] = new Block(21, scaleFactor);
-		levelBoard[52][6] = new Block(21, scaleFactor);
-		levelBoard[53][6] = new Block(21, scaleFactor);
-		levelBoard[54][6] = new Block(21, scaleFactor);
-		levelBoard[55][6] = new Block(21, scaleFactor);
-		levelBoard[56][6] = new Block(12, scaleFactor);
-		levelBoard[57][6] = new Block(12, scaleFactor);
-		levelBoard[66][6] = new Block(12, scaleFactor);
-		levelBoard[67][6] = new Block(12, scaleFactor);
-		levelBoard[68][6] = new Block(12, scaleFactor);
-		levelBoard[69][6] = new Block(12, scaleFactor);
-		levelBoard[74][6] = new Block(12, scaleFactor);
-		levelBoard[75][6] = new Block(12, scaleFactor);
-		levelBoard[76][6] = new Block(12, scaleFactor);
-		levelBoard[77][6] = new Block(12, scaleFactor);
-		levelBoard[80][6] = new Block(12, scaleFactor);
-		levelBoard[81][6] = new Block(12, scaleFactor);
-		levelBoard[82][6] = new Block(12, scaleFactor);
-		levelBoard[83][6] = new Block(12, scaleFactor);
-		levelBoard[84][6] = new Block(12, scaleFactor);
-		levelBoard[90][6] = new Block(18, scaleFactor);
-		levelBoard[91][6] = new Block(18, scaleFactor);
-		levelBoard[92][6] = new Block(18, scaleFactor);
-		levelBoard[93][6] = new Block(18, scaleFactor);
-		levelBoard[94][6] = new Block(18, scaleFactor);
-		levelBoard[102][6] = new Block(18, scaleFactor);
-		levelBoard[103][6] = new Block(18, scaleFactor);
-		levelBoard[104][6] = new Block(18, scaleFactor);
-		levelBoard[115][6] = new Block(10, scaleFactor);
-		levelBoard[116][6] = new Block(10, scaleFactor);
-		levelBoard[117][6] = new Block(10, scaleFactor);
-		levelBoard[118][6] = new Block(10, scaleFactor);
-		levelBoard[119][6] = new Block(10, scaleFactor);
-		levelBoard[120][6] = new Block(10, scaleFactor);
-		levelBoard[121][6] = new Block(10, scaleFactor);
-		levelBoard[122][6] = new Block(10, scaleFactor);
-		levelBoard[123][6] = new Block(10, scaleFactor);
-		levelBoard[124][6] = new Block(10, scaleFactor);
-		levelBoard[125][6] = new Block(10, scaleFactor);
-		levelBoard[126][6] = new Block(10, scaleFactor);
-		levelBoard[127][6] = new Block(10, scaleFactor);
-		levelBoard[12][7] = new Block(12, scaleFactor);
-		levelBoard[13][7] = new Block(12, scaleFactor);
-		levelBoard[14][7] = new Block(12, scaleFactor);
-		levelBoard[15][7] = new Block(12, scaleFactor);
-		levelBoard[16][7] = new Block(12, scaleFactor);
-		levelBoard[19][7] = new Block(12, scaleFactor);
-		levelBoard[20][7] = new Block(12, scaleFactor);
-		levelBoard[21][7] = new Block(12, scaleFactor);
-		levelBoard[47][7] = new Block(12, scaleFactor);
-		levelBoard[48][7] = new Block(12, scaleFactor);
-		levelBoard[49][7] = new Block(12, scaleFactor);
-		levelBoard[50][7] = new Block(12, scaleFactor);
-		levelBoard[51][7] = new Block(12, scaleFactor);
-		levelBoard[52][7] = new Block(12, scaleFactor);
-		levelBoard[53][7] = new Block(12, scaleFactor);
-		levelBoard[54][7] = new Block(12, scaleFactor);
-		levelBoard[55][7] = new Block(12, scaleFactor);
-		levelBoard[56][7] = new Block(12, scaleFactor);
-		levelBoard[57][7] = new Block(12, scaleFactor);
-		levelBoard[58][7] = new Block(12, scaleFactor);
-		levelBoard[66][7] = new Block(12, scaleFactor);
-		levelBoard[67][7] = new Block(12, scaleFactor);
-		levelBoard[68][7] = new Block(12, scaleFactor);
-		levelBoard[69][7] = new Block(12, scaleFactor);
-		levelBoard[70][7] = new Block(12, scaleFactor);
-		levelBoard[74][7] = new Block(12, scaleFactor);
-		levelBoard[75][7] = new Block(12, scaleFactor);
-		levelBoard[76][7] = new Block(12, scaleFactor);
-		levelBoard[77][7] = new Block(12, scaleFactor);
-		levelBoard[80][7] = new Block(12, scaleFactor);
-		levelBoard[81][7] = new Block(12, scaleFactor);
-		levelBoard[82][7] = new Block(12, scaleFactor);
-		levelBoard[83][7] = new Block(12, scaleFactor);
-		levelBoard[84][7] = new Block(12, scaleFactor);
-		levelBoard[85][7] = new Block(12, scaleFactor);
-		levelBoard[89][7] = new Block(18, scaleFactor);
-		levelBoard[90][7] = new Block(1, scaleFactor);
-		levelBoard[91][7] = new Block(1, scaleFactor);
-		levelBoard[95][7] = new Block(1, scaleFactor);
-		levelBoard[103][7] = new Block(18, scaleFactor);
-		levelBoard[115][7] = new Block(10, scaleFactor);
-		levelBoard[116][7] = new Block(10, scaleFactor);
-		levelBoard[117][7] = new Block(10, scaleFactor);
-		levelBoard[118][7] = new Block(10, scaleFactor);
-		levelBoard[119][7] = new Block(10, scaleFactor);
-		levelBoard[120][7] = new Block(10, scaleFactor);
-		levelBoard[121][7] = new Block(10, scaleFactor);
-		levelBoard[122][7] = new Block(10, scaleFactor);
-		levelBoard[123][7] = new Block(10, scaleFactor);
-		levelBoard[124][7] = new Block(10, scaleFactor);
-		levelBoard[125][7] = new Block(10, scaleFactor);
-		levelBoard[126][7] = new Block(10, scaleFactor);
-		levelBoard[127][7] = new Block(10, scaleFactor);
-		levelBoard[11][8] = new Block(3, scaleFactor);
-		levelBoard[12][8] = new Block(12, scaleFactor);
-		levelBoard[13][8] = new Block(12, scaleFactor);
-		levelBoard[14][8] = new Block(12, scaleFactor);
-		levelBoard[15][8] = new Block(12, scaleFactor);
-		levelBoard[19][8] = new Block(12, scaleFactor);
-		levelBoard[20][8] = new Block(12, scaleFactor);
-		levelBoard[21][8] = new Block(12, scaleFactor);
-		levelBoard[22][8] = new Block(1, scaleFactor);
-		levelBoard[23][8] = new Block(1, scaleFactor);
-		levelBoard[24][8] = new Block(1, scaleFactor);
-		levelBoard[25][8] = new Block(12, scaleFactor);
-		levelBoard[26][8] = new Block(12, scaleFactor);
-		levelBoard[47][8] = new Block(12, scaleFactor);
-		levelBoard[48][8] = new Block(12, scaleFactor);
-		levelBoard[49][8] = new Block(12, scaleFactor);
-		levelBoard[50][8] = new Block(12, scaleFactor);
-		levelBoard[51][8] = new Block(12, scaleFactor);
-		levelBoard[52][8] = new Block(12, scaleFactor);
-		levelBoard[53][8] = new Block(12, scaleFactor);
-		levelBoard[54][8] = new Block(12, scaleFactor);
-		levelBoard[55][8] = new Block(12, scaleFactor);
-		levelBoard[56][8] = new Block(12, scaleFactor);
-		levelBoard[57][8] = new Block(12, scaleFactor);
-		levelBoard[58][8] = new Block(12, scaleFactor);
-		levelBoard[59][8] = new Block(12, scaleFactor);
-		levelBoard[60][8] = new Block(12, scaleFactor);
-		levelBoard[67][8] = new Block(12, scaleFactor);
-		levelBoard[68][8] = new Block(12, scaleFactor);
-		levelBoard[69][8] = new Block(12, scaleFactor);
-		levelBoard[70][8] = new Block(12, scaleFactor);
-		levelBoard[74][8] = new Block(12, scaleFactor);
-		levelBoard[75][8] = new Block(12, scaleFactor);
-		levelBoard[76][8] = new Block(12, scaleFactor);
-		levelBoard[80][8] = new Block(12, scaleFactor);
-		levelBoard[81][8] = new Block(12, scaleFactor);
-		levelBoard[82][8] = new Block(12, scaleFactor);
-		levelBoard[83][8] = new Block(12, scaleFactor);
-		levelBoard[84][8] = new Block(12, scaleFactor);
-		levelBoard[85][8] = new Block(12, scaleFactor);
-		levelBoard[95][8] = new Block(1, scaleFactor);
-		levelBoard[96][8] = new Block(18, scaleFactor);
-		levelBoard[103][8] = new Block(18, scaleFactor);
-		levelBoard[115][8] = new Block(10, scaleFactor);
-		levelBoard[116][8] = new Block(10, scaleFactor);
-		levelBoard[117][8] = new Block(10, scaleFactor);
-		levelBoard[118][8] = new Block(10, scaleFactor);
-		levelBoard[119][8] = new Block(10, scaleFactor);
-		levelBoard[120][8] = new Block(10, scaleFactor);
-		levelBoard[121][8] = new Block(10, scaleFactor);
-		levelBoard[122][8] = new Block(10, scaleFactor);
-		levelBoard[123][8] = new Block(10, scaleFactor);
-		levelBoard[124][8] = new Block(10, scaleFactor);
-		levelBoard[125][8] = new Block(10, scaleFactor);
-		levelBoard[126][8] = new Block(10, scaleFactor);
-		levelBoard[127][8] = new Block(10, scaleFactor);
-		levelBoard[10][9] = new Block(12, scaleFactor);
-		levelBoard[11][9] = new Block(12, scaleFactor);
-		levelBoard[12][9] = new Block(12, scaleFactor);
-		levelBoard[13][9] = new Block(12, scaleFactor);
-		levelBoard[19][9] = new Block(12, scaleFactor);
-		levelBoard[20][9] = new Block(12, scaleFactor);
-		levelBoard[25][9] = new Block(12, scaleFactor);
-		levelBoard[26][9] = new Block(12, scaleFactor);
-		levelBoard[45][9] = new Block(18, scaleFactor);
-		levelBoard[48][9] = new Block(12, scaleFactor);
-		levelBoard[49][9] = new Block(12, scaleFactor);
-		levelBoard[50][9] = new Block(12, scaleFactor);
-		levelBoard[51][9] = new Block(12, scaleFactor);
-		levelBoard[52][9] = new Block(12, scaleFactor);
-		levelBoard[53][9] = new Block(12, scaleFactor);
-		levelBoard[54][9] = new Block(12, scaleFactor);
-		levelBoard[58][9] = new Block(12, scaleFactor);
-		levelBoard[59][9] = new Block(12, scaleFactor);
-		levelBoard[60][9] = new Block(12, scaleFactor);
-		levelBoard[71][9] = new Block(1, scaleFactor);
-		levelBoard[72][9] = new Block(1, scaleFactor);
-		levelBoard[73][9] = new Block(12, scaleFactor);
-		levelBoard[74][9] = new Block(12, scaleFactor);
-		levelBoard[75][9] = new Block(12, scaleFactor);
-		levelBoard[82][9] = new Block(12, scaleFactor);
-		levelBoard[83][9] = new Block(12, scaleFactor);
-		levelBoard[84][9] = new Block(12, scaleFactor);
-		levelBoard[85][9] = new Block(12, scaleFactor);
-		levelBoard[96][9] = new Block(18, scaleFactor);
-		levelBoard[97][9] = new Block(3, scaleFactor);
-		levelBoard[98][9] = new Block(3, scaleFactor);
-		levelBoard[99][9] = new Block(3, scaleFactor);
-		levelBoard[100][9] = new Block(3, scaleFactor);
-		levelBoard[101][9] = new Block(3, scaleFactor);
-		levelBoard[102][9] = new Block(3, scaleFactor);
-		levelBoard[103][9] = new Block(18, scaleFactor);
-		levelBoard[115][9] = new Block(10, scaleFactor);
-		levelBoard[116][9] = new Block(10, scaleFactor);
-		levelBoard[117][9] = new Block(10, scaleFactor);
-		levelBoard[118][9] = new Block(10, scaleFactor);
-		levelBoard[119][9] = new Block(10, scaleFactor);
-		levelBoard[120][9] = new Block(10, scaleFactor);
-		levelBoard[121][9] = new Block(10, scaleFactor);
-		levelBoard[122][9] = new Block(10, scaleFactor);
-		levelBoard[123][9] = new Block(10, scaleFactor);
-		levelBoard[124][9] = new Block(10, scaleFactor);
-		levelBoard[125][9] = new Block(10, scaleFactor);
-		levelBoard[126][9] = new Block(10, scaleFactor);
-		levelBoard[127][9] = new Block(10, scaleFactor);
-		levelBoard[10][10] = new Block(12, scaleFactor);
-		levelBoard[11][10] = new Block(12, scaleFactor);
-		levelBoard[12][10] = new Block(12, scaleFactor);
-		levelBoard[19][10] = new Block(12, scaleFactor);
-		levelBoard[20][10] = new Block(12, scaleFactor);
-		levelBoard[25][10] = new Block(12, scaleFactor);
-		levelBoard[26][10] = new Block(12, scaleFactor);
-		levelBoard[34][10] = new Block(18, scaleFactor);
-		levelBoard[35][10] = new Block(18, scaleFactor);
-		levelBoard[36][10] = new Block(18, scaleFactor);
-		levelBoard[37][10] = new Block(18, scaleFactor);
-		levelBoard[38][10] = new Block(18, scaleFactor);
-		levelBoard[48][10] = new Block(12, scaleFactor);
-		levelBoard[49][10] = new Block(12, scaleFactor);
-		levelBoard[50][10] = new Block(12, scaleFactor);
-		levelBoard[51][10] = new Block(12, scaleFactor);
-		levelBoard[52][10] = new Block(12, scaleFactor);
-		levelBoard[53][10] = new Block(12, scaleFactor);
-		levelBoard[60][10] = new Block(12, scaleFactor);
-		levelBoard[61][10] = new Block(1, scaleFactor);
-		levelBoard[62][10] = new Block(1, scaleFactor);
-		levelBoard[63][10] = new Block(12, scaleFactor);
-		levelBoard[64][10] = new Block(12, scaleFactor);
-		levelBoard[73][10] = new Block(12, scaleFactor);
-		levelBoard[74][10] = new Block(12, scaleFactor);
-		levelBoard[75][10] = new Block(12, scaleFactor);
-		levelBoard[89][10] = new Block(18, scaleFactor);
-		levelBoard[92][10] = new Block(3, scaleFactor);
-		levelBoard[93][10] = new Block(3, scaleFactor);
-		levelBoard[96][10] = new Block(18, scaleFactor);
-		levelBoard[97][10] = new Block(18, scaleFactor);
-		levelBoard[98][10] = new Block(18, scaleFactor);
-		levelBoard[99][10] = new Block(18, scaleFactor);
-		levelBoard[100][10] = new Block(18, scaleFactor);
-		levelBoard[101][10] = new Block(18, scaleFactor);
-		levelBoard[102][10] = new Block(18, scaleFactor);
-		levelBoard[103][10] = new Block(18, scaleFactor);
-		levelBoard[115][10] = new Block(10, scaleFactor);
-		levelBoard[116][10] = new Block(10, scaleFactor);
-		levelBoard[117][10] = new Block(10, scaleFactor);
-		levelBoard[118][10] = new Block(10, scaleFactor);
-		levelBoard[119][10] = new Block(10, scaleFactor);
-		levelBoard[120][10] = new Block(10, scaleFactor);
-		levelBoard[121][10] = new Block(10, scaleFactor);
-		levelBoard[122][10] = new Block(10, scaleFactor);
-		levelBoard[123][10] = new Block(10, scaleFactor);
-		levelBoard[124][10] = new Block(10, scaleFactor);
-		levelBoard[125][10] = new Block(10, scaleFactor);
-		levelBoard[126][10] = new Block(10, scaleFactor);
-		levelBoard[127][10] = new Block(10, scaleFactor);
-		levelBoard[9][11] = new Block(3, scaleFactor);
-		levelBoard[10][11] = new Block(12, scaleFactor);
-		levelBoard[11][11] = new Block(12, scaleFactor);
-		levelBoard[12][11] = new Block(12, scaleFactor);
-		levelBoard[15][11] = new Block(12, scaleFactor);
-		levelBoard[16][11] = new Block(12, scaleFactor);
-		levelBoard[17][11] = new Block(9, scaleFactor);
-		levelBoard[18][11] = new Block(9, scaleFactor);
-		levelBoard[19][11] = new Block(12, scaleFactor);
-		levelBoard[20][11] = new Block(12, scaleFactor);
-		levelBoard[24][11] = new Block(12, scaleFactor);
-		levelBoard[25][11] = new Block(12, scaleFactor);
-		levelBoard[26][11] = new Block(12, scaleFactor);
-		levelBoard[32][11] = new Block(18, scaleFactor);
-		levelBoard[33][11] = new Block(18, scaleFactor);
-		levelBoard[34][11] = new Block(18, scaleFactor);
-		levelBoard[38][11] = new Block(18, scaleFactor);
-		levelBoard[39][11] = new Block(18, scaleFactor);
-		levelBoard[40][11] = new Block(18, scaleFactor);
-		levelBoard[42][11] = new Block(3, scaleFactor);
-		levelBoard[43][11] = new Block(3, scaleFactor);
-		levelBoard[53][11] = new Block(12, scaleFactor);
-		levelBoard[63][11] = new Block(12, scaleFactor);
-		levelBoard[64][11] = new Block(12, scaleFactor);
-		levelBoard[65][11] = new Block(3, scaleFactor);
-		levelBoard[73][11] = new Block(12, scaleFactor);
-		levelBoard[74][11] = new Block(12, scaleFactor);
-		levelBoard[90][11] = new Block(18, scaleFactor);
-		levelBoard[91][11] = new Block(18, scaleFactor);
-		levelBoard[92][11] = new Block(18, scaleFactor);
-		levelBoard[93][11] = new Block(18, scaleFactor);
-		levelBoard[94][11] = new Block(18, scaleFactor);
-		levelBoard[95][11] = new Block(18, scaleFactor);
-		levelBoard[96][11] = new Block(18, scaleFactor);
-		levelBoard[107][11] = new Block(12, scaleFactor);
-		levelBoard[111][11] = new Block(12, scaleFactor);
-		levelBoard[115][11] = new Block(10, scaleFactor);
-		levelBoard[116][11] = new Block(10, scaleFactor);
-		levelBoard[117][11] = new Block(10, scaleFactor);
-		levelBoard[118][11] = new Block(10, scaleFactor);
-		levelBoard[119][11] = new Block(10, scaleFactor);
-		levelBoard[120][11] = new Block(10, scaleFactor);
-		levelBoard[121][11] = new Block(10, scaleFactor);
-		levelBoard[122][11] = new Block(10, scaleFactor);
-		levelBoard[123][11] = new Block(10, scaleFactor);
-		levelBoard[124][11] = new Block(10, scaleFactor);
-		levelBoard[125][11] = new Block(10, scaleFactor);
-		levelBoard[126][11] = new Block(10, scaleFactor);
-		levelBoard[127][11] = new Block(10, scaleFactor);
-		levelBoard[8][12] = new Block(12, scaleFactor);
-		levelBoard[9][12] = new Block(12, scaleFactor);
-		levelBoard[10][12] = new Block(12, scaleFactor);
-		levelBoard[11][12] = new Block(12, scaleFactor);
-		levelBoard[12][12] = new Block(12, scaleFactor);
-		levelBoard[16][12] = new Block(12, scaleFactor);
-		levelBoard[17][12] = new Block(12, scaleFactor);
-		levelBoard[18][12] = new Block(12, scaleFactor);
-		levelBoard[19][12] = new Block(12, scaleFactor);
-		levelBoard[20][12] = new Block(12, scaleFactor);
-		levelBoard[21][12] = new Block(1, scaleFactor);
-		levelBoard[22][12] = new Block(1, scaleFactor);
-		levelBoard[23][12] = new Block(12, scaleFactor);
-		levelBoard[24][12] = new Block(12, scaleFactor);
-		levelBoard[25][12] = new Block(12, scaleFactor);
-		levelBoard[26][12] = new Block(12, scaleFactor);
-		levelBoard[27][12] = new Block(3, scaleFactor);
-		levelBoard[28][12] = new Block(3, scaleFactor);
-		levelBoard[29][12] = new Block(3, scaleFactor);
-		levelBoard[30][12] = new Block(12, scaleFactor);
-		levelBoard[31][12] = new Block(18, scaleFactor);
-		levelBoard[32][12] = new Block(18, scaleFactor);
-		levelBoard[40][12] = new Block(18, scaleFactor);
-		levelBoard[41][12] = new Block(18, scaleFactor);
-		levelBoard[42][12] = new Block(12, scaleFactor);
-		levelBoard[43][12] = new Block(12, scaleFactor);
-		levelBoard[54][12] = new Block(1, scaleFactor);
-		levelBoard[56][12] = new Block(3, scaleFactor);
-		levelBoard[64][12] = new Block(12, scaleFactor);
-		levelBoard[65][12] = new Block(12, scaleFactor);
-		levelBoard[66][12] = new Block(3, scaleFactor);
-		levelBoard[71][12] = new Block(12, scaleFactor);
-		levelBoard[72][12] = new Block(12, scaleFactor);
-		levelBoard[73][12] = new Block(12, scaleFactor);
-		levelBoard[74][12] = new Block(12, scaleFactor);
-		levelBoard[91][12] = new Block(18, scaleFactor);
-		levelBoard[96][12] = new Block(18, scaleFactor);
-		levelBoard[107][12] = new Block(12, scaleFactor);
-		levelBoard[111][12] = new Block(12, scaleFactor);
-		levelBoard[112][12] = new Block(12, scaleFactor);
-		levelBoard[115][12] = new Block(10, scaleFactor);
-		levelBoard[116][12] = new Block(10, scaleFactor);
-		levelBoard[117][12] = new Block(10, scaleFactor);
-		levelBoard[118][12] = new Block(10, scaleFactor);
-		levelBoard[119][12] = new Block(10, scaleFactor);
-		levelBoard[120][12] = new Block(10, scaleFactor);
-		levelBoard[121][12] = new Block(10, scaleFactor);
-		levelBoard[122][12] = new Block(10, scaleFactor);
-		levelBoard[123][12] = new Block(10, scaleFactor);
-		levelBoard[124][12] = new Block(10, scaleFactor);
-		levelBoard[125][12] = new Block(10, scaleFactor);
-		levelBoard[126][12] = new Block(10, scaleFactor);
-		levelBoard[127][12] = new Block(10, scaleFactor);
-		levelBoard[0][13] = new Block(12, scaleFactor);
-		levelBoard[8][13] = new Block(12, scaleFactor);
-		levelBoard[9][13] = new Block(12, scaleFactor);
-		levelBoard[10][13] = new Block(12, scaleFactor);
-		levelBoard[11][13] = new Block(12, scaleFactor);
-		levelBoard[12][13] = new Block(12, scaleFactor);
-		levelBoard[23][13] = new Block(12, scaleFactor);
-		levelBoard[24][13] = new Block(12, scaleFactor);
-		levelBoard[25][13] = new Block(12, scaleFactor);
-		levelBoard[26][13] = new Block(12, scaleFactor);
-		levelBoard[27][13] = new Block(12, scaleFactor);
-		levelBoard[28][13] = new Block(12, scaleFactor);
-		levelBoard[29][13] = new Block(12, scaleFactor);
-		levelBoard[30][13] = new Block(12, scaleFactor);
-		levelBoard[42][13] = new Block(12, scaleFactor);
-		levelBoard[43][13] = new Block(12, scaleFactor);
-		levelBoard[44][13] = new Block(12, scaleFactor);
-		levelBoard[45][13] = new Block(12, scaleFactor);
-		levelBoard[55][13] = new Block(12, scaleFactor);
-		levelBoard[56][13] = new Block(12, scaleFactor);
-		levelBoard[57][13] = new Block(12, scaleFactor);
-		levelBoard[60][13] = new Block(12, scaleFactor);
-		levelBoard[61][13] = new Block(12, scaleFactor);
-		levelBoard[64][13] = new Block(12, scaleFactor);
-		levelBoard[65][13] = new Block(12, scaleFactor);
-		levelBoard[66][13] = new Block(12, scaleFactor);
-		levelBoard[67][13] = new Block(12, scaleFactor);
-		levelBoard[71][13] = new Block(12, scaleFactor);
-		levelBoard[72][13] = new Block(12, scaleFactor);
-		levelBoard[73][13] = new Block(12, scaleFactor);
-		levelBoard[74][13] = new Block(12, scaleFactor);
-		levelBoard[75][13] = new Block(12, scaleFactor);
-		levelBoard[83][13] = new Block(3, scaleFactor);
-		levelBoard[84][13] = new Block(3, scaleFactor);
-		levelBoard[85][13] = new Block(12, scaleFactor);
-		levelBoard[86][13] = new Block(12, scaleFactor);
-		levelBoard[91][13] = new Block(18, scaleFactor);
-		levelBoard[96][13] = new Block(18, scaleFactor);
-		levelBoard[106][13] = new Block(12, scaleFactor);
-		levelBoard[107][13] = new Block(12, scaleFactor);
-		levelBoard[111][13] = new Block(12, scaleFactor);
-		levelBoard[112][13] = new Block(12, scaleFactor);
-		levelBoard[113][13] = new Block(12, scaleFactor);
-		levelBoard[114][13] = new Block(12, scaleFactor);
-		levelBoard[115][13] = new Block(10, scaleFactor);
-		levelBoard[116][13] = new Block(10, scaleFactor);
-		levelBoard[117][13] = new Block(10, scaleFactor);
-		levelBoard[118][13] = new Block(10, scaleFactor);
-		levelBoard[119][13] = new Block(10, scaleFactor);
-		levelBoard[120][13] = new Block(10, scaleFactor);
-		levelBoard[121][13] = new Block(10, scaleFactor);
-		levelBoard[122][13] = new Block(10, scaleFactor);
-		levelBoard[123][13] = new Block(10, scaleFactor);
-		levelBoard[124][13] = new Block(10, scaleFactor);
-		levelBoard[125][13] = new Block(10, scaleFactor);
-		levelBoard[126][13] = new Block(10, scaleFactor);
-		levelBoard[127][13] = new Block(10, scaleFactor);
-		levelBoard[0][14] = new Block(12, scaleFactor);
-		levelBoard[1][14] = new Block(12, scaleFactor);
-		levelBoard[7][14] = new Block(3, scaleFactor);
-		levelBoard[8][14] = new Block(12, scaleFactor);
-		levelBoard[9][14] = new Block(12, scaleFactor);
-		levelBoard[10][14] = new Block(12, scaleFactor);
-		levelBoard[11][14] = new Block(12, scaleFactor);
-		levelBoard[12][14] = new Block(12, scaleFactor);
-		levelBoard[13][14] = new Block(12, scaleFactor);
-		levelBoard[23][14] = new Block(12, scaleFactor);
-		levelBoard[24][14] = new Block(12, scaleFactor);
-		levelBoard[25][14] = new Block(12, scaleFactor);
-		levelBoard[26][14] = new Block(12, scaleFactor);
-		levelBoard[27][14] = new Block(12, scaleFactor);
-		levelBoard[28][14] = new Block(12, scaleFactor);
-		levelBoard[29][14] = new Block(12, scaleFactor);
-		levelBoard[30][14] = new Block(12, scaleFactor);
-		levelBoard[31][14] = new Block(9, scaleFactor);
-		levelBoard[32][14] = new Block(9, scaleFactor);
-		levelBoard[33][14] = new Block(9, scaleFactor);
-		levelBoard[34][14] = new Block(9, scaleFactor);
-		levelBoard[35][14] = new Block(9, scaleFactor);
-		levelBoard[36][14] = new Block(9, scaleFactor);
-		levelBoard[37][14] = new Block(9, scaleFactor);
-		levelBoard[38][14] = new Block(9, scaleFactor);
-		levelBoard[39][14] = new Block(9, scaleFactor);
-		levelBoard[40][14] = new Block(9, scaleFactor);
-		levelBoard[41][14] = new Block(9, scaleFactor);
-		levelBoard[42][14] = new Block(12, scaleFactor);
-		levelBoard[43][14] = new Block(12, scaleFactor);
-		levelBoard[44][14] = new Block(12, scaleFactor);
-		levelBoard[45][14] = new Block(12, scaleFactor);
-		levelBoard[46][14] = new Block(12, scaleFactor);
-		levelBoard[50][14] = new Block(3, scaleFactor);
-		levelBoard[51][14] = new Block(3, scaleFactor);
-		levelBoard[55][14] = new Block(12, scaleFactor);
-		levelBoard[56][14] = new Block(12, scaleFactor);
-		levelBoard[57][14] = new Block(12, scaleFactor);
-		levelBoard[60][14] = new Block(12, scaleFactor);
-		levelBoard[61][14] = new Block(12, scaleFactor);
-		levelBoard[64][14] = new Block(12, scaleFactor);
-		levelBoard[65][14] = new Block(12, scaleFactor);
-		levelBoard[66][14] = new Block(12, scaleFactor);
-		levelBoard[67][14] = new Block(12, scaleFactor);
-		levelBoard[68][14] = new Block(12, scaleFactor);
-		levelBoard[69][14] = new Block(12, scaleFactor);
-		levelBoard[70][14] = new Block(12, scaleFactor);
-		levelBoard[71][14] = new Block(12, scaleFactor);
-		levelBoard[72][14] = new Block(12, scaleFactor);
-		levelBoard[73][14] = new Block(12, scaleFactor);
-		levelBoard[74][14] = new Block(12, scaleFactor);
-		levelBoard[75][14] = new Block(12, scaleFactor);
-		levelBoard[76][14] = new Block(12, scaleFactor);
-		levelBoard[83][14] = new Block(12, scaleFactor);
-		levelBoard[84][14] = new Block(12, scaleFactor);
-		levelBoard[85][14] = new Block(12, scaleFactor);
-		levelBoard[86][14] = new Block(12, scaleFactor);
-		levelBoard[87][14] = new Block(12, scaleFactor);
-		levelBoard[88][14] = new Block(12, scaleFactor);
-		levelBoard[91][14] = new Block(18, scaleFactor);
-		levelBoard[96][14] = new Block(18, scaleFactor);
-		levelBoard[106][14] = new Block(12, scaleFactor);
-		levelBoard[107][14] = new Block(12, scaleFactor);
-		levelBoard[111][14] = new Block(12, scaleFactor);
-		levelBoard[112][14] = new Block(12, scaleFactor);
-		levelBoard[113][14] = new Block(12, scaleFactor);
-		levelBoard[114][14] = new Block(12, scaleFactor);
-		levelBoard[115][14] = new Block(12, scaleFactor);
-		levelBoard[116][14] = new Block(12, scaleFactor);
-		levelBoard[117][14] = new Block(12, scaleFactor);
-		levelBoard[118][14] = new Block(12, scaleFactor);
-		levelBoard[119][14] = new Block(12, scaleFactor);
-		levelBoard[120][14] = new Block(12, scaleFactor);
-		levelBoard[121][14] = new Block(12, scaleFactor);
-		levelBoard[122][14] = new Block(12, scaleFactor);
-		levelBoard[123][14] = new Block(12, scaleFactor);
-		levelBoard[124][14] = new Block(12, scaleFactor);
-		levelBoard[125][14] = new Block(12, scaleFactor);
-		levelBoard[126][14] = new Block(12, scaleFactor);
-		levelBoard[127][14] = new Block(12, scaleFactor);
-		levelBoard[0][15] = new Block(12, scaleFactor);
-		levelBoard[1][15] = new Block(12, scaleFactor);
-		levelBoard[2][15] = new Block(12, scaleFactor);
-		levelBoard[3][15] = new Block(12, scaleFactor);
-		levelBoard[4][15] = new Block(12, scaleFactor);
-		levelBoard[5][15] = new Block(12, scaleFactor);
-		levelBoard[6][15] = new Block(12, scaleFactor);
-		levelBoard[7][15] = new Block(12, scaleFactor);
-		levelBoard[8][15] = new Block(12, scaleFactor);
-		levelBoard[9][15] = new Block(12, scaleFactor);
-		levelBoard[10][15] = new Block(12, scaleFactor);
-		levelBoard[11][15] = new Block(12, scaleFactor);
-		levelBoard[12][15] = new Block(12, scaleFactor);
-		levelBoard[13][15] = new Block(12, scaleFactor);
-		levelBoard[14][15] = new Block(12, scaleFactor);
-		levelBoard[15][15] = new Block(12, scaleFactor);
-		levelBoard[17][15] = new Block(12, scaleFactor);
-		levelBoard[18][15] = new Block(12, scaleFactor);
-		levelBoard[20][15] = new Block(12, scaleFactor);
-		levelBoard[21][15] = new Block(12, scaleFactor);
-		levelBoard[22][15] = new Block(12, scaleFactor);
-		levelBoard[23][15] = new Block(12, scaleFactor);
-		levelBoard[24][15] = new Block(12, scaleFactor);
-		levelBoard[25][15] = new Block(12, scaleFactor);
-		levelBoard[26][15] = new Block(12, scaleFactor);
-		levelBoard[27][15] = new Block(12, scaleFactor);
-		levelBoard[28][15] = new Block(12, scaleFactor);
-		levelBoard[29][15] = new Block(12, scaleFactor);
-		levelBoard[30][15] = new Block(12, scaleFactor);
-		levelBoard[31][15] = new Block(12, scaleFactor);
-		levelBoard[32][15] = new Block(12, scaleFactor);
-		levelBoard[33][15] = new Block(12, scaleFactor);
-		levelBoard[34][15] = new Block(12, scaleFactor);
-		levelBoard[35][15] = new Block(12, scaleFactor);
-		levelBoard[36][15] = new Block(12, scaleFactor);
-		levelBoard[37][15] = new Block(12, scaleFactor);
-		levelBoard[38][15] = new Block(12, scaleFactor);
-		levelBoard[39][15] = new Block(12, scaleFactor);
-		levelBoard[40][15] = new Block(12, scaleFactor);
-		levelBoard[41][15] = new Block(12, scaleFactor);
-		levelBoard[42][15] = new Block(12, scaleFactor);
-		levelBoard[43][15] = new Block(12, scaleFactor);
-		levelBoard[44][15] = new Block(12, scaleFactor);
-		levelBoard[45][15] = new Block(12, scaleFactor);
-		levelBoard[46][15] = new Block(12, scaleFactor);
-		levelBoard[47][15] = new Block(12, scaleFactor);
-		levelBoard[48][15] = new Block(12, scaleFactor);
-		levelBoard[49][15] = new Block(12, scaleFactor);
-		levelBoard[50][15] = new Block(12, scaleFactor);
-		levelBoard[51][15] = new Block(12, scaleFactor);
-		levelBoard[52][15] = new Block(12, scaleFactor);
-		levelBoard[53][15] = new Block(12, scaleFactor);
-		levelBoard[54][15] = new Block(12, scaleFactor);
-		levelBoard[55][15] = new Block(12, scaleFactor);
-		levelBoard[56][15] = new Block(12, scaleFactor);
-		levelBoard[57][15] = new Block(12, scaleFactor);
-		levelBoard[60][15] = new Block(12, scaleFactor);
-		levelBoard[61][15] = new Block(12, scaleFactor);
-		levelBoard[64][15] = new Block(12, scaleFactor);
-		levelBoard[65][15] = new Block(12, scaleFactor);
-		levelBoard[66][15] = new Block(12, scaleFactor);
-		levelBoard[67][15] = new Block(12, scaleFactor);
-		levelBoard[68][15] = new Block(12, scaleFactor);
-		levelBoard[69][15] = new Block(12, scaleFactor);
-		levelBoard[70][15] = new Block(12, scaleFactor);
-		levelBoard[71][15] = new Block(12, scaleFactor);
-		levelBoard[72][15] = new Block(12, scaleFactor);
-		levelBoard[73][15] = new Block(12, scaleFactor);
-		levelBoard[74][15] = new Block(12, scaleFactor);
-		levelBoard[75][15] = new Block(12, scaleFactor);
-		levelBoard[76][15] = new Block(12, scaleFactor);
-		levelBoard[81][15] = new Block(12, scaleFactor);
-		levelBoard[82][15] = new Block(12, scaleFactor);
-		levelBoard[83][15] = new Block(12, scaleFactor);
-		levelBoard[84][15] = new Block(12, scaleFactor);
-		levelBoard[85][15] = new Block(12, scaleFactor);
-		levelBoard[86][15] = new Block(12, scaleFactor);
-		levelBoard[87][15] = new Block(12, scaleFactor);
-		levelBoard[88][15] = new Block(12, scaleFactor);
-		levelBoard[91][15] = new Block(18, scaleFactor);
-		levelBoard[96][15] = new Block(18, scaleFactor);
-		levelBoard[105][15] = new Block(12, scaleFactor);
-		levelBoard[106][15] = new Block(12, scaleFactor);
-		levelBoard[107][15] = new Block(12, scaleFactor);
-		levelBoard[108][15] = new Block(12, scaleFactor);
-		levelBoard[109][15] = new Block(12, scaleFactor);
-		levelBoard[110][15] = new Block(12, scaleFactor);
-		levelBoard[111][15] = new Block(12, scaleFactor);
-		levelBoard[112][15] = new Block(12, scaleFactor);
-		levelBoard[113][15] = new Block(12, scaleFactor);
-		levelBoard[114][15] = new Block(12, scaleFactor);
-		levelBoard[115][15] = new Block(12, scaleFactor);
-		levelBoard[116][15] = new Block(12, scaleFactor);
-		levelBoard[117][15] = new Block(12, scaleFactor);
-		levelBoard[118][15] = new Block(12, scaleFactor);
-		levelBoard[119][15] = new Block(12, scaleFactor);
-		levelBoard[120][15] = new Block(12, scaleFactor);
-		levelBoard[121][15] = new Block(12, scaleFactor);
-		levelBoard[122][15] = new Block(12, scaleFactor);
-		levelBoard[123][15] = new Block(12, scaleFactor);
-		levelBoard[124][15] = new Block(12, scaleFactor);
-		levelBoard[125][15] = new Block(12, scaleFactor);
-		levelBoard[126][15] = new Block(12, scaleFactor);
-		levelBoard[127][15] = new Block(12, scaleFactor);
-
-		temporaryLevel.setLevelBoard(levelBoard);
-		temporaryLevel.putBlocksOnPanel();
-		worlds[1].addLevel(2, temporaryLevel);
-		
+	/**
+	 * Replaces the current world with an endless level. The seed is random unless it's set with
+	 * {@code -DplatformRunner.seed}, and it's printed so a good run can be played again
+	 */
+	private void startEndlessLevel () {
+		long seed = Long.getLong("platformRunner.seed", System.nanoTime());
+		System.out.println("Endless mode, seed: " + seed);
+		
+		EndlessChunkSource chunkSource = new EndlessChunkSource(new EndlessLevelGenerator(seed));
+		Level endlessLevel = new Level(new LevelData(Color.cyan.getRGB() & 0xFFFFFF, 3, endlessSpeed, 5,
+				EndlessLevelGenerator.playerXStart, EndlessLevelGenerator.playerYStart, 0, chunkSource));
+				
+		remove(worlds[currentWorld - 1]);
+		remove(nextWorldButton);
+		remove(previousWorldButton);
+		remove(endlessModeButton);
+		currentWorld = 0;
+		add(endlessLevel);
+		endlessLevel.startThread();
+		update(getGraphics());
 	}
 	
-	private void createWorld2Level3 () {
-		
-		temporaryLevel = new Level(Color.gray, 3, 128, 16, 2, 5, 3, 7, 3); 	// backgroundColor = gray, scale = 3, board dimensions: 128x16, panelSpeed = 2, gAcc = 5, playerStart = (3,7), level 3
-		
-		levelBoard = new Block[128][16];
-		int scaleFactor = temporaryLevel.blockScaleFactor;
-		
-		levelBoard[0][0] = new Block(12, scaleFactor);
-		levelBoard[1][0] = new Block(12, scaleFactor);
-		levelBoard[2][0] = new Block(12, scaleFactor);
-		levelBoard[3][0] = new Block(12, scaleFactor);
-		levelBoard[4][0] = new Block(12, scaleFactor);
-		levelBoard[5][0] = new Block(12, scaleFactor);
-		levelBoard[6][0] = new Block(12, scaleFactor);
-		levelBoard[7][0] = new Block(12, scaleFactor);
-		levelBoard[8][0] = new Block(12, scaleFactor);
-		levelBoard[9][0] = new Block(12, scaleFactor);
-		levelBoard[10][0] = new Block(12, scaleFactor);
-		levelBoard[11][0] = new Block(12, scaleFactor);
-		levelBoard[12][0] = new Block(12, scaleFactor);
-		levelBoard[13][0] = new Block(12, scaleFactor);
-		levelBoard[14][0] = new Block(12, scaleFactor);
-		levelBoard[15][0] = new Block(12, scaleFactor);
-		levelBoard[16][0] = new Block(12, scaleFactor);
-		levelBoard[17][0] = new Block(12, scaleFactor);
-		levelBoard[18][0] = new Block(12, scaleFactor);
-		levelBoard[19][0] = new Block(12, scaleFactor);
-		levelBoard[20][0] = new Block(12, scaleFactor);
-		levelBoard[21][0] = new Block(12, scaleFactor);
-		levelBoard[22][0] = new Block(12, scaleFactor);
-		levelBoard[23][0] = new Block(12, scaleFactor);
-		levelBoard[24][0] = new Block(12, scaleFactor);
-		levelBoard[25][0] = new Block(12, scaleFactor);
-		levelBoard[26][0] = new Block(12, scaleFactor);
-		levelBoard[27][0] = new Block(12, scaleFactor);
-		levelBoard[28][0] = new Block(12, scaleFactor);
-		levelBoard[29][0] = new Block(12, scaleFactor);
-		levelBoard[30][0] = new Block(12, scaleFactor);
-		levelBoard[31][0] = new Block(12, scaleFactor);
-		levelBoard[32][0] = new Block(12, scaleFactor);
-		levelBoard[33][0] = new Block(12, scaleFactor);
-		levelBoard[34][0] = new Block(12, scaleFactor);
-		levelBoard[35][0] = new Block(12, scaleFactor);
-		levelBoard[36][0] = new Block(12, scaleFactor);
-		levelBoard[37][0] = new Block(12, scaleFactor);
-		levelBoard[38][0] = new Block(12, scaleFactor);
-		levelBoard[39][0] = new Block(12, scaleFactor);
-		levelBoard[40][0] = new Block(12, scaleFactor);
-		levelBoard[41][0] = new Block(12, scaleFactor);
-		levelBoard[42][0] = new Block(12, scaleFactor);
-		levelBoard[43][0] = new Block(12, scaleFactor);
-		levelBoard[44][0] = new Block(12, scaleFactor);
-		levelBoard[45][0] = new Block(12, scaleFactor);
-		levelBoard[46][0] = new Block(12, scaleFactor);
-		levelBoard[47][0] = new Block(12, scaleFactor);
-		levelBoard[48][0] = new Block(12, scaleFactor);
-		levelBoard[49][0] = new Block(12, scaleFactor);
-		levelBoard[50][0] = new Block(12, scaleFactor);
-		levelBoard[51][0] = new Block(12, scaleFactor);
-		levelBoard[52][0] = new Block(12, scaleFactor);
-		levelBoard[53][0] = new Block(12, scaleFactor);
-		levelBoard[54][0] = new Block(12, scaleFactor);
-		levelBoard[55][0] = new Block(12, scaleFactor);
-		levelBoard[56][0] = new Block(12, scaleFactor);
-		levelBoard[57][0] = new Block(12, scaleFactor);
-		levelBoard[58][0] = new Block(12, scaleFactor);
-		levelBoard[59][0] = new Block(12, scaleFactor);
-		levelBoard[60][0] = new Block(12, scaleFactor);
-		levelBoard[61][0] = new Block(12, scaleFactor);
-		levelBoard[62][0] = new Block(12, scaleFactor);
-		levelBoard[63][0] = new Block(12, scaleFactor);
-		levelBoard[64][0] = new Block(12, scaleFactor);
-		levelBoard[65][0] = new Block(12, scaleFactor);
-		levelBoard[66][0] = new Block(12, scaleFactor);
-		levelBoard[67][0] = new Block(12, scaleFactor);
-		levelBoard[68][0] = new Block(12, scaleFactor);
-		levelBoard[69][0] = new Block(12, scaleFactor);
-		levelBoard[70][0] = new Block(12, scaleFactor);
-		levelBoard[71][0] = new Block(12, scaleFactor);
-		levelBoard[72][0] = new Block(12, scaleFactor);
-		levelBoard[73][0] = new Block(12, scaleFactor);
-		levelBoard[74][0] = new Block(12, scaleFactor);
-		levelBoard[75][0] = new Block(12, scaleFactor);
-		levelBoard[76][0] = new Block(12, scaleFactor);
-		levelBoard[77][0] = new Block(12, scaleFactor);
-		levelBoard[78][0] = new Block(12, scaleFactor);
-		levelBoard[79][0] = new Block(12, scaleFactor);
-		levelBoard[80][0] = new Block(12, scaleFactor);
-		levelBoard[81][0] = new Block(12, scaleFactor);
-		levelBoard[82][0] = new Block(12, scaleFactor);
-		levelBoard[83][0] = new Block(12, scaleFactor);
-		levelBoard[84][0] = new Block(12, scaleFactor);
-		levelBoard[85][0] = new Block(12, scaleFactor);
-		levelBoard[86][0] = new Block(12, scaleFactor);
-		levelBoard[87][0] = new Block(12, scaleFactor);
-		levelBoard[88][0] = new Block(12, scaleFactor);
-		levelBoard[89][0] = new Block(12, scaleFactor);
-		levelBoard[90][0] = new Block(12, scaleFactor);
-		levelBoard[91][0] = new Block(12, scaleFactor);
-		levelBoard[92][0] = new Block(12, scaleFactor);
-		levelBoard[93][0] = new Block(12, scaleFactor);
-		levelBoard[94][0] = new Block(12, scaleFactor);
-		levelBoard[95][0] = new Block(12, scaleFactor);
-		levelBoard[96][0] = new Block(12, scaleFactor);
-		levelBoard[97][0] = new Block(12, scaleFactor);
-		levelBoard[98][0] = new Block(12, scaleFactor);
-		levelBoard[99][0] = new Block(12, scaleFactor);
-		levelBoard[100][0] = new Block(12, scaleFactor);
-		levelBoard[101][0] = new Block(12, scaleFactor);
-		levelBoard[102][0] = new Block(12, scaleFactor);
-		levelBoard[103][0] = new Block(12, scaleFactor);
-		levelBoard[104][0] = new Block(12, scaleFactor);
-		levelBoard[105][0] = new Block(12, scaleFactor);
-		levelBoard[106][0] = new Block(12, scaleFactor);
-		levelBoard[107][0] = new Block(12, scaleFactor);
-		levelBoard[108][0] = new Block(12, scaleFactor);
-		levelBoard[109][0] = new Block(12, scaleFactor);
-		levelBoard[110][0] = new Block(12, scaleFactor);
-		levelBoard[111][0] = new Block(12, scaleFactor);
-		levelBoard[112][0] = new Block(12, scaleFactor);
-		levelBoard[113][0] = new Block(12, scaleFactor);
-		levelBoard[114][0] = new Block(12, scaleFactor);
-		levelBoard[115][0] = new Block(12, scaleFactor);
-		levelBoard[116][0] = new Block(12, scaleFactor);
-		levelBoard[117][0] = new Block(12, scaleFactor);
-		levelBoard[118][0] = new Block(12, scaleFactor);
-		levelBoard[119][0] = new Block(12, scaleFactor);
-		levelBoard[120][0] = new Block(12, scaleFactor);
-		levelBoard[121][0] = new Block(12, scaleFactor);
-		levelBoard[122][0] = new Block(12, scaleFactor);
-		levelBoard[123][0] = new Block(12, scaleFactor);
-		levelBoard[124][0] = new Block(12, scaleFactor);
-		levelBoard[125][0] = new Block(12, scaleFactor);
-		levelBoard[126][0] = new Block(12, scaleFactor);
-		levelBoard[127][0] = new Block(12, scaleFactor);
-		levelBoard[0][1] = new Block(12, scaleFactor);
-		levelBoard[1][1] = new Block(12, scaleFactor);
-		levelBoard[2][1] = new Block(12, scaleFactor);
-		levelBoard[3][1] = new Block(12, scaleFactor);
-		levelBoard[4][1] = new Block(12, scaleFactor);
-		levelBoard[5][1] = new Block(12, scaleFactor);
-		levelBoard[6][1] = new Block(12, scaleFactor);
-		levelBoard[7][1] = new Block(12, scaleFactor);
-		levelBoard[8][1] = new Block(12, scaleFactor);
-		levelBoard[9][1] = new Block(12, scaleFactor);
-		levelBoard[10][1] = new Block(12, scaleFactor);
-		levelBoard[11][1] = new Block(12, scaleFactor);
-		levelBoard[12][1] = new Block(12, scaleFactor);
-		levelBoard[13][1] = new Block(12, scaleFactor);
-		levelBoard[14][1] = new Block(12, scaleFactor);
-		levelBoard[15][1] = new Block(12, scaleFactor);
-		levelBoard[16][1] = new Block(12, scaleFactor);
-		levelBoard[17][1] = new Block(12, scaleFactor);
-		levelBoard[18][1] = new Block(12, scaleFactor);
-		levelBoard[19][1] = new Block(12, scaleFactor);
-		levelBoard[20][1] = new Block(12, scaleFactor);
-		levelBoard[21][1] = new Block(12, scaleFactor);
-		levelBoard[22][1] = new Block(12, scaleFactor);
-		levelBoard[23][1] = new Block(12, scaleFactor);
-		levelBoard[24][1] = new Block(12, scaleFactor);
-		levelBoard[25][1] = new Block(12, scaleFactor);
-		levelBoard[26][1] = new Block(12, scaleFactor);
-		levelBoard[27][1] = new Block(12, scaleFactor);
-		levelBoard[28][1] = new Block(12, scaleFactor);
-		levelBoard[29][1] = new Block(12, scaleFactor);
-		levelBoard[30][1] = new Block(12, scaleFactor);
-		levelBoard[31][1] = new Block(12, scaleFactor);
-		levelBoard[32][1] = new Block(12, scaleFactor);
-		levelBoard[33][1] = new Block(12, scaleFactor);
-		levelBoard[34][1] = new Block(12, scaleFactor);
-		levelBoard[35][1] = new Block(12, scaleFactor);
-		levelBoard[36][1] = new Block(12, scaleFactor);
-		levelBoard[37][1] = new Block(12, scaleFactor);
-		levelBoard[38][1] = new Block(12, scaleFactor);
-		levelBoard[39][1] = new Block(12, scaleFactor);
-		levelBoard[40][1] = new Block(12, scaleFactor);
-		levelBoard[41][1] = new Block(12, scaleFactor);
-		levelBoard[42][1] = new Block(12, scaleFactor);
-		levelBoard[43][1] = new Block(12, scaleFactor);
-		levelBoard[44][1] = new Block(12, scaleFactor);
-		levelBoard[45][1] = new Block(12, scaleFactor);
-		levelBoard[46][1] = new Block(12, scaleFactor);
-		levelBoard[47][1] = new Block(12, scaleFactor);
-		levelBoard[48][1] = new Block(12, scaleFactor);
-		levelBoard[49][1] = new Block(12, scaleFactor);
-		levelBoard[50][1] = new Block(12, scaleFactor);
-		levelBoard[51][1] = new Block(12, scaleFactor);
-		levelBoard[52][1] = new Block(12, scaleFactor);
-		levelBoard[53][1] = new Block(12, scaleFactor);
-		levelBoard[54][1] = new Block(12, scaleFactor);
-		levelBoard[55][1] = new Block(12, scaleFactor);
-		levelBoard[56][1] = new Block(12, scaleFactor);
-		levelBoard[57][1] = new Block(12, scaleFactor);
-		levelBoard[58][1] = new Block(12, scaleFactor);
-		levelBoard[59][1] = new Block(12, scaleFactor);
-		levelBoard[60][1] = new Block(12, scaleFactor);
-		levelBoard[61][1] = new Block(12, scaleFactor);
-		levelBoard[62][1] = new Block(12, scaleFactor);
-		levelBoard[63][1] = new Block(12, scaleFactor);
-		levelBoard[64][1] = new Block(12, scaleFactor);
-		levelBoard[65][1] = new Block(12, scaleFactor);
-		levelBoard[66][1] = new Block(12, scaleFactor);
-		levelBoard[67][1] = new Block(12, scaleFactor);
-		levelBoard[68][1] = new Block(12, scaleFactor);
-		levelBoard[69][1] = new Block(12, scaleFactor);
-		levelBoard[70][1] = new Block(12, scaleFactor);
-		levelBoard[71][1] = new Block(12, scaleFactor);
-		levelBoard[72][1] = new Block(12, scaleFactor);
-		levelBoard[73][1] = new Block(12, scaleFactor);
-		levelBoard[74][1] = new Block(12, scaleFactor);
-		levelBoard[75][1] = new Block(12, scaleFactor);
-		levelBoard[76][1] = new Block(12, scaleFactor);
-		levelBoard[77][1] = new Block(12, scaleFactor);
-		levelBoard[78][1] = new Block(12, scaleFactor);
-		levelBoard[79][1] = new Block(12, scaleFactor);
-		levelBoard[80][1] = new Block(12, scaleFactor);
-		levelBoard[81][1] = new Block(12, scaleFactor);
-		levelBoard[82][1] = new Block(12, scaleFactor);
-		levelBoard[83][1] = new Block(12, scaleFactor);
-		levelBoard[84][1] = new Block(12, scaleFactor);
-		levelBoard[85][1] = new Block(12, scaleFactor);
-		levelBoard[86][1] = new Block(12, scaleFactor);
-		levelBoard[87][1] = new Block(12, scaleFactor);
-		levelBoard[88][1] = new Block(12, scaleFactor);
-		levelBoard[89][1] = new Block(12, scaleFactor);
-		levelBoard[90][1] = new Block(12, scaleFactor);
-		levelBoard[91][1] = new Block(12, scaleFactor);
-		levelBoard[92][1] = new Block(12, scaleFactor);
-		levelBoard[93][1] = new Block(12, scaleFactor);
-		levelBoard[94][1] = new Block(12, scaleFactor);
-		levelBoard[95][1] = new Block(12, scaleFactor);
-		levelBoard[96][1] = new Block(12, scaleFactor);
-		levelBoard[97][1] = new Block(12, scaleFactor);
-		levelBoard[98][1] = new Block(12, scaleFactor);
-		levelBoard[99][1] = new Block(12, scaleFactor);
-		levelBoard[100][1] = new Block(12, scaleFactor);
-		levelBoard[101][1] = new Block(12, scaleFactor);
-		levelBoard[102][1] = new Block(12, scaleFactor);
-		levelBoard[103][1] = new Block(12, scaleFactor);
-		levelBoard[104][1] = new Block(12, scaleFactor);
-		levelBoard[105][1] = new Block(12, scaleFactor);
-		levelBoard[106][1] = new Block(12, scaleFactor);
-		levelBoard[107][1] = new Block(12, scaleFactor);
-		levelBoard[108][1] = new Block(12, scaleFactor);
-		levelBoard[115][1] = new Block(10, scaleFactor);
-		levelBoard[116][1] = new Block(10, scaleFactor);
-		levelBoard[117][1] = new Block(10, scaleFactor);
-		levelBoard[118][1] = new Block(10, scaleFactor);
-		levelBoard[119][1] = new Block(10, scaleFactor);
-		levelBoard[120][1] = new Block(10, scaleFactor);
-		levelBoard[121][1] = new Block(10, scaleFactor);
-		levelBoard[122][1] = new Block(10, scaleFactor);
-		levelBoard[123][1] = new Block(10, scaleFactor);
-		levelBoard[124][1] = new Block(10, scaleFactor);
-		levelBoard[125][1] = new Block(10, scaleFactor);
-		levelBoard[126][1] = new Block(10, scaleFactor);
-		levelBoard[127][1] = new Block(10, scaleFactor);
-		levelBoard[0][2] = new Block(12, scaleFactor);
-		levelBoard[1][2] = new Block(12, scaleFactor);
-		levelBoard[6][2] = new Block(12, scaleFactor);
-		levelBoard[7][2] = new Block(12, scaleFactor);
-		levelBoard[8][2] = new Block(12, scaleFactor);
-		levelBoard[9][2] = new Block(12, scaleFactor);
-		levelBoard[10][2] = new Block(12, scaleFactor);
-		levelBoard[11][2] = new Block(12, scaleFactor);
-		levelBoard[12][2] = new Block(12, scaleFactor);
-		levelBoard[13][2] = new Block(12, scaleFactor);
-		levelBoard[14][2] = new Block(12, scaleFactor);
-		levelBoard[15][2] = new Block(12, scaleFactor);
-		levelBoard[16][2] = new Block(12, scaleFactor);
-		levelBoard[17][2] = new Block(12, scaleFactor);
-		levelBoard[18][2] = new Block(12, scaleFactor);
-		levelBoard[19][2] = new Block(12, scaleFactor);
-		levelBoard[20][2] = new Block(12, scaleFactor);
-		levelBoard[28][2] = new Block(12, scaleFactor);
-		levelBoard[29][2] = new Block(12, scaleFactor);
-		levelBoard[30][2] = new Block(12, scaleFactor);
-		levelBoard[35][2] = new Block(12, scaleFactor);
-		levelBoard[36][2] = new Block(12, scaleFactor);
-		levelBoard[37][2] = new Block(12, scaleFactor);
-		levelBoard[38][2] = new Block(12, scaleFactor);
-		levelBoard[39][2] = new Block(12, scaleFactor);
-		levelBoard[40][2] = new Block(12, scaleFactor);
-		levelBoard[41][2] = new Block(12, scaleFactor);
-		levelBoard[42][2] = new Block(12, scaleFactor);
-		levelBoard[43][2] = new Block(12, scaleFactor);
-		levelBoard[44][2] = new Block(12, scaleFactor);
-		levelBoard[45][2] = new Block(12, scaleFactor);
-		levelBoard[46][2] = new Block(12, scaleFactor);
-		levelBoard[47][2] = new Block(12, scaleFactor);
-		levelBoard[48][2] = new Block(12, scaleFactor);
-		levelBoard[49][2] = new Block(12, scaleFactor);
-		levelBoard[50][2] = new Block(12, scaleFactor);
-		levelBoard[51][2] = new Block(12, scaleFactor);
-		levelBoard[52][2] = new Block(12, scaleFactor);
-		levelBoard[53][2] = new Block(12, scaleFactor);
-		levelBoard[54][2] = new Block(12, scaleFactor);
-		levelBoard[55][2] = new Block(12, scaleFactor);
-		levelBoard[56][2] = new Block(12, scaleFactor);
-		levelBoard[57][2] = new Block(12, scaleFactor);
-		levelBoard[58][2] = new Block(12, scaleFactor);
-		levelBoard[63][2] = new Block(12, scaleFactor);
-		levelBoard[64][2] = new Block(12, scaleFactor);
-		levelBoard[65][2] = new Block(12, scaleFactor);
-		levelBoard[66][2] = new Block(12, scaleFactor);
-		levelBoard[67][2] = new Block(12, scaleFactor);
-		levelBoard[68][2] = new Block(12, scaleFactor);
-		levelBoard[69][2] = new Block(12, scaleFactor);
-		levelBoard[70][2] = new Block(12, scaleFactor);
-		levelBoard[71][2] = new Block(12, scaleFactor);
-		levelBoard[72][2] = new Block(12, scaleFactor);
-		levelBoard[73][2] = new Block(12, scaleFactor);
-		levelBoard[74][2] = new Block(12, scaleFactor);
-		levelBoard[75][2] = new Block(12, scaleFactor);
-		levelBoard[76][2] = new Block(12, scaleFactor);
-		levelBoard[85][2] = new Block(12, scaleFactor);
-		levelBoard[86][2] = new Block(12, scaleFactor);
-		levelBoard[87][2] = new Block(12, scaleFactor);
-		levelBoard[88][2] = new Block(12, scaleFactor);
-		levelBoard[89][2] = new Block(12, scaleFactor);
-		levelBoard[90][2] = new Block(12, scaleFactor);
-		levelBoard[91][2] = new Block(12, scaleFactor);
-		levelBoard[92][2] = new Block(12, scaleFactor);
-		levelBoard[93][2] = new Block(12, scaleFactor);
-		levelBoard[94][2] = new Block(12, scaleFactor);
-		levelBoard[95][2] = new Block(12, scaleFactor);
-		levelBoard[96][2] = new Block(12, scaleFactor);
-		levelBoard[97][2] = new Block(12, scaleFactor);
-		levelBoard[98][2] = new Block(12, scaleFactor);
-		levelBoard[99][2] = new Block(12, scaleFactor);
-		levelBoard[100][2] = new Block(12, scaleFactor);
-		levelBoard[101][2] = new Block(12, scaleFactor);
-		levelBoard[102][2] = new Block(12, scaleFactor);
-		levelBoard[103][2] = new Block(12, scaleFactor);
-		levelBoard[104][2] = new Block(12, scaleFactor);
-		levelBoard[105][2] = new Block(12, scaleFactor);
-		levelBoard[115][2] = new Block(10, scaleFactor);
-		levelBoard[116][2] = new Block(10, scaleFactor);
-		levelBoard[117][2] = new Block(10, scaleFactor);
-		levelBoard[118][2] = new Block(10, scaleFactor);
-		levelBoard[119][2] = new Block(10, scaleFactor);
-		levelBoard[120][2] = new Block(10, scaleFactor);
-		levelBoard[121][2] = new Block(10, scaleFactor);
-		levelBoard[122][2] = new Block(10, scaleFactor);
-		levelBoard[123][2] = new Block(10, scaleFactor);
-		levelBoard[124][2] = new Block(10, scaleFactor);
-		levelBoard[125][2] = new Block(10, scaleFactor);
-		levelBoard[126][2] = new Block(10, scaleFactor);
-		levelBoard[127][2] = new Block(10, scaleFactor);
-		levelBoard[0][3] = new Block(12, scaleFactor);
-		levelBoard[7][3] = new Block(12, scaleFactor);
-		levelBoard[8][3] = new Block(12, scaleFactor);
-		levelBoard[9][3] = new Block(12, scaleFactor);
-		levelBoard[10][3] = new Block(12, scaleFactor);
-		levelBoard[11][3] = new Block(12, scaleFactor);
-		levelBoard[12][3] = new Block(12, scaleFactor);
-		levelBoard[13][3] = new Block(12, scaleFactor);
-		levelBoard[36][3] = new Block(12, scaleFactor);
-		levelBoard[37][3] = new Block(12, scaleFactor);
-		levelBoard[44][3] = new Block(12, scaleFactor);
-		levelBoard[45][3] = new Block(12, scaleFactor);
-		levelBoard[46][3] = new Block(12, scaleFactor);
-		levelBoard[47][3] = new Block(12, scaleFactor);
-		levelBoard[48][3] = new Block(12, scaleFactor);
-		levelBoard[49][3] = new Block(12, scaleFactor);
-		levelBoard[50][3] = new Block(12, scaleFactor);
-		levelBoard[55][3] = new Block(12, scaleFactor);
-		levelBoard[56][3] = new Block(12, scaleFactor);
-		levelBoard[66][3] = new Block(12, scaleFactor);
-		levelBoard[67][3] = new Block(12, scaleFactor);
-		levelBoard[68][3] = new Block(12, scaleFactor);
-		levelBoard[69][3] = new Block(12, scaleFactor);
-		levelBoard[70][3] = new Block(12, scaleFactor);
-		levelBoard[71][3] = new Block(12, scaleFactor);
-		levelBoard[72][3] = new Block(12, scaleFactor);
-		levelBoard[73][3] = new Block(12, scaleFactor);
-		levelBoard[74][3] = new Block(12, scaleFactor);
-		levelBoard[75][3] = new Block(12, scaleFactor);
-		levelBoard[86][3] = new Block(12, scaleFactor);
-		levelBoard[87][3] = new Block(12, scaleFactor);
-		levelBoard[88][3] = new Block(12, scaleFactor);
-		levelBoard[89][3] = new Block(12, scaleFactor);
-		levelBoard[90][3] = new Block(12, scaleFactor);
-		levelBoard[91][3] = new Block(12, scaleFactor);
-		levelBoard[92][3] = new Block(12, scaleFactor);
-		levelBoard[93][3] = new Block(12, scaleFactor);
-		levelBoard[94][3] = new Block(12, scaleFactor);
-		levelBoard[95][3] = new Block(12, scaleFactor);
-		levelBoard[96][3] = new Block(12, scaleFactor);
-		levelBoard[97][3] = new Block(12, scaleFactor);
-		levelBoard[98][3] = new Block(12, scaleFactor);
-		levelBoard[99][3] = new Block(12, scaleFactor);
-		levelBoard[115][3] = new Block(10, scaleFactor);
-		levelBoard[116][3] = new Block(10, scaleFactor);
-		levelBoard[117][3] = new Block(10, scaleFactor);
-		levelBoard[118][3] = new Block(10, scaleFactor);
-		levelBoard[119][3] = new Block(10, scaleFactor);
-		levelBoard[120][3] = new Block(10, scaleFactor);
-		levelBoard[121][3] = new Block(10, scaleFactor);
-		levelBoard[122][3] = new Block(10, scaleFactor);
-		levelBoard[123][3] = new Block(10, scaleFactor);
-		levelBoard[124][3] = new Block(10, scaleFactor);
-		levelBoard[125][3] = new Block(10, scaleFactor);
-		levelBoard[126][3] = new Block(10, scaleFactor);
-		levelBoard[127][3] = new Block(10, scaleFactor);
-		levelBoard[7][4] = new Block(12, scaleFactor);
-		levelBoard[8][4] = new Block(12, scaleFactor);
-		levelBoard[9][4] = new Block(12, scaleFactor);
-		levelBoard[10][4] = new Block(12, scaleFactor);
-		levelBoard[56][4] = new Block(1, scaleFactor);
-		levelBoard[57][4] = new Block(1, scaleFactor);
-		levelBoard[72][4] = new Block(12, scaleFactor);
-		levelBoard[73][4] = new Block(12, scaleFactor);
-		levelBoard[74][4] = new Block(12, scaleFactor);
-		levelBoard[75][4] = new Block(12, scaleFactor);
-		levelBoard[79][4] = new Block(3, scaleFactor);
-		levelBoard[115][4] = new Block(10, scaleFactor);
-		levelBoard[116][4] = new Block(10, scaleFactor);
-		levelBoard[117][4] = new Block(10, scaleFactor);
-		levelBoard[118][4] = new Block(10, scaleFactor);
-		levelBoard[119][4] = new Block(10, scaleFactor);
-		levelBoard[120][4] = new Block(10, scaleFactor);
-		levelBoard[121][4] = new Block(10, scaleFactor);
-		levelBoard[122][4] = new Block(10, scaleFactor);
-		levelBoard[123][4] = new Block(10, scaleFactor);
-		levelBoard[124][4] = new Block(10, scaleFactor);
-		levelBoard[125][4] = new Block(10, scaleFactor);
-		levelBoard[126][4] = new Block(10, scaleFactor);
-		levelBoard[127][4] = new Block(10, scaleFactor);
-		levelBoard[7][5] = new Block(12, scaleFactor);
-		levelBoard[8][5] = new Block(12, scaleFactor);
-		levelBoard[9][5] = new Block(12, scaleFactor);
-		levelBoard[24][5] = new Block(3, scaleFactor);
-		levelBoard[25][5] = new Block(3, scaleFactor);
-		levelBoard[60][5] = new Block(3, scaleFactor);
-		levelBoard[61][5] = new Block(3, scaleFactor);
-		levelBoard[72][5] = new Block(12, scaleFactor);
-		levelBoard[73][5] = new Block(12, scaleFactor);
-		levelBoard[74][5] = new Block(12, scaleFactor);
-		levelBoard[79][5] = new Block(18, scaleFactor);
-		levelBoard[80][5] = new Block(18, scaleFactor);
-		levelBoard[81][5] = new Block(18, scaleFactor);
-		levelBoard[82][5] = new Block(18, scaleFactor);
-		levelBoard[115][5] = new Block(10, scaleFactor);
-		levelBoard[116][5] = new Block(10, scaleFactor);
-		levelBoard[117][5] = new Block(10, scaleFactor);
-		levelBoard[118][5] = new Block(10, scaleFactor);
-		levelBoard[119][5] = new Block(10, scaleFactor);
-		levelBoard[120][5] = new Block(10, scaleFactor);
-		levelBoard[121][5] = new Block(10, scaleFactor);
-		levelBoard[122][5] = new Block(10, scaleFactor);
-		levelBoard[123][5] = new Block(10, scaleFactor);
-		levelBoard[124][5] = new Block(10, scaleFactor);
-		levelBoard[125][5] = new Block(10, scaleFactor);
-		levelBoard[126][5] = new Block(10, scaleFactor);
-		levelBoard[127][5] = new Block(10, scaleFactor);
-		levelBoard[8][6] = new Block(12, scaleFactor);
-		levelBoard[9][6] = new Block(12, scaleFactor);
-		levelBoard[18][6] = new Block(3, scaleFactor);
-		levelBoard[19][6] = new Block(3, scaleFactor);
-		levelBoard[23][6] = new Block(3, scaleFactor);
-		levelBoard[24][6] = new Block(12, scaleFactor);
-		levelBoard[25][6] = new Block(12, scaleFactor);
-		levelBoard[26][6] = new Block(3, scaleFactor);
-		levelBoard[52][6] = new Block(3, scaleFactor);
-		levelBoard[58][6] = new Block(12, scaleFactor);
-		levelBoard[59][6] = new Block(12, scaleFactor);
-		levelBoard[60][6] = new Block(12, scaleFactor);
-		levelBoard[61][6] = new Block(12, scaleFactor);
-		levelBoard[62][6] = new Block(12, scaleFactor);
-		levelBoard[63][6] = new Block(12, scaleFactor);
-		levelBoard[64][6] = new Block(12, scaleFactor);
-		levelBoard[72][6] = new Block(12, scaleFactor);
-		levelBoard[73][6] = new Block(12, scaleFactor);
-		levelBoard[74][6] = new Block(12, scaleFactor);
-		levelBoard[75][6] = new Block(1, scaleFactor);
-		levelBoard[76][6] = new Block(1, scaleFactor);
-		levelBoard[77][6] = new Block(1, scaleFactor);
-		levelBoard[78][6] = new Block(1, scaleFactor);
-		levelBoard[79][6] = new Block(18, scaleFactor);
-		levelBoard[82][6] = new Block(18, scaleFactor);
-		levelBoard[115][6] = new Block(10, scaleFactor);
-		levelBoard[116][6] = new Block(10, scaleFactor);
-		levelBoard[117][6] = new Block(10, scaleFactor);
-		levelBoard[118][6] = new Block(10, scaleFactor);
-		levelBoard[119][6] = new Block(10, scaleFactor);
-		levelBoard[120][6] = new Block(10, scaleFactor);
-		levelBoard[121][6] = new Block(10, scaleFactor);
-		levelBoard[122][6] = new Block(10, scaleFactor);
-		levelBoard[123][6] = new Block(10, scaleFactor);
-		levelBoard[124][6] = new Block(10, scaleFactor);
-		levelBoard[125][6] = new Block(10, scaleFactor);
-		levelBoard[126][6] = new Block(10, scaleFactor);
-		levelBoard[127][6] = new Block(10, scaleFactor);
-		levelBoard[16][7] = new Block(12, scaleFactor);
-		levelBoard[17][7] = new Block(12, scaleFactor);
-		levelBoard[18][7] = new Block(12, scaleFactor);
-		levelBoard[19][7] = new Block(12, scaleFactor);
-		levelBoard[20][7] = new Block(12, scaleFactor);
-		levelBoard[21][7] = new Block(12, scaleFactor);
-		levelBoard[22][7] = new Block(12, scaleFactor);
-		levelBoard[23][7] = new Block(12, scaleFactor);
-		levelBoard[24][7] = new Block(12, scaleFactor);
-		levelBoard[25][7] = new Block(12, scaleFactor);
-		levelBoard[26][7] = new Block(12, scaleFactor);
-		levelBoard[27][7] = new Block(12, scaleFactor);
-		levelBoard[28][7] = new Block(12, scaleFactor);
-		levelBoard[29][7] = new Block(12, scaleFactor);
-		levelBoard[30][7] = new Block(12, scaleFactor);
-		levelBoard[36][7] = new Block(12, scaleFactor);
-		levelBoard[37][7] = new Block(12, scaleFactor);
-		levelBoard[38][7] = new Block(9, scaleFactor);
-		levelBoard[39][7] = new Block(9, scaleFactor);
-		levelBoard[40][7] = new Block(9, scaleFactor);
-		levelBoard[41][7] = new Block(9, scaleFactor);
-		levelBoard[42][7] = new Block(12, scaleFactor);
-		levelBoard[43][7] = new Block(12, scaleFactor);
-		levelBoard[51][7] = new Block(12, scaleFactor);
-		levelBoard[52][7] = new Block(12, scaleFactor);
-		levelBoard[53][7] = new Block(3, scaleFactor);
-		levelBoard[58][7] = new Block(12, scaleFactor);
-		levelBoard[59][7] = new Block(12, scaleFactor);
-		levelBoard[60][7] = new Block(12, scaleFactor);
-		levelBoard[61][7] = new Block(12, scaleFactor);
-		levelBoard[62][7] = new Block(12, scaleFactor);
-		levelBoard[63][7] = new Block(12, scaleFactor);
-		levelBoard[68][7] = new Block(12, scaleFactor);
-		levelBoard[69][7] = new Block(12, scaleFactor);
-		levelBoard[72][7] = new Block(12, scaleFactor);
-		levelBoard[73][7] = new Block(12, scaleFactor);
-		levelBoard[74][7] = new Block(12, scaleFactor);
-		levelBoard[79][7] = new Block(18, scaleFactor);
-		levelBoard[82][7] = new Block(18, scaleFactor);
-		levelBoard[85][7] = new Block(3, scaleFactor);
-		levelBoard[89][7] = new Block(3, scaleFactor);
-		levelBoard[90][7] = new Block(3, scaleFactor);
-		levelBoard[115][7] = new Block(10, scaleFactor);
-		levelBoard[116][7] = new Block(10, scaleFactor);
-		levelBoard[117][7] = new Block(10, scaleFactor);
-		levelBoard[118][7] = new Block(10, scaleFactor);
-		levelBoard[119][7] = new Block(10, scaleFactor);
-		levelBoard[120][7] = new Block(10, scaleFactor);
-		levelBoard[121][7] = new Block(10, scaleFactor);
-		levelBoard[122][7] = new Block(10, scaleFactor);
-		levelBoard[123][7] = new Block(10, scaleFactor);
-		levelBoard[124][7] = new Block(10, scaleFactor);
-		levelBoard[125][7] = new Block(10, scaleFactor);
-		levelBoard[126][7] = new Block(10, scaleFactor);
-		levelBoard[127][7] = new Block(10, scaleFactor);
-		levelBoard[15][8] = new Block(12, scaleFactor);
-		levelBoard[16][8] = new Block(12, scaleFactor);
-		levelBoard[17][8] = new Block(12, scaleFactor);
-		levelBoard[18][8] = new Block(12, scaleFactor);
-		levelBoard[19][8] = new Block(12, scaleFactor);
-		levelBoard[20][8] = new Block(12, scaleFactor);
-		levelBoard[21][8] = new Block(12, scaleFactor);
-		levelBoard[22][8] = new Block(12, scaleFactor);
-		levelBoard[23][8] = new Block(12, scaleFactor);
-		levelBoard[24][8] = new Block(12, scaleFactor);
-		levelBoard[25][8] = new Block(12, scaleFactor);
-		levelBoard[26][8] = new Block(12, scaleFactor);
-		levelBoard[27][8] = new Block(12, scaleFactor);
-		levelBoard[28][8] = new Block(12, scaleFactor);
-		levelBoard[29][8] = new Block(12, scaleFactor);
-		levelBoard[30][8] = new Block(12, scaleFactor);
-		levelBoard[31][8] = new Block(12, scaleFactor);
-		levelBoard[32][8] = new Block(1, scaleFactor);
-		levelBoard[33][8] = new Block(1, scaleFactor);
-		levelBoard[34][8] = new Block(1, scaleFactor);
-		levelBoard[36][8] = new Block(12, scaleFactor);
-		levelBoard[37][8] = new Block(12, scaleFactor);
-		levelBoard[38][8] = new Block(12, scaleFactor);
-		levelBoard[39][8] = new Block(12, scaleFactor);
-		levelBoard[40][8] = new Block(12, scaleFactor);
-		levelBoard[41][8] = new Block(12, scaleFactor);
-		levelBoard[42][8] = new Block(12, scaleFactor);
-		levelBoard[43][8] = new Block(12, scaleFactor);
-		levelBoard[44][8] = new Block(12, scaleFactor);
-		levelBoard[45][8] = new Block(12, scaleFactor);
-		levelBoard[49][8] = new Block(12, scaleFactor);
-		levelBoard[50][8] = new Block(12, scaleFactor);
-		levelBoard[51][8] = new Block(12, scaleFactor);
-		levelBoard[52][8] = new Block(12, scaleFactor);
-		levelBoard[53][8] = new Block(12, scaleFactor);
-		levelBoard[54][8] = new Block(12, scaleFactor);
-		levelBoard[55][8] = new Block(12, scaleFactor);
-		levelBoard[56][8] = new Block(12, scaleFactor);
-		levelBoard[57][8] = new Block(12, scaleFactor);
-		levelBoard[58][8] = new Block(12, scaleFactor);
-		levelBoard[68][8] = new Block(12, scaleFactor);
-		levelBoard[69][8] = new Block(12, scaleFactor);
-		levelBoard[73][8] = new Block(12, scaleFactor);
-		levelBoard[74][8] = new Block(12, scaleFactor);
-		levelBoard[79][8] = new Block(18, scaleFactor);
-		levelBoard[82][8] = new Block(18, scaleFactor);
-		levelBoard[85][8] = new Block(18, scaleFactor);
-		levelBoard[86][8] = new Block(18, scaleFactor);
-		levelBoard[87][8] = new Block(18, scaleFactor);
-		levelBoard[88][8] = new Block(18, scaleFactor);
-		levelBoard[89][8] = new Block(18, scaleFactor);
-		levelBoard[90][8] = new Block(18, scaleFactor);
-		levelBoard[91][8] = new Block(18, scaleFactor);
-		levelBoard[115][8] = new Block(10, scaleFactor);
-		levelBoard[116][8] = new Block(10, scaleFactor);
-		levelBoard[117][8] = new Block(10, scaleFactor);
-		levelBoard[118][8] = new Block(10, scaleFactor);
-		levelBoard[119][8] = new Block(10, scaleFactor);
-		levelBoard[120][8] = new Block(10, scaleFactor);
-		levelBoard[121][8] = new Block(10, scaleFactor);
-		levelBoard[122][8] = new Block(10, scaleFactor);
-		levelBoard[123][8] = new Block(10, scaleFactor);
-		levelBoard[124][8] = new Block(10, scaleFactor);
-		levelBoard[125][8] = new Block(10, scaleFactor);
-		levelBoard[126][8] = new Block(10, scaleFactor);
-		levelBoard[127][8] = new Block(10, scaleFactor);
-		levelBoard[17][9] = new Block(12, scaleFactor);
-		levelBoard[18][9] = new Block(12, scaleFactor);
-		levelBoard[19][9] = new Block(12, scaleFactor);
-		levelBoard[20][9] = new Block(12, scaleFactor);
-		levelBoard[21][9] = new Block(12, scaleFactor);
-		levelBoard[22][9] = new Block(12, scaleFactor);
-		levelBoard[23][9] = new Block(12, scaleFactor);
-		levelBoard[26][9] = new Block(12, scaleFactor);
-		levelBoard[27][9] = new Block(12, scaleFactor);
-		levelBoard[28][9] = new Block(12, scaleFactor);
-		levelBoard[35][9] = new Block(12, scaleFactor);
-		levelBoard[36][9] = new Block(12, scaleFactor);
-		levelBoard[37][9] = new Block(12, scaleFactor);
-		levelBoard[38][9] = new Block(12, scaleFactor);
-		levelBoard[52][9] = new Block(12, scaleFactor);
-		levelBoard[53][9] = new Block(12, scaleFactor);
-		levelBoard[54][9] = new Block(12, scaleFactor);
-		levelBoard[55][9] = new Block(12, scaleFactor);
-		levelBoard[67][9] = new Block(12, scaleFactor);
-		levelBoard[68][9] = new Block(12, scaleFactor);
-		levelBoard[69][9] = new Block(12, scaleFactor);
-		levelBoard[73][9] = new Block(12, scaleFactor);
-		levelBoard[74][9] = new Block(12, scaleFactor);
-		levelBoard[75][9] = new Block(1, scaleFactor);
-		levelBoard[76][9] = new Block(1, scaleFactor);
-		levelBoard[77][9] = new Block(1, scaleFactor);
-		levelBoard[78][9] = new Block(1, scaleFactor);
-		levelBoard[79][9] = new Block(18, scaleFactor);
-		levelBoard[82][9] = new Block(18, scaleFactor);
-		levelBoard[94][9] = new Block(1, scaleFactor);
-		levelBoard[95][9] = new Block(1, scaleFactor);
-		levelBoard[102][9] = new Block(3, scaleFactor);
-		levelBoard[106][9] = new Block(3, scaleFactor);
-		levelBoard[115][9] = new Block(10, scaleFactor);
-		levelBoard[116][9] = new Block(10, scaleFactor);
-		levelBoard[117][9] = new Block(10, scaleFactor);
-		levelBoard[118][9] = new Block(10, scaleFactor);
-		levelBoard[119][9] = new Block(10, scaleFactor);
-		levelBoard[120][9] = new Block(10, scaleFactor);
-		levelBoard[121][9] = new Block(10, scaleFactor);
-		levelBoard[122][9] = new Block(10, scaleFactor);
-		levelBoard[123][9] = new Block(10, scaleFactor);
-		levelBoard[124][9] = new Block(10, scaleFactor);
-		levelBoard[125][9] = new Block(10, scaleFactor);
-		levelBoard[126][9] = new Block(10, scaleFactor);
-		levelBoard[127][9] = new Block(10, scaleFactor);
-		levelBoard[0][10] = new Block(3, scaleFactor);
-		levelBoard[1][10] = new Block(3, scaleFactor);
-		levelBoard[19][10] = new Block(12, scaleFactor);
-		levelBoard[20][10] = new Block(12, scaleFactor);
-		levelBoard[21][10] = new Block(12, scaleFactor);
-		levelBoard[27][10] = new Block(12, scaleFactor);
-		levelBoard[28][10] = new Block(12, scaleFactor);
-		levelBoard[37][10] = new Block(12, scaleFactor);
-		levelBoard[65][10] = new Block(12, scaleFactor);
-		levelBoard[66][10] = new Block(12, scaleFactor);
-		levelBoard[67][10] = new Block(12, scaleFactor);
-		levelBoard[68][10] = new Block(12, scaleFactor);
-		levelBoard[69][10] = new Block(12, scaleFactor);
-		levelBoard[73][10] = new Block(12, scaleFactor);
-		levelBoard[74][10] = new Block(12, scaleFactor);
-		levelBoard[79][10] = new Block(18, scaleFactor);
-		levelBoard[82][10] = new Block(18, scaleFactor);
-		levelBoard[96][10] = new Block(18, scaleFactor);
-		levelBoard[101][10] = new Block(3, scaleFactor);
-		levelBoard[102][10] = new Block(18, scaleFactor);
-		levelBoard[103][10] = new Block(18, scaleFactor);
-		levelBoard[104][10] = new Block(18, scaleFactor);
-		levelBoard[105][10] = new Block(18, scaleFactor);
-		levelBoard[106][10] = new Block(18, scaleFactor);
-		levelBoard[107][10] = new Block(3, scaleFactor);
-		levelBoard[115][10] = new Block(10, scaleFactor);
-		levelBoard[116][10] = new Block(10, scaleFactor);
-		levelBoard[117][10] = new Block(10, scaleFactor);
-		levelBoard[118][10] = new Block(10, scaleFactor);
-		levelBoard[119][10] = new Block(10, scaleFactor);
-		levelBoard[120][10] = new Block(10, scaleFactor);
-		levelBoard[121][10] = new Block(10, scaleFactor);
-		levelBoard[122][10] = new Block(10, scaleFactor);
-		levelBoard[123][10] = new Block(10, scaleFactor);
-		levelBoard[124][10] = new Block(10, scaleFactor);
-		levelBoard[125][10] = new Block(10, scaleFactor);
-		levelBoard[126][10] = new Block(10, scaleFactor);
-		levelBoard[127][10] = new Block(10, scaleFactor);
-		levelBoard[0][11] = new Block(12, scaleFactor);
-		levelBoard[1][11] = new Block(12, scaleFactor);
-		levelBoard[2][11] = new Block(12, scaleFactor);
-		levelBoard[3][11] = new Block(12, scaleFactor);
-		levelBoard[4][11] = new Block(12, scaleFactor);
-		levelBoard[5][11] = new Block(12, scaleFactor);
-		levelBoard[11][11] = new Block(12, scaleFactor);
-		levelBoard[21][11] = new Block(12, scaleFactor);
-		levelBoard[22][11] = new Block(1, scaleFactor);
-		levelBoard[23][11] = new Block(1, scaleFactor);
-		levelBoard[27][11] = new Block(12, scaleFactor);
-		levelBoard[60][11] = new Block(3, scaleFactor);
-		levelBoard[65][11] = new Block(12, scaleFactor);
-		levelBoard[66][11] = new Block(12, scaleFactor);
-		levelBoard[67][11] = new Block(12, scaleFactor);
-		levelBoard[68][11] = new Block(12, scaleFactor);
-		levelBoard[69][11] = new Block(12, scaleFactor);
-		levelBoard[70][11] = new Block(3, scaleFactor);
-		levelBoard[73][11] = new Block(12, scaleFactor);
-		levelBoard[74][11] = new Block(12, scaleFactor);
-		levelBoard[79][11] = new Block(18, scaleFactor);
-		levelBoard[82][11] = new Block(18, scaleFactor);
-		levelBoard[96][11] = new Block(18, scaleFactor);
-		levelBoard[101][11] = new Block(18, scaleFactor);
-		levelBoard[102][11] = new Block(18, scaleFactor);
-		levelBoard[104][11] = new Block(18, scaleFactor);
-		levelBoard[106][11] = new Block(18, scaleFactor);
-		levelBoard[107][11] = new Block(18, scaleFactor);
-		levelBoard[115][11] = new Block(10, scaleFactor);
-		levelBoard[116][11] = new Block(10, scaleFactor);
-		levelBoard[117][11] = new Block(10, scaleFactor);
-		levelBoard[118][11] = new Block(10, scaleFactor);
-		levelBoard[119][11] = new Block(10, scaleFactor);
-		levelBoard[120][11] = new Block(10, scaleFactor);
-		levelBoard[121][11] = new Block(10, scaleFactor);
-		levelBoard[122][11] = new Block(10, scaleFactor);
-		levelBoard[123][11] = new Block(10, scaleFactor);
-		levelBoard[124][11] = new Block(10, scaleFactor);
-		levelBoard[125][11] = new Block(10, scaleFactor);
-		levelBoard[126][11] = new Block(10, scaleFactor);
-		levelBoard[127][11] = new Block(10, scaleFactor);
-		levelBoard[0][12] = new Block(12, scaleFactor);
-		levelBoard[1][12] = new Block(12, scaleFactor);
-		levelBoard[2][12] = new Block(12, scaleFactor);
-		levelBoard[3][12] = new Block(12, scaleFactor);
-		levelBoard[4][12] = new Block(12, scaleFactor);
-		levelBoard[5][12] = new Block(12, scaleFactor);
-		levelBoard[6][12] = new Block(9, scaleFactor);
-		levelBoard[7][12] = new Block(9, scaleFactor);
-		levelBoard[8][12] = new Block(9, scaleFactor);
-		levelBoard[9][12] = new Block(9, scaleFactor);
-		levelBoard[10][12] = new Block(9, scaleFactor);
-		levelBoard[11][12] = new Block(12, scaleFactor);
-		levelBoard[12][12] = new Block(3, scaleFactor);
-		levelBoard[24][12] = new Block(12, scaleFactor);
-		levelBoard[27][12] = new Block(12, scaleFactor);
-		levelBoard[31][12] = new Block(12, scaleFactor);
-		levelBoard[32][12] = new Block(12, scaleFactor);
-		levelBoard[33][12] = new Block(12, scaleFactor);
-		levelBoard[60][12] = new Block(12, scaleFactor);
-		levelBoard[65][12] = new Block(12, scaleFactor);
-		levelBoard[66][12] = new Block(12, scaleFactor);
-		levelBoard[67][12] = new Block(12, scaleFactor);
-		levelBoard[68][12] = new Block(12, scaleFactor);
-		levelBoard[69][12] = new Block(12, scaleFactor);
-		levelBoard[70][12] = new Block(12, scaleFactor);
-		levelBoard[74][12] = new Block(12, scaleFactor);
-		levelBoard[75][12] = new Block(1, scaleFactor);
-		levelBoard[76][12] = new Block(1, scaleFactor);
-		levelBoard[77][12] = new Block(1, scaleFactor);
-		levelBoard[78][12] = new Block(1, scaleFactor);
-		levelBoard[79][12] = new Block(18, scaleFactor);
-		levelBoard[82][12] = new Block(18, scaleFactor);
-		levelBoard[85][12] = new Block(3, scaleFactor);
-		levelBoard[86][12] = new Block(3, scaleFactor);
-		levelBoard[91][12] = new Block(3, scaleFactor);
-		levelBoard[92][12] = new Block(3, scaleFactor);
-		levelBoard[96][12] = new Block(18, scaleFactor);
-		levelBoard[104][12] = new Block(18, scaleFactor);
-		levelBoard[115][12] = new Block(10, scaleFactor);
-		levelBoard[116][12] = new Block(10, scaleFactor);
-		levelBoard[117][12] = new Block(10, scaleFactor);
-		levelBoard[118][12] = new Block(10, scaleFactor);
-		levelBoard[119][12] = new Block(10, scaleFactor);
-		levelBoard[120][12] = new Block(10, scaleFactor);
-		levelBoard[121][12] = new Block(10, scaleFactor);
-		levelBoard[122][12] = new Block(10, scaleFactor);
-		levelBoard[123][12] = new Block(10, scaleFactor);
-		levelBoard[124][12] = new Block(10, scaleFactor);
-		levelBoard[125][12] = new Block(10, scaleFactor);
-		levelBoard[126][12] = new Block(10, scaleFactor);
-		levelBoard[127][12] = new Block(10, scaleFactor);
-		levelBoard[0][13] = new Block(12, scaleFactor);
-		levelBoard[1][13] = new Block(12, scaleFactor);
-		levelBoard[2][13] = new Block(12, scaleFactor);
-		levelBoard[3][13] = new Block(12, scaleFactor);
-		levelBoard[4][13] = new Block(12, scaleFactor);
-		levelBoard[5][13] = new Block(12, scaleFactor);
-		levelBoard[6][13] = new Block(12, scaleFactor);
-		levelBoard[7][13] = new Block(12, scaleFactor);
-		levelBoard[8][13] = new Block(12, scaleFactor);
-		levelBoard[9][13] = new Block(12, scaleFactor);
-		levelBoard[10][13] = new Block(12, scaleFactor);
-		levelBoard[11][13] = new Block(12, scaleFactor);
-		levelBoard[12][13] = new Block(12, scaleFactor);
-		levelBoard[13][13] = new Block(12, scaleFactor);
-		levelBoard[24][13] = new Block(12, scaleFactor);
-		levelBoard[31][13] = new Block(12, scaleFactor);
-		levelBoard[32][13] = new Block(12, scaleFactor);
-		levelBoard[33][13] = new Block(12, scaleFactor);
-		levelBoard[34][13] = new Block(12, scaleFactor);
-		levelBoard[43][13] = new Block(3, scaleFactor);
-		levelBoard[50][13] = new Block(3, scaleFactor);
-		levelBoard[55][13] = new Block(12, scaleFactor);
-		levelBoard[56][13] = new Block(12, scaleFactor);
-		levelBoard[60][13] = new Block(12, scaleFactor);
-		levelBoard[64][13] = new Block(12, scaleFactor);
-		levelBoard[65][13] = new Block(12, scaleFactor);
-		levelBoard[66][13] = new Block(12, scaleFactor);
-		levelBoard[67][13] = new Block(12, scaleFactor);
-		levelBoard[68][13] = new Block(12, scaleFactor);
-		levelBoard[69][13] = new Block(12, scaleFactor);
-		levelBoard[70][13] = new Block(12, scaleFactor);
-		levelBoard[79][13] = new Block(18, scaleFactor);
-		levelBoard[82][13] = new Block(18, scaleFactor);
-		levelBoard[83][13] = new Block(18, scaleFactor);
-		levelBoard[84][13] = new Block(18, scaleFactor);
-		levelBoard[85][13] = new Block(18, scaleFactor);
-		levelBoard[86][13] = new Block(18, scaleFactor);
-		levelBoard[87][13] = new Block(18, scaleFactor);
-		levelBoard[90][13] = new Block(18, scaleFactor);
-		levelBoard[91][13] = new Block(18, scaleFactor);
-		levelBoard[92][13] = new Block(18, scaleFactor);
-		levelBoard[93][13] = new Block(18, scaleFactor);
-		levelBoard[94][13] = new Block(18, scaleFactor);
-		levelBoard[95][13] = new Block(18, scaleFactor);
-		levelBoard[96][13] = new Block(18, scaleFactor);
-		levelBoard[104][13] = new Block(18, scaleFactor);
-		levelBoard[115][13] = new Block(10, scaleFactor);
-		levelBoard[116][13] = new Block(10, scaleFactor);
-		levelBoard[117][13] = new Block(10, scaleFactor);
-		levelBoard[118][13] = new Block(10, scaleFactor);
-		levelBoard[119][13] = new Block(10, scaleFactor);
-		levelBoard[120][13] = new Block(10, scaleFactor);
-		levelBoard[121][13] = new Block(10, scaleFactor);
-		levelBoard[122][13] = new Block(10, scaleFactor);
-		levelBoard[123][13] = new Block(10, scaleFactor);
-		levelBoard[124][13] = new Block(10, scaleFactor);
-		levelBoard[125][13] = new Block(10, scaleFactor);
-		levelBoard[126][13] = new Block(10, scaleFactor);
-		levelBoard[127][13] = new Block(10, scaleFactor);
-		levelBoard[0][14] = new Block(12, scaleFactor);
-		levelBoard[1][14] = new Block(12, scaleFactor);
-		levelBoard[2][14] = new Block(12, scaleFactor);
-		levelBoard[3][14] = new Block(12, scaleFactor);
-		levelBoard[4][14] = new Block(12, scaleFactor);
-		levelBoard[5][14] = new Block(12, scaleFactor);
-		levelBoard[6][14] = new Block(12, scaleFactor);
-		levelBoard[7][14] = new Block(12, scaleFactor);
-		levelBoard[8][14] = new Block(12, scaleFactor);
-		levelBoard[9][14] = new Block(12, scaleFactor);
-		levelBoard[10][14] = new Block(12, scaleFactor);
-		levelBoard[11][14] = new Block(12, scaleFactor);
-		levelBoard[12][14] = new Block(12, scaleFactor);
-		levelBoard[13][14] = new Block(12, scaleFactor);
-		levelBoard[14][14] = new Block(3, scaleFactor);
-		levelBoard[24][14] = new Block(12, scaleFactor);
-		levelBoard[25][14] = new Block(3, scaleFactor);
-		levelBoard[30][14] = new Block(3, scaleFactor);
-		levelBoard[31][14] = new Block(12, scaleFactor);
-		levelBoard[32][14] = new Block(12, scaleFactor);
-		levelBoard[33][14] = new Block(12, scaleFactor);
-		levelBoard[34][14] = new Block(12, scaleFactor);
-		levelBoard[35][14] = new Block(12, scaleFactor);
-		levelBoard[36][14] = new Block(12, scaleFactor);
-		levelBoard[42][14] = new Block(12, scaleFactor);
-		levelBoard[43][14] = new Block(12, scaleFactor);
-		levelBoard[44][14] = new Block(12, scaleFactor);
-		levelBoard[49][14] = new Block(12, scaleFactor);
-		levelBoard[50][14] = new Block(12, scaleFactor);
-		levelBoard[51][14] = new Block(12, scaleFactor);
-		levelBoard[55][14] = new Block(12, scaleFactor);
-		levelBoard[56][14] = new Block(12, scaleFactor);
-		levelBoard[60][14] = new Block(12, scaleFactor);
-		levelBoard[64][14] = new Block(12, scaleFactor);
-		levelBoard[65][14] = new Block(12, scaleFactor);
-		levelBoard[66][14] = new Block(12, scaleFactor);
-		levelBoard[67][14] = new Block(12, scaleFactor);
-		levelBoard[68][14] = new Block(12, scaleFactor);
-		levelBoard[69][14] = new Block(12, scaleFactor);
-		levelBoard[70][14] = new Block(12, scaleFactor);
-		levelBoard[71][14] = new Block(3, scaleFactor);
-		levelBoard[79][14] = new Block(18, scaleFactor);
-		levelBoard[82][14] = new Block(18, scaleFactor);
-		levelBoard[104][14] = new Block(18, scaleFactor);
-		levelBoard[115][14] = new Block(10, scaleFactor);
-		levelBoard[116][14] = new Block(10, scaleFactor);
-		levelBoard[117][14] = new Block(10, scaleFactor);
-		levelBoard[118][14] = new Block(10, scaleFactor);
-		levelBoard[119][14] = new Block(10, scaleFactor);
-		levelBoard[120][14] = new Block(10, scaleFactor);
-		levelBoard[121][14] = new Block(10, scaleFactor);
-		levelBoard[122][14] = new Block(10, scaleFactor);
-		levelBoard[123][14] = new Block(10, scaleFactor);
-		levelBoard[124][14] = new Block(10, scaleFactor);
-		levelBoard[125][14] = new Block(10, scaleFactor);
-		levelBoard[126][14] = new Block(10, scaleFactor);
-		levelBoard[127][14] = new Block(10, scaleFactor);
-		levelBoard[0][15] = new Block(12, scaleFactor);
-		levelBoard[1][15] = new Block(12, scaleFactor);
-		levelBoard[2][15] = new Block(12, scaleFactor);
-		levelBoard[3][15] = new Block(12, scaleFactor);
-		levelBoard[4][15] = new Block(12, scaleFactor);
-		levelBoard[5][15] = new Block(12, scaleFactor);
-		levelBoard[6][15] = new Block(12, scaleFactor);
-		levelBoard[7][15] = new Block(12, scaleFactor);
-		levelBoard[8][15] = new Block(12, scaleFactor);
-		levelBoard[9][15] = new Block(12, scaleFactor);
-		levelBoard[10][15] = new Block(12, scaleFactor);
-		levelBoard[11][15] = new Block(12, scaleFactor);
-		levelBoard[12][15] = new Block(12, scaleFactor);
-		levelBoard[13][15] = new Block(12, scaleFactor);
-		levelBoard[14][15] = new Block(12, scaleFactor);
-		levelBoard[15][15] = new Block(12, scaleFactor);
-		levelBoard[16][15] = new Block(12, scaleFactor);
-		levelBoard[21][15] = new Block(12, scaleFactor);
-		levelBoard[22][15] = new Block(12, scaleFactor);
-		levelBoard[23][15] = new Block(12, scaleFactor);
-		levelBoard[24][15] = new Block(12, scaleFactor);
-		levelBoard[25][15] = new Block(12, scaleFactor);
-		levelBoard[26][15] = new Block(12, scaleFactor);
-		levelBoard[27][15] = new Block(12, scaleFactor);
-		levelBoard[28][15] = new Block(12, scaleFactor);
-		levelBoard[29][15] = new Block(12, scaleFactor);
-		levelBoard[30][15] = new Block(12, scaleFactor);
-		levelBoard[31][15] = new Block(12, scaleFactor);
-		levelBoard[32][15] = new Block(12, scaleFactor);
-		levelBoard[33][15] = new Block(12, scaleFactor);
-		levelBoard[34][15] = new Block(12, scaleFactor);
-		levelBoard[35][15] = new Block(12, scaleFactor);
-		levelBoard[36][15] = new Block(12, scaleFactor);
-		levelBoard[42][15] = new Block(12, scaleFactor);
-		levelBoard[43][15] = new Block(12, scaleFactor);
-		levelBoard[44][15] = new Block(12, scaleFactor);
-		levelBoard[49][15] = new Block(12, scaleFactor);
-		levelBoard[50][15] = new Block(12, scaleFactor);
-		levelBoard[51][15] = new Block(12, scaleFactor);
-		levelBoard[55][15] = new Block(12, scaleFactor);
-		levelBoard[56][15] = new Block(12, scaleFactor);
-		levelBoard[60][15] = new Block(12, scaleFactor);
-		levelBoard[64][15] = new Block(12, scaleFactor);
-		levelBoard[65][15] = new Block(12, scaleFactor);
-		levelBoard[66][15] = new Block(12, scaleFactor);
-		levelBoard[67][15] = new Block(12, scaleFactor);
-		levelBoard[68][15] = new Block(12, scaleFactor);
-		levelBoard[69][15] = new Block(12, scaleFactor);
-		levelBoard[70][15] = new Block(12, scaleFactor);
-		levelBoard[71][15] = new Block(12, scaleFactor);
-		levelBoard[72][15] = new Block(12, scaleFactor);
-		levelBoard[73][15] = new Block(12, scaleFactor);
-		levelBoard[74][15] = new Block(12, scaleFactor);
-		levelBoard[75][15] = new Block(12, scaleFactor);
-		levelBoard[76][15] = new Block(12, scaleFactor);
-		levelBoard[79][15] = new Block(18, scaleFactor);
-		levelBoard[82][15] = new Block(18, scaleFactor);
-		levelBoard[104][15] = new Block(18, scaleFactor);
-		levelBoard[112][15] = new Block(12, scaleFactor);
-		levelBoard[113][15] = new Block(12, scaleFactor);
-		levelBoard[114][15] = new Block(12, scaleFactor);
-		levelBoard[115][15] = new Block(12, scaleFactor);
-		levelBoard[116][15] = new Block(12, scaleFactor);
-		levelBoard[117][15] = new Block(12, scaleFactor);
-		levelBoard[118][15] = new Block(12, scaleFactor);
-		levelBoard[119][15] = new Block(12, scaleFactor);
-		levelBoard[120][15] = new Block(12, scaleFactor);
-		levelBoard[121][15] = new Block(12, scaleFactor);
-		levelBoard[122][15] = new Block(12, scaleFactor);
-		levelBoard[123][15] = new Block(12, scaleFactor);
-		levelBoard[124][15] = new Block(12, scaleFactor);
-		levelBoard[125][15] = new Block(12, scaleFactor);
-		levelBoard[126][15] = new Block(12, scaleFactor);
-		levelBoard[127][15] = new Block(12, scaleFactor);
-
-		temporaryLevel.setLevelBoard(levelBoard);
-		temporaryLevel.putBlocksOnPanel();
-		worlds[1].addLevel(3, temporaryLevel);
-		
+	/**
+	 * Plays a replay file instead of showing the worlds. The level is played with the inputs of the replay, and the
+	 * keyboard is ignored
+	 * @throws IllegalStateException if the replay or its level can't be read, or the replay can't be played on the level
+	 * @param filepath - filepath of the replay file
+	 */
+	private void startReplay (String filepath) {
+		Level level;
+		try {
+			Replay replay = Replay.read(filepath);
+			System.out.println("Playing the replay " + filepath + " of world " + replay.world + " level " + replay.level);
+			level = LevelLoader.build(LevelLoader.read(LevelLoader.levelFilepath(replay.world, replay.level)));
+			level.playReplay(replay);
+		} catch (IOException e) {
+			throw new IllegalStateException("Couldnt load the replay " + filepath, e);
+		}
+		
+		remove(nextWorldButton);
+		remove(previousWorldButton);
+		remove(endlessModeButton);
+		add(level);
+		level.startThread();
 	}
 	
-	private void createWorld2Level4 () {
-		
-		temporaryLevel = new Level(Color.gray, 3, 128, 16, 1.5, 5, 4, 9, 4); 	// backgroundColor = gray, scale = 3, board dimensions: 128x16, panelSpeed = 1.5, gAcc = 5, playerStart = (4,9), level 3
-		
-		levelBoard = new Block[128][16];
-		int scaleFactor = temporaryLevel.blockScaleFactor;
-		
-		levelBoard[0][0] = new Block(12, scaleFactor);
-		levelBoard[1][0] = new Block(12, scaleFactor);
-		levelBoard[2][0] = new Block(12, scaleFactor);
-		levelBoard[3][0] = new Block(12, scaleFactor);
-		levelBoard[4][0] = new Block(12, scaleFactor);
-		levelBoard[5][0] = new Block(12, scaleFactor);
-		levelBoard[6][0] = new Block(12, scaleFactor);
-		levelBoard[7][0] = new Block(12, scaleFactor);
-		levelBoard[8][0] = new Block(12, scaleFactor);
-		levelBoard[9][0] = new Block(12, scaleFactor);
-		levelBoard[10][0] = new Block(12, scaleFactor);
-		levelBoard[11][0] = new Block(12, scaleFactor);
-		levelBoard[12][0] = new Block(12, scaleFactor);
-		levelBoard[13][0] = new Block(12, scaleFactor);
-		levelBoard[14][0] = new Block(12, scaleFactor);
-		levelBoard[15][0] = new Block(12, scaleFactor);
-		levelBoard[16][0] = new Block(12, scaleFactor);
-		levelBoard[17][0] = new Block(12, scaleFactor);
-		levelBoard[18][0] = new Block(12, scaleFactor);
-		levelBoard[19][0] = new Block(12, scaleFactor);
-		levelBoard[24][0] = new Block(12, scaleFactor);
-		levelBoard[25][0] = new Block(12, scaleFactor);
-		levelBoard[26][0] = new Block(12, scaleFactor);
-		levelBoard[27][0] = new Block(12, scaleFactor);
-		levelBoard[28][0] = new Block(12, scaleFactor);
-		levelBoard[29][0] = new Block(12, scaleFactor);
-		levelBoard[30][0] = new Block(12, scaleFactor);
-		levelBoard[35][0] = new Block(12, scaleFactor);
-		levelBoard[36][0] = new Block(12, scaleFactor);
-		levelBoard[37][0] = new Block(12, scaleFactor);
-		levelBoard[38][0] = new Block(12, scaleFactor);
-		levelBoard[39][0] = new Block(12, scaleFactor);
-		levelBoard[40][0] = new Block(12, scaleFactor);
-		levelBoard[41][0] = new Block(12, scaleFactor);
-		levelBoard[50][0] = new Block(12, scaleFactor);
-		levelBoard[51][0] = new Block(12, scaleFactor);
-		levelBoard[52][0] = new Block(12, scaleFactor);
-		levelBoard[53][0] = new Block(12, scaleFactor);
-		levelBoard[54][0] = new Block(12, scaleFactor);
-		levelBoard[55][0] = new Block(12, scaleFactor);
-		levelBoard[62][0] = new Block(12, scaleFactor);
-		levelBoard[63][0] = new Block(12, scaleFactor);
-		levelBoard[64][0] = new Block(12, scaleFactor);
-		levelBoard[65][0] = new Block(12, scaleFactor);
-		levelBoard[66][0] = new Block(12, scaleFactor);
-		levelBoard[67][0] = new Block(12, scaleFactor);
-		levelBoard[68][0] = new Block(12, scaleFactor);
-		levelBoard[75][0] = new Block(12, scaleFactor);
-		levelBoard[76][0] = new Block(12, scaleFactor);
-		levelBoard[77][0] = new Block(12, scaleFactor);
-		levelBoard[78][0] = new Block(12, scaleFactor);
-		levelBoard[79][0] = new Block(12, scaleFactor);
-		levelBoard[80][0] = new Block(12, scaleFactor);
-		levelBoard[81][0] = new Block(12, scaleFactor);
-		levelBoard[82][0] = new Block(12, scaleFactor);
-		levelBoard[83][0] = new Block(12, scaleFactor);
-		levelBoard[84][0] = new Block(12, scaleFactor);
-		levelBoard[85][0] = new Block(12, scaleFactor);
-		levelBoard[86][0] = new Block(12, scaleFactor);
-		levelBoard[87][0] = new Block(12, scaleFactor);
-		levelBoard[88][0] = new Block(12, scaleFactor);
-		levelBoard[89][0] = new Block(12, scaleFactor);
-		levelBoard[90][0] = new Block(12, scaleFactor);
-		levelBoard[91][0] = new Block(12, scaleFactor);
-		levelBoard[92][0] = new Block(12, scaleFactor);
-		levelBoard[93][0] = new Block(12, scaleFactor);
-		levelBoard[94][0] = new Block(12, scaleFactor);
-		levelBoard[95][0] = new Block(12, scaleFactor);
-		levelBoard[96][0] = new Block(12, scaleFactor);
-		levelBoard[97][0] = new Block(12, scaleFactor);
-		levelBoard[98][0] = new Block(12, scaleFactor);
-		levelBoard[99][0] = new Block(12, scaleFactor);
-		levelBoard[100][0] = new Block(12, scaleFactor);
-		levelBoard[101][0] = new Block(12, scaleFactor);
-		levelBoard[102][0] = new Block(12, scaleFactor);
-		levelBoard[103][0] = new Block(12, scaleFactor);
-		levelBoard[104][0] = new Block(12, scaleFactor);
-		levelBoard[105][0] = new Block(12, scaleFactor);
-		levelBoard[106][0] = new Block(12, scaleFactor);
-		levelBoard[107][0] = new Block(12, scaleFactor);
-		levelBoard[108][0] = new Block(12, scaleFactor);
-		levelBoard[109][0] = new Block(12, scaleFactor);
-		levelBoard[110][0] = new Block(12, scaleFactor);
-		levelBoard[111][0] = new Block(12, scaleFactor);
-		levelBoard[112][0] = new Block(12, scaleFactor);
-		levelBoard[113][0] = new Block(12, scaleFactor);
-		levelBoard[114][0] = new Block(12, scaleFactor);
-		levelBoard[115][0] = new Block(12, scaleFactor);
-		levelBoard[116][0] = new Block(12, scaleFactor);
-		levelBoard[117][0] = new Block(12, scaleFactor);
-		levelBoard[118][0] = new Block(12, scaleFactor);
-		levelBoard[119][0] = new Block(12, scaleFactor);
-		levelBoard[120][0] = new Block(12, scaleFactor);
-		levelBoard[121][0] = new Block(12, scaleFactor);
-		levelBoard[122][0] = new Block(12, scaleFactor);
-		levelBoard[123][0] = new Block(12, scaleFactor);
-		levelBoard[124][0] = new Block(12, scaleFactor);
-		levelBoard[125][0] = new Block(12, scaleFactor);
-		levelBoard[126][0] = new Block(12, scaleFactor);
-		levelBoard[127][0] = new Block(12, scaleFactor);
-		levelBoard[0][1] = new Block(12, scaleFactor);
-		levelBoard[1][1] = new Block(12, scaleFactor);
-		levelBoard[2][1] = new Block(12, scaleFactor);
-		levelBoard[3][1] = new Block(12, scaleFactor);
-		levelBoard[4][1] = new Block(12, scaleFactor);
-		levelBoard[5][1] = new Block(12, scaleFactor);
-		levelBoard[11][1] = new Block(12, scaleFactor);
-		levelBoard[12][1] = new Block(12, scaleFactor);
-		levelBoard[13][1] = new Block(12, scaleFactor);
-		levelBoard[14][1] = new Block(12, scaleFactor);
-		levelBoard[15][1] = new Block(12, scaleFactor);
-		levelBoard[16][1] = new Block(12, scaleFactor);
-		levelBoard[17][1] = new Block(12, scaleFactor);
-		levelBoard[18][1] = new Block(12, scaleFactor);
-		levelBoard[26][1] = new Block(12, scaleFactor);
-		levelBoard[27][1] = new Block(12, scaleFactor);
-		levelBoard[28][1] = new Block(12, scaleFactor);
-		levelBoard[37][1] = new Block(12, scaleFactor);
-		levelBoard[38][1] = new Block(12, scaleFactor);
-		levelBoard[39][1] = new Block(12, scaleFactor);
-		levelBoard[40][1] = new Block(12, scaleFactor);
-		levelBoard[51][1] = new Block(12, scaleFactor);
-		levelBoard[52][1] = new Block(12, scaleFactor);
-		levelBoard[53][1] = new Block(12, scaleFactor);
-		levelBoard[54][1] = new Block(12, scaleFactor);
-		levelBoard[63][1] = new Block(12, scaleFactor);
-		levelBoard[64][1] = new Block(12, scaleFactor);
-		levelBoard[65][1] = new Block(12, scaleFactor);
-		levelBoard[66][1] = new Block(12, scaleFactor);
-		levelBoard[67][1] = new Block(12, scaleFactor);
-		levelBoard[68][1] = new Block(12, scaleFactor);
-		levelBoard[77][1] = new Block(12, scaleFactor);
-		levelBoard[78][1] = new Block(12, scaleFactor);
-		levelBoard[79][1] = new Block(12, scaleFactor);
-		levelBoard[80][1] = new Block(12, scaleFactor);
-		levelBoard[81][1] = new Block(12, scaleFactor);
-		levelBoard[82][1] = new Block(12, scaleFactor);
-		levelBoard[99][1] = new Block(12, scaleFactor);
-		levelBoard[100][1] = new Block(12, scaleFactor);
-		levelBoard[101][1] = new Block(12, scaleFactor);
-		levelBoard[102][1] = new Block(12, scaleFactor);
-		levelBoard[103][1] = new Block(12, scaleFactor);
-		levelBoard[104][1] = new Block(12, scaleFactor);
-		levelBoard[105][1] = new Block(12, scaleFactor);
-		levelBoard[106][1] = new Block(12, scaleFactor);
-		levelBoard[107][1] = new Block(12, scaleFactor);
-		levelBoard[115][1] = new Block(10, scaleFactor);
-		levelBoard[116][1] = new Block(10, scaleFactor);
-		levelBoard[117][1] = new Block(10, scaleFactor);
-		levelBoard[118][1] = new Block(10, scaleFactor);
-		levelBoard[119][1] = new Block(10, scaleFactor);
-		levelBoard[120][1] = new Block(10, scaleFactor);
-		levelBoard[121][1] = new Block(10, scaleFactor);
-		levelBoard[122][1] = new Block(10, scaleFactor);
-		levelBoard[123][1] = new Block(10, scaleFactor);
-		levelBoard[124][1] = new Block(10, scaleFactor);
-		levelBoard[125][1] = new Block(10, scaleFactor);
-		levelBoard[126][1] = new Block(10, scaleFactor);
-		levelBoard[127][1] = new Block(10, scaleFactor);
-		levelBoard[17][2] = new Block(12, scaleFactor);
-		levelBoard[18][2] = new Block(12, scaleFactor);
-		levelBoard[26][2] = new Block(12, scaleFactor);
-		levelBoard[37][2] = new Block(12, scaleFactor);
-		levelBoard[38][2] = new Block(12, scaleFactor);
-		levelBoard[39][2] = new Block(12, scaleFactor);
-		levelBoard[63][2] = new Block(12, scaleFactor);
-		levelBoard[64][2] = new Block(12, scaleFactor);
-		levelBoard[65][2] = new Block(12, scaleFactor);
-		levelBoard[66][2] = new Block(12, scaleFactor);
-		levelBoard[67][2] = new Block(12, scaleFactor);
-		levelBoard[115][2] = new Block(10, scaleFactor);
-		levelBoard[116][2] = new Block(10, scaleFactor);
-		levelBoard[117][2] = new Block(10, scaleFactor);
-		levelBoard[118][2] = new Block(10, scaleFactor);
-		levelBoard[119][2] = new Block(10, scaleFactor);
-		levelBoard[120][2] = new Block(10, scaleFactor);
-		levelBoard[121][2] = new Block(10, scaleFactor);
-		levelBoard[122][2] = new Block(10, scaleFactor);
-		levelBoard[123][2] = new Block(10, scaleFactor);
-		levelBoard[124][2] = new Block(10, scaleFactor);
-		levelBoard[125][2] = new Block(10, scaleFactor);
-		levelBoard[126][2] = new Block(10, scaleFactor);
-		levelBoard[127][2] = new Block(10, scaleFactor);
-		levelBoard[38][3] = new Block(12, scaleFactor);
-		levelBoard[39][3] = new Block(12, scaleFactor);
-		levelBoard[43][3] = new Block(12, scaleFactor);
-		levelBoard[94][3] = new Block(3, scaleFactor);
-		levelBoard[115][3] = new Block(10, scaleFactor);
-		levelBoard[116][3] = new Block(10, scaleFactor);
-		levelBoard[117][3] = new Block(10, scaleFactor);
-		levelBoard[118][3] = new Block(10, scaleFactor);
-		levelBoard[119][3] = new Block(10, scaleFactor);
-		levelBoard[120][3] = new Block(10, scaleFactor);
-		levelBoard[121][3] = new Block(10, scaleFactor);
-		levelBoard[122][3] = new Block(10, scaleFactor);
-		levelBoard[123][3] = new Block(10, scaleFactor);
-		levelBoard[124][3] = new Block(10, scaleFactor);
-		levelBoard[125][3] = new Block(10, scaleFactor);
-		levelBoard[126][3] = new Block(10, scaleFactor);
-		levelBoard[127][3] = new Block(10, scaleFactor);
-		levelBoard[31][4] = new Block(3, scaleFactor);
-		levelBoard[32][4] = new Block(3, scaleFactor);
-		levelBoard[33][4] = new Block(3, scaleFactor);
-		levelBoard[80][4] = new Block(3, scaleFactor);
-		levelBoard[85][4] = new Block(3, scaleFactor);
-		levelBoard[94][4] = new Block(18, scaleFactor);
-		levelBoard[115][4] = new Block(10, scaleFactor);
-		levelBoard[116][4] = new Block(10, scaleFactor);
-		levelBoard[117][4] = new Block(10, scaleFactor);
-		levelBoard[118][4] = new Block(10, scaleFactor);
-		levelBoard[119][4] = new Block(10, scaleFactor);
-		levelBoard[120][4] = new Block(10, scaleFactor);
-		levelBoard[121][4] = new Block(10, scaleFactor);
-		levelBoard[122][4] = new Block(10, scaleFactor);
-		levelBoard[123][4] = new Block(10, scaleFactor);
-		levelBoard[124][4] = new Block(10, scaleFactor);
-		levelBoard[125][4] = new Block(10, scaleFactor);
-		levelBoard[126][4] = new Block(10, scaleFactor);
-		levelBoard[127][4] = new Block(10, scaleFactor);
-		levelBoard[31][5] = new Block(12, scaleFactor);
-		levelBoard[32][5] = new Block(12, scaleFactor);
-		levelBoard[33][5] = new Block(12, scaleFactor);
-		levelBoard[52][5] = new Block(12, scaleFactor);
-		levelBoard[71][5] = new Block(12, scaleFactor);
-		levelBoard[80][5] = new Block(18, scaleFactor);
-		levelBoard[85][5] = new Block(18, scaleFactor);
-		levelBoard[90][5] = new Block(3, scaleFactor);
-		levelBoard[94][5] = new Block(18, scaleFactor);
-		levelBoard[115][5] = new Block(10, scaleFactor);
-		levelBoard[116][5] = new Block(10, scaleFactor);
-		levelBoard[117][5] = new Block(10, scaleFactor);
-		levelBoard[118][5] = new Block(10, scaleFactor);
-		levelBoard[119][5] = new Block(10, scaleFactor);
-		levelBoard[120][5] = new Block(10, scaleFactor);
-		levelBoard[121][5] = new Block(10, scaleFactor);
-		levelBoard[122][5] = new Block(10, scaleFactor);
-		levelBoard[123][5] = new Block(10, scaleFactor);
-		levelBoard[124][5] = new Block(10, scaleFactor);
-		levelBoard[125][5] = new Block(10, scaleFactor);
-		levelBoard[126][5] = new Block(10, scaleFactor);
-		levelBoard[127][5] = new Block(10, scaleFactor);
-		levelBoard[2][7] = new Block(18, scaleFactor);
-		levelBoard[3][7] = new Block(1, scaleFactor);
-		levelBoard[4][7] = new Block(1, scaleFactor);
-		levelBoard[5][7] = new Block(1, scaleFactor);
-		levelBoard[6][7] = new Block(18, scaleFactor);
-		levelBoard[11][6] = new Block(18, scaleFactor);
-		levelBoard[12][6] = new Block(1, scaleFactor);
-		levelBoard[15][6] = new Block(18, scaleFactor);
-		levelBoard[22][6] = new Block(3, scaleFactor);
-		levelBoard[23][6] = new Block(3, scaleFactor);
-		levelBoard[29][6] = new Block(12, scaleFactor);
-		levelBoard[30][6] = new Block(12, scaleFactor);
-		levelBoard[31][6] = new Block(12, scaleFactor);
-		levelBoard[32][6] = new Block(12, scaleFactor);
-		levelBoard[33][6] = new Block(12, scaleFactor);
-		levelBoard[34][6] = new Block(12, scaleFactor);
-		levelBoard[56][6] = new Block(12, scaleFactor);
-		levelBoard[62][6] = new Block(12, scaleFactor);
-		levelBoard[71][6] = new Block(12, scaleFactor);
-		levelBoard[79][6] = new Block(18, scaleFactor);
-		levelBoard[80][6] = new Block(18, scaleFactor);
-		levelBoard[85][6] = new Block(18, scaleFactor);
-		levelBoard[90][6] = new Block(18, scaleFactor);
-		levelBoard[91][6] = new Block(18, scaleFactor);
-		levelBoard[94][6] = new Block(18, scaleFactor);
-		levelBoard[115][6] = new Block(10, scaleFactor);
-		levelBoard[116][6] = new Block(10, scaleFactor);
-		levelBoard[117][6] = new Block(10, scaleFactor);
-		levelBoard[118][6] = new Block(10, scaleFactor);
-		levelBoard[119][6] = new Block(10, scaleFactor);
-		levelBoard[120][6] = new Block(10, scaleFactor);
-		levelBoard[121][6] = new Block(10, scaleFactor);
-		levelBoard[122][6] = new Block(10, scaleFactor);
-		levelBoard[123][6] = new Block(10, scaleFactor);
-		levelBoard[124][6] = new Block(10, scaleFactor);
-		levelBoard[125][6] = new Block(10, scaleFactor);
-		levelBoard[126][6] = new Block(10, scaleFactor);
-		levelBoard[127][6] = new Block(10, scaleFactor);
-		levelBoard[2][7] = new Block(18, scaleFactor);
-		levelBoard[6][7] = new Block(18, scaleFactor);
-		levelBoard[11][7] = new Block(18, scaleFactor);
-		levelBoard[15][7] = new Block(18, scaleFactor);
-		levelBoard[21][7] = new Block(3, scaleFactor);
-		levelBoard[22][7] = new Block(12, scaleFactor);
-		levelBoard[23][7] = new Block(12, scaleFactor);
-		levelBoard[29][7] = new Block(12, scaleFactor);
-		levelBoard[30][7] = new Block(12, scaleFactor);
-		levelBoard[31][7] = new Block(12, scaleFactor);
-		levelBoard[32][7] = new Block(12, scaleFactor);
-		levelBoard[33][7] = new Block(12, scaleFactor);
-		levelBoard[34][7] = new Block(12, scaleFactor);
-		levelBoard[35][7] = new Block(12, scaleFactor);
-		levelBoard[36][7] = new Block(12, scaleFactor);
-		levelBoard[48][7] = new Block(12, scaleFactor);
-		levelBoard[71][7] = new Block(12, scaleFactor);
-		levelBoard[80][7] = new Block(18, scaleFactor);
-		levelBoard[85][7] = new Block(18, scaleFactor);
-		levelBoard[86][7] = new Block(18, scaleFactor);
-		levelBoard[94][7] = new Block(18, scaleFactor);
-		levelBoard[115][7] = new Block(10, scaleFactor);
-		levelBoard[116][7] = new Block(10, scaleFactor);
-		levelBoard[117][7] = new Block(10, scaleFactor);
-		levelBoard[118][7] = new Block(10, scaleFactor);
-		levelBoard[119][7] = new Block(10, scaleFactor);
-		levelBoard[120][7] = new Block(10, scaleFactor);
-		levelBoard[121][7] = new Block(10, scaleFactor);
-		levelBoard[122][7] = new Block(10, scaleFactor);
-		levelBoard[123][7] = new Block(10, scaleFactor);
-		levelBoard[124][7] = new Block(10, scaleFactor);
-		levelBoard[125][7] = new Block(10, scaleFactor);
-		levelBoard[126][7] = new Block(10, scaleFactor);
-		levelBoard[127][7] = new Block(10, scaleFactor);
-		levelBoard[2][8] = new Block(18, scaleFactor);
-		levelBoard[6][8] = new Block(18, scaleFactor);
-		levelBoard[11][8] = new Block(18, scaleFactor);
-		levelBoard[15][8] = new Block(18, scaleFactor);
-		levelBoard[20][8] = new Block(12, scaleFactor);
-		levelBoard[21][8] = new Block(12, scaleFactor);
-		levelBoard[22][8] = new Block(12, scaleFactor);
-		levelBoard[23][8] = new Block(12, scaleFactor);
-		levelBoard[29][8] = new Block(12, scaleFactor);
-		levelBoard[30][8] = new Block(12, scaleFactor);
-		levelBoard[31][8] = new Block(12, scaleFactor);
-		levelBoard[32][8] = new Block(12, scaleFactor);
-		levelBoard[33][8] = new Block(12, scaleFactor);
-		levelBoard[34][8] = new Block(12, scaleFactor);
-		levelBoard[35][8] = new Block(12, scaleFactor);
-		levelBoard[36][8] = new Block(12, scaleFactor);
-		levelBoard[42][8] = new Block(3, scaleFactor);
-		levelBoard[43][8] = new Block(3, scaleFactor);
-		levelBoard[44][8] = new Block(3, scaleFactor);
-		levelBoard[70][8] = new Block(12, scaleFactor);
-		levelBoard[71][8] = new Block(12, scaleFactor);
-		levelBoard[80][8] = new Block(18, scaleFactor);
-		levelBoard[94][8] = new Block(1, scaleFactor);
-		levelBoard[115][8] = new Block(10, scaleFactor);
-		levelBoard[116][8] = new Block(10, scaleFactor);
-		levelBoard[117][8] = new Block(10, scaleFactor);
-		levelBoard[118][8] = new Block(10, scaleFactor);
-		levelBoard[119][8] = new Block(10, scaleFactor);
-		levelBoard[120][8] = new Block(10, scaleFactor);
-		levelBoard[121][8] = new Block(10, scaleFactor);
-		levelBoard[122][8] = new Block(10, scaleFactor);
-		levelBoard[123][8] = new Block(10, scaleFactor);
-		levelBoard[124][8] = new Block(10, scaleFactor);
-		levelBoard[125][8] = new Block(10, scaleFactor);
-		levelBoard[126][8] = new Block(10, scaleFactor);
-		levelBoard[127][8] = new Block(10, scaleFactor);
-		levelBoard[2][9] = new Block(18, scaleFactor);
-		levelBoard[6][9] = new Block(18, scaleFactor);
-		levelBoard[11][9] = new Block(18, scaleFactor);
-		levelBoard[15][9] = new Block(18, scaleFactor);
-		levelBoard[19][9] = new Block(12, scaleFactor);
-		levelBoard[20][9] = new Block(12, scaleFactor);
-		levelBoard[21][9] = new Block(12, scaleFactor);
-		levelBoard[22][9] = new Block(12, scaleFactor);
-		levelBoard[23][9] = new Block(12, scaleFactor);
-		levelBoard[24][9] = new Block(12, scaleFactor);
-		levelBoard[25][9] = new Block(12, scaleFactor);
-		levelBoard[30][9] = new Block(12, scaleFactor);
-		levelBoard[31][9] = new Block(12, scaleFactor);
-		levelBoard[32][9] = new Block(12, scaleFactor);
-		levelBoard[33][9] = new Block(12, scaleFactor);
-		levelBoard[34][9] = new Block(12, scaleFactor);
-		levelBoard[35][9] = new Block(12, scaleFactor);
-		levelBoard[36][9] = new Block(12, scaleFactor);
-		levelBoard[42][9] = new Block(12, scaleFactor);
-		levelBoard[43][9] = new Block(12, scaleFactor);
-		levelBoard[44][9] = new Block(12, scaleFactor);
-		levelBoard[70][9] = new Block(12, scaleFactor);
-		levelBoard[71][9] = new Block(12, scaleFactor);
-		levelBoard[80][9] = new Block(18, scaleFactor);
-		levelBoard[94][9] = new Block(1, scaleFactor);
-		levelBoard[115][9] = new Block(10, scaleFactor);
-		levelBoard[116][9] = new Block(10, scaleFactor);
-		levelBoard[117][9] = new Block(10, scaleFactor);
-		levelBoard[118][9] = new Block(10, scaleFactor);
-		levelBoard[119][9] = new Block(10, scaleFactor);
-		levelBoard[120][9] = new Block(10, scaleFactor);
-		levelBoard[121][9] = new Block(10, scaleFactor);
-		levelBoard[122][9] = new Block(10, scaleFactor);
-		levelBoard[123][9] = new Block(10, scaleFactor);
-		levelBoard[124][9] = new Block(10, scaleFactor);
-		levelBoard[125][9] = new Block(10, scaleFactor);
-		levelBoard[126][9] = new Block(10, scaleFactor);
-		levelBoard[127][9] = new Block(10, scaleFactor);
-		levelBoard[2][10] = new Block(18, scaleFactor);
-		levelBoard[3][10] = new Block(18, scaleFactor);
-		levelBoard[4][10] = new Block(18, scaleFactor);
-		levelBoard[5][10] = new Block(18, scaleFactor);
-		levelBoard[6][10] = new Block(18, scaleFactor);
-		levelBoard[11][10] = new Block(18, scaleFactor);
-		levelBoard[12][10] = new Block(18, scaleFactor);
-		levelBoard[13][10] = new Block(18, scaleFactor);
-		levelBoard[14][10] = new Block(18, scaleFactor);
-		levelBoard[15][10] = new Block(18, scaleFactor);
-		levelBoard[19][10] = new Block(12, scaleFactor);
-		levelBoard[20][10] = new Block(12, scaleFactor);
-		levelBoard[21][10] = new Block(12, scaleFactor);
-		levelBoard[22][10] = new Block(12, scaleFactor);
-		levelBoard[23][10] = new Block(12, scaleFactor);
-		levelBoard[24][10] = new Block(12, scaleFactor);
-		levelBoard[25][10] = new Block(12, scaleFactor);
-		levelBoard[40][10] = new Block(12, scaleFactor);
-		levelBoard[41][10] = new Block(12, scaleFactor);
-		levelBoard[42][10] = new Block(12, scaleFactor);
-		levelBoard[43][10] = new Block(12, scaleFactor);
-		levelBoard[44][10] = new Block(12, scaleFactor);
-		levelBoard[45][10] = new Block(12, scaleFactor);
-		levelBoard[46][10] = new Block(12, scaleFactor);
-		levelBoard[47][10] = new Block(3, scaleFactor);
-		levelBoard[48][10] = new Block(3, scaleFactor);
-		levelBoard[70][10] = new Block(12, scaleFactor);
-		levelBoard[71][10] = new Block(12, scaleFactor);
-		levelBoard[72][10] = new Block(3, scaleFactor);
-		levelBoard[90][10] = new Block(18, scaleFactor);
-		levelBoard[94][10] = new Block(1, scaleFactor);
-		levelBoard[115][10] = new Block(10, scaleFactor);
-		levelBoard[116][10] = new Block(10, scaleFactor);
-		levelBoard[117][10] = new Block(10, scaleFactor);
-		levelBoard[118][10] = new Block(10, scaleFactor);
-		levelBoard[119][10] = new Block(10, scaleFactor);
-		levelBoard[120][10] = new Block(10, scaleFactor);
-		levelBoard[121][10] = new Block(10, scaleFactor);
-		levelBoard[122][10] = new Block(10, scaleFactor);
-		levelBoard[123][10] = new Block(10, scaleFactor);
-		levelBoard[124][10] = new Block(10, scaleFactor);
-		levelBoard[125][10] = new Block(10, scaleFactor);
-		levelBoard[126][10] = new Block(10, scaleFactor);
-		levelBoard[127][10] = new Block(10, scaleFactor);
-		levelBoard[4][11] = new Block(18, scaleFactor);
-		levelBoard[13][11] = new Block(18, scaleFactor);
-		levelBoard[19][11] = new Block(12, scaleFactor);
-		levelBoard[20][11] = new Block(12, scaleFactor);
-		levelBoard[21][11] = new Block(12, scaleFactor);
-		levelBoard[22][11] = new Block(12, scaleFactor);
-		levelBoard[23][11] = new Block(12, scaleFactor);
-		levelBoard[24][11] = new Block(12, scaleFactor);
-		levelBoard[25][11] = new Block(12, scaleFactor);
-		levelBoard[40][11] = new Block(12, scaleFactor);
-		levelBoard[41][11] = new Block(12, scaleFactor);
-		levelBoard[42][11] = new Block(12, scaleFactor);
-		levelBoard[43][11] = new Block(12, scaleFactor);
-		levelBoard[44][11] = new Block(12, scaleFactor);
-		levelBoard[45][11] = new Block(12, scaleFactor);
-		levelBoard[46][11] = new Block(12, scaleFactor);
-		levelBoard[47][11] = new Block(12, scaleFactor);
-		levelBoard[48][11] = new Block(12, scaleFactor);
-		levelBoard[49][11] = new Block(12, scaleFactor);
-		levelBoard[60][11] = new Block(3, scaleFactor);
-		levelBoard[61][11] = new Block(3, scaleFactor);
-		levelBoard[65][11] = new Block(12, scaleFactor);
-		levelBoard[69][11] = new Block(12, scaleFactor);
-		levelBoard[70][11] = new Block(12, scaleFactor);
-		levelBoard[71][11] = new Block(12, scaleFactor);
-		levelBoard[72][11] = new Block(12, scaleFactor);
-		levelBoard[85][11] = new Block(18, scaleFactor);
-		levelBoard[90][11] = new Block(18, scaleFactor);
-		levelBoard[94][11] = new Block(18, scaleFactor);
-		levelBoard[102][11] = new Block(3, scaleFactor);
-		levelBoard[103][11] = new Block(3, scaleFactor);
-		levelBoard[115][11] = new Block(10, scaleFactor);
-		levelBoard[116][11] = new Block(10, scaleFactor);
-		levelBoard[117][11] = new Block(10, scaleFactor);
-		levelBoard[118][11] = new Block(10, scaleFactor);
-		levelBoard[119][11] = new Block(10, scaleFactor);
-		levelBoard[120][11] = new Block(10, scaleFactor);
-		levelBoard[121][11] = new Block(10, scaleFactor);
-		levelBoard[122][11] = new Block(10, scaleFactor);
-		levelBoard[123][11] = new Block(10, scaleFactor);
-		levelBoard[124][11] = new Block(10, scaleFactor);
-		levelBoard[125][11] = new Block(10, scaleFactor);
-		levelBoard[126][11] = new Block(10, scaleFactor);
-		levelBoard[127][11] = new Block(10, scaleFactor);
-		levelBoard[4][12] = new Block(18, scaleFactor);
-		levelBoard[13][12] = new Block(18, scaleFactor);
-		levelBoard[19][12] = new Block(12, scaleFactor);
-		levelBoard[20][12] = new Block(12, scaleFactor);
-		levelBoard[21][12] = new Block(12, scaleFactor);
-		levelBoard[22][12] = new Block(12, scaleFactor);
-		levelBoard[23][12] = new Block(12, scaleFactor);
-		levelBoard[24][12] = new Block(12, scaleFactor);
-		levelBoard[25][12] = new Block(12, scaleFactor);
-		levelBoard[31][12] = new Block(12, scaleFactor);
-		levelBoard[41][12] = new Block(12, scaleFactor);
-		levelBoard[42][12] = new Block(12, scaleFactor);
-		levelBoard[43][12] = new Block(12, scaleFactor);
-		levelBoard[44][12] = new Block(12, scaleFactor);
-		levelBoard[45][12] = new Block(12, scaleFactor);
-		levelBoard[46][12] = new Block(12, scaleFactor);
-		levelBoard[47][12] = new Block(12, scaleFactor);
-		levelBoard[48][12] = new Block(12, scaleFactor);
-		levelBoard[49][12] = new Block(12, scaleFactor);
-		levelBoard[56][12] = new Block(3, scaleFactor);
-		levelBoard[57][12] = new Block(3, scaleFactor);
-		levelBoard[58][12] = new Block(12, scaleFactor);
-		levelBoard[59][12] = new Block(12, scaleFactor);
-		levelBoard[60][12] = new Block(12, scaleFactor);
-		levelBoard[61][12] = new Block(12, scaleFactor);
-		levelBoard[69][12] = new Block(12, scaleFactor);
-		levelBoard[70][12] = new Block(12, scaleFactor);
-		levelBoard[71][12] = new Block(12, scaleFactor);
-		levelBoard[72][12] = new Block(12, scaleFactor);
-		levelBoard[85][12] = new Block(18, scaleFactor);
-		levelBoard[90][12] = new Block(18, scaleFactor);
-		levelBoard[94][12] = new Block(18, scaleFactor);
-		levelBoard[102][12] = new Block(12, scaleFactor);
-		levelBoard[103][12] = new Block(12, scaleFactor);
-		levelBoard[104][12] = new Block(12, scaleFactor);
-		levelBoard[105][12] = new Block(12, scaleFactor);
-		levelBoard[115][12] = new Block(10, scaleFactor);
-		levelBoard[116][12] = new Block(10, scaleFactor);
-		levelBoard[117][12] = new Block(10, scaleFactor);
-		levelBoard[118][12] = new Block(10, scaleFactor);
-		levelBoard[119][12] = new Block(10, scaleFactor);
-		levelBoard[120][12] = new Block(10, scaleFactor);
-		levelBoard[121][12] = new Block(10, scaleFactor);
-		levelBoard[122][12] = new Block(10, scaleFactor);
-		levelBoard[123][12] = new Block(10, scaleFactor);
-		levelBoard[124][12] = new Block(10, scaleFactor);
-		levelBoard[125][12] = new Block(10, scaleFactor);
-		levelBoard[126][12] = new Block(10, scaleFactor);
-		levelBoard[127][12] = new Block(10, scaleFactor);
-		levelBoard[4][13] = new Block(18, scaleFactor);
-		levelBoard[13][13] = new Block(18, scaleFactor);
-		levelBoard[20][13] = new Block(18, scaleFactor);
-		levelBoard[21][13] = new Block(1, scaleFactor);
-		levelBoard[22][13] = new Block(1, scaleFactor);
-		levelBoard[24][13] = new Block(18, scaleFactor);
-		levelBoard[35][13] = new Block(12, scaleFactor);
-		levelBoard[43][13] = new Block(12, scaleFactor);
-		levelBoard[44][13] = new Block(12, scaleFactor);
-		levelBoard[45][13] = new Block(12, scaleFactor);
-		levelBoard[46][13] = new Block(12, scaleFactor);
-		levelBoard[47][13] = new Block(12, scaleFactor);
-		levelBoard[48][13] = new Block(12, scaleFactor);
-		levelBoard[49][13] = new Block(12, scaleFactor);
-		levelBoard[50][13] = new Block(12, scaleFactor);
-		levelBoard[55][13] = new Block(12, scaleFactor);
-		levelBoard[56][13] = new Block(12, scaleFactor);
-		levelBoard[57][13] = new Block(12, scaleFactor);
-		levelBoard[58][13] = new Block(12, scaleFactor);
-		levelBoard[59][13] = new Block(12, scaleFactor);
-		levelBoard[60][13] = new Block(12, scaleFactor);
-		levelBoard[61][13] = new Block(12, scaleFactor);
-		levelBoard[62][13] = new Block(12, scaleFactor);
-		levelBoard[69][13] = new Block(12, scaleFactor);
-		levelBoard[70][13] = new Block(12, scaleFactor);
-		levelBoard[71][13] = new Block(12, scaleFactor);
-		levelBoard[72][13] = new Block(12, scaleFactor);
-		levelBoard[73][13] = new Block(3, scaleFactor);
-		levelBoard[80][13] = new Block(18, scaleFactor);
-		levelBoard[85][13] = new Block(18, scaleFactor);
-		levelBoard[89][13] = new Block(18, scaleFactor);
-		levelBoard[90][13] = new Block(18, scaleFactor);
-		levelBoard[94][13] = new Block(18, scaleFactor);
-		levelBoard[98][13] = new Block(3, scaleFactor);
-		levelBoard[99][13] = new Block(12, scaleFactor);
-		levelBoard[100][13] = new Block(12, scaleFactor);
-		levelBoard[101][13] = new Block(12, scaleFactor);
-		levelBoard[102][13] = new Block(12, scaleFactor);
-		levelBoard[103][13] = new Block(12, scaleFactor);
-		levelBoard[104][13] = new Block(12, scaleFactor);
-		levelBoard[105][13] = new Block(12, scaleFactor);
-		levelBoard[106][13] = new Block(12, scaleFactor);
-		levelBoard[107][13] = new Block(3, scaleFactor);
-		levelBoard[108][13] = new Block(3, scaleFactor);
-		levelBoard[115][13] = new Block(10, scaleFactor);
-		levelBoard[116][13] = new Block(10, scaleFactor);
-		levelBoard[117][13] = new Block(10, scaleFactor);
-		levelBoard[118][13] = new Block(10, scaleFactor);
-		levelBoard[119][13] = new Block(10, scaleFactor);
-		levelBoard[120][13] = new Block(10, scaleFactor);
-		levelBoard[121][13] = new Block(10, scaleFactor);
-		levelBoard[122][13] = new Block(10, scaleFactor);
-		levelBoard[123][13] = new Block(10, scaleFactor);
-		levelBoard[124][13] = new Block(10, scaleFactor);
-		levelBoard[125][13] = new Block(10, scaleFactor);
-		levelBoard[126][13] = new Block(10, scaleFactor);
-		levelBoard[127][13] = new Block(10, scaleFactor);
-		levelBoard[4][14] = new Block(18, scaleFactor);
-		levelBoard[13][14] = new Block(18, scaleFactor);
-		levelBoard[20][14] = new Block(18, scaleFactor);
-		levelBoard[24][14] = new Block(18, scaleFactor);
-		levelBoard[43][14] = new Block(12, scaleFactor);
-		levelBoard[44][14] = new Block(12, scaleFactor);
-		levelBoard[45][14] = new Block(12, scaleFactor);
-		levelBoard[46][14] = new Block(12, scaleFactor);
-		levelBoard[47][14] = new Block(12, scaleFactor);
-		levelBoard[48][14] = new Block(12, scaleFactor);
-		levelBoard[49][14] = new Block(12, scaleFactor);
-		levelBoard[50][14] = new Block(12, scaleFactor);
-		levelBoard[51][14] = new Block(12, scaleFactor);
-		levelBoard[52][14] = new Block(12, scaleFactor);
-		levelBoard[53][14] = new Block(12, scaleFactor);
-		levelBoard[54][14] = new Block(12, scaleFactor);
-		levelBoard[55][14] = new Block(12, scaleFactor);
-		levelBoard[56][14] = new Block(12, scaleFactor);
-		levelBoard[57][14] = new Block(12, scaleFactor);
-		levelBoard[58][14] = new Block(12, scaleFactor);
-		levelBoard[59][14] = new Block(12, scaleFactor);
-		levelBoard[60][14] = new Block(12, scaleFactor);
-		levelBoard[61][14] = new Block(12, scaleFactor);
-		levelBoard[62][14] = new Block(12, scaleFactor);
-		levelBoard[68][14] = new Block(12, scaleFactor);
-		levelBoard[69][14] = new Block(12, scaleFactor);
-		levelBoard[70][14] = new Block(12, scaleFactor);
-		levelBoard[71][14] = new Block(12, scaleFactor);
-		levelBoard[72][14] = new Block(12, scaleFactor);
-		levelBoard[73][14] = new Block(12, scaleFactor);
-		levelBoard[74][14] = new Block(12, scaleFactor);
-		levelBoard[98][14] = new Block(12, scaleFactor);
-		levelBoard[99][14] = new Block(12, scaleFactor);
-		levelBoard[100][14] = new Block(12, scaleFactor);
-		levelBoard[101][14] = new Block(12, scaleFactor);
-		levelBoard[102][14] = new Block(12, scaleFactor);
-		levelBoard[103][14] = new Block(12, scaleFactor);
-		levelBoard[104][14] = new Block(12, scaleFactor);
-		levelBoard[105][14] = new Block(12, scaleFactor);
-		levelBoard[106][14] = new Block(12, scaleFactor);
-		levelBoard[107][14] = new Block(12, scaleFactor);
-		levelBoard[108][14] = new Block(12, scaleFactor);
-		levelBoard[109][14] = new Block(12, scaleFactor);
-		levelBoard[110][14] = new Block(12, scaleFactor);
-		levelBoard[111][14] = new Block(12, scaleFactor);
-		levelBoard[112][14] = new Block(12, scaleFactor);
-		levelBoard[115][14] = new Block(10, scaleFactor);
-		levelBoard[116][14] = new Block(10, scaleFactor);
-		levelBoard[117][14] = new Block(10, scaleFactor);
-		levelBoard[118][14] = new Block(10, scaleFactor);
-		levelBoard[119][14] = new Block(10, scaleFactor);
-		levelBoard[120][14] = new Block(10, scaleFactor);
-		levelBoard[121][14] = new Block(10, scaleFactor);
-		levelBoard[122][14] = new Block(10, scaleFactor);
-		levelBoard[123][14] = new Block(10, scaleFactor);
-		levelBoard[124][14] = new Block(10, scaleFactor);
-		levelBoard[125][14] = new Block(10, scaleFactor);
-		levelBoard[126][14] = new Block(10, scaleFactor);
-		levelBoard[127][14] = new Block(10, scaleFactor);
-		levelBoard[0][15] = new Block(9, scaleFactor);
-		levelBoard[1][15] = new Block(9, scaleFactor);
-		levelBoard[2][15] = new Block(9, scaleFactor);
-		levelBoard[3][15] = new Block(9, scaleFactor);
-		levelBoard[4][15] = new Block(18, scaleFactor);
-		levelBoard[5][15] = new Block(9, scaleFactor);
-		levelBoard[6][15] = new Block(9, scaleFactor);
-		levelBoard[7][15] = new Block(9, scaleFactor);
-		levelBoard[8][15] = new Block(9, scaleFactor);
-		levelBoard[9][15] = new Block(9, scaleFactor);
-		levelBoard[10][15] = new Block(9, scaleFactor);
-		levelBoard[11][15] = new Block(9, scaleFactor);
-		levelBoard[12][15] = new Block(9, scaleFactor);
-		levelBoard[13][15] = new Block(18, scaleFactor);
-		levelBoard[14][15] = new Block(9, scaleFactor);
-		levelBoard[15][15] = new Block(9, scaleFactor);
-		levelBoard[16][15] = new Block(9, scaleFactor);
-		levelBoard[17][15] = new Block(9, scaleFactor);
-		levelBoard[18][15] = new Block(9, scaleFactor);
-		levelBoard[19][15] = new Block(9, scaleFactor);
-		levelBoard[20][15] = new Block(18, scaleFactor);
-		levelBoard[21][15] = new Block(9, scaleFactor);
-		levelBoard[22][15] = new Block(9, scaleFactor);
-		levelBoard[23][15] = new Block(9, scaleFactor);
-		levelBoard[24][15] = new Block(18, scaleFactor);
-		levelBoard[25][15] = new Block(9, scaleFactor);
-		levelBoard[26][15] = new Block(9, scaleFactor);
-		levelBoard[27][15] = new Block(9, scaleFactor);
-		levelBoard[28][15] = new Block(9, scaleFactor);
-		levelBoard[29][15] = new Block(9, scaleFactor);
-		levelBoard[30][15] = new Block(9, scaleFactor);
-		levelBoard[31][15] = new Block(9, scaleFactor);
-		levelBoard[32][15] = new Block(9, scaleFactor);
-		levelBoard[33][15] = new Block(9, scaleFactor);
-		levelBoard[34][15] = new Block(9, scaleFactor);
-		levelBoard[35][15] = new Block(9, scaleFactor);
-		levelBoard[36][15] = new Block(9, scaleFactor);
-		levelBoard[37][15] = new Block(9, scaleFactor);
-		levelBoard[38][15] = new Block(9, scaleFactor);
-		levelBoard[39][15] = new Block(9, scaleFactor);
-		levelBoard[40][15] = new Block(9, scaleFactor);
-		levelBoard[41][15] = new Block(9, scaleFactor);
-		levelBoard[42][15] = new Block(9, scaleFactor);
-		levelBoard[43][15] = new Block(9, scaleFactor);
-		levelBoard[44][15] = new Block(9, scaleFactor);
-		levelBoard[45][15] = new Block(9, scaleFactor);
-		levelBoard[46][15] = new Block(12, scaleFactor);
-		levelBoard[47][15] = new Block(12, scaleFactor);
-		levelBoard[48][15] = new Block(12, scaleFactor);
-		levelBoard[49][15] = new Block(12, scaleFactor);
-		levelBoard[50][15] = new Block(12, scaleFactor);
-		levelBoard[51][15] = new Block(12, scaleFactor);
-		levelBoard[52][15] = new Block(12, scaleFactor);
-		levelBoard[53][15] = new Block(12, scaleFactor);
-		levelBoard[54][15] = new Block(12, scaleFactor);
-		levelBoard[55][15] = new Block(12, scaleFactor);
-		levelBoard[56][15] = new Block(12, scaleFactor);
-		levelBoard[57][15] = new Block(12, scaleFactor);
-		levelBoard[58][15] = new Block(12, scaleFactor);
-		levelBoard[59][15] = new Block(12, scaleFactor);
-		levelBoard[60][15] = new Block(12, scaleFactor);
-		levelBoard[61][15] = new Block(12, scaleFactor);
-		levelBoard[62][15] = new Block(12, scaleFactor);
-		levelBoard[63][15] = new Block(9, scaleFactor);
-		levelBoard[64][15] = new Block(9, scaleFactor);
-		levelBoard[65][15] = new Block(9, scaleFactor);
-		levelBoard[66][15] = new Block(9, scaleFactor);
-		levelBoard[67][15] = new Block(9, scaleFactor);
-		levelBoard[68][15] = new Block(12, scaleFactor);
-		levelBoard[69][15] = new Block(12, scaleFactor);
-		levelBoard[70][15] = new Block(12, scaleFactor);
-		levelBoard[71][15] = new Block(12, scaleFactor);
-		levelBoard[72][15] = new Block(12, scaleFactor);
-		levelBoard[73][15] = new Block(12, scaleFactor);
-		levelBoard[74][15] = new Block(12, scaleFactor);
-		levelBoard[75][15] = new Block(12, scaleFactor);
-		levelBoard[76][15] = new Block(12, scaleFactor);
-		levelBoard[77][15] = new Block(9, scaleFactor);
-		levelBoard[78][15] = new Block(9, scaleFactor);
-		levelBoard[79][15] = new Block(9, scaleFactor);
-		levelBoard[80][15] = new Block(9, scaleFactor);
-		levelBoard[81][15] = new Block(9, scaleFactor);
-		levelBoard[82][15] = new Block(9, scaleFactor);
-		levelBoard[83][15] = new Block(9, scaleFactor);
-		levelBoard[84][15] = new Block(9, scaleFactor);
-		levelBoard[85][15] = new Block(9, scaleFactor);
-		levelBoard[86][15] = new Block(9, scaleFactor);
-		levelBoard[87][15] = new Block(9, scaleFactor);
-		levelBoard[88][15] = new Block(9, scaleFactor);
-		levelBoard[89][15] = new Block(9, scaleFactor);
-		levelBoard[90][15] = new Block(9, scaleFactor);
-		levelBoard[91][15] = new Block(9, scaleFactor);
-		levelBoard[92][15] = new Block(9, scaleFactor);
-		levelBoard[93][15] = new Block(9, scaleFactor);
-		levelBoard[94][15] = new Block(9, scaleFactor);
-		levelBoard[95][15] = new Block(9, scaleFactor);
-		levelBoard[96][15] = new Block(9, scaleFactor);
-		levelBoard[97][15] = new Block(9, scaleFactor);
-		levelBoard[98][15] = new Block(12, scaleFactor);
-		levelBoard[99][15] = new Block(12, scaleFactor);
-		levelBoard[100][15] = new Block(12, scaleFactor);
-		levelBoard[101][15] = new Block(12, scaleFactor);
-		levelBoard[102][15] = new Block(12, scaleFactor);
-		levelBoard[103][15] = new Block(12, scaleFactor);
-		levelBoard[104][15] = new Block(12, scaleFactor);
-		levelBoard[105][15] = new Block(12, scaleFactor);
-		levelBoard[106][15] = new Block(12, scaleFactor);
-		levelBoard[107][15] = new Block(12, scaleFactor);
-		levelBoard[108][15] = new Block(12, scaleFactor);
-		levelBoard[109][15] = new Block(12, scaleFactor);
-		levelBoard[110][15] = new Block(12, scaleFactor);
-		levelBoard[111][15] = new Block(12, scaleFactor);
-		levelBoard[112][15] = new Block(12, scaleFactor);
-		levelBoard[113][15] = new Block(12, scaleFactor);
-		levelBoard[114][15] = new Block(12, scaleFactor);
-		levelBoard[115][15] = new Block(12, scaleFactor);
-		levelBoard[116][15] = new Block(12, scaleFactor);
-		levelBoard[117][15] = new Block(12, scaleFactor);
-		levelBoard[118][15] = new Block(12, scaleFactor);
-		levelBoard[119][15] = new Block(12, scaleFactor);
-		levelBoard[120][15] = new Block(12, scaleFactor);
-		levelBoard[121][15] = new Block(12, scaleFactor);
-		levelBoard[122][15] = new Block(12, scaleFactor);
-		levelBoard[123][15] = new Block(12, scaleFactor);
-		levelBoard[124][15] = new Block(12, scaleFactor);
-		levelBoard[125][15] = new Block(12, scaleFactor);
-		levelBoard[126][15] = new Block(12, scaleFactor);
-		levelBoard[127][15] = new Block(12, scaleFactor);
-		
-		temporaryLevel.setLevelBoard(levelBoard);
-		temporaryLevel.putBlocksOnPanel();
-		worlds[1].addLevel(4, temporaryLevel);
-		
+	/**
+	 * Adds the first world to the frame and starts prefetching its first level
+	 */
+	private void showFirstWorld () {
+		System.out.println("Adding the first world");
+		add(worlds[0]);
+		currentWorld = 1;
+		worlds[0].prefetchLevel(1);
 	}
 	
 	public static void main (String[] args) {
@@ -7032,7 +325,6 @@ public class GameFrame extends JFrame {
 		 * See the github "2D platformer game"
 		 * 
 		 * RAPID TODO CHECKLIST (not in any order):
-		 * 	Breakable blocks dont respawn when player respawns after a death
 		 * 	Add fix so player doesnt clip into wall (similar to cieling fix)
 		 * 	Abstract code: make methods for kinematic movement stuff
 		 * 	
@@ -0,0 +1,143 @@
+package platformRunner;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands the key presses and releases from the event dispatch thread to the game thread without locks. Every event is
+ * stamped with {@code System.nanoTime()} when it happens and published into a single-producer, single-consumer ring
+ * buffer, which the game loop drains at the start of each tick. A key that is pressed and released again between two
+ * ticks still counts as pressed for the next tick, so taps shorter than a tick are never lost.
+ * <p>
+ * The keys are the bits of the {@code Simulation} input mask. Only one thread may call {@code keyPressed()} and
+ * {@code keyReleased()}, and only one thread may call {@code drain()}.
+ *
+ * @author Andrew Suyer
+ */
+public class InputQueue {
+	
+	/** Number of events the queue holds, a power of 2 */
+	public static final int capacity = 256;
+	
+	/** Key bit and pressed flag of each event, see {@code pressedFlag} */
+	private final int[] events;
+	
+	/** Time of each event in nanoseconds */
+	private final long[] eventTimes;
+	
+	/** Set in an event if the key was pressed, otherwise it was released */
+	private static final int pressedFlag = 1 << 8;
+	
+	/** Number of events published, only written by the producer. Written after the event so the consumer sees the event */
+	private final AtomicLong writeCount;
+	
+	/** Number of events drained, only written by the consumer */
+	private final AtomicLong readCount;
+	
+	/** The keys that are held, kept by the producer. Used by the consumer if events were dropped because the queue was full */
+	private final AtomicInteger heldKeys;
+	
+	/** Set by the producer when an event was dropped because the queue was full */
+	private volatile boolean overflowed;
+	
+	/** The keys that are held as of the last drained event, only used by the consumer */
+	private int drainedKeys;
+	
+	/** Time of the last drained event, only used by the consumer */
+	private long lastEventTime;
+	
+	/** Time of the first key press taken by the last drain, or 0 if it took none. Only used by the consumer */
+	private long drainedPressTime;
+	
+	public InputQueue () {
+		events = new int[capacity];
+		eventTimes = new long[capacity];
+		writeCount = new AtomicLong();
+		readCount = new AtomicLong();
+		heldKeys = new AtomicInteger();
+		overflowed = false;
+		drainedKeys = 0;
+		lastEventTime = 0;
+		drainedPressTime = 0;
+	}
+	
+	/**
+	 * Publishes that a key was pressed. Only called by the producer
+	 * @param key - the bit of the key in the input mask, like {@code Simulation.UP}
+	 */
+	public void keyPressed (int key) {
+		heldKeys.set(heldKeys.get() | key);
+		publish(key | pressedFlag);
+	}
+	
+	/**
+	 * Publishes that a key was released. Only called by the producer
+	 * @param key - the bit of the key in the input mask, like {@code Simulation.UP}
+	 */
+	public void keyReleased (int key) {
+		heldKeys.set(heldKeys.get() & ~key);
+		publish(key);
+	}
+	
+	private void publish (int event) {
+		long time = System.nanoTime();
+		long write = writeCount.get();
+		if (write - readCount.get() == capacity) {
+			// The game thread isn't draining, the held keys are taken from heldKeys when it does
+			overflowed = true;
+			return;
+		}
+		int slot = (int) (write & (capacity - 1));
+		events[slot] = event;
+		eventTimes[slot] = time;
+		writeCount.lazySet(write + 1);		// ordered after the event is written
+	}
+	
+	/**
+	 * Takes every event that was published since the last drain, and returns the keys for the next tick. Only called
+	 * by the consumer
+	 * @return the input mask of the keys that are held, and of the keys that were pressed since the last drain even if
+	 *         they have been released
+	 */
+	public int drain () {
+		long read = readCount.get();
+		long write = writeCount.get();
+		int pressedKeys = 0;
+		drainedPressTime = 0;
+		for (; read < write; read++) {
+			int slot = (int) (read & (capacity - 1));
+			int event = events[slot];
+			int key = event & ~pressedFlag;
+			if ((event & pressedFlag) != 0) {
+				if (pressedKeys == 0)
+					drainedPressTime = eventTimes[slot];
+				drainedKeys |= key;
+				pressedKeys |= key;
+			} else {
+				drainedKeys &= ~key;
+			}
+			lastEventTime = eventTimes[slot];
+		}
+		readCount.lazySet(read);		// the slots can be reused once they're read
+		
+		if (overflowed) {
+			overflowed = false;
+			drainedKeys = heldKeys.get();
+		}
+		return drainedKeys | pressedKeys;
+	}
+	
+	/**
+	 * Returns the time that the last drained event happened at, in {@code System.nanoTime()} nanoseconds, or 0 if no
+	 * event has been drained. Only called by the consumer
+	 */
+	public long getLastEventTime () { return lastEventTime; }
+	
+	/**
+	 * Returns the time that the first key press taken by the last drain happened at, in {@code System.nanoTime()}
+	 * nanoseconds, or 0 if the last drain took no key presses. Used to measure how long a key press waits for the
+	 * tick that plays it. Only called by the consumer
+	 */
+	public long getDrainedPressTime () { return drainedPressTime; }
+	
+}
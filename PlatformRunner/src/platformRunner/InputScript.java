@@ -0,0 +1,115 @@
+package platformRunner;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The keys that are pressed during each tick of a run, stored as runs of ticks that have the same input mask, see
+ * {@code Simulation.step()}. Input scripts are text files with one run per line, the number of ticks followed by the
+ * keys that are held: {@code U} for up, {@code R} for right, {@code D} for down, {@code L} for left, or {@code -} for
+ * none. Empty lines and lines starting with {@code #} are skipped. For example, to run right for one second and jump:
+ * <pre>
+ * 96 R
+ * 1 RU
+ * </pre>
+ *
+ * @author Andrew Suyer
+ */
+public class InputScript {
+	
+	/** Letters of the keys in an input script, in the order of the bits of the input mask */
+	private static final String keyLetters = "URDL";
+	
+	/** Name of the script, usually its filepath */
+	public final String name;
+	
+	/** Number of ticks and input mask of each run */
+	private final int[] runLengths;
+	private final byte[] runMasks;
+	
+	/** Number of ticks of all the runs */
+	private final long length;
+	
+	/**
+	 * Creates a script from its runs
+	 * @throws IllegalArgumentException if a run is shorter than 1 tick or has a mask with more than the 4 key bits
+	 * @param name - name of the script
+	 * @param runLengths - number of ticks of each run
+	 * @param runMasks - input mask of each run
+	 */
+	public InputScript (String name, int[] runLengths, byte[] runMasks) {
+		if (runLengths.length != runMasks.length)
+			throw new IllegalArgumentException(runLengths.length + " run lengths but " + runMasks.length + " masks");
+		long length = 0;
+		for (int i = 0; i < runLengths.length; i++) {
+			if (runLengths[i] < 1 || (runMasks[i] & ~0xF) != 0)
+				throw new IllegalArgumentException("Invalid run " + i + ": " + runLengths[i] + " ticks of mask " + runMasks[i]);
+			length += runLengths[i];
+		}
+		this.name = name;
+		this.runLengths = runLengths;
+		this.runMasks = runMasks;
+		this.length = length;
+	}
+	
+	public int getRunCount () { return runLengths.length; }
+	
+	public int getRunLength (int run) { return runLengths[run]; }
+	
+	public int getRunMask (int run) { return runMasks[run]; }
+	
+	public long getLength () { return length; }
+	
+	/**
+	 * Reads an input script file
+	 * @throws IOException if the file can't be read or a line isn't a valid run
+	 * @param filepath - filepath of the script
+	 * @return the script, named after its filepath
+	 */
+	public static InputScript read (String filepath) throws IOException {
+		List<String> lines = Files.readAllLines(Paths.get(filepath));
+		int[] runLengths = new int[lines.size()];
+		byte[] runMasks = new byte[lines.size()];
+		int runs = 0;
+		for (int lineNumber = 1; lineNumber <= lines.size(); lineNumber++) {
+			String line = lines.get(lineNumber - 1).trim();
+			if (line.isEmpty() || line.startsWith("#"))
+				continue;
+				
+			// Columns: number of ticks, keys
+			String[] columns = line.split("\\s+");
+			if (columns.length != 2)
+				throw new IOException(filepath + " line " + lineNumber + ": expected 2 columns but found " + columns.length);
+			try {
+				runLengths[runs] = Integer.parseInt(columns[0]);
+			} catch (NumberFormatException e) {
+				throw new IOException(filepath + " line " + lineNumber + ": " + e.getMessage(), e);
+			}
+			if (runLengths[runs] < 1)
+				throw new IOException(filepath + " line " + lineNumber + ": a run has to be at least 1 tick long");
+			runMasks[runs] = parseKeys(columns[1], filepath, lineNumber);
+			runs++;
+		}
+		return new InputScript(filepath, Arrays.copyOf(runLengths, runs), Arrays.copyOf(runMasks, runs));
+	}
+	
+	/**
+	 * Returns the input mask of the keys of a run, like {@code RU}
+	 */
+	private static byte parseKeys (String keys, String filepath, int lineNumber) throws IOException {
+		if (keys.equals("-"))
+			return 0;
+		int mask = 0;
+		for (char key : keys.toCharArray()) {
+			int bit = keyLetters.indexOf(Character.toUpperCase(key));
+			if (bit < 0)
+				throw new IOException(filepath + " line " + lineNumber + ": " + key + " isn't a key, the keys are " + keyLetters + " or - for none");
+			mask |= 1 << bit;
+		}
+		return (byte) mask;
+	}
+	
+}
@@ -0,0 +1,205 @@
+package platformRunner;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * Measures how long it takes for a key press to show up on the screen, split into the stages it goes through. A key
+ * press is stamped by the {@code InputQueue} when the event dispatch thread hands it over, waits in the queue for the
+ * tick that plays it, and then waits for the next frame to be drawn and shown. Each stage has a histogram of
+ * {@code bucketCount} buckets that are {@code bucketWidth} wide, the last bucket counts everything slower than that.
+ * <p>
+ * A frame counts as shown once {@code BufferStrategy.show()} and {@code Toolkit.sync()} return, so the time the
+ * display itself takes to scan out the frame isn't included. If several keys are pressed between two ticks, only the
+ * first press is measured. Everything is called from the game thread.
+ *
+ * @author Andrew Suyer
+ */
+public class LatencyMonitor {
+	
+	/** Folder that the histograms of finished levels are written to, or null to not write them. Set with {@code -DplatformRunner.latencyLog} */
+	public static final String exportFolder = System.getProperty("platformRunner.latencyLog");
+	
+	/** Width of a histogram bucket in nanoseconds */
+	public static final long bucketWidth = 250000;
+	
+	/** Number of buckets in each histogram, the histograms go up to 50 ms */
+	public static final int bucketCount = 200;
+	
+	/** Most key presses that can wait for the same frame, any more aren't measured */
+	private static final int maxPendingPresses = 64;
+	
+	/** The stages that a key press goes through before it's on the screen */
+	public enum Stage {
+		/** From the key event to the tick that plays it */
+		KEY_TO_TICK ("Key to tick"),
+		/** From the tick to the frame that shows its result */
+		TICK_TO_FRAME ("Tick to frame"),
+		/** From the key event to the frame, the sum of the other stages */
+		KEY_TO_FRAME ("Key to frame");
+		
+		public final String label;
+		
+		private Stage (String label) {
+			this.label = label;
+		}
+	}
+	
+	/** Number of measurements in each bucket, by stage */
+	private final long[][] histograms;
+	
+	/** Number, sum and maximum of the measurements, by stage */
+	private final long[] counts;
+	private final long[] totals;
+	private final long[] maximums;
+	
+	/** Times of the key presses that have been played by a tick but not shown in a frame yet, and of their ticks */
+	private final long[] pendingPressTimes;
+	private final long[] pendingTickTimes;
+	private int pendingCount;
+	
+	public LatencyMonitor () {
+		int stages = Stage.values().length;
+		histograms = new long[stages][bucketCount];
+		counts = new long[stages];
+		totals = new long[stages];
+		maximums = new long[stages];
+		pendingPressTimes = new long[maxPendingPresses];
+		pendingTickTimes = new long[maxPendingPresses];
+		pendingCount = 0;
+	}
+	
+	/**
+	 * Records that a tick played a key press. The press is measured to the frame once {@code frameShown()} is called
+	 * @param pressTime - when the key was pressed, from {@code InputQueue.getDrainedPressTime()}
+	 * @param tickTime - when the tick took the key press, from {@code System.nanoTime()}
+	 */
+	public void keyPlayed (long pressTime, long tickTime) {
+		record(Stage.KEY_TO_TICK, tickTime - pressTime);
+		if (pendingCount < maxPendingPresses) {
+			pendingPressTimes[pendingCount] = pressTime;
+			pendingTickTimes[pendingCount] = tickTime;
+			pendingCount++;
+		}
+	}
+	
+	/**
+	 * Records that a frame was shown, which shows the result of every key press played since the last frame
+	 * @param shownTime - when the frame was shown, from {@code System.nanoTime()}
+	 */
+	public void frameShown (long shownTime) {
+		for (int i = 0; i < pendingCount; i++) {
+			record(Stage.TICK_TO_FRAME, shownTime - pendingTickTimes[i]);
+			record(Stage.KEY_TO_FRAME, shownTime - pendingPressTimes[i]);
+		}
+		pendingCount = 0;
+	}
+	
+	private void record (Stage stage, long latency) {
+		int s = stage.ordinal();
+		histograms[s][(int) Math.min(Math.max(latency, 0) / bucketWidth, bucketCount - 1)]++;
+		counts[s]++;
+		totals[s] += latency;
+		maximums[s] = Math.max(maximums[s], latency);
+	}
+	
+	/** Returns how many key presses have been measured through a stage */
+	public long getCount (Stage stage) { return counts[stage.ordinal()]; }
+	
+	/** Returns the average latency of a stage in nanoseconds, or 0 if nothing has been measured */
+	public long getAverage (Stage stage) {
+		int s = stage.ordinal();
+		return counts[s] == 0 ? 0 : totals[s] / counts[s];
+	}
+	
+	/** Returns the highest latency of a stage in nanoseconds, or 0 if nothing has been measured */
+	public long getMaximum (Stage stage) { return maximums[stage.ordinal()]; }
+	
+	/**
+	 * Returns a percentile of the latency of a stage, rounded up to the end of its bucket. The slowest bucket returns
+	 * the maximum instead
+	 * @param stage - the stage
+	 * @param percentile - the percentile, from 0 to 100
+	 * @return the latency in nanoseconds, or 0 if nothing has been measured
+	 */
+	public long getPercentile (Stage stage, double percentile) {
+		int s = stage.ordinal();
+		long rank = (long) Math.ceil(counts[s] * percentile / 100);
+		long seen = 0;
+		for (int bucket = 0; bucket < bucketCount - 1; bucket++) {
+			seen += histograms[s][bucket];
+			if (seen >= rank && seen > 0)
+				return Math.min((bucket + 1) * bucketWidth, maximums[s]);
+		}
+		return maximums[s];
+	}
+	
+	/**
+	 * Draws the percentiles and the histogram of every stage in a box, with its top left corner at x, y
+	 * @param g - graphics of the frame being drawn
+	 * @param x - x position of the box in pixels
+	 * @param y - y position of the box in pixels
+	 */
+	public void draw (Graphics g, int x, int y) {
+		int lineHeight = 16;
+		int graphHeight = 32;
+		int stageHeight = lineHeight + graphHeight + 8;
+		int width = bucketCount * 2 + 16;
+		
+		g.setColor(new Color(0, 0, 0, 160));
+		g.fillRect(x, y, width, 8 + Stage.values().length * stageHeight);
+		g.setFont(new Font("Monospaced", Font.PLAIN, 12));
+		
+		int top = y + 8;
+		for (Stage stage : Stage.values()) {
+			g.setColor(Color.white);
+			g.drawString(String.format("%-13s p50 %5.1f  p95 %5.1f  p99 %5.1f  max %5.1f ms  (%d)", stage.label,
+					getPercentile(stage, 50) / 1e6, getPercentile(stage, 95) / 1e6, getPercentile(stage, 99) / 1e6,
+					getMaximum(stage) / 1e6, getCount(stage)), x + 8, top + 12);
+					
+			// Histogram, 2 pixels per bucket and scaled to the fullest bucket:
+			long[] histogram = histograms[stage.ordinal()];
+			long fullest = 1;
+			for (long count : histogram)
+				fullest = Math.max(fullest, count);
+			int graphBottom = top + lineHeight + graphHeight;
+			g.setColor(new Color(255, 255, 255, 60));
+			g.drawLine(x + 8, graphBottom, x + 8 + bucketCount * 2, graphBottom);
+			g.setColor(Color.green);
+			for (int bucket = 0; bucket < bucketCount; bucket++) {
+				if (histogram[bucket] == 0)
+					continue;
+				int barHeight = (int) Math.max(1, histogram[bucket] * graphHeight / fullest);
+				g.fillRect(x + 8 + bucket * 2, graphBottom - barHeight, 2, barHeight);
+			}
+			top += stageHeight;
+		}
+	}
+	
+	/**
+	 * Writes the summary and the histogram of every stage to a CSV file, one row per bucket
+	 * @throws IOException if the file can't be written
+	 * @param filepath - the file to write
+	 */
+	public void write (String filepath) throws IOException {
+		try (PrintWriter out = new PrintWriter(new FileWriter(filepath))) {
+			for (Stage stage : Stage.values())
+				out.printf("# %s: %d presses, average %.3f ms, p50 %.3f ms, p95 %.3f ms, p99 %.3f ms, max %.3f ms%n", stage.label,
+						getCount(stage), getAverage(stage) / 1e6, getPercentile(stage, 50) / 1e6, getPercentile(stage, 95) / 1e6,
+						getPercentile(stage, 99) / 1e6, getMaximum(stage) / 1e6);
+			out.println("stage,from_ms,to_ms,count");
+			for (Stage stage : Stage.values()) {
+				long[] histogram = histograms[stage.ordinal()];
+				for (int bucket = 0; bucket < bucketCount; bucket++) {
+					String to = bucket == bucketCount - 1 ? "" : String.valueOf((bucket + 1) * bucketWidth / 1e6);
+					out.println(stage.name() + "," + bucket * bucketWidth / 1e6 + "," + to + "," + histogram[bucket]);
+				}
+			}
+		}
+	}
+	
+}
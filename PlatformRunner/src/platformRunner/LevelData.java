@@ -0,0 +1,127 @@
+package platformRunner;
+
+/**
+ * Everything needed to build a {@code Level}: the arguments of the {@code Level} constructor and the id of the block
+ * in every cell of the board. A {@code LevelData} doesn't hold any Swing objects, so it can be decoded on any thread.
+ * The block ids are never changed after the level data is created, so the {@code Level} uses them as its board.
+ * <p>
+ * Levels that are too long to decode at once are streamed instead: their level data only has the level parameters
+ * and a {@code ChunkSource} that the {@code Level} reads the board from a chunk at a time.
+ *
+ * @author Andrew Suyer
+ */
+public class LevelData {
+	
+	/** Id stored for cells that are air (null Blocks) */
+	public static final byte air = -1;
+	
+	/** Panel background color, as a 24 bit RGB value */
+	public final int backgroundColor;
+	
+	public final int blockScaleFactor;
+	
+	/** levelBoard width and height, in terms of Blocks and not pixels */
+	public final int width;
+	public final int height;
+	
+	/** How fast the level moves in blocks per second */
+	public final double levelSpeed;
+	
+	public final double gravitationalAcceleration;
+	
+	public final int playerXStart;
+	public final int playerYStart;
+	
+	public final int levelNumber;
+	
+	/** Block id of every cell, the cell (x, y) is at index {@code x * height + y}. Air is {@code LevelData.air}. Null if
+	 * the level is streamed */
+	private final byte[] tileIds;
+	
+	/** Where the board of a streamed level is read from, null if the block ids are in {@code tileIds} */
+	private final ChunkSource chunkSource;
+	
+	/**
+	 * Creates level data from the {@code Level} constructor arguments and the block ids of the board
+	 * @param bc - panel background color as a 24 bit RGB value
+	 * @param scale - block scale factor
+	 * @param w - levelBoard width
+	 * @param h - levelBoard height
+	 * @param speed - how fast the level moves in blocks per second
+	 * @param gAcc - acceleration due to gravity
+	 * @param playerXStart - the starting x position for the player
+	 * @param playerYStart - the starting y position for the player
+	 * @param levelNum - the level number
+	 * @param ids - block id of every cell, column by column
+	 */
+	public LevelData (int bc, int scale, int w, int h, double speed, double gAcc, int playerXStart, int playerYStart, int levelNum, byte[] ids) {
+		if (ids.length != w * h)
+			throw new IllegalArgumentException("The board that was created doesnt match the dimensions of the level board!");
+		backgroundColor = bc;
+		blockScaleFactor = scale;
+		width = w;
+		height = h;
+		levelSpeed = speed;
+		gravitationalAcceleration = gAcc;
+		this.playerXStart = playerXStart;
+		this.playerYStart = playerYStart;
+		levelNumber = levelNum;
+		tileIds = ids;
+		chunkSource = null;
+	}
+	
+	/**
+	 * Creates level data for a streamed level, whose board is read from {@code source} while the level is played
+	 * @param bc - panel background color as a 24 bit RGB value
+	 * @param scale - block scale factor
+	 * @param speed - how fast the level moves in blocks per second
+	 * @param gAcc - acceleration due to gravity
+	 * @param playerXStart - the starting x position for the player
+	 * @param playerYStart - the starting y position for the player
+	 * @param levelNum - the level number
+	 * @param source - where the block ids are read from, it also gives the width and height of the board
+	 */
+	public LevelData (int bc, int scale, double speed, double gAcc, int playerXStart, int playerYStart, int levelNum, ChunkSource source) {
+		backgroundColor = bc;
+		blockScaleFactor = scale;
+		width = source.getWidth();
+		height = source.getHeight();
+		levelSpeed = speed;
+		gravitationalAcceleration = gAcc;
+		this.playerXStart = playerXStart;
+		this.playerYStart = playerYStart;
+		levelNumber = levelNum;
+		tileIds = null;
+		chunkSource = source;
+	}
+	
+	/** Returns true if the board of this level is read from a {@code ChunkSource} instead of being in memory */
+	public boolean isStreamed () { return chunkSource != null; }
+	
+	public ChunkSource getChunkSource () { return chunkSource; }
+	
+	/**
+	 * Returns the type of the block at (x, y)
+	 * @param x - column of the cell
+	 * @param y - row of the cell
+	 * @return the block type, or null for air
+	 */
+	public BlockType blockTypeAt (int x, int y) {
+		byte id = tileIdAt(x, y);
+		return id == air ? null : BlockType.of(id & 0xFF);
+	}
+	
+	/**
+	 * Returns the block id at (x, y)
+	 * @param x - column of the cell
+	 * @param y - row of the cell
+	 * @return the block id, or {@code LevelData.air}
+	 * @throws IllegalStateException if the level is streamed, its block ids aren't in memory
+	 */
+	public byte tileIdAt (int x, int y) {
+		if (tileIds == null)
+			throw new IllegalStateException("The board of a streamed level is read by its ChunkSource");
+		return tileIds[x * height + y];
+	}
+	
+}
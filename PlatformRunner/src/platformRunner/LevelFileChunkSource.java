@@ -0,0 +1,86 @@
+package platformRunner;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Reads the columns of a streamed level straight from its level file, which is usually memory mapped so the file
+ * isn't on the heap. The columns are run-length encoded, so a column can only be found by decoding the ones before
+ * it. To avoid that, the position in the file where each chunk starts is remembered the first time it's passed, so
+ * reading a chunk again, like after the player respawns, starts right at it. Several tile maps can read from the same
+ * source at once, like the runs of {@code BatchSimulator}.
+ *
+ * @author Andrew Suyer
+ */
+public class LevelFileChunkSource implements ChunkSource {
+	
+	/** The level file, with its position at the first column */
+	private final ByteBuffer columnData;
+	
+	private final int width;
+	private final int height;
+	
+	/** Position in {@code columnData} where each chunk starts, for the first {@code knownChunks} chunks */
+	private int[] chunkPositions;
+	private int knownChunks;
+	
+	/**
+	 * Creates a chunk source for the columns of a level file
+	 * @param columnData - the level file, with its position at the first column
+	 * @param width - width of the board in blocks
+	 * @param height - height of the board in blocks
+	 */
+	public LevelFileChunkSource (ByteBuffer columnData, int width, int height) {
+		this.columnData = columnData;
+		this.width = width;
+		this.height = height;
+		chunkPositions = new int[16];
+		chunkPositions[0] = columnData.position();
+		knownChunks = 1;
+	}
+	
+	@Override
+	public int getWidth () { return width; }
+	
+	@Override
+	public int getHeight () { return height; }
+	
+	@Override
+	public synchronized void readColumns (int firstColumn, int columnCount, byte[] tileIds) throws IOException {
+		// Starting at the closest chunk before firstColumn whose position is known:
+		int chunk = Math.min(firstColumn / ChunkedTileMap.chunkWidth, knownChunks - 1);
+		ByteBuffer buffer = columnData.duplicate();
+		buffer.position(chunkPositions[chunk]);
+		
+		try {
+			for (int x = chunk * ChunkedTileMap.chunkWidth; x < firstColumn + columnCount; x++) {
+				if (x % ChunkedTileMap.chunkWidth == 0 && x / ChunkedTileMap.chunkWidth == knownChunks)
+					rememberChunkPosition(buffer.position());
+					
+				int y = 0;
+				while (y < height) {
+					int runLength = buffer.get() & 0xFF;
+					byte id = buffer.get();
+					if (runLength == 0 || y + runLength > height)
+						throw new IOException("Invalid run in column " + x);
+					if (x >= firstColumn) {
+						int start = (x - firstColumn) * height + y;
+						Arrays.fill(tileIds, start, start + runLength, id);
+					}
+					y += runLength;
+				}
+			}
+		} catch (BufferUnderflowException e) {
+			throw new IOException("Level file ends too early", e);
+		}
+	}
+	
+	private void rememberChunkPosition (int position) {
+		if (knownChunks == chunkPositions.length)
+			chunkPositions = Arrays.copyOf(chunkPositions, knownChunks * 2);
+		chunkPositions[knownChunks++] = position;
+	}
+	
+}
@@ -0,0 +1,61 @@
+package platformRunner;
+
+import java.io.IOException;
+
+/**
+ * Prints how much memory the board of every level takes as an {@code ArrayTileMap} and as a {@code SparseTileMap},
+ * which one {@code TileMap.of()} picks, and how long a collision check takes with each of them. Run with
+ * {@code -Djava.awt.headless=true}.
+ *
+ * @author Andrew Suyer
+ */
+public class LevelFootprints {
+	
+	/** Number of collision checks timed per level and tile map */
+	private static final int checks = 1 << 22;
+	
+	public static void main (String[] args) throws IOException {
+		System.out.println("Level     Size     Blocks  Spans   Array bytes  Sparse bytes  Picked   Array ns  Sparse ns");
+		for (int world = 1; world <= 2; world++) {
+			for (int level = 1; level <= GameFrame.levelsPerWorld; level++) {
+				LevelData data = LevelLoader.read(LevelLoader.levelFilepath(world, level));
+				ArrayTileMap array = new ArrayTileMap(data);
+				SparseTileMap sparse = new SparseTileMap(data);
+				String picked = TileMap.of(data, 0).getClass().getSimpleName().replace("TileMap", "");
+				
+				// Timing each one twice, the first time warms it up:
+				timeChecks(array);
+				timeChecks(sparse);
+				double arrayNanos = timeChecks(array);
+				double sparseNanos = timeChecks(sparse);
+				
+				System.out.printf("%d-%d   %4dx%-3d   %5d  %5d  %12d  %12d  %-7s  %8.2f  %9.2f%n", world, level, data.width, data.height,
+						sparse.getOccupiedCells(), sparse.getSpanCount(), array.getFootprint(), sparse.getFootprint(), picked,
+						arrayNanos, sparseNanos);
+			}
+		}
+	}
+	
+	/**
+	 * Checks the solid flag of cells all over the board and returns the average time of a check in nanoseconds
+	 */
+	private static double timeChecks (TileMap tileMap) {
+		int width = tileMap.getWidth();
+		int height = tileMap.getHeight();
+		int solid = 0;
+		int x = 0;
+		int y = 0;
+		long start = System.nanoTime();
+		for (int i = 0; i < checks; i++) {
+			if (tileMap.hasAny(x, y, CollisionGrid.SOLID))
+				solid++;
+			x = (x + 7) % width;
+			y = (y + 3) % height;
+		}
+		long time = System.nanoTime() - start;
+		if (solid < 0)
+			System.out.println(solid);
+		return (double) time / checks;
+	}
+	
+}
@@ -0,0 +1,237 @@
+package platformRunner;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.IndexColorModel;
+import java.awt.image.Raster;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.imageio.ImageIO;
+
+/**
+ * Turns level images into level files. A level image has one pixel per block, and the color of each pixel is mapped
+ * to a block id with the palette in {@code src/blocks/palette.txt}, so a level can be drawn in any paint program the
+ * same way the levels used to be drawn in a spreadsheet, and imported in milliseconds without generating any code.
+ * <p>
+ * Run with {@code -Djava.awt.headless=true} from the PlatformRunner folder:
+ * <pre>
+ * java platformRunner.LevelImporter image.png level.lvl     imports the image into the level file
+ * java platformRunner.LevelImporter level.lvl image.png     exports the board of the level file as an image
+ * </pre>
+ * If the level file already exists, the image replaces its board and has to be the same size as it. Otherwise the
+ * level parameters are taken from {@code templateFilepath} and the image can be any width, but has to be as tall
+ * as the template level.
+ *
+ * @author Andrew Suyer
+ */
+public final class LevelImporter {
+	
+	/** Filepath of the palette file */
+	public static final String paletteFilepath = "src/blocks/palette.txt";
+	
+	/** Level that new levels take their parameters from. Can be changed with {@code -DplatformRunner.templateLevel} */
+	public static final String templateFilepath = System.getProperty("platformRunner.templateLevel", LevelLoader.levelFilepath(1, 1));
+	
+	/** Pixels with less alpha than this are air */
+	private static final int opaqueAlpha = 128;
+	
+	private LevelImporter () {}
+	
+	/**
+	 * Reads the palette file
+	 * @throws IllegalStateException if the file can't be read or a line isn't valid
+	 * @param filepath - filepath of the palette file
+	 * @return the block id of every color in the palette, keyed by 24 bit RGB color
+	 */
+	public static Map<Integer, Byte> readPalette (String filepath) {
+		List<String> lines;
+		try {
+			lines = Files.readAllLines(Paths.get(filepath));
+		} catch (IOException e) {
+			throw new IllegalStateException("Couldnt read the palette file " + filepath, e);
+		}
+		
+		Map<Integer, Byte> palette = new HashMap<>();
+		for (int lineNumber = 1; lineNumber <= lines.size(); lineNumber++) {
+			String line = lines.get(lineNumber - 1).trim();
+			if (line.isEmpty() || line.startsWith("#"))
+				continue;
+				
+			// Columns: color, block id or air
+			String[] columns = line.split("\\s*,\\s*");
+			if (columns.length != 2)
+				throw new IllegalStateException(filepath + " line " + lineNumber + ": expected 2 columns but found " + columns.length);
+			try {
+				int color = Integer.parseInt(columns[0], 16);
+				byte id = LevelData.air;
+				if (!columns[1].equals("air")) {
+					int blockId = Integer.parseInt(columns[1]);
+					if (blockId < 0 || blockId > BlockType.maxBlockId)
+						throw new IllegalStateException(filepath + " line " + lineNumber + ": block id " + columns[1] + " isn't between 0 and " + BlockType.maxBlockId);
+					id = (byte) blockId;
+				}
+				if (palette.put(color & 0xFFFFFF, id) != null)
+					throw new IllegalStateException(filepath + " line " + lineNumber + ": color " + columns[0] + " is in the palette twice");
+			} catch (NumberFormatException e) {
+				throw new IllegalStateException(filepath + " line " + lineNumber + ": " + e.getMessage(), e);
+			}
+		}
+		return palette;
+	}
+	
+	/**
+	 * Converts a level image to the block ids of a board, reading the raster of the image once, a row at a time
+	 * @throws IllegalArgumentException if the image isn't {@code width} by {@code height} pixels, or has a color that
+	 *         isn't in the palette
+	 * @param image - the level image, one pixel per block
+	 * @param palette - block id of every color, see {@code readPalette()}
+	 * @param width - width the board has to be, or 0 for any width
+	 * @param height - height the board has to be
+	 * @return block id of every cell, the cell (x, y) is at index {@code x * height + y}
+	 */
+	public static byte[] importBoard (BufferedImage image, Map<Integer, Byte> palette, int width, int height) {
+		if ((width != 0 && image.getWidth() != width) || image.getHeight() != height)
+			throw new IllegalArgumentException("The board that was created doesnt match the dimensions of the level board! The image is "
+					+ image.getWidth() + "x" + image.getHeight() + " but the level is " + (width == 0 ? "any width" : width) + "x" + height);
+		width = image.getWidth();
+		
+		// The raster is read as 8 bit samples, so images with other sample sizes, like 16 bit pngs, are converted first:
+		if (!(image.getColorModel() instanceof IndexColorModel) && image.getRaster().getSampleModel().getSampleSize(0) != 8) {
+			BufferedImage converted = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+			converted.setRGB(0, 0, width, height, image.getRGB(0, 0, width, height, null, 0, width), 0, width);
+			image = converted;
+		}
+		
+		Raster raster = image.getRaster();
+		int bands = raster.getNumBands();
+		int[] row = new int[width * bands];
+		byte[] tileIds = new byte[width * height];
+		
+		// Images with a color table, the ids of all the colors are looked up once:
+		byte[] idOfIndex = null;
+		boolean[] unknownIndex = null;
+		if (image.getColorModel() instanceof IndexColorModel && bands == 1) {
+			IndexColorModel colors = (IndexColorModel) image.getColorModel();
+			idOfIndex = new byte[colors.getMapSize()];
+			unknownIndex = new boolean[colors.getMapSize()];
+			for (int i = 0; i < idOfIndex.length; i++) {
+				Byte id = palette.get(colors.getRGB(i) & 0xFFFFFF);
+				idOfIndex[i] = colors.getAlpha(i) < opaqueAlpha || id == null ? LevelData.air : id;
+				unknownIndex[i] = colors.getAlpha(i) >= opaqueAlpha && id == null;		// only an error if a pixel uses it
+			}
+		}
+		
+		int lastColor = -1;
+		byte lastId = LevelData.air;
+		for (int y = 0; y < height; y++) {
+			raster.getPixels(0, y, width, 1, row);
+			for (int x = 0; x < width; x++) {
+				byte id;
+				if (idOfIndex != null) {
+					id = idOfIndex[row[x]];
+					if (unknownIndex[row[x]])
+						lookUp(palette, image.getRGB(x, y) & 0xFFFFFF, x, y);		// throws with the position of the pixel
+				} else {
+					int i = x * bands;
+					int color = bands >= 3 ? (row[i] << 16) | (row[i + 1] << 8) | row[i + 2] : row[i] * 0x010101;
+					boolean transparent = (bands == 4 || bands == 2) && row[i + bands - 1] < opaqueAlpha;
+					if (transparent) {
+						id = LevelData.air;
+					} else if (color == lastColor) {
+						id = lastId;		// neighboring pixels are usually the same block
+					} else {
+						id = lookUp(palette, color, x, y);
+						lastColor = color;
+						lastId = id;
+					}
+				}
+				tileIds[x * height + y] = id;
+			}
+		}
+		return tileIds;
+	}
+	
+	/**
+	 * Draws the board of a level as a level image, the opposite of {@code importBoard()}
+	 * @throws IllegalArgumentException if a block id on the board isn't in the palette
+	 * @param data - the level data, not streamed
+	 * @param palette - block id of every color, see {@code readPalette()}
+	 * @return the level image, air is transparent
+	 */
+	public static BufferedImage exportBoard (LevelData data, Map<Integer, Byte> palette) {
+		int[] colorOfId = new int[256];
+		boolean[] inPalette = new boolean[256];
+		for (Map.Entry<Integer, Byte> entry : palette.entrySet()) {
+			if (entry.getValue() != LevelData.air) {
+				colorOfId[entry.getValue() & 0xFF] = entry.getKey();
+				inPalette[entry.getValue() & 0xFF] = true;
+			}
+		}
+		
+		BufferedImage image = new BufferedImage(data.width, data.height, BufferedImage.TYPE_INT_ARGB);
+		for (int x = 0; x < data.width; x++) {
+			for (int y = 0; y < data.height; y++) {
+				byte id = data.tileIdAt(x, y);
+				if (id == LevelData.air)
+					continue;
+				if (!inPalette[id & 0xFF])
+					throw new IllegalArgumentException("Block id " + (id & 0xFF) + " at (" + x + ", " + y + ") isn't in the palette");
+				image.setRGB(x, y, 0xFF000000 | colorOfId[id & 0xFF]);
+			}
+		}
+		return image;
+	}
+	
+	/**
+	 * Returns the block id of a color
+	 * @throws IllegalArgumentException if the color isn't in the palette
+	 * @param x - column of the pixel, for the error message
+	 * @param y - row of the pixel, for the error message
+	 */
+	private static byte lookUp (Map<Integer, Byte> palette, int color, int x, int y) {
+		Byte id = palette.get(color);
+		if (id != null)
+			return id;
+		throw new IllegalArgumentException(String.format("The color %06X of the pixel at (%d, %d) isn't in the palette", color, x, y));
+	}
+	
+	public static void main (String[] args) throws IOException {
+		if (args.length != 2) {
+			System.out.println("Usage: LevelImporter image.png level.lvl, or LevelImporter level.lvl image.png to export");
+			return;
+		}
+		Map<Integer, Byte> palette = readPalette(paletteFilepath);
+		
+		if (args[0].endsWith(".lvl")) {
+			ImageIO.write(exportBoard(LevelLoader.read(args[0]), palette), "png", new File(args[1]));
+			System.out.println("Exported " + args[0] + " to " + args[1]);
+			return;
+		}
+		
+		BufferedImage image = ImageIO.read(new File(args[0]));
+		if (image == null)
+			throw new IOException("Couldnt read the image " + args[0]);
+		boolean replacing = new File(args[1]).exists();
+		LevelData template = LevelLoader.read(replacing ? args[1] : templateFilepath);
+		
+		long start = System.nanoTime();
+		byte[] tileIds = importBoard(image, palette, replacing ? template.width : 0, template.height);
+		long time = System.nanoTime() - start;
+		
+		LevelData data = new LevelData(template.backgroundColor, template.blockScaleFactor, image.getWidth(), template.height, template.levelSpeed,
+				template.gravitationalAcceleration, template.playerXStart, template.playerYStart, template.levelNumber, tileIds);
+		try (OutputStream out = new FileOutputStream(args[1])) {
+			LevelLoader.encode(data, out);
+		}
+		System.out.printf("Imported %dx%d blocks from %s into %s in %.2f ms%n", data.width, data.height, args[0], args[1], time / 1e6);
+		if (new File(LevelPack.packFilepath).exists())
+			System.out.println("Run platformRunner.LevelPack to put the new level into " + LevelPack.packFilepath);
+	}
+	
+}
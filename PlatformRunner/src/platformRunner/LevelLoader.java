@@ -0,0 +1,227 @@
+package platformRunner;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Reads and writes the binary level files that the game levels are stored in. A level file is:
+ * <pre>
+ * "PRLV"            magic number (4 bytes)
+ * version           byte, currently 1
+ * backgroundColor   int, 24 bit RGB
+ * blockScaleFactor  byte
+ * width, height     int, int (in blocks)
+ * levelSpeed        double
+ * gravity           double
+ * playerXStart      int
+ * playerYStart      int
+ * levelNumber       byte
+ * columns           for each column, runs of (length, blockId) bytes from the top to the bottom of the column.
+ *                   A block id of 0xFF is air and a run is at most 255 cells
+ * </pre>
+ * All numbers are big-endian. The levels used to be thousands of lines of generated Java, now a 128x16 level is
+ * around a kilobyte and is decoded in microseconds.
+ * <p>
+ * Levels wider than {@code streamingWidth} aren't decoded all at once. Their level data only has the header, and the
+ * columns are read a chunk at a time from the file while the level is played, so a level can be as long as the file
+ * can be. Large level files are memory mapped instead of being read onto the heap.
+ *
+ * @author Andrew Suyer
+ */
+public final class LevelLoader {
+	
+	/** First 4 bytes of every level file */
+	public static final int magicNumber = 0x50524C56;		// "PRLV"
+	
+	/** Version of the level files this loader reads and writes */
+	public static final byte formatVersion = 1;
+	
+	/** Levels with more columns than this are streamed. Can be changed with {@code -DplatformRunner.streamingWidth} */
+	public static final int streamingWidth = Integer.getInteger("platformRunner.streamingWidth", 1024);
+	
+	/** Level files bigger than this many bytes are memory mapped instead of read */
+	public static final int mappedFileSize = 1 << 16;
+	
+	/** Background thread that reads levels before they are needed, see {@code prefetch()} */
+	private static final ExecutorService prefetchExecutor = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "Level prefetcher");
+		thread.setDaemon(true);		// doesnt keep the game open after the frame is closed
+		return thread;
+	});
+	
+	private LevelLoader () {}
+	
+	/**
+	 * Returns the filepath of the level file of a level
+	 * @param world - the world number, starting at 1
+	 * @param level - the level number in the world, starting at 1
+	 * @return the filepath of the level file
+	 */
+	public static String levelFilepath (int world, int level) {
+		return "src/levels/world" + world + "_level" + level + ".lvl";
+	}
+	
+	/**
+	 * Reads the level file at {@code filepath} and builds the {@code Level}
+	 * @throws IOException if the file can't be read or isn't a valid level file
+	 * @param filepath - filepath of the level file
+	 * @return the level, ready to be added to a {@code World}
+	 */
+	public static Level load (String filepath) throws IOException {
+		return build(read(filepath));
+	}
+	
+	/**
+	 * Reads and decodes the level file at {@code filepath}, out of the game pack if it's in there. If the level is
+	 * streamed, only the header is decoded
+	 * @throws IOException if the file can't be read or isn't a valid level file
+	 * @param filepath - filepath of the level file
+	 * @return the decoded level data
+	 */
+	public static LevelData read (String filepath) throws IOException {
+		ByteBuffer packed = LevelPack.file(filepath);
+		if (packed != null)
+			return decode(packed);
+		try (FileChannel channel = FileChannel.open(Paths.get(filepath), StandardOpenOption.READ)) {
+			if (channel.size() > mappedFileSize)
+				return decode(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));		// stays mapped after the channel is closed
+		}
+		return decode(ByteBuffer.wrap(Files.readAllBytes(Paths.get(filepath))));
+	}
+	
+	/**
+	 * Reads and decodes the level file at {@code filepath} on a background thread, and loads the textures of every
+	 * block it uses into the {@code TextureCache}. When the level is built afterwards with {@code build()}, none of
+	 * the file or texture I/O is left to do
+	 * @param filepath - filepath of the level file
+	 * @return the decoded level data, once it's ready. Fails with an {@code IOException} if the file can't be read
+	 */
+	public static Future<LevelData> prefetch (String filepath) {
+		return prefetchExecutor.submit(() -> readWithTextures(filepath));
+	}
+	
+	/**
+	 * Reads and decodes the level file at {@code filepath}, and loads the textures of every block it uses into the
+	 * {@code TextureCache}. Safe to call from any thread
+	 * @throws IOException if the file can't be read or isn't a valid level file
+	 * @param filepath - filepath of the level file
+	 * @return the decoded level data
+	 */
+	public static LevelData readWithTextures (String filepath) throws IOException {
+		LevelData data = read(filepath);
+		if (data.isStreamed())
+			return data;			// the blocks of a streamed level aren't known until they are read
+			
+		// Loading the texture of each block id once:
+		boolean[] loaded = new boolean[256];
+		for (int x = 0; x < data.width; x++) {
+			for (int y = 0; y < data.height; y++) {
+				byte id = data.tileIdAt(x, y);
+				if (id != LevelData.air && !loaded[id & 0xFF]) {
+					TextureCache.getBlockTexture(id & 0xFF, data.blockScaleFactor);
+					loaded[id & 0xFF] = true;
+				}
+			}
+		}
+		return data;
+	}
+	
+	/**
+	 * Builds a {@code Level} from decoded level data. The level uses the block ids of {@code data} as its board
+	 * @param data - the level data
+	 * @return the level
+	 */
+	public static Level build (LevelData data) {
+		return new Level(data);
+	}
+	
+	/**
+	 * Decodes a level file from {@code buffer}, starting at its position. Levels wider than {@code streamingWidth} are
+	 * streamed from {@code buffer}, so it must not be changed afterwards
+	 * @throws IOException if the buffer doesn't hold a valid level file
+	 * @param buffer - the contents of a level file
+	 * @return the decoded level data
+	 */
+	public static LevelData decode (ByteBuffer buffer) throws IOException {
+		try {
+			if (buffer.getInt() != magicNumber)
+				throw new IOException("Not a level file");
+			byte version = buffer.get();
+			if (version != formatVersion)
+				throw new IOException("Unsupported level file version " + version);
+				
+			// Header:
+			int backgroundColor = buffer.getInt();
+			int scale = buffer.get();
+			int width = buffer.getInt();
+			int height = buffer.getInt();
+			double speed = buffer.getDouble();
+			double gravity = buffer.getDouble();
+			int playerXStart = buffer.getInt();
+			int playerYStart = buffer.getInt();
+			int levelNumber = buffer.get();
+			if (width <= 0 || height <= 0)
+				throw new IOException("Invalid level dimensions " + width + "x" + height);
+				
+			// Run-length encoded columns:
+			LevelFileChunkSource columns = new LevelFileChunkSource(buffer, width, height);
+			if (width > streamingWidth)
+				return new LevelData(backgroundColor, scale, speed, gravity, playerXStart, playerYStart, levelNumber, columns);
+			byte[] tileIds = new byte[width * height];
+			columns.readColumns(0, width, tileIds);
+			
+			return new LevelData(backgroundColor, scale, width, height, speed, gravity, playerXStart, playerYStart, levelNumber, tileIds);
+		} catch (BufferUnderflowException e) {
+			throw new IOException("Level file ends too early", e);
+		}
+	}
+	
+	/**
+	 * Encodes level data in the level file format and writes it to {@code out}
+	 * @throws IOException if writing fails
+	 * @param data - the level data
+	 * @param out - where the level file is written to
+	 */
+	public static void encode (LevelData data, OutputStream out) throws IOException {
+		DataOutputStream stream = new DataOutputStream(out);
+		stream.writeInt(magicNumber);
+		stream.writeByte(formatVersion);
+		
+		// Header:
+		stream.writeInt(data.backgroundColor & 0xFFFFFF);
+		stream.writeByte(data.blockScaleFactor);
+		stream.writeInt(data.width);
+		stream.writeInt(data.height);
+		stream.writeDouble(data.levelSpeed);
+		stream.writeDouble(data.gravitationalAcceleration);
+		stream.writeInt(data.playerXStart);
+		stream.writeInt(data.playerYStart);
+		stream.writeByte(data.levelNumber);
+		
+		// Run-length encoded columns:
+		for (int x = 0; x < data.width; x++) {
+			int y = 0;
+			while (y < data.height) {
+				byte id = data.tileIdAt(x, y);
+				int runLength = 1;
+				while (y + runLength < data.height && runLength < 255 && data.tileIdAt(x, y + runLength) == id)
+					runLength++;
+				stream.writeByte(runLength);
+				stream.writeByte(id);
+				y += runLength;
+			}
+		}
+		stream.flush();
+	}
+	
+}
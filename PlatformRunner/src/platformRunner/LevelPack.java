@@ -0,0 +1,330 @@
+package platformRunner;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import javax.imageio.ImageIO;
+
+/**
+ * The game pack, one file that holds every level file, the block definitions file and a texture atlas of every block
+ * and player texture. The pack is memory mapped when the game starts, so starting the game opens one file instead of
+ * dozens, and reading a level or a texture out of it is a page-in of the part of the file it's in. Levels are still
+ * only decoded when they are selected in a {@code World}.
+ * <p>
+ * Files in the pack are looked up by the same filepaths the loose files have, like
+ * {@code src/levels/world1_level1.lvl}, so {@code LevelLoader}, {@code BlockType} and {@code TextureCache} read from
+ * the pack when it's there and from the loose files when it isn't. The pack is made from the loose files by running
+ * this class, and has to be made again after a level, texture or the block definitions are changed. Until it is, a
+ * loose file that was changed after the pack was made is read instead of the copy in the pack. A pack file is:
+ * <pre>
+ * "PRPK"            magic number (4 bytes)
+ * version           byte, currently 1
+ * entryCount        int
+ * entries           for each entry: kind byte, filepath (modified UTF-8, see DataOutput.writeUTF), offset int,
+ *                   length int. A file entry (kind 0) is {@code length} bytes at {@code offset} in the pack, and a
+ *                   texture entry (kind 1) is cell number {@code offset} of the texture atlas
+ * texture atlas     png of every 16x16 texture, {@code atlasColumns} textures per row. Also a file entry
+ * files             the contents of every file entry
+ * </pre>
+ *
+ * @author Andrew Suyer
+ */
+public final class LevelPack {
+	
+	/** First 4 bytes of every pack file */
+	public static final int magicNumber = 0x5052504B;		// "PRPK"
+	
+	/** Version of the pack files this class reads and writes */
+	public static final byte formatVersion = 1;
+	
+	/** Filepath of the game pack. Can be changed with {@code -DplatformRunner.pack}, the loose files are used if it doesn't exist */
+	public static final String packFilepath = System.getProperty("platformRunner.pack", "src/game.pack");
+	
+	/** Filepath of the texture atlas entry */
+	public static final String atlasFilepath = "texture atlas";
+	
+	/** Number of textures in each row of the texture atlas */
+	public static final int atlasColumns = 8;
+	
+	private static final byte fileEntry = 0;
+	private static final byte textureEntry = 1;
+	
+	/** Folder of the level files that are packed */
+	private static final String levelFolder = "src/levels/";
+	
+	/**
+	 * How much newer than the pack a loose file has to be to count as changed, in milliseconds. Files that are checked
+	 * out or copied together with the pack are written a little after it
+	 */
+	private static final long modifiedTimeTolerance = 2000;
+	
+	/** The whole pack file */
+	private final ByteBuffer pack;
+	
+	/** When the pack file was last modified, in milliseconds since the epoch */
+	private final long packModifiedTime;
+	
+	/** Offset and length of every file entry, by filepath */
+	private final Map<String, long[]> files;
+	
+	/** Atlas cell of every texture entry, by filepath */
+	private final Map<String, Integer> textureCells;
+	
+	/** The decoded texture atlas, decoded the first time a texture is looked up */
+	private BufferedImage atlas;
+	
+	private LevelPack (ByteBuffer pack, long packModifiedTime) throws IOException {
+		this.pack = pack;
+		this.packModifiedTime = packModifiedTime;
+		files = new HashMap<>();
+		textureCells = new HashMap<>();
+		try {
+			if (pack.getInt() != magicNumber)
+				throw new IOException("Not a pack file");
+			byte version = pack.get();
+			if (version != formatVersion)
+				throw new IOException("Unsupported pack file version " + version);
+			int entryCount = pack.getInt();
+			for (int i = 0; i < entryCount; i++) {
+				byte kind = pack.get();
+				String filepath = readUTF(pack);
+				int offset = pack.getInt();
+				int length = pack.getInt();
+				if (kind == textureEntry) {
+					textureCells.put(filepath, offset);
+				} else {
+					if (offset < 0 || length < 0 || (long) offset + length > pack.capacity())
+						throw new IOException("Entry " + filepath + " is outside of the pack file");
+					files.put(filepath, new long[] {offset, length});
+				}
+			}
+		} catch (BufferUnderflowException e) {
+			throw new IOException("Pack file ends too early", e);
+		}
+	}
+	
+	/**
+	 * Returns the contents of a file in the game pack, without copying it out of the mapped pack
+	 * @param filepath - filepath of the loose file, like {@code src/levels/world1_level1.lvl}
+	 * @return a read only buffer of the file, or null if there is no game pack, the file isn't in it, or the loose file
+	 *         is newer than the pack
+	 */
+	public static ByteBuffer file (String filepath) {
+		LevelPack gamePack = GamePack.pack;
+		return gamePack == null || gamePack.isOutdated(filepath) ? null : gamePack.getFile(filepath);
+	}
+	
+	/**
+	 * Returns a texture from the texture atlas of the game pack, unscaled
+	 * @param filepath - filepath of the loose texture, like {@code src/textures/PlatformRunnerTextures/0_Dirt.png}
+	 * @return the texture, or null if there is no game pack, the texture isn't in it, or the loose texture is newer
+	 *         than the pack
+	 */
+	public static BufferedImage texture (String filepath) {
+		LevelPack gamePack = GamePack.pack;
+		return gamePack == null || gamePack.isOutdated(filepath) ? null : gamePack.getTexture(filepath);
+	}
+	
+	/**
+	 * Returns true if the loose file was changed after this pack was made, so the copy in the pack is out of date.
+	 * Warns that the pack should be made again when it is
+	 * @param filepath - filepath of the loose file
+	 */
+	private boolean isOutdated (String filepath) {
+		if (new File(filepath).lastModified() <= packModifiedTime + modifiedTimeTolerance)		// 0 if there is no loose file
+			return false;
+		System.out.println(filepath + " is newer than " + packFilepath + ", reading the loose file. Run platformRunner.LevelPack to update the pack");
+		return true;
+	}
+	
+	/**
+	 * Returns the contents of a file in this pack
+	 * @param filepath - filepath of the loose file
+	 * @return a read only buffer of the file, or null if the file isn't in the pack
+	 */
+	public ByteBuffer getFile (String filepath) {
+		long[] entry = files.get(filepath);
+		if (entry == null)
+			return null;
+		return pack.slice((int) entry[0], (int) entry[1]).asReadOnlyBuffer();
+	}
+	
+	/**
+	 * Returns a texture from the texture atlas of this pack
+	 * @param filepath - filepath of the loose texture
+	 * @return the unscaled texture, or null if the texture isn't in the pack
+	 */
+	public synchronized BufferedImage getTexture (String filepath) {
+		Integer cell = textureCells.get(filepath);
+		if (cell == null)
+			return null;
+		if (atlas == null) {
+			ByteBuffer atlasFile = getFile(atlasFilepath);
+			byte[] png = new byte[atlasFile.remaining()];
+			atlasFile.get(png);
+			try {
+				atlas = ImageIO.read(new ByteArrayInputStream(png));
+			} catch (IOException e) {
+				throw new IllegalStateException("Couldnt decode the texture atlas of " + packFilepath, e);
+			}
+		}
+		int size = BlockType.defaultBlockResolution;
+		return atlas.getSubimage((cell % atlasColumns) * size, (cell / atlasColumns) * size, size, size);
+	}
+	
+	/**
+	 * Holds the game pack, so it's opened the first time a file or texture is looked up and not when a pack is made
+	 */
+	private static final class GamePack {
+		
+		/** The game pack, or null if there isn't one */
+		static final LevelPack pack = open(packFilepath);
+	}
+	
+	/**
+	 * Memory maps and opens a pack file
+	 * @throws IllegalStateException if the pack file exists but isn't valid
+	 * @param filepath - filepath of the pack file
+	 * @return the pack, or null if there is no file at {@code filepath}
+	 */
+	private static LevelPack open (String filepath) {
+		Path path = Paths.get(filepath);
+		if (!Files.isRegularFile(path))
+			return null;
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			return new LevelPack(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), Files.getLastModifiedTime(path).toMillis());		// stays mapped after the channel is closed
+		} catch (IOException e) {
+			throw new IllegalStateException("Couldnt open the pack file " + filepath, e);
+		}
+	}
+	
+	/**
+	 * Reads a string written with {@code DataOutput.writeUTF()}
+	 */
+	private static String readUTF (ByteBuffer buffer) throws IOException {
+		int length = buffer.getShort() & 0xFFFF;
+		byte[] bytes = new byte[length + 2];
+		bytes[0] = (byte) (length >> 8);
+		bytes[1] = (byte) length;
+		buffer.get(bytes, 2, length);
+		return new DataInputStream(new ByteArrayInputStream(bytes)).readUTF();
+	}
+	
+	/**
+	 * Makes the game pack from the loose files: every level file, the block definitions file, and every 16x16 texture.
+	 * Run from the PlatformRunner folder with {@code -Djava.awt.headless=true}
+	 * @throws IOException if a file can't be read or the pack can't be written
+	 */
+	public static void main (String[] args) throws IOException {
+		List<String> filepaths = new ArrayList<>();
+		try (Stream<Path> levels = Files.list(Paths.get(levelFolder))) {
+			levels.map(path -> levelFolder + path.getFileName()).filter(name -> name.endsWith(".lvl")).sorted().forEach(filepaths::add);
+		}
+		filepaths.add(BlockType.definitionsFilepath);
+		
+		List<String> texturePaths = new ArrayList<>();
+		List<BufferedImage> textures = new ArrayList<>();
+		try (Stream<Path> textureFiles = Files.list(Paths.get(BlockType.textureFolder))) {
+			for (Path path : (Iterable<Path>) textureFiles.sorted()::iterator) {
+				BufferedImage texture = ImageIO.read(path.toFile());
+				int size = BlockType.defaultBlockResolution;
+				if (texture == null || texture.getWidth() != size || texture.getHeight() != size) {
+					System.out.println("Not packing " + path.getFileName() + ", it isn't a " + size + "x" + size + " png");
+					continue;
+				}
+				texturePaths.add(BlockType.textureFolder + path.getFileName());
+				textures.add(texture);
+			}
+		}
+		
+		try (OutputStream out = new FileOutputStream(packFilepath)) {
+			write(filepaths, texturePaths, textures, out);
+		}
+		System.out.println("Packed " + filepaths.size() + " files and " + texturePaths.size() + " textures into " + packFilepath + ", "
+				+ new File(packFilepath).length() + " bytes");
+	}
+	
+	/**
+	 * Writes a pack file
+	 * @throws IOException if a file can't be read or writing fails
+	 * @param filepaths - filepaths of the files to pack
+	 * @param texturePaths - filepaths of the textures to put in the texture atlas
+	 * @param textures - the textures, 16x16 each
+	 * @param out - where the pack file is written to
+	 */
+	private static void write (List<String> filepaths, List<String> texturePaths, List<BufferedImage> textures, OutputStream out) throws IOException {
+		int size = BlockType.defaultBlockResolution;
+		BufferedImage atlas = new BufferedImage(atlasColumns * size, Math.max(1, (textures.size() + atlasColumns - 1) / atlasColumns) * size,
+				BufferedImage.TYPE_INT_ARGB);
+		for (int i = 0; i < textures.size(); i++) {
+			// Copying the pixels instead of drawing the texture, so nearly transparent pixels keep their exact color:
+			int[] pixels = textures.get(i).getRGB(0, 0, size, size, null, 0, size);
+			atlas.setRGB((i % atlasColumns) * size, (i / atlasColumns) * size, size, size, pixels, 0, size);
+		}
+		ByteArrayOutputStream atlasPng = new ByteArrayOutputStream();
+		ImageIO.write(atlas, "png", atlasPng);
+		
+		List<byte[]> contents = new ArrayList<>();
+		contents.add(atlasPng.toByteArray());
+		for (String filepath : filepaths)
+			contents.add(Files.readAllBytes(Paths.get(filepath)));
+		List<String> names = new ArrayList<>();
+		names.add(atlasFilepath);
+		names.addAll(filepaths);
+		
+		// The size of the table of contents is needed for the offsets of the files:
+		ByteArrayOutputStream tableOfContents = new ByteArrayOutputStream();
+		DataOutputStream toc = new DataOutputStream(tableOfContents);
+		for (String name : names) {
+			toc.writeByte(fileEntry);
+			toc.writeUTF(name);
+			toc.writeLong(0);
+		}
+		for (String texturePath : texturePaths) {
+			toc.writeByte(textureEntry);
+			toc.writeUTF(texturePath);
+			toc.writeLong(0);
+		}
+		int offset = 4 + 1 + 4 + toc.size();
+		
+		DataOutputStream stream = new DataOutputStream(out);
+		stream.writeInt(magicNumber);
+		stream.writeByte(formatVersion);
+		stream.writeInt(names.size() + texturePaths.size());
+		for (int i = 0; i < names.size(); i++) {
+			stream.writeByte(fileEntry);
+			stream.writeUTF(names.get(i));
+			stream.writeInt(offset);
+			stream.writeInt(contents.get(i).length);
+			offset += contents.get(i).length;
+		}
+		for (int i = 0; i < texturePaths.size(); i++) {
+			stream.writeByte(textureEntry);
+			stream.writeUTF(texturePaths.get(i));
+			stream.writeInt(i);
+			stream.writeInt(0);
+		}
+		for (byte[] content : contents)
+			stream.write(content);
+		stream.flush();
+	}
+	
+}
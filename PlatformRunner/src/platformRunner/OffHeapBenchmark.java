@@ -0,0 +1,138 @@
+package platformRunner;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import javax.management.NotificationEmitter;
+import javax.management.openmbean.CompositeData;
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+/**
+ * Compares the GC pauses of the game with level boards of different sizes kept on the heap in an
+ * {@code ArrayTileMap} and off the heap in an {@code OffHeapTileMap}. For each board the same garbage is made, like
+ * the game loop makes while a level is played, with a few full collections in between, and the pauses that the
+ * {@code GarbageCollectorMXBean}s report are printed. Run with {@code -Djava.awt.headless=true}, and a heap big enough
+ * for the largest board, like {@code -Xmx1g}.
+ *
+ * @author Andrew Suyer
+ */
+public class OffHeapBenchmark {
+	
+	/** Numbers of columns of the boards that are compared, every board is 16 rows high */
+	private static final int[] boardWidths = {1 << 12, 1 << 16, 1 << 20, 1 << 22};
+	
+	/** Bytes of short lived garbage made per board */
+	private static final long garbageBytes = 4L << 30;
+	
+	/** Full collections asked for per board */
+	private static final int fullCollections = 3;
+	
+	/** Pauses reported since the last call to {@code pauses.clear()}, in milliseconds */
+	private static final List<Long> pauses = new ArrayList<>();
+	
+	public static void main (String[] args) throws IOException {
+		LevelData pattern = LevelLoader.read(LevelLoader.levelFilepath(1, 1));
+		for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+			((NotificationEmitter) collector).addNotificationListener((notification, handback) -> {
+				if (notification.getType().equals(GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION)) {
+					GarbageCollectionNotificationInfo info = GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+					synchronized (pauses) {
+						pauses.add(info.getGcInfo().getDuration());
+					}
+				}
+			}, null, null);
+		}
+		
+		System.out.println("Board cells  Tile map   Footprint MB  GCs  Total ms  Longest ms");
+		for (int width : boardWidths) {
+			ChunkSource source = repeatingSource(pattern, width);
+			LevelData streamed = new LevelData(0, 3, 1, 5, 0, 0, 1, source);
+			
+			// On the heap, the level data's block ids and the collision grid are both arrays on the heap:
+			byte[] tileIds = new byte[width * pattern.height];
+			source.readColumns(0, width, tileIds);
+			TileMap tileMap = new ArrayTileMap(new LevelData(0, 3, width, pattern.height, 1, 5, 0, 0, 1, tileIds));
+			tileIds = null;
+			report(width * pattern.height, tileMap, measurePauses(tileMap));
+			tileMap = null;
+			System.gc();
+			
+			tileMap = new OffHeapTileMap(streamed);
+			report(width * pattern.height, tileMap, measurePauses(tileMap));
+			tileMap = null;
+			System.gc();
+		}
+	}
+	
+	/**
+	 * Makes garbage and asks for full collections while {@code tileMap} is alive, and returns the GC pauses in
+	 * milliseconds
+	 */
+	private static List<Long> measurePauses (TileMap tileMap) {
+		System.gc();
+		synchronized (pauses) {
+			pauses.clear();
+		}
+		long checksum = 0;
+		long made = 0;
+		int collections = 0;
+		while (made < garbageBytes) {
+			byte[] garbage = new byte[4096];
+			garbage[0] = tileMap.tileIdAt((int) (made / 4096) % tileMap.getWidth(), 0);
+			checksum += garbage[0];
+			made += garbage.length;
+			if (made > (collections + 1) * (garbageBytes / (fullCollections + 1))) {
+				System.gc();
+				collections++;
+			}
+		}
+		if (checksum == Long.MIN_VALUE)
+			System.out.println(checksum);
+			
+		// The notifications are sent from another thread a little after each collection:
+		try {
+			Thread.sleep(200);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		synchronized (pauses) {
+			return new ArrayList<>(pauses);
+		}
+	}
+	
+	private static void report (long cells, TileMap tileMap, List<Long> pauses) {
+		long total = 0;
+		long longest = 0;
+		for (long pause : pauses) {
+			total += pause;
+			longest = Math.max(longest, pause);
+		}
+		System.out.printf("%11d  %-9s  %12.1f  %3d  %8d  %10d%n", cells, tileMap.getClass().getSimpleName().replace("TileMap", ""),
+				tileMap.getFootprint() / 1e6, pauses.size(), total, longest);
+	}
+	
+	/**
+	 * Returns a chunk source of {@code width} columns that repeats the board of {@code pattern}
+	 */
+	private static ChunkSource repeatingSource (LevelData pattern, int width) {
+		return new ChunkSource() {
+			
+			@Override
+			public int getWidth () { return width; }
+			
+			@Override
+			public int getHeight () { return pattern.height; }
+			
+			@Override
+			public void readColumns (int firstColumn, int columnCount, byte[] tileIds) {
+				for (int x = 0; x < columnCount; x++) {
+					for (int y = 0; y < pattern.height; y++)
+						tileIds[x * pattern.height + y] = pattern.tileIdAt((firstColumn + x) % pattern.width, y);
+				}
+			}
+		};
+	}
+	
+}
@@ -0,0 +1,150 @@
+package platformRunner;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * A {@code TileMap} that keeps the whole board outside of the Java heap, in a direct {@code ByteBuffer}. The block ids
+ * and collision flags of a board with millions of cells are then never looked at or moved by the garbage collector, so
+ * the size of the level doesn't make the GC pauses any longer. Used instead of {@code ArrayTileMap} for levels that
+ * are read all at once, and instead of {@code ChunkedTileMap} for streamed levels that fit, when the game is started
+ * with {@code -DplatformRunner.offHeapLevels=true}.
+ * <p>
+ * The buffer holds the block id of every cell followed by the flags of every cell, both column by column. Broken
+ * blocks have their flags set to 0 in the buffer, so a cell is broken if it has no flags but its block does. Nothing
+ * about the broken blocks is kept on the heap, except the range of columns they are in so that restoring them only
+ * goes over those columns.
+ *
+ * @author Andrew Suyer
+ */
+public class OffHeapTileMap implements TileMap {
+	
+	/** If true, {@code TileMap.of()} keeps level boards off the heap. Set with {@code -DplatformRunner.offHeapLevels=true} */
+	public static final boolean enabled = Boolean.getBoolean("platformRunner.offHeapLevels");
+	
+	/** The most cells a board kept off the heap can have, 2 bytes per cell makes it 512 MB */
+	public static final long maxCells = 1 << 28;
+	
+	private final int width;
+	private final int height;
+	
+	/** Number of cells on the board, the flags start at this index in {@code cells} */
+	private final int cellCount;
+	
+	/** Block ids then collision flags of every cell, the cell (x, y) is at index {@code x * height + y} */
+	private final ByteBuffer cells;
+	
+	/** First and last column that has a broken block, or -1 if no block is broken */
+	private int firstDestroyedColumn;
+	private int lastDestroyedColumn;
+	
+	/**
+	 * Copies the board of a level off the heap. Streamed levels are read from their {@code ChunkSource} a chunk at a
+	 * time, so the whole board is never on the heap at once
+	 * @throws IllegalArgumentException if the board has more than {@code maxCells} cells
+	 * @throws IllegalStateException if a chunk of a streamed level can't be read
+	 * @param data - the level data
+	 */
+	public OffHeapTileMap (LevelData data) {
+		width = data.width;
+		height = data.height;
+		if ((long) width * height > maxCells)
+			throw new IllegalArgumentException("A board of " + width + "x" + height + " blocks is too big to keep off the heap");
+		cellCount = width * height;
+		cells = ByteBuffer.allocateDirect(cellCount * 2);
+		firstDestroyedColumn = -1;
+		lastDestroyedColumn = -1;
+		
+		if (data.isStreamed()) {
+			ChunkSource source = data.getChunkSource();
+			byte[] chunk = new byte[ChunkedTileMap.chunkWidth * height];
+			for (int firstColumn = 0; firstColumn < width; firstColumn += ChunkedTileMap.chunkWidth) {
+				int columnCount = Math.min(ChunkedTileMap.chunkWidth, width - firstColumn);
+				try {
+					source.readColumns(firstColumn, columnCount, chunk);
+				} catch (IOException e) {
+					throw new IllegalStateException("Couldnt read the chunk at column " + firstColumn, e);
+				}
+				cells.put(firstColumn * height, chunk, 0, columnCount * height);
+			}
+		} else {
+			for (int x = 0; x < width; x++) {
+				for (int y = 0; y < height; y++)
+					cells.put(x * height + y, data.tileIdAt(x, y));
+			}
+		}
+		
+		for (int i = 0; i < cellCount; i++)
+			cells.put(cellCount + i, baseFlags(i));
+	}
+	
+	@Override
+	public int getWidth () { return width; }
+	
+	@Override
+	public int getHeight () { return height; }
+	
+	@Override
+	public byte tileIdAt (int x, int y) {
+		if (x < 0 || x >= width || y < 0 || y >= height)
+			return LevelData.air;
+		return cells.get(x * height + y);
+	}
+	
+	@Override
+	public byte flagsAt (int x, int y) {
+		if (x < 0 || x >= width || y < 0 || y >= height)
+			return CollisionGrid.VOID;
+		return cells.get(cellCount + x * height + y);
+	}
+	
+	@Override
+	public void destroyCell (int x, int y) {
+		Objects.checkIndex(x, width);
+		Objects.checkIndex(y, height);
+		cells.put(cellCount + x * height + y, (byte) 0);
+		if (firstDestroyedColumn < 0) {
+			firstDestroyedColumn = x;
+			lastDestroyedColumn = x;
+		} else {
+			firstDestroyedColumn = Math.min(firstDestroyedColumn, x);
+			lastDestroyedColumn = Math.max(lastDestroyedColumn, x);
+		}
+	}
+	
+	@Override
+	public boolean isDestroyed (int x, int y) {
+		if (firstDestroyedColumn < 0 || x < firstDestroyedColumn || x > lastDestroyedColumn || y < 0 || y >= height)
+			return false;
+		int cell = x * height + y;
+		return cells.get(cellCount + cell) == 0 && baseFlags(cell) != 0;
+	}
+	
+	@Override
+	public void restoreDestroyedCells () {
+		if (firstDestroyedColumn < 0)
+			return;
+		for (int cell = firstDestroyedColumn * height; cell < (lastDestroyedColumn + 1) * height; cell++)
+			cells.put(cellCount + cell, baseFlags(cell));
+		firstDestroyedColumn = -1;
+		lastDestroyedColumn = -1;
+	}
+	
+	/**
+	 * Returns the bytes used off the heap
+	 */
+	@Override
+	public long getFootprint () {
+		return cells.capacity();
+	}
+	
+	/**
+	 * Returns the flags of the block at a cell as the level was built
+	 */
+	private byte baseFlags (int cell) {
+		byte id = cells.get(cell);
+		return id == LevelData.air ? 0 : BlockType.flagsOf(id & 0xFF);
+	}
+	
+}
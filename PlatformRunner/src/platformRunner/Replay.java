@@ -0,0 +1,398 @@
+package platformRunner;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+/**
+ * A recording of a level being played, with the keys that were pressed during every tick. A {@code Simulation} only
+ * depends on its level and its inputs, so playing the inputs back gives exactly the same run, death for death and
+ * bit for bit. The inputs are stored as runs of ticks with the same 4 bit input mask, see {@code InputScript}, so a
+ * 10 minute run is usually a few kilobytes. A replay file is:
+ * <pre>
+ * "PRRP"                  magic number (4 bytes)
+ * version                 byte, currently 1
+ * world, level            byte, byte
+ * levelChecksum           int, CRC32 of the level parameters and the board, see {@code levelChecksum()}
+ * ticksPerSecond          int
+ * levelSpeed, gravity     double, double
+ * xAcceleration           double
+ * maxWalkingSpeed         double
+ * maxJumpHeight           double
+ * runCount                int
+ * runs                    for each run, (ticks - 1) &lt;&lt; 4 | inputMask as a varint, 7 bits per byte, lowest first
+ * ticks                   long, ticks played when the recording ended
+ * deaths                  int
+ * finished                boolean
+ * x, y                    double, double, position of the player when the recording ended
+ * </pre>
+ * All numbers are big-endian. The result at the end is used to check that a replay plays the same as it was recorded.
+ * <p>
+ * Levels are recorded to {@code recordingFolder} when the game is started with
+ * {@code -DplatformRunner.recordReplays=folder}, and a replay file is played in the game with
+ * {@code -DplatformRunner.replay=file}. Run {@code java platformRunner.Replay file ...} with
+ * {@code -Djava.awt.headless=true} from the PlatformRunner folder to play replays as fast as possible without a window
+ * and check them.
+ *
+ * @author Andrew Suyer
+ */
+public class Replay {
+	
+	/** First 4 bytes of every replay file */
+	public static final int magicNumber = 0x50525250;		// "PRRP"
+	
+	/** Version of the replay files this class reads and writes */
+	public static final byte formatVersion = 1;
+	
+	/** Folder that finished levels are recorded to, or null to not record. Set with {@code -DplatformRunner.recordReplays} */
+	public static final String recordingFolder = System.getProperty("platformRunner.recordReplays");
+	
+	/** Replay file that the game plays instead of showing the worlds, or null. Set with {@code -DplatformRunner.replay} */
+	public static final String playbackFilepath = System.getProperty("platformRunner.replay");
+	
+	/** The world and level that were played */
+	public final int world;
+	public final int level;
+	
+	/** Checksum of the level that was played, see {@code levelChecksum()} */
+	public final int levelChecksum;
+	
+	/** The physics constants the replay was recorded with */
+	public final int ticksPerSecond;
+	public final double levelSpeed;
+	public final double gravitationalAcceleration;
+	public final double xAcceleration;
+	public final double maxWalkingSpeed;
+	public final double maxJumpHeight;
+	
+	/** The input mask of every tick */
+	public final InputScript inputs;
+	
+	/** The state of the simulation when the recording ended */
+	public final long ticks;
+	public final int deaths;
+	public final boolean finished;
+	public final double xPosition;
+	public final double yPosition;
+	
+	private Replay (int world, int level, int levelChecksum, int ticksPerSecond, double levelSpeed, double gravitationalAcceleration,
+			double xAcceleration, double maxWalkingSpeed, double maxJumpHeight, InputScript inputs, long ticks, int deaths,
+			boolean finished, double xPosition, double yPosition) {
+		this.world = world;
+		this.level = level;
+		this.levelChecksum = levelChecksum;
+		this.ticksPerSecond = ticksPerSecond;
+		this.levelSpeed = levelSpeed;
+		this.gravitationalAcceleration = gravitationalAcceleration;
+		this.xAcceleration = xAcceleration;
+		this.maxWalkingSpeed = maxWalkingSpeed;
+		this.maxJumpHeight = maxJumpHeight;
+		this.inputs = inputs;
+		this.ticks = ticks;
+		this.deaths = deaths;
+		this.finished = finished;
+		this.xPosition = xPosition;
+		this.yPosition = yPosition;
+	}
+	
+	/**
+	 * Reads a replay file
+	 * @throws IOException if the file can't be read or isn't a valid replay file
+	 * @param filepath - filepath of the replay file
+	 * @return the replay, with its inputs named after the filepath
+	 */
+	public static Replay read (String filepath) throws IOException {
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(filepath)))) {
+			if (in.readInt() != magicNumber)
+				throw new IOException(filepath + " isn't a replay file");
+			byte version = in.readByte();
+			if (version != formatVersion)
+				throw new IOException("Unsupported replay file version " + version + " in " + filepath);
+				
+			int world = in.readUnsignedByte();
+			int level = in.readUnsignedByte();
+			int levelChecksum = in.readInt();
+			int ticksPerSecond = in.readInt();
+			double levelSpeed = in.readDouble();
+			double gravitationalAcceleration = in.readDouble();
+			double xAcceleration = in.readDouble();
+			double maxWalkingSpeed = in.readDouble();
+			double maxJumpHeight = in.readDouble();
+			
+			int runCount = in.readInt();
+			if (runCount < 0)
+				throw new IOException("Invalid run count " + runCount + " in " + filepath);
+			int[] runLengths = new int[Math.min(runCount, 1 << 16)];		// grows as it's read, the count isn't trusted
+			byte[] runMasks = new byte[runLengths.length];
+			for (int run = 0; run < runCount; run++) {
+				long value = readVarint(in);
+				if ((value >>> 4) >= Integer.MAX_VALUE)
+					throw new IOException("Invalid run " + run + " in " + filepath);
+				if (run == runLengths.length) {
+					runLengths = Arrays.copyOf(runLengths, run * 2);
+					runMasks = Arrays.copyOf(runMasks, run * 2);
+				}
+				runLengths[run] = (int) (value >>> 4) + 1;
+				runMasks[run] = (byte) (value & 0xF);
+			}
+			InputScript inputs = new InputScript(filepath, Arrays.copyOf(runLengths, runCount), Arrays.copyOf(runMasks, runCount));
+			
+			return new Replay(world, level, levelChecksum, ticksPerSecond, levelSpeed, gravitationalAcceleration, xAcceleration,
+					maxWalkingSpeed, maxJumpHeight, inputs, in.readLong(), in.readInt(), in.readBoolean(), in.readDouble(), in.readDouble());
+		} catch (EOFException e) {
+			throw new IOException("Replay file " + filepath + " ends too early", e);
+		}
+	}
+	
+	/**
+	 * Writes this replay to a file
+	 * @throws IOException if the file can't be written
+	 * @param filepath - filepath of the replay file
+	 */
+	public void write (String filepath) throws IOException {
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(filepath)))) {
+			out.writeInt(magicNumber);
+			out.writeByte(formatVersion);
+			out.writeByte(world);
+			out.writeByte(level);
+			out.writeInt(levelChecksum);
+			out.writeInt(ticksPerSecond);
+			out.writeDouble(levelSpeed);
+			out.writeDouble(gravitationalAcceleration);
+			out.writeDouble(xAcceleration);
+			out.writeDouble(maxWalkingSpeed);
+			out.writeDouble(maxJumpHeight);
+			out.writeInt(inputs.getRunCount());
+			for (int run = 0; run < inputs.getRunCount(); run++)
+				writeVarint(out, (long) (inputs.getRunLength(run) - 1) << 4 | inputs.getRunMask(run));
+			out.writeLong(ticks);
+			out.writeInt(deaths);
+			out.writeBoolean(finished);
+			out.writeDouble(xPosition);
+			out.writeDouble(yPosition);
+		}
+	}
+	
+	/**
+	 * Checks that this replay can be played on a level with the physics of this version of the game
+	 * @throws IllegalStateException if the level or a physics constant isn't the same as when the replay was recorded
+	 * @param data - the level data of the level that was recorded
+	 */
+	public void checkLevel (LevelData data) {
+		if (ticksPerSecond != Simulation.ticksPerSecond)
+			throw new IllegalStateException("The replay was recorded at " + ticksPerSecond + " ticks per second but the game runs at "
+					+ Simulation.ticksPerSecond + ", start it with -DplatformRunner.ticksPerSecond=" + ticksPerSecond);
+		if (xAcceleration != Simulation.xAcceleration || maxWalkingSpeed != Simulation.maxWalkingSpeed || maxJumpHeight != Simulation.maxJumpHeight)
+			throw new IllegalStateException("The replay was recorded with different player stats");
+		if (levelChecksum != levelChecksum(data) || levelSpeed != data.levelSpeed || gravitationalAcceleration != data.gravitationalAcceleration)
+			throw new IllegalStateException("The replay was recorded on a different version of world " + world + " level " + level);
+	}
+	
+	/**
+	 * Returns true if a simulation ended up where this replay did when it was recorded
+	 * @param simulation - the simulation that played this replay
+	 * @param ticksPlayed - number of ticks that the simulation was stepped
+	 */
+	public boolean matches (Simulation simulation, long ticksPlayed) {
+		return ticksPlayed == ticks && simulation.getDeaths() == deaths && (simulation.getState() == Simulation.State.FINISHED) == finished
+				&& Double.compare(simulation.getXPosition(), xPosition) == 0 && Double.compare(simulation.getYPosition(), yPosition) == 0;
+	}
+	
+	/**
+	 * Returns the CRC32 of the parameters and the block ids of a level, so a replay isn't played on a level that was
+	 * changed since it was recorded
+	 * @throws IllegalStateException if a chunk of a streamed level can't be read
+	 * @param data - the level data
+	 */
+	public static int levelChecksum (LevelData data) {
+		CRC32 checksum = new CRC32();
+		checksum.update(ByteBuffer.allocate(16).putInt(data.width).putInt(data.height).putInt(data.playerXStart).putInt(data.playerYStart).array());
+		byte[] column = new byte[ChunkedTileMap.chunkWidth * data.height];
+		for (int firstColumn = 0; firstColumn < data.width; firstColumn += ChunkedTileMap.chunkWidth) {
+			int columnCount = Math.min(ChunkedTileMap.chunkWidth, data.width - firstColumn);
+			if (data.isStreamed()) {
+				try {
+					data.getChunkSource().readColumns(firstColumn, columnCount, column);
+				} catch (IOException e) {
+					throw new IllegalStateException("Couldnt read the chunk at column " + firstColumn, e);
+				}
+			} else {
+				for (int x = 0; x < columnCount; x++) {
+					for (int y = 0; y < data.height; y++)
+						column[x * data.height + y] = data.tileIdAt(firstColumn + x, y);
+				}
+			}
+			checksum.update(column, 0, columnCount * data.height);
+		}
+		return (int) checksum.getValue();
+	}
+	
+	private static void writeVarint (DataOutputStream out, long value) throws IOException {
+		while ((value & ~0x7FL) != 0) {
+			out.writeByte((int) (value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		out.writeByte((int) value);
+	}
+	
+	private static long readVarint (DataInputStream in) throws IOException {
+		long value = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			int b = in.readUnsignedByte();
+			value |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0)
+				return value;
+		}
+		throw new IOException("Varint is too long");
+	}
+	
+	/**
+	 * Plays replay files without a window as fast as possible, and checks that each one ends the same as when it
+	 * was recorded
+	 */
+	public static void main (String[] args) throws IOException {
+		if (args.length == 0) {
+			System.out.println("Usage: Replay replay.rpl ...");
+			return;
+		}
+		for (String filepath : args) {
+			Replay replay = read(filepath);
+			LevelData data = LevelLoader.read(LevelLoader.levelFilepath(replay.world, replay.level));
+			replay.checkLevel(data);
+			
+			long start = System.nanoTime();
+			Simulation simulation = new Simulation(data, GameFrame.frameWidth);
+			Playback playback = new Playback(replay.inputs);
+			while (playback.getTicksGiven() < replay.ticks && simulation.getState() != Simulation.State.FINISHED)
+				simulation.step(playback.nextInputMask());
+			long ticksPlayed = playback.getTicksGiven();
+			long time = System.nanoTime() - start;
+			
+			System.out.printf("%s: world %d level %d, %d ticks (%.1f s of play) in %.2f ms, %.0fx real time, %d bytes. %s%n", filepath,
+					replay.world, replay.level, ticksPlayed, (double) ticksPlayed / replay.ticksPerSecond, time / 1e6,
+					ticksPlayed * 1e9 / replay.ticksPerSecond / time, new File(filepath).length(),
+					replay.matches(simulation, ticksPlayed) ? "Matches the recording" : "DOESNT MATCH THE RECORDING");
+		}
+	}
+	
+	
+	/**
+	 * Records the input mask of every tick of a level into runs, and makes the {@code Replay} of it
+	 * @author Andrew Suyer
+	 */
+	public static final class Recorder {
+		
+		private final int world;
+		private final int level;
+		private final int levelChecksum;
+		private final LevelData data;
+		
+		private int[] runLengths;
+		private byte[] runMasks;
+		private int runCount;
+		private long ticks;
+		
+		/**
+		 * Starts a recording of a level
+		 * @param world - the world number
+		 * @param level - the level number in the world
+		 * @param data - the level data of the level
+		 */
+		public Recorder (int world, int level, LevelData data) {
+			this.world = world;
+			this.level = level;
+			this.levelChecksum = levelChecksum(data);
+			this.data = data;
+			runLengths = new int[256];
+			runMasks = new byte[256];
+			runCount = 0;
+			ticks = 0;
+		}
+		
+		/**
+		 * Adds the input mask of the next tick
+		 * @param inputMask - the keys that are pressed during the tick
+		 */
+		public void record (int inputMask) {
+			ticks++;
+			if (runCount > 0 && runMasks[runCount - 1] == inputMask && runLengths[runCount - 1] < Integer.MAX_VALUE) {
+				runLengths[runCount - 1]++;
+				return;
+			}
+			if (runCount == runLengths.length) {
+				runLengths = Arrays.copyOf(runLengths, runCount * 2);
+				runMasks = Arrays.copyOf(runMasks, runCount * 2);
+			}
+			runLengths[runCount] = 1;
+			runMasks[runCount] = (byte) inputMask;
+			runCount++;
+		}
+		
+		/**
+		 * Returns the replay of the ticks recorded so far
+		 * @param simulation - the simulation that was stepped with the recorded inputs
+		 */
+		public Replay toReplay (Simulation simulation) {
+			InputScript inputs = new InputScript("world" + world + "_level" + level,
+					Arrays.copyOf(runLengths, runCount), Arrays.copyOf(runMasks, runCount));
+			return new Replay(world, level, levelChecksum, Simulation.ticksPerSecond, data.levelSpeed, data.gravitationalAcceleration,
+					Simulation.xAcceleration, Simulation.maxWalkingSpeed, Simulation.maxJumpHeight, inputs, ticks, simulation.getDeaths(),
+					simulation.getState() == Simulation.State.FINISHED, simulation.getXPosition(), simulation.getYPosition());
+		}
+	}
+	
+	/**
+	 * Gives the input mask of every tick of an {@code InputScript} in order. After the script ends, no keys are pressed
+	 * @author Andrew Suyer
+	 */
+	public static final class Playback {
+		
+		private final InputScript inputs;
+		private int run;
+		private int ticksLeftInRun;
+		
+		/** Number of input masks given so far */
+		private long ticksGiven;
+		
+		public Playback (InputScript inputs) {
+			this.inputs = inputs;
+			run = 0;
+			ticksLeftInRun = inputs.getRunCount() > 0 ? inputs.getRunLength(0) : 0;
+			ticksGiven = 0;
+		}
+		
+		public long getTicksGiven () { return ticksGiven; }
+		
+		/**
+		 * Returns the input mask of the next tick
+		 */
+		public int nextInputMask () {
+			ticksGiven++;
+			while (ticksLeftInRun == 0) {
+				if (run + 1 >= inputs.getRunCount())
+					return 0;
+				run++;
+				ticksLeftInRun = inputs.getRunLength(run);
+			}
+			ticksLeftInRun--;
+			return inputs.getRunMask(run);
+		}
+		
+		/**
+		 * Returns true once every tick of the script has been given
+		 */
+		public boolean isFinished () {
+			return ticksLeftInRun == 0 && run + 1 >= inputs.getRunCount();
+		}
+	}
+	
+}
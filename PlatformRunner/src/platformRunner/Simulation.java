@@ -0,0 +1,634 @@
+package platformRunner;
+
+/**
+ * The game logic of a level, without anything to do with the screen. A {@code Simulation} has the state of the level
+ * and the player as plain numbers, and {@code step()} runs one fixed tick of the physics with the keys that are
+ * pressed during it, so a level can be played by a program as fast as the computer can run it, with
+ * {@code java.awt.headless=true} and no window. {@code Level} runs a simulation in its game loop and draws it, and
+ * {@code Player} draws the player from it.
+ * <p>
+ * A simulation only depends on its level data and the inputs it's given, so stepping two simulations of the same
+ * level with the same inputs always gives the same result.
+ *
+ * @author Andrew Suyer
+ */
+public class Simulation {
+	
+	/**
+	 * Number of physics ticks per second. Can be changed with {@code -DplatformRunner.ticksPerSecond}, to at least
+	 * {@code movingFrameUpdateFrequency}
+	 */
+	public static final int ticksPerSecond = readTicksPerSecond();
+	
+	/** Bits of the input mask passed to {@code step()}, one for each key that is pressed during the tick */
+	public static final int UP = 1;
+	public static final int RIGHT = 1 << 1;
+	public static final int DOWN = 1 << 2;
+	public static final int LEFT = 1 << 3;
+	
+	/** Player stats */
+	public static final double maxWalkingSpeed = 4;
+	public static final double maxRunningSpeed = 4;
+	public static final double maxJumpHeight = 3.5;
+	
+	/** The magnitude of the acceleration that the player has when speeding up measured in blocks per second per second */
+	public static final double xAcceleration = 5.0;
+	
+	/** How many times per second the moving pose of the player changes to its next frame */
+	public static final int movingFrameUpdateFrequency = 5;
+	
+	/** Number of frames of the moving poses */
+	public static final int movingFrameCount = 2;
+	
+	/** The block ids and collision properties of every cell of the level. Broken blocks are kept track of separately */
+	private final TileMap levelBoard;
+	
+	/** The factor by witch the resolution of the 16x16 block textures are scaled */
+	public final int blockScaleFactor;
+	
+	/** Width of the level in pixels, and the width of the screen that the camera shows */
+	private final int boardPixelWidth;
+	private final int screenPixelWidth;
+	
+	/** How fast this level will move in blocks per second */
+	public final double levelSpeed;
+	
+	/** The acceleration due to gravity for this level */
+	public final double gravitationalAcceleration;
+	
+	private final int playerXStart;
+	private final int playerYStart;
+	
+	/** What the level is currently doing, see {@code Simulation.State} */
+	private State state;
+	
+	/** Number of ticks left before the player respawns while the level is in the {@code DYING} state */
+	private int ticksUntilRespawn;
+	
+	/** Number of ticks since the player last respawned, used to change the frame of the moving poses */
+	private int currentTick;
+	
+	/** Number of ticks the level has been played for, used to animate blocks */
+	private long ticksPlayed;
+	
+	/** Counts the number of ticks the player has been in the finish area for. When value excedes the ticks per second, the level is over.
+	 * This is the equivilant of the player being in the finish area for 1 second */
+	private int ticksPlayerIsInFinishArea;
+	
+	/** Counts how many times the player has died on this level */
+	private int deaths;
+	
+	/** Counts how many blocks the player has broken, including blocks that came back when the player respawned */
+	private int blocksBroken;
+	
+	/** The horizontal pixel position of the level, moves left by {@code levelSpeed} every tick */
+	private double panelPosition;
+	
+	/** The horizontal pixel position the level is drawn at. Follows {@code panelPosition} until the end of the level is on screen */
+	private int cameraPosition;
+	
+	/** Position of the top-left corner of the player on the {@code levelBoard} in blocks */
+	private double xPosition;
+	private double yPosition;
+	
+	/** Velocity of the player in blocks per second */
+	private double xVelocity;
+	private double yVelocity;
+	
+	/** Which texture the player is drawn with, and the frame of the moving poses */
+	private Pose pose;
+	private int movingRightFrame;
+	private int movingLeftFrame;
+	
+	/**
+	 * Creates the simulation of a level, with the player at its start position about to fall
+	 * @param data - the level data
+	 * @param screenPixelWidth - width of the screen in pixels, the camera stops when the end of the level is on it
+	 */
+	public Simulation (LevelData data, int screenPixelWidth) {
+		blockScaleFactor = data.blockScaleFactor;
+		levelBoard = TileMap.of(data, screenPixelWidth / (BlockType.defaultBlockResolution * blockScaleFactor) + 1);
+		boardPixelWidth = data.width * BlockType.defaultBlockResolution * blockScaleFactor;
+		this.screenPixelWidth = screenPixelWidth;
+		levelSpeed = data.levelSpeed;
+		gravitationalAcceleration = data.gravitationalAcceleration;
+		playerXStart = data.playerXStart;
+		playerYStart = data.playerYStart;
+		
+		state = State.PLAYING;
+		ticksUntilRespawn = 0;
+		currentTick = 0;
+		ticksPlayed = 0;
+		ticksPlayerIsInFinishArea = 0;
+		deaths = 0;
+		blocksBroken = 0;
+		panelPosition = 0;
+		cameraPosition = 0;
+		xPosition = playerXStart;
+		yPosition = playerYStart;
+		xVelocity = 0;
+		yVelocity = -2;		// player starts falling in the air
+		pose = Pose.JUMPING;
+		movingRightFrame = 0;
+		movingLeftFrame = 0;
+	}
+	
+	public TileMap getLevelBoard () { return levelBoard; }
+	
+	public State getState () { return state; }
+	
+	public long getTicksPlayed () { return ticksPlayed; }
+	
+	public int getCurrentTick () { return currentTick; }
+	
+	public int getDeaths () { return deaths; }
+	
+	public int getBlocksBroken () { return blocksBroken; }
+	
+	public int getCameraPosition () { return cameraPosition; }
+	
+	public double getXPosition () { return xPosition; }
+	public double getYPosition () { return yPosition; }
+	
+	public double getXVelocity () { return xVelocity; }
+	public double getYVelocity () { return yVelocity; }
+	
+	public Pose getPose () { return pose; }
+	
+	/**
+	 * Returns the frame of the moving pose the player is in
+	 * @return the index of the frame, less than {@code movingFrameCount}
+	 */
+	public int getMovingFrame () {
+		return pose == Pose.MOVING_LEFT ? movingLeftFrame : movingRightFrame;
+	}
+	
+	/**
+	 * Pauses or unpauses the level. Nothing moves while it's paused. Only pauses a level that is {@code PLAYING}
+	 * @param paused - true to pause the level, false to unpause it
+	 */
+	public void setPaused (boolean paused) {
+		if (paused && state == State.PLAYING)
+			state = State.PAUSED;
+		else if (!paused && state == State.PAUSED)
+			state = State.PLAYING;
+	}
+	
+	/**
+	 * Runs one fixed step of the game. Every step simulates {@code 1 / ticksPerSecond} seconds. The physics only run in
+	 * the {@code PLAYING} state, the other states count down or reset the level
+	 * @param inputMask - the keys that are pressed during this step, {@code UP}, {@code RIGHT}, {@code DOWN} and {@code LEFT}
+	 * @return what happened to the player during this step, if anything
+	 */
+	public Event step (int inputMask) {
+		
+		switch (state) {
+		case DYING:
+			// Level stays frozen until it's time to respawn
+			ticksUntilRespawn--;
+			if (ticksUntilRespawn <= 0)
+				state = State.RESPAWNING;
+			return Event.NONE;
+		case RESPAWNING:
+			respawn();
+			state = State.PLAYING;
+			return Event.NONE;
+		case PLAYING:
+			break;
+		default:
+			return Event.NONE;
+		}
+		
+		currentTick++;
+		ticksPlayed++;
+		
+		// Update position of level panel:
+		double dx = (double) BlockType.defaultBlockResolution * blockScaleFactor * levelSpeed / ticksPerSecond;
+		panelPosition -= dx;
+		if (!(-panelPosition >= boardPixelWidth - screenPixelWidth))
+			// if not at the end of the screen
+			cameraPosition = (int) panelPosition;
+			
+		// Letting the board load the columns that are about to scroll onto the screen:
+		levelBoard.update(-cameraPosition / (BlockType.defaultBlockResolution * blockScaleFactor), (int) xPosition);
+		
+		// Deadly block detection:
+		// Checks if any of the corners of the players hitbox are a deadly block
+		
+		int leftColumn = (int) xPosition;
+		int rightColumn = (int) (xPosition + 1 - 1.0 / BlockType.defaultBlockResolution);
+		int topRow = (int) yPosition;
+		int bottomRow = (int) (yPosition + 1 - 1.0 / BlockType.defaultBlockResolution);
+		if (levelBoard.hasAny(leftColumn, topRow, CollisionGrid.DEADLY) ||			// Top left corner is deadly, or...
+			levelBoard.hasAny(rightColumn, topRow, CollisionGrid.DEADLY) ||			// Top right corner is deadly, or...
+			levelBoard.hasAny(leftColumn, bottomRow, CollisionGrid.DEADLY) ||		// Bottom left corner is deadly, or...
+			levelBoard.hasAny(rightColumn, bottomRow, CollisionGrid.DEADLY))			// Bottom right corner is deadly
+		{
+			playerDied();
+			return Event.KILLED;
+		}
+		
+		boolean upPressed = (inputMask & UP) != 0;
+		boolean rightPressed = (inputMask & RIGHT) != 0;
+		boolean downPressed = (inputMask & DOWN) != 0;
+		boolean leftPressed = (inputMask & LEFT) != 0;
+		
+		// Update position of the player according to the keys that are pressed:
+		
+		// Updating y position of player
+		
+		if (!(solidBlockAbove() || breakableBlockAbove() || solidOrBreakableBlockBelow())) {
+			
+			// NOT a solid or breakable block above or below the player
+			// Falling through the air (Freefall)
+			pose = Pose.JUMPING;
+			yVelocity += gravitationalAcceleration / ticksPerSecond;
+			yPosition += yVelocity / ticksPerSecond + 0.5 * gravitationalAcceleration / (ticksPerSecond * ticksPerSecond);
+			
+		}
+		if (solidBlockAbove() || breakableBlockAbove()) {
+			
+			// Player hits block above hit
+			
+			// Correcting y position if player is partly in the block above
+			if (yPosition % 1 > 0.5)
+				yPosition = (int) yPosition + 1;
+				
+			// Removing the block above if its breakable
+			if (breakableBlockAbove()) {
+				int topLeftColumn = (int) xPosition;
+				int topRightColumn = (int) (xPosition + 1 - 1.0 / BlockType.defaultBlockResolution);
+				int aboveRow = (int) yPosition - 1;
+				// Remove block if its breakable and not already broken (air). The board isn't changed, the
+				// block is only marked as broken until the player respawns
+				if (levelBoard.hasAny(topLeftColumn, aboveRow, CollisionGrid.BREAKABLE)) {
+					levelBoard.destroyCell(topLeftColumn, aboveRow);
+					blocksBroken++;
+				}
+				if (levelBoard.hasAny(topRightColumn, aboveRow, CollisionGrid.BREAKABLE)) {
+					levelBoard.destroyCell(topRightColumn, aboveRow);
+					blocksBroken++;
+				}
+			}
+			
+			// if player hits ceiling with velocity of 0, then give it a little bit of speed so that it doesnt stick to the ceiling
+			if (yVelocity > -0.1)
+				yVelocity = -0.5;
+				
+			// Hitting a block above causes player to rebound off ceiling
+			yVelocity = -1 * yVelocity;
+			yPosition += yVelocity / ticksPerSecond + 0.5 * gravitationalAcceleration / (ticksPerSecond * ticksPerSecond);
+			
+		}
+		if (solidOrBreakableBlockBelow()) {
+			
+			// Player hits the ground
+			if (yVelocity != 0) {
+				// set velocity to 0 and standing pose only if the velocity hasnt been set to 0 already
+				yVelocity = 0;
+				pose = Pose.STANDING;
+			}
+			
+			// Correcting y position if player is partly in the block below
+			if (yPosition % 1 < 0.5)
+				yPosition = (int) yPosition;
+				
+			if (downPressed) 			// If pressing down, squatt
+				pose = Pose.SQUATTING;
+				
+			if (upPressed) {			// If pressing up, jump
+				pose = Pose.JUMPING;
+				yVelocity = -1 * Math.sqrt(2 * gravitationalAcceleration * maxJumpHeight);
+				yPosition += yVelocity / ticksPerSecond - 0.5 * gravitationalAcceleration / (ticksPerSecond * ticksPerSecond);
+			}
+		}
+		
+		// Updating x position of the player:
+		
+		if (xVelocity > 0 && !solidOrBreakableBlockToTheRight()) {
+			// If player is moving right and the block to the right is NOT solid or breakable
+			
+			if (solidOrBreakableBlockBelow())		// update moving pose if player is on the ground
+				nextMovingFrame();
+				
+			if (rightPressed) {
+				accelerateRight();
+			} else {
+				// Right key released
+				decelerateFromRight();
+				if (xVelocity < 0.1) {			// if player is still moving when it should be stopped
+					xVelocity = 0;
+					pose = Pose.STANDING;
+				}
+			}
+		} else if (xVelocity < 0 && !solidOrBreakableBlockToTheLeft()) {
+			// If player is moving left and the block to the left is NOT solid or breakable
+			
+			if (solidOrBreakableBlockBelow())		// update moving pose if player is on the ground
+				nextMovingFrame();
+				
+			if (leftPressed) {
+				accelerateLeft();
+			} else {
+				// Left key released
+				decelerateFromLeft();
+				if (xVelocity > -0.1) {			// if player is still moving when it should be stopped
+					xVelocity = 0;
+					pose = Pose.STANDING;
+				}
+			}
+		} else if (xVelocity == 0 && (!solidOrBreakableBlockToTheRight() || !solidOrBreakableBlockToTheLeft())) {
+			// If player is NOT moving and the block to the left or right is NOT solid (0) and NOT breakable (1)
+			// Let player start moving for this tick where it is currently not moving
+			if (rightPressed && !solidOrBreakableBlockToTheRight())
+				accelerateRight();
+			else
+				decelerateFromRight();
+			if (leftPressed && !solidOrBreakableBlockToTheLeft())
+				accelerateLeft();
+			else
+				decelerateFromLeft();
+		} else {
+			// If the player just hit a wall from the side, than the x velocity is set to 0
+			xVelocity = 0;
+			
+			// The player may have overlapped the block slightly if it was moving fast. Puting player exactly where it should be, in the block next to the wall
+			if (xPosition % 1 > 0.5)
+				xPosition = (int) xPosition + 1;	// player is overlapped into left wall, place in correct block
+			else
+				xPosition = (int) xPosition;		// player is slightly right of where it should be (thus, overlapping the right wall), round to correct block
+		}
+		
+		// Checking if the player fell out of the map, which is when a corner of the players hitbox leaves the board
+		
+		leftColumn = (int) xPosition;
+		rightColumn = (int) (xPosition + 1 - 1.0 / BlockType.defaultBlockResolution);
+		topRow = (int) yPosition;
+		bottomRow = (int) (yPosition + 1 - 1.0 / BlockType.defaultBlockResolution);
+		if (levelBoard.hasAny(leftColumn, topRow, CollisionGrid.VOID) ||
+			levelBoard.hasAny(rightColumn, topRow, CollisionGrid.VOID) ||
+			levelBoard.hasAny(leftColumn, bottomRow, CollisionGrid.VOID) ||
+			levelBoard.hasAny(rightColumn, bottomRow, CollisionGrid.VOID))
+		{
+			// Player falls out of the map!
+			playerDied();
+			return Event.FELL_OUT_OF_MAP;
+		}
+		
+		// Check if player is in the finish area:
+		
+		if (levelBoard.hasAny((int) xPosition, (int) yPosition, CollisionGrid.FINISH)) {
+			ticksPlayerIsInFinishArea++;
+			if (ticksPlayerIsInFinishArea >= ticksPerSecond) {		// been in finish area for longer than 1 second
+				state = State.FINISHED;
+				return Event.FINISHED;
+			}
+		}
+		return Event.NONE;
+	}
+	
+	/**
+	 * Accelerates the player rightward to max speed, then moves it at that speed
+	 */
+	private void accelerateRight () {
+		double deltaX = 0;
+		if (xVelocity < maxWalkingSpeed) {
+			// if below the max speed, increase speed according to equations
+			xVelocity += xAcceleration / ticksPerSecond;			// v = at = a/f
+			deltaX = xVelocity / ticksPerSecond + 0.5 * xAcceleration / (ticksPerSecond * ticksPerSecond);		// dx = vt + 0.5at^2
+		} else
+			// if above max speed, travel at constant speed
+			deltaX = xVelocity / ticksPerSecond;			// dx = vt	(when acceleration is 0)
+		xPosition += deltaX;
+	}
+	
+	/**
+	 * Accelerates the player leftward to max speed, then moves it at that speed
+	 */
+	private void accelerateLeft () {
+		double deltaX = 0;
+		if (xVelocity > -maxWalkingSpeed) {
+			// if below the max speed, increase speed according to equations
+			xVelocity -= xAcceleration / ticksPerSecond;			// v = at = a/f
+			deltaX = xVelocity / ticksPerSecond - 0.5 * xAcceleration / (ticksPerSecond * ticksPerSecond);		// dx = vt - 0.5at^2
+		} else
+			// if above max speed, travel at constant speed
+			deltaX = xVelocity / ticksPerSecond;			// dx = vt	(when acceleration is 0)
+		xPosition += deltaX;
+	}
+	
+	/**
+	 * Slows the player down if it's moving right, faster on ground with more friction
+	 */
+	private void decelerateFromRight () {
+		double deltaX = 0;
+		if (xVelocity > 0) {
+			double deceleration = xAcceleration * groundFriction();
+			xVelocity -= deceleration / ticksPerSecond;			// v = at = a/f
+			deltaX = xVelocity / ticksPerSecond - 0.5 * deceleration / (ticksPerSecond * ticksPerSecond);		// dx = vt - 0.5at^2
+		}
+		xPosition += deltaX;
+	}
+	
+	/**
+	 * Slows the player down if it's moving left, faster on ground with more friction
+	 */
+	private void decelerateFromLeft () {
+		double deltaX = 0;
+		if (xVelocity < 0) {
+			double deceleration = xAcceleration * groundFriction();
+			xVelocity += deceleration / ticksPerSecond;			// v = at = a/f
+			deltaX = xVelocity / ticksPerSecond + 0.5 * deceleration / (ticksPerSecond * ticksPerSecond);		// dx = vt + 0.5at^2
+		}
+		xPosition += deltaX;
+	}
+	
+	/**
+	 * Reads {@code -DplatformRunner.ticksPerSecond}, 96 if it isn't set
+	 * @throws IllegalStateException if there are fewer ticks per second than {@code movingFrameUpdateFrequency}, the
+	 *         moving frame couldn't change on a whole number of ticks
+	 */
+	private static int readTicksPerSecond () {
+		int ticks = Integer.getInteger("platformRunner.ticksPerSecond", 96);
+		if (ticks < movingFrameUpdateFrequency)
+			throw new IllegalStateException("platformRunner.ticksPerSecond is " + ticks + " but has to be at least " + movingFrameUpdateFrequency);
+		return ticks;
+	}
+	
+	/**
+	 * Changes the player to the next frame of its moving pose according to {@code movingFrameUpdateFrequency} and
+	 * according to the direction that the player is moving
+	 */
+	private void nextMovingFrame () {
+		if (currentTick % (ticksPerSecond / movingFrameUpdateFrequency) == 0) {		// if on an update tick
+			if (xVelocity > 0) {
+				movingRightFrame = (movingRightFrame + 1) % movingFrameCount;
+				pose = Pose.MOVING_RIGHT;
+			} else {
+				movingLeftFrame = (movingLeftFrame + 1) % movingFrameCount;
+				pose = Pose.MOVING_LEFT;
+			}
+		}
+	}
+	
+	/**
+	 * Returns true of the block to the right of the player is either solid or breakable, and false otherwise. Checks the block
+	 * to the right of the two right corners of the players hitbox. Used for determining if the player has collided with a block
+	 * to the right. Also returns false if the block to the right is air
+	 * @return true if a block to the right is solid or breakable, and false otherwise
+	 */
+	private boolean solidOrBreakableBlockToTheRight () {
+		int right = (int) xPosition + 1;
+		return levelBoard.hasAny(right, (int) yPosition, CollisionGrid.SOLID | CollisionGrid.BREAKABLE) ||										// block right of top-right corner
+				levelBoard.hasAny(right, (int) (yPosition + 1 - 1.0 / BlockType.defaultBlockResolution), CollisionGrid.SOLID | CollisionGrid.BREAKABLE);	// block right of bottom-right corner
+	}
+	
+	/**
+	 * Returns true of the block to the left of the player is either solid or breakable, and false otherwise. Checks the block(s)
+	 * to the left of the two left corners of the players hitbox. Used for determining if the player has collided with a block
+	 * to the left. Also returns false if the block to the left is air
+	 * @return true if a block to the left is solid or breakable, and false otherwise
+	 */
+	private boolean solidOrBreakableBlockToTheLeft () {
+		int left = (int) (xPosition - 1.0 / BlockType.defaultBlockResolution);
+		return levelBoard.hasAny(left, (int) yPosition, CollisionGrid.SOLID | CollisionGrid.BREAKABLE) ||										// block left of top-left corner
+				levelBoard.hasAny(left, (int) (yPosition + 1 - 1.0 / BlockType.defaultBlockResolution), CollisionGrid.SOLID | CollisionGrid.BREAKABLE);	// block left of bottom-left corner
+	}
+	
+	/**
+	 * Returns true if the block above the player is solid, and false otherwise. Checks the block(s) above the top-left and top-right
+	 * corners of the players hitbox. Used for determining if the player has collided with a solid block from above.
+	 * @return true if a block above is solid, and false otherwise
+	 */
+	private boolean solidBlockAbove () {
+		int above = (int) (yPosition - 1.0 / BlockType.defaultBlockResolution);
+		return levelBoard.hasAny((int) xPosition, above, CollisionGrid.SOLID) ||										// block above top-left corner
+				levelBoard.hasAny((int) (xPosition + 1 - 1.0 / BlockType.defaultBlockResolution), above, CollisionGrid.SOLID);	// block above top-right corner
+	}
+	
+	/**
+	 * Returns true if the block above the player is breakable, and false otherwise. Checks the block(s) above the top-left and top-right
+	 * corners of the players hitbox. Used for determining if the player has collided with a breakable block from above.
+	 * @return true if a block above is breakable, and false otherwise
+	 */
+	private boolean breakableBlockAbove () {
+		int above = (int) (yPosition - 1.0 / BlockType.defaultBlockResolution);
+		return levelBoard.hasAny((int) xPosition, above, CollisionGrid.BREAKABLE) ||										// block above top-left corner
+				levelBoard.hasAny((int) (xPosition + 1 - 1.0 / BlockType.defaultBlockResolution), above, CollisionGrid.BREAKABLE);	// block above top-right corner
+	}
+	
+	/**
+	 * Returns true if the block below the player is solid or breakable, and false otherwise. Checks the block(s) below the bottom-left
+	 * and bottom-right corners of the players hitbox. Used for determining if hte player has collided with a breakable block from above.
+	 * @return true if a block below is solid or breakable, and false otherwise
+	 */
+	private boolean solidOrBreakableBlockBelow () {
+		int below = (int) (yPosition + 1);
+		return levelBoard.hasAny((int) xPosition, below, CollisionGrid.SOLID | CollisionGrid.BREAKABLE) ||										// below bottom-left
+				levelBoard.hasAny((int) (xPosition + 1 - 1.0 / BlockType.defaultBlockResolution), below, CollisionGrid.SOLID | CollisionGrid.BREAKABLE);	// below bottom-right
+	}
+	
+	/**
+	 * Returns the friction of the ground under the player, the highest of the blocks under its two bottom corners.
+	 * Returns 1 if the player isn't standing on anything
+	 * @return friction of the ground, 1 is normal
+	 */
+	private double groundFriction () {
+		int below = (int) (yPosition + 1);
+		int leftColumn = (int) xPosition;
+		int rightColumn = (int) (xPosition + 1 - 1.0 / BlockType.defaultBlockResolution);
+		boolean leftGround = levelBoard.hasAny(leftColumn, below, CollisionGrid.SOLID | CollisionGrid.BREAKABLE);		// below bottom-left
+		boolean rightGround = levelBoard.hasAny(rightColumn, below, CollisionGrid.SOLID | CollisionGrid.BREAKABLE);		// below bottom-right
+		
+		if (leftGround && rightGround)
+			return Math.max(BlockType.frictionOf(levelBoard.tileIdAt(leftColumn, below) & 0xFF), BlockType.frictionOf(levelBoard.tileIdAt(rightColumn, below) & 0xFF));
+		if (leftGround)
+			return BlockType.frictionOf(levelBoard.tileIdAt(leftColumn, below) & 0xFF);
+		if (rightGround)
+			return BlockType.frictionOf(levelBoard.tileIdAt(rightColumn, below) & 0xFF);
+		return 1;
+	}
+	
+	/**
+	 * Counts a death and puts the level in the {@code DYING} state. The level stays frozen for one second before the
+	 * player respawns
+	 */
+	private void playerDied () {
+		deaths++;
+		ticksUntilRespawn = ticksPerSecond;
+		state = State.DYING;
+	}
+	
+	/**
+	 * Puts the level, the player, the broken blocks, and the tick counters back to how they were when the level started
+	 */
+	private void respawn () {
+		panelPosition = 0;				// reset level to starting position (0)
+		cameraPosition = 0;
+		xPosition = playerXStart;
+		yPosition = playerYStart;
+		yVelocity = -2;		// player starts with y velocity of -2
+		xVelocity = 0;
+		levelBoard.restoreDestroyedCells();		// breakable blocks come back
+		levelBoard.update(0, (int) xPosition);
+		currentTick = 0;
+		ticksPlayerIsInFinishArea = 0;
+	}
+	
+	
+	/**
+	 * The states that a level goes through while it's played. The level starts {@code PLAYING}. When the player
+	 * dies it's {@code DYING} for one second, then {@code RESPAWNING} for one tick while it's reset, then {@code PLAYING}
+	 * again. It's {@code FINISHED} once the player has been in the finish area for one second, which ends the game loop.
+	 * @author Andrew Suyer
+	 */
+	public static enum State {
+		
+		/** The physics are running and the player is in control */
+		PLAYING,
+		
+		/** The player just died, the level is frozen until it's time to respawn */
+		DYING,
+		
+		/** The level, the player, and the timers are being reset to the start of the level */
+		RESPAWNING,
+		
+		/** The level is complete and the game loop has ended */
+		FINISHED,
+		
+		/** The user paused the level, nothing moves until it's unpaused */
+		PAUSED;
+	}
+	
+	/**
+	 * What happened to the player during a step
+	 * @author Andrew Suyer
+	 */
+	public static enum Event {
+		
+		/** Nothing that ends the attempt */
+		NONE,
+		
+		/** The player touched a deadly block */
+		KILLED,
+		
+		/** The player left the board */
+		FELL_OUT_OF_MAP,
+		
+		/** The player has been in the finish area for one second */
+		FINISHED;
+	}
+	
+	/**
+	 * Which texture the player is drawn with
+	 * @author Andrew Suyer
+	 */
+	public static enum Pose {
+		STANDING,
+		JUMPING,
+		SQUATTING,
+		MOVING_RIGHT,
+		MOVING_LEFT;
+	}
+	
+}
@@ -0,0 +1,73 @@
+package platformRunner;
+
+import java.io.IOException;
+import java.util.Random;
+
+/**
+ * Measures how many steps per second a {@code Simulation} runs without a window. Every level is played for
+ * {@code stepsPerLevel} steps with random keys that change every {@code stepsPerInput} steps, mostly holding right
+ * like a player would, and the level is started over if it's finished. Run with {@code -Djava.awt.headless=true}.
+ *
+ * @author Andrew Suyer
+ */
+public class SimulationBenchmark {
+	
+	private static final int stepsPerLevel = 2_000_000;
+	
+	/** Number of steps that the same keys are held for */
+	private static final int stepsPerInput = 20;
+	
+	private static final int warmupRounds = 3;
+	
+	private static final int worlds = 2;
+	
+	public static void main (String[] args) throws IOException {
+		LevelData[] levels = new LevelData[worlds * GameFrame.levelsPerWorld];
+		String[] names = new String[levels.length];
+		for (int world = 1; world <= worlds; world++) {
+			for (int level = 1; level <= GameFrame.levelsPerWorld; level++) {
+				int i = (world - 1) * GameFrame.levelsPerWorld + level - 1;
+				levels[i] = LevelLoader.read(LevelLoader.levelFilepath(world, level));
+				names[i] = world + "-" + level;
+			}
+		}
+		
+		for (int i = 0; i < warmupRounds; i++) {
+			for (LevelData level : levels)
+				play(level, stepsPerLevel / 10);
+		}
+		
+		System.out.println("Level  Steps/s      Deaths  Blocks broken");
+		long totalTime = 0;
+		for (int i = 0; i < levels.length; i++) {
+			long start = System.nanoTime();
+			int[] result = play(levels[i], stepsPerLevel);
+			long time = System.nanoTime() - start;
+			totalTime += time;
+			System.out.printf("%-5s  %11.0f  %6d  %13d%n", names[i], stepsPerLevel * 1e9 / time, result[0], result[1]);
+		}
+		System.out.printf("All    %11.0f%n", (double) stepsPerLevel * levels.length * 1e9 / totalTime);
+	}
+	
+	/**
+	 * Plays a level for a number of steps, and returns the deaths and the blocks broken
+	 */
+	private static int[] play (LevelData level, int steps) {
+		Random random = new Random(level.levelNumber);
+		Simulation simulation = new Simulation(level, GameFrame.frameWidth);
+		int deaths = 0;
+		int blocksBroken = 0;
+		int inputMask = 0;
+		for (int step = 0; step < steps; step++) {
+			if (step % stepsPerInput == 0)
+				inputMask = random.nextInt(3) != 0 ? Simulation.RIGHT | (random.nextInt(3) == 0 ? Simulation.UP : 0) : random.nextInt(16);
+			if (simulation.step(inputMask) == Simulation.Event.FINISHED) {
+				deaths += simulation.getDeaths();
+				blocksBroken += simulation.getBlocksBroken();
+				simulation = new Simulation(level, GameFrame.frameWidth);
+			}
+		}
+		return new int[] {deaths + simulation.getDeaths(), blocksBroken + simulation.getBlocksBroken()};
+	}
+	
+}
@@ -0,0 +1,200 @@
+package platformRunner;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A {@code TileMap} for levels that are mostly air. Each column only stores its occupied span, the cells from its
+ * highest block to its lowest block, and the air above and below the span isn't stored at all. Columns with the same
+ * span are stored once and shared, so the long stretches of identical ground in most levels cost one span. Looking
+ * up a cell is still a couple of array reads: the column's span, and the cell in the span if the row is inside it.
+ * <p>
+ * Like {@code CollisionGrid}, broken blocks are kept in an overlay of destroyed cells. The spans can't be changed
+ * since they are shared between columns.
+ *
+ * @author Andrew Suyer
+ */
+public class SparseTileMap implements TileMap {
+	
+	private final int width;
+	private final int height;
+	
+	/** Which span each column uses */
+	private final int[] spanOfColumn;
+	
+	/** Top row of each span, and the number of rows in it. Empty columns use a span with 0 rows */
+	private final byte[] spanTops;
+	private final byte[] spanLengths;
+	
+	/** Where the cells of each span start in {@code spanTileIds} and {@code spanFlags} */
+	private final int[] spanOffsets;
+	
+	/** Block ids and collision flags of the cells of every span, one span after another */
+	private final byte[] spanTileIds;
+	private final byte[] spanFlags;
+	
+	/** Number of cells on the board that aren't air */
+	private final int occupiedCells;
+	
+	/** The cells whose blocks have been broken, the cell (x, y) is at index {@code x * height + y} */
+	private final BitSet destroyedCells;
+	
+	/**
+	 * Creates a sparse tile map of the board of a level. The block ids are copied, so the level data isn't needed
+	 * after this
+	 * @throws IllegalArgumentException if the level is taller than 127 blocks
+	 * @param data - the level data
+	 */
+	public SparseTileMap (LevelData data) {
+		if (data.height > Byte.MAX_VALUE)
+			throw new IllegalArgumentException("Levels taller than " + Byte.MAX_VALUE + " blocks can't be stored in a SparseTileMap");
+		width = data.width;
+		height = data.height;
+		spanOfColumn = new int[width];
+		destroyedCells = new BitSet();
+		
+		// Finding the span of every column and reusing the spans that have been seen before:
+		Map<String, Integer> spanIndexes = new HashMap<>();
+		byte[] tops = new byte[Math.min(width, 64)];
+		byte[] lengths = new byte[tops.length];
+		int[] offsets = new int[tops.length];
+		byte[] ids = new byte[height * 16];
+		int spanCount = 0;
+		int cellCount = 0;
+		int occupied = 0;
+		
+		byte[] column = new byte[height];
+		for (int x = 0; x < width; x++) {
+			int top = height;
+			int bottom = 0;
+			for (int y = 0; y < height; y++) {
+				column[y] = data.tileIdAt(x, y);
+				if (column[y] != LevelData.air) {
+					top = Math.min(top, y);
+					bottom = y + 1;
+					occupied++;
+				}
+			}
+			if (top == height)
+				top = bottom = 0;
+				
+			byte[] span = Arrays.copyOfRange(column, top, bottom);
+			String key = top + ":" + new String(span, StandardCharsets.ISO_8859_1);
+			Integer index = spanIndexes.get(key);
+			if (index == null) {
+				if (spanCount == tops.length) {
+					tops = Arrays.copyOf(tops, spanCount * 2);
+					lengths = Arrays.copyOf(lengths, spanCount * 2);
+					offsets = Arrays.copyOf(offsets, spanCount * 2);
+				}
+				if (cellCount + span.length > ids.length)
+					ids = Arrays.copyOf(ids, Math.max(ids.length * 2, cellCount + span.length));
+				tops[spanCount] = (byte) top;
+				lengths[spanCount] = (byte) span.length;
+				offsets[spanCount] = cellCount;
+				System.arraycopy(span, 0, ids, cellCount, span.length);
+				cellCount += span.length;
+				index = spanCount++;
+				spanIndexes.put(key, index);
+			}
+			spanOfColumn[x] = index;
+		}
+		
+		spanTops = Arrays.copyOf(tops, spanCount);
+		spanLengths = Arrays.copyOf(lengths, spanCount);
+		spanOffsets = Arrays.copyOf(offsets, spanCount);
+		spanTileIds = Arrays.copyOf(ids, cellCount);
+		spanFlags = new byte[cellCount];
+		for (int i = 0; i < cellCount; i++) {
+			if (spanTileIds[i] != LevelData.air)
+				spanFlags[i] = BlockType.flagsOf(spanTileIds[i] & 0xFF);
+		}
+		occupiedCells = occupied;
+	}
+	
+	@Override
+	public int getWidth () { return width; }
+	
+	@Override
+	public int getHeight () { return height; }
+	
+	/** Number of different spans, the rest of the columns share them */
+	public int getSpanCount () { return spanTops.length; }
+	
+	/** Number of cells on the board that aren't air */
+	public int getOccupiedCells () { return occupiedCells; }
+	
+	@Override
+	public byte tileIdAt (int x, int y) {
+		int cell = cellIndex(x, y);
+		return cell < 0 ? LevelData.air : spanTileIds[cell];
+	}
+	
+	@Override
+	public byte flagsAt (int x, int y) {
+		if (x < 0 || x >= width || y < 0 || y >= height)
+			return CollisionGrid.VOID;
+		int cell = cellIndex(x, y);
+		if (cell < 0 || destroyedCells.get(x * height + y))
+			return 0;
+		return spanFlags[cell];
+	}
+	
+	@Override
+	public int firstOccupiedRow (int x) {
+		if (x < 0 || x >= width)
+			return 0;
+		return spanTops[spanOfColumn[x]];
+	}
+	
+	@Override
+	public int lastOccupiedRow (int x) {
+		if (x < 0 || x >= width)
+			return -1;
+		int span = spanOfColumn[x];
+		return spanTops[span] + spanLengths[span] - 1;
+	}
+	
+	@Override
+	public void destroyCell (int x, int y) {
+		Objects.checkIndex(x, width);
+		Objects.checkIndex(y, height);
+		destroyedCells.set(x * height + y);
+	}
+	
+	@Override
+	public boolean isDestroyed (int x, int y) {
+		if (x < 0 || x >= width || y < 0 || y >= height)
+			return false;
+		return destroyedCells.get(x * height + y);
+	}
+	
+	@Override
+	public void restoreDestroyedCells () {
+		destroyedCells.clear();
+	}
+	
+	@Override
+	public long getFootprint () {
+		return 4L * spanOfColumn.length + 6L * spanTops.length + 2L * spanTileIds.length + destroyedCells.size() / 8;
+	}
+	
+	/**
+	 * Returns the index of the cell at (x, y) in {@code spanTileIds}, or -1 if the cell is air above or below the span
+	 * of its column or outside the board
+	 */
+	private int cellIndex (int x, int y) {
+		if (x < 0 || x >= width)
+			return -1;
+		int span = spanOfColumn[x];
+		int row = y - spanTops[span];
+		if (row < 0 || row >= spanLengths[span])
+			return -1;
+		return spanOffsets[span] + row;
+	}
+	
+}
@@ -0,0 +1,107 @@
+package platformRunner;
+
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.imageio.ImageIO;
+import javax.swing.ImageIcon;
+
+/**
+ * Decodes and scales every texture used by the game exactly once. Textures are keyed by their filepath and the
+ * scale factor they are drawn at, so every block with the same {@code blockId} and scale shares a single
+ * pre-scaled image instead of reading and scaling its own copy of the png.
+ *
+ * @author Andrew Suyer
+ */
+public final class TextureCache {
+	
+	/** Scaled textures, keyed by "filepath@scale" */
+	private static final ConcurrentHashMap<String, BufferedImage> textures = new ConcurrentHashMap<>();
+	
+	/** Icons wrapping the scaled textures, so Swing components can share them too */
+	private static final ConcurrentHashMap<String, ImageIcon> icons = new ConcurrentHashMap<>();
+	
+	private TextureCache () {}
+	
+	/**
+	 * Returns the texture for a {@code blockId} scaled by {@code scale}. The texture is decoded and scaled the first
+	 * time it's requested and shared after that
+	 * @param blockId - id of the block
+	 * @param scale - block scale factor
+	 * @return the scaled block texture
+	 */
+	public static BufferedImage getBlockTexture (int blockId, int scale) {
+		return BlockType.of(blockId).getTexture(scale);
+	}
+	
+	/**
+	 * Returns the 16x16 texture at {@code filepath} scaled by {@code scale}
+	 * @param filepath - filepath of the texture
+	 * @param scale - block scale factor
+	 * @return the scaled texture
+	 */
+	public static BufferedImage getTexture (String filepath, int scale) {
+		return textures.computeIfAbsent(filepath + "@" + scale, key -> loadScaledTexture(filepath, scale));
+	}
+	
+	/**
+	 * Returns an {@code ImageIcon} of the 16x16 texture at {@code filepath} scaled by {@code scale}
+	 * @param filepath - filepath of the texture
+	 * @param scale - block scale factor
+	 * @return shared icon of the scaled texture
+	 */
+	public static ImageIcon getIcon (String filepath, int scale) {
+		return icons.computeIfAbsent(filepath + "@" + scale, key -> new ImageIcon(getTexture(filepath, scale)));
+	}
+	
+	/**
+	 * Reads the png at {@code filepath}, out of the texture atlas of the game pack if it's in there, and draws it into
+	 * an image that is compatible with the screen, scaled by {@code scale}. If the file can't be read, a blank image is
+	 * returned, the same as what {@code ImageIcon} does
+	 * @param filepath - filepath of the texture
+	 * @param scale - block scale factor
+	 * @return the scaled texture
+	 */
+	private static BufferedImage loadScaledTexture (String filepath, int scale) {
+		int size = BlockType.defaultBlockResolution * scale;
+		BufferedImage scaled = createCompatibleImage(size, size);
+		
+		BufferedImage source = LevelPack.texture(filepath);
+		if (source == null) {
+			try {
+				source = ImageIO.read(new File(filepath));
+			} catch (IOException e) {
+				source = null;
+			}
+		}
+		if (source == null) {
+			System.out.println("Could not read texture " + filepath);
+			return scaled;
+		}
+		
+		Graphics2D g = scaled.createGraphics();
+		g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+		g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+		g.drawImage(source, 0, 0, size, size, null);
+		g.dispose();
+		return scaled;
+	}
+	
+	/**
+	 * Creates a translucent image in the same format as the screen so drawing it doesn't need a conversion. Falls back
+	 * to a plain ARGB image when there is no screen
+	 */
+	private static BufferedImage createCompatibleImage (int width, int height) {
+		if (GraphicsEnvironment.isHeadless())
+			return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		GraphicsConfiguration gc = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
+		return gc.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+	}
+	
+}
@@ -0,0 +1,123 @@
+package platformRunner;
+
+/**
+ * The board of a {@code Level}: the block id and the collision flags of every cell. Cells are addressed by column
+ * and row, and cells outside the board have the {@code CollisionGrid.VOID} flag. A tile map can keep the whole board
+ * in memory, like {@code ArrayTileMap}, only the blocks that aren't air, like {@code SparseTileMap}, or only the part
+ * of it around the camera, like {@code ChunkedTileMap}, which is told where the camera and the player are every tick
+ * with {@code update()}.
+ *
+ * @author Andrew Suyer
+ */
+public interface TileMap {
+	
+	/** Width of the board in blocks */
+	int getWidth ();
+	
+	/** Height of the board in blocks */
+	int getHeight ();
+	
+	/**
+	 * Returns the block id at (x, y), ignoring broken blocks
+	 * @param x - column of the cell
+	 * @param y - row of the cell
+	 * @return the block id, or {@code LevelData.air} for air and cells outside the board
+	 */
+	byte tileIdAt (int x, int y);
+	
+	/**
+	 * Returns the property flags of the cell at (x, y)
+	 * @param x - column of the cell
+	 * @param y - row of the cell
+	 * @return the property flags of the cell, 0 for air and broken blocks, {@code VOID} if the cell is outside the board
+	 */
+	byte flagsAt (int x, int y);
+	
+	/**
+	 * Returns true if the cell at (x, y) has any of the flags in {@code mask}
+	 * @param x - column of the cell
+	 * @param y - row of the cell
+	 * @param mask - the flags to check for
+	 * @return true if the cell has any of the flags
+	 */
+	default boolean hasAny (int x, int y, int mask) {
+		return (flagsAt(x, y) & mask) != 0;
+	}
+	
+	/**
+	 * Returns the highest row of a column that can have a block in it, so the air above it can be skipped
+	 * @param x - column
+	 * @return the first row to look at, 0 by default
+	 */
+	default int firstOccupiedRow (int x) {
+		return 0;
+	}
+	
+	/**
+	 * Returns the lowest row of a column that can have a block in it, so the air below it can be skipped
+	 * @param x - column
+	 * @return the last row to look at, {@code getHeight() - 1} by default. Less than {@code firstOccupiedRow(x)} if
+	 *         the column is empty
+	 */
+	default int lastOccupiedRow (int x) {
+		return getHeight() - 1;
+	}
+	
+	/**
+	 * Turns the cell at (x, y) into air until {@code restoreDestroyedCells()} is called
+	 * @throws IndexOutOfBoundsException if (x, y) is outside the board
+	 * @param x - column of the cell
+	 * @param y - row of the cell
+	 */
+	void destroyCell (int x, int y);
+	
+	/**
+	 * Returns true if the block at (x, y) has been broken. Cells outside the board are never destroyed
+	 * @param x - column of the cell
+	 * @param y - row of the cell
+	 * @return true if the block at the cell is broken
+	 */
+	boolean isDestroyed (int x, int y);
+	
+	/**
+	 * Brings back every broken block
+	 */
+	void restoreDestroyedCells ();
+	
+	/**
+	 * Called every tick with the columns that are in use, so a tile map that doesn't keep the whole board in memory can
+	 * load the columns ahead of the camera and drop the ones behind it. Does nothing by default
+	 * @param cameraColumn - leftmost column on the screen
+	 * @param playerColumn - column the player is in
+	 */
+	default void update (int cameraColumn, int playerColumn) {}
+	
+	/**
+	 * Returns about how many bytes of memory the cells of this tile map are using right now
+	 * @return the memory footprint in bytes
+	 */
+	long getFootprint ();
+	
+	/**
+	 * Creates the tile map of a level board. Streamed levels get a {@code ChunkedTileMap}, and levels that are read all
+	 * at once get a {@code SparseTileMap} if it uses less memory than an {@code ArrayTileMap}, which it does unless
+	 * most of the board is blocks. If {@code OffHeapTileMap.enabled} is set, every board that fits off the heap is kept
+	 * there instead, including streamed ones
+	 * @param data - the level data
+	 * @param visibleColumns - number of columns that fit on the screen
+	 * @return the tile map of the level
+	 */
+	static TileMap of (LevelData data, int visibleColumns) {
+		if (OffHeapTileMap.enabled && (long) data.width * data.height <= OffHeapTileMap.maxCells)
+			return new OffHeapTileMap(data);
+		if (data.isStreamed())
+			return new ChunkedTileMap(data.getChunkSource(), visibleColumns);
+		if (data.height <= Byte.MAX_VALUE) {
+			SparseTileMap sparse = new SparseTileMap(data);
+			if (sparse.getFootprint() < ArrayTileMap.footprintOf(data.width, data.height))
+				return sparse;
+		}
+		return new ArrayTileMap(data);
+	}
+	
+}
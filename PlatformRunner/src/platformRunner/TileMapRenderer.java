@@ -0,0 +1,73 @@
+package platformRunner;
+
+import java.awt.Graphics;
+import java.awt.image.BufferedImage;
+
+/**
+ * Draws the {@code levelBoard} of a {@code Level} in a single pass instead of having one {@code JLabel} per
+ * block. Only the columns that are on the screen are drawn, so the cost of drawing a frame is
+ * proportional to the number of blocks that fit on the screen and not the number of blocks in the level.
+ *
+ * @author Andrew Suyer
+ */
+public class TileMapRenderer {
+	
+	/** The board that is drawn */
+	private final TileMap levelBoard;
+	
+	/** Scaled animation frames of every block id, filled in the first time an id is drawn */
+	private final BufferedImage[][] textures;
+	
+	private final int blockScaleFactor;
+	
+	/** Width and height of one block in pixels */
+	private final int blockPixelSize;
+	
+	/**
+	 * Creates a renderer for a level board
+	 * @param board - the level board to draw
+	 * @param scale - block scale factor
+	 */
+	public TileMapRenderer (TileMap board, int scale) {
+		levelBoard = board;
+		blockScaleFactor = scale;
+		blockPixelSize = BlockType.defaultBlockResolution * scale;
+		textures = new BufferedImage[BlockType.maxBlockId + 1][];
+	}
+	
+	/**
+	 * Draws every block from {@code firstColumn} to {@code lastColumn} (inclusive), excluding air and broken blocks.
+	 * Columns outside the board are skipped. The level background color shows through air and broken blocks
+	 * @param g - graphics to draw with, with the origin at the top-left corner of the board
+	 * @param firstColumn - first column to draw
+	 * @param lastColumn - last column to draw
+	 * @param tick - number of ticks since the level started, used to pick the animation frame of animated blocks
+	 */
+	public void drawBlocks (Graphics g, int firstColumn, int lastColumn, long tick) {
+		firstColumn = Math.max(firstColumn, 0);
+		lastColumn = Math.min(lastColumn, levelBoard.getWidth() - 1);
+		for (int x = firstColumn; x <= lastColumn; x++) {
+			int lastRow = levelBoard.lastOccupiedRow(x);
+			for (int y = levelBoard.firstOccupiedRow(x); y <= lastRow; y++) {
+				byte id = levelBoard.tileIdAt(x, y);
+				if (id != LevelData.air && !levelBoard.isDestroyed(x, y))
+					g.drawImage(texture(id & 0xFF, tick), x * blockPixelSize, y * blockPixelSize, null);
+			}
+		}
+	}
+	
+	/**
+	 * Returns the scaled texture of a block id at a tick, looking its frames up in the {@code TextureCache} only the
+	 * first time
+	 */
+	private BufferedImage texture (int id, long tick) {
+		BlockType type = BlockType.of(id);
+		if (textures[id] == null) {
+			BufferedImage[] frames = new BufferedImage[type.getFrameCount()];
+			for (int i = 0; i < frames.length; i++)
+				frames[i] = type.getTexture(blockScaleFactor, i);
+			textures[id] = frames;
+		}
+		return textures[id][type.frameAt(tick)];
+	}
+}
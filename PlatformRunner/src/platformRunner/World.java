@@ -8,9 +8,17 @@ import java.awt.Color;
 import java.awt.Font;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 /**
- * A {@code World} is a collection of {@code Level}s that are similar in theme. 
+ * A {@code World} is a collection of {@code Level}s that are similar in theme. Levels are only built when their button
+ * is pressed, from the level file they were added with. While a level is played, the next one is read in the
+ * background so that it's ready by the time it's selected.
  * 
  * @author Andrew Suyer
  */
@@ -18,6 +26,8 @@ public class World extends JPanel {
 	
 	private Color backgroundColor;
 	
+	private final int worldNumber;
+	
 	/** Label which says the current world number */
 	private JLabel worldTitle;
 	
@@ -26,9 +36,15 @@ public class World extends JPanel {
 	/** Buttons which, when pressed, begin the level cooresponding to their index */
 	private JButton[] levelSelectionButtons;
 	
-	/** The {@code Level}s that make up this world */
+	/** The {@code Level}s that make up this world. A level is null until it's built */
 	private Level[] levels;
 	
+	/** Filepaths of the level files of the {@code Level}s that haven't been built yet */
+	private String[] levelFilepaths;
+	
+	/** Level data that is being read in the background, null for levels that aren't being prefetched */
+	private List<Future<LevelData>> prefetchedLevels;
+	
 	/**
 	 * Creates a {@code World} with a specified background color, which should match the theme of its {@code Level}s, and
 	 * the number of the world
@@ -39,10 +55,13 @@ public class World extends JPanel {
 		
 		// Initializing instance variables:
 		backgroundColor = bc;
+		worldNumber = worldNum;
 		levelSelectionButtons = new JButton[4];
 		worldTitle = new JLabel("World " + worldNum, JLabel.CENTER);
 		worldTitleUnderline = new JSeparator(JSeparator.HORIZONTAL);
-		levels = new Level[4];
+		levels = new Level[GameFrame.levelsPerWorld];
+		levelFilepaths = new String[GameFrame.levelsPerWorld];
+		prefetchedLevels = new ArrayList<>(Collections.nCopies(GameFrame.levelsPerWorld, null));
 		
 		// Setting world title properties:
 		worldTitle.setSize(370, 75);
@@ -57,7 +76,7 @@ public class World extends JPanel {
 		add(worldTitleUnderline);
 		
 		// Creating each button and adding it to the panel:
-		// When button is pressed, all elements of this panel are removed and the cooresponding level is added to the panel
+		// When button is pressed, all elements of this panel are removed and the cooresponding level is built and added to the panel
 		levelSelectionButtons[0] = new JButton("Level 1");
 		levelSelectionButtons[0].setSize(GameFrame.frameWidth/2 - 64, GameFrame.frameHeight/4 - 64);
 		levelSelectionButtons[0].setLocation(32, 256);
@@ -67,10 +86,7 @@ public class World extends JPanel {
 			@Override
 			public void actionPerformed(ActionEvent e) {
 				System.out.println(e.getActionCommand());
-				removeAll();
-				add(levels[0]);
-				levels[0].startThread();
-				update(getGraphics());
+				startLevel(1);
 			}
 		});
 		add(levelSelectionButtons[0]);
@@ -84,10 +100,7 @@ public class World extends JPanel {
 			@Override
 			public void actionPerformed(ActionEvent e) {
 				System.out.println(e.getActionCommand());
-				removeAll();
-				add(levels[1]);
-				levels[1].startThread();
-				update(getGraphics());
+				startLevel(2);
 			}
 		});
 		add(levelSelectionButtons[1]);
@@ -101,10 +114,7 @@ public class World extends JPanel {
 			@Override
 			public void actionPerformed(ActionEvent e) {
 				System.out.println(e.getActionCommand());
-				removeAll();
-				add(levels[2]);
-				levels[2].startThread();
-				update(getGraphics());
+				startLevel(3);
 			}
 		});
 		add(levelSelectionButtons[2]);
@@ -118,10 +128,7 @@ public class World extends JPanel {
 			@Override
 			public void actionPerformed(ActionEvent e) {
 				System.out.println(e.getActionCommand());
-				removeAll();
-				add(levels[3]);
-				levels[3].startThread();
-				update(getGraphics());
+				startLevel(4);
 			}
 		});
 		add(levelSelectionButtons[3]);
@@ -142,5 +149,67 @@ public class World extends JPanel {
 		levels[levelNumber - 1] = l;
 	}
 	
+	/**
+	 * Adds a {@code Level} to this {@code World} that is built from its level file when it's first played
+	 * @param levelNumber - which level is being added
+	 * @param filepath - filepath of the level file
+	 */
+	public void addLevel (int levelNumber, String filepath) {
+		levelFilepaths[levelNumber - 1] = filepath;
+	}
+	
+	/**
+	 * Starts reading a level in the background so it's ready when it's played. Does nothing if the level doesn't
+	 * exist, is already built, or is already being read
+	 * @param levelNumber - the level to prefetch
+	 */
+	public void prefetchLevel (int levelNumber) {
+		int index = levelNumber - 1;
+		if (index < 0 || index >= levels.length || levels[index] != null || levelFilepaths[index] == null || prefetchedLevels.get(index) != null)
+			return;
+		prefetchedLevels.set(index, LevelLoader.prefetch(levelFilepaths[index]));
+	}
+	
+	/**
+	 * Removes all elements of this panel and starts playing a level, building it first if it hasn't been built. Then
+	 * prefetches the level after it
+	 * @param levelNumber - the level to play
+	 */
+	private void startLevel (int levelNumber) {
+		Level level = getLevel(levelNumber);
+		removeAll();
+		add(level);
+		if (Replay.recordingFolder != null)
+			level.recordReplay(worldNumber, levelNumber);
+		level.startThread();
+		update(getGraphics());
+		prefetchLevel(levelNumber + 1);
+	}
+	
+	/**
+	 * Returns a level of this world, building it from its level file if it hasn't been built yet. If the level was
+	 * prefetched, this only waits for the rest of the read
+	 * @throws IllegalStateException if the level file can't be read
+	 * @param levelNumber - the level to get
+	 * @return the level
+	 */
+	private Level getLevel (int levelNumber) {
+		int index = levelNumber - 1;
+		if (levels[index] == null) {
+			try {
+				LevelData data = prefetchedLevels.get(index) != null ? prefetchedLevels.get(index).get() : LevelLoader.read(levelFilepaths[index]);
+				levels[index] = LevelLoader.build(data);
+			} catch (IOException | ExecutionException e) {
+				throw new IllegalStateException("Couldnt load " + levelFilepaths[index], e);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("Interrupted while loading " + levelFilepaths[index], e);
+			}
+			prefetchedLevels.set(index, null);
+			levelFilepaths[index] = null;
+		}
+		return levels[index];
+	}
+	
 	private static final long serialVersionUID = 1L;
 }